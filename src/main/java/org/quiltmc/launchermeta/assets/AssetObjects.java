@@ -0,0 +1,550 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.assets;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntBinaryOperator;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
+
+import org.quiltmc.launchermeta.util.Sha1Hash;
+
+/**
+ * The contents of an asset index json, the file an {@link org.quiltmc.launchermeta.version.v1.AssetIndex} points to:
+ * the path, hash and size of every asset object.
+ * <p>
+ * The objects are stored in columns instead of one object per asset: the paths are UTF-8 encoded into a single byte
+ * array and sorted, and the hashes and sizes are kept in primitive arrays in the same order. Looking up a path is a
+ * binary search over the encoded paths, and looking up a hash is a binary search over a second ordering of the
+ * objects sorted by hash. Several paths can have the same hash.
+ */
+public final class AssetObjects {
+    public static final String RESOURCES_URL = "https://resources.download.minecraft.net/";
+
+    private static final AssetObjects.Adapter ADAPTER = new AssetObjects.Adapter();
+
+    private final byte[] paths;
+    private final int[] pathOffsets;
+    private final long[] hashHigh;
+    private final long[] hashMiddle;
+    private final int[] hashLow;
+    private final int[] sizes;
+    private final int[] byHash;
+    private final boolean virtual;
+    private final boolean mapToResources;
+
+    private AssetObjects(byte[] paths, int[] pathOffsets, long[] hashHigh, long[] hashMiddle, int[] hashLow, int[] sizes, boolean virtual, boolean mapToResources) {
+        this.paths = paths;
+        this.pathOffsets = pathOffsets;
+        this.hashHigh = hashHigh;
+        this.hashMiddle = hashMiddle;
+        this.hashLow = hashLow;
+        this.sizes = sizes;
+        this.virtual = virtual;
+        this.mapToResources = mapToResources;
+
+        // Objects are already in path order and the sort is stable, so objects with the same hash stay in path order
+        this.byHash = identity(sizes.length);
+        sort(byHash, this::compareHashes);
+    }
+
+    /**
+     *
+     * @param json the asset index json
+     * @return the parsed asset objects
+     * @throws JsonSyntaxException if the json is malformed
+     */
+    public static AssetObjects fromString(String json) {
+        return fromReader(new StringReader(json));
+    }
+
+    /**
+     *
+     * @param reader the asset index json
+     * @return the parsed asset objects
+     * @throws JsonSyntaxException if the json is malformed
+     * @throws JsonIOException if the json could not be read
+     */
+    public static AssetObjects fromReader(Reader reader) {
+        try (JsonReader in = new JsonReader(reader)) {
+            return ADAPTER.read(in);
+        } catch (MalformedJsonException | IllegalStateException | IllegalArgumentException e) {
+            throw new JsonSyntaxException(e);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    /**
+     *
+     * @return the number of objects
+     */
+    public int size() {
+        return sizes.length;
+    }
+
+    /**
+     *
+     * @return whether the assets are copied to their paths under {@code assets/virtual/<id>}
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     *
+     * @return whether the assets are copied to their paths under the {@code resources} directory of the game
+     */
+    public boolean isMapToResources() {
+        return mapToResources;
+    }
+
+    /**
+     *
+     * @param index the index of an object, between {@code 0} and {@link #size()}
+     * @return the path of the object, for example {@code minecraft/sounds/ambient/cave/cave1.ogg}
+     */
+    public String getPath(int index) {
+        return new String(paths, pathOffsets[index], pathOffsets[index + 1] - pathOffsets[index], StandardCharsets.UTF_8);
+    }
+
+    /**
+     *
+     * @param index the index of an object
+     * @return the SHA1 of the object
+     */
+    public Sha1Hash getHash(int index) {
+        return Sha1Hash.of(hashHigh[index], hashMiddle[index], hashLow[index]);
+    }
+
+    /**
+     *
+     * @param index the index of an object
+     * @return the size of the object
+     */
+    public int getSize(int index) {
+        return sizes[index];
+    }
+
+    /**
+     *
+     * @param index the index of an object
+     * @return the path of the object under {@code assets/objects}, which is the first two characters of its hash
+     * followed by the hash
+     */
+    public String getObjectPath(int index) {
+        String hex = getHash(index).toHex();
+        return hex.substring(0, 2) + "/" + hex;
+    }
+
+    /**
+     *
+     * @param index the index of an object
+     * @return the url to download the object from
+     */
+    public String getUrl(int index) {
+        return RESOURCES_URL + getObjectPath(index);
+    }
+
+    /**
+     *
+     * @return the sum of the sizes of every object, counting objects with the same hash once for each path
+     */
+    public long getTotalSize() {
+        long total = 0;
+
+        for (int size : sizes) {
+            total += size;
+        }
+
+        return total;
+    }
+
+    /**
+     *
+     * @param path the path of an object
+     * @return the index of the object, or {@code -1} if there is no object with the path
+     */
+    public int indexOf(String path) {
+        byte[] key = path.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = sizes.length - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int result = comparePath(middle, key);
+
+            if (result < 0) {
+                low = middle + 1;
+            } else if (result > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     *
+     * @param hash the hash of an object
+     * @return the index of the first object with the hash in path order, or {@code -1} if there is none
+     */
+    public int indexOfHash(Sha1Hash hash) {
+        int position = firstByHash(hash);
+        return position < byHash.length && hashEquals(byHash[position], hash) ? byHash[position] : -1;
+    }
+
+    /**
+     *
+     * @param hash the hash of an object
+     * @return the paths of every object with the hash, in order
+     */
+    public List<String> getPaths(Sha1Hash hash) {
+        List<String> result = new ArrayList<>(1);
+
+        for (int i = firstByHash(hash); i < byHash.length && hashEquals(byHash[i], hash); i++) {
+            result.add(getPath(byHash[i]));
+        }
+
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     *
+     * @return the number of distinct hashes, which is the number of files to download
+     */
+    public int getUniqueHashCount() {
+        int count = 0;
+
+        for (int i = 0; i < byHash.length; i++) {
+            if (i == 0 || compareHashes(byHash[i - 1], byHash[i]) != 0) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private int firstByHash(Sha1Hash hash) {
+        int low = 0;
+        int high = byHash.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int object = byHash[middle];
+            int result = Long.compareUnsigned(hashHigh[object], hash.getHigh());
+
+            if (result == 0) {
+                result = Long.compareUnsigned(hashMiddle[object], hash.getMiddle());
+            }
+
+            if (result == 0) {
+                result = Integer.compareUnsigned(hashLow[object], hash.getLow());
+            }
+
+            if (result < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    private boolean hashEquals(int index, Sha1Hash hash) {
+        return hashHigh[index] == hash.getHigh() && hashMiddle[index] == hash.getMiddle() && hashLow[index] == hash.getLow();
+    }
+
+    private int compareHashes(int a, int b) {
+        int result = Long.compareUnsigned(hashHigh[a], hashHigh[b]);
+
+        if (result == 0) {
+            result = Long.compareUnsigned(hashMiddle[a], hashMiddle[b]);
+        }
+
+        return result == 0 ? Integer.compareUnsigned(hashLow[a], hashLow[b]) : result;
+    }
+
+    private int comparePath(int index, byte[] key) {
+        return compareBytes(paths, pathOffsets[index], pathOffsets[index + 1], key, 0, key.length);
+    }
+
+    private static int compareBytes(byte[] a, int aStart, int aEnd, byte[] b, int bStart, int bEnd) {
+        int common = Math.min(aEnd - aStart, bEnd - bStart);
+
+        for (int i = 0; i < common; i++) {
+            int result = Integer.compare(a[aStart + i] & 0xFF, b[bStart + i] & 0xFF);
+
+            if (result != 0) {
+                return result;
+            }
+        }
+
+        return Integer.compare(aEnd - aStart, bEnd - bStart);
+    }
+
+    private static int[] identity(int length) {
+        int[] order = new int[length];
+
+        for (int i = 0; i < length; i++) {
+            order[i] = i;
+        }
+
+        return order;
+    }
+
+    // A stable merge sort of indices, so sorting the objects does not box every index
+    private static void sort(int[] order, IntBinaryOperator comparator) {
+        int[] from = order.clone();
+        mergeSort(from, order, 0, order.length, comparator);
+    }
+
+    // Sorts from[start, end) into to[start, end), both ranges start with the same contents
+    private static void mergeSort(int[] from, int[] to, int start, int end, IntBinaryOperator comparator) {
+        if (end - start < 8) {
+            for (int i = start + 1; i < end; i++) {
+                int value = to[i];
+                int j = i;
+
+                while (j > start && comparator.applyAsInt(to[j - 1], value) > 0) {
+                    to[j] = to[j - 1];
+                    j--;
+                }
+
+                to[j] = value;
+            }
+
+            return;
+        }
+
+        int middle = (start + end) >>> 1;
+        // The roles swap at every level, so no copying back is needed
+        mergeSort(to, from, start, middle, comparator);
+        mergeSort(to, from, middle, end, comparator);
+
+        for (int i = start, left = start, right = middle; i < end; i++) {
+            if (right >= end || left < middle && comparator.applyAsInt(from[left], from[right]) <= 0) {
+                to[i] = from[left++];
+            } else {
+                to[i] = from[right++];
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AssetObjects that = (AssetObjects) o;
+        return virtual == that.virtual && mapToResources == that.mapToResources && Arrays.equals(paths, that.paths) && Arrays.equals(pathOffsets, that.pathOffsets) && Arrays.equals(hashHigh, that.hashHigh) && Arrays.equals(hashMiddle, that.hashMiddle) && Arrays.equals(hashLow, that.hashLow) && Arrays.equals(sizes, that.sizes);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(paths) + Arrays.hashCode(hashHigh);
+    }
+
+    /**
+     * Reads the asset index json in a single pass, without building an object per asset, and writes it back with the
+     * objects in path order.
+     */
+    static class Adapter extends TypeAdapter<AssetObjects> {
+        @Override
+        public void write(JsonWriter out, AssetObjects value) throws IOException {
+            out.beginObject();
+
+            if (value.virtual) {
+                out.name("virtual").value(true);
+            }
+
+            if (value.mapToResources) {
+                out.name("map_to_resources").value(true);
+            }
+
+            out.name("objects").beginObject();
+
+            for (int i = 0; i < value.size(); i++) {
+                out.name(value.getPath(i)).beginObject();
+                out.name("hash").value(value.getHash(i).toHex());
+                out.name("size").value(value.sizes[i]);
+                out.endObject();
+            }
+
+            out.endObject();
+            out.endObject();
+        }
+
+        @Override
+        public AssetObjects read(JsonReader in) throws IOException {
+            Columns columns = new Columns();
+            boolean virtual = false;
+            boolean mapToResources = false;
+
+            in.beginObject();
+
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "virtual":
+                        virtual = in.nextBoolean();
+                        break;
+                    case "map_to_resources":
+                        mapToResources = in.nextBoolean();
+                        break;
+                    case "objects":
+                        in.beginObject();
+
+                        while (in.hasNext()) {
+                            String path = in.nextName();
+                            String hash = null;
+                            int size = 0;
+                            in.beginObject();
+
+                            while (in.hasNext()) {
+                                switch (in.nextName()) {
+                                    case "hash":
+                                        hash = in.nextString();
+                                        break;
+                                    case "size":
+                                        size = in.nextInt();
+                                        break;
+                                    default:
+                                        in.skipValue();
+                                }
+                            }
+
+                            in.endObject();
+
+                            if (hash == null || hash.length() != Sha1Hash.HEX_LENGTH) {
+                                throw new MalformedJsonException("Asset " + path + " has no valid hash at " + in.getPath());
+                            }
+
+                            columns.add(path, hash, size);
+                        }
+
+                        in.endObject();
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+
+            in.endObject();
+            return columns.build(virtual, mapToResources);
+        }
+    }
+
+    /**
+     * The objects as they are read, in the order of the json, before they are sorted by path.
+     */
+    private static final class Columns {
+        private byte[] paths = new byte[4096];
+        private int pathsLength;
+        private int[] pathOffsets = new int[257];
+        private long[] hashHigh = new long[256];
+        private long[] hashMiddle = new long[256];
+        private int[] hashLow = new int[256];
+        private int[] sizes = new int[256];
+        private int count;
+
+        void add(String path, String hash, int size) {
+            if (count == sizes.length) {
+                int capacity = count * 2;
+                pathOffsets = Arrays.copyOf(pathOffsets, capacity + 1);
+                hashHigh = Arrays.copyOf(hashHigh, capacity);
+                hashMiddle = Arrays.copyOf(hashMiddle, capacity);
+                hashLow = Arrays.copyOf(hashLow, capacity);
+                sizes = Arrays.copyOf(sizes, capacity);
+            }
+
+            hashHigh[count] = Sha1Hash.parseHex(hash, 0, 16);
+            hashMiddle[count] = Sha1Hash.parseHex(hash, 16, 16);
+            hashLow[count] = (int) Sha1Hash.parseHex(hash, 32, 8);
+            sizes[count] = size;
+            appendUtf8(path);
+            pathOffsets[++count] = pathsLength;
+        }
+
+        // Same as String#getBytes with UTF-8, unpaired surrogates included, without a temporary array per path
+        private void appendUtf8(String path) {
+            if (paths.length - pathsLength < path.length() * 3) {
+                paths = Arrays.copyOf(paths, Math.max(paths.length * 2, pathsLength + path.length() * 3));
+            }
+
+            for (int i = 0; i < path.length(); i++) {
+                char c = path.charAt(i);
+
+                if (c < 0x80) {
+                    paths[pathsLength++] = (byte) c;
+                } else if (c < 0x800) {
+                    paths[pathsLength++] = (byte) (0xC0 | c >> 6);
+                    paths[pathsLength++] = (byte) (0x80 | c & 0x3F);
+                } else if (Character.isHighSurrogate(c) && i + 1 < path.length() && Character.isLowSurrogate(path.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, path.charAt(++i));
+                    paths[pathsLength++] = (byte) (0xF0 | codePoint >> 18);
+                    paths[pathsLength++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                    paths[pathsLength++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                    paths[pathsLength++] = (byte) (0x80 | codePoint & 0x3F);
+                } else if (Character.isSurrogate(c)) {
+                    paths[pathsLength++] = '?';
+                } else {
+                    paths[pathsLength++] = (byte) (0xE0 | c >> 12);
+                    paths[pathsLength++] = (byte) (0x80 | c >> 6 & 0x3F);
+                    paths[pathsLength++] = (byte) (0x80 | c & 0x3F);
+                }
+            }
+        }
+
+        AssetObjects build(boolean virtual, boolean mapToResources) {
+            int[] order = identity(count);
+            sort(order, (a, b) -> compareBytes(paths, pathOffsets[a], pathOffsets[a + 1], paths, pathOffsets[b], pathOffsets[b + 1]));
+
+            byte[] sortedPaths = new byte[pathsLength];
+            int[] sortedOffsets = new int[count + 1];
+            long[] sortedHigh = new long[count];
+            long[] sortedMiddle = new long[count];
+            int[] sortedLow = new int[count];
+            int[] sortedSizes = new int[count];
+
+            for (int i = 0; i < count; i++) {
+                int object = order[i];
+                int length = pathOffsets[object + 1] - pathOffsets[object];
+                System.arraycopy(paths, pathOffsets[object], sortedPaths, sortedOffsets[i], length);
+                sortedOffsets[i + 1] = sortedOffsets[i] + length;
+                sortedHigh[i] = hashHigh[object];
+                sortedMiddle[i] = hashMiddle[object];
+                sortedLow[i] = hashLow[object];
+                sortedSizes[i] = sizes[object];
+            }
+
+            return new AssetObjects(sortedPaths, sortedOffsets, sortedHigh, sortedMiddle, sortedLow, sortedSizes, virtual, mapToResources);
+        }
+    }
+}
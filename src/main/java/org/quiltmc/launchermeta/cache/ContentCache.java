@@ -0,0 +1,323 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.cache;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.quiltmc.launchermeta.util.Sha1Hash;
+import org.quiltmc.launchermeta.version_manifest.VersionEntry;
+
+/**
+ * A content-addressed cache of raw files on disk, such as version jsons, keyed by their sha1.
+ * <p>
+ * Every file is stored as {@code <root>/<first two hex digits>/<sha1>.json} and its hash is verified before it is
+ * written and again when it is read, so a hit can be used without going to the network. A file that was changed on
+ * disk is deleted and treated as a miss. When the cache grows over its size limit the least
+ * recently used files are deleted. Recency is kept in the modification time of the files, so it survives restarts.
+ */
+public class ContentCache {
+    private static final String EXTENSION = ".json";
+
+    private final Path root;
+    private final long maxBytes;
+    // In access order, so the first entry is the least recently used
+    private final LinkedHashMap<Sha1Hash, Long> sizes = new LinkedHashMap<>(64, 0.75F, true);
+    private long totalBytes;
+
+    private ContentCache(Path root, long maxBytes) {
+        this.root = root;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Opens a cache, creating its directory if needed and indexing the files already in it.
+     *
+     * @param root the directory of the cache
+     * @param maxBytes the maximum total size of the cached files
+     * @return the cache
+     * @throws IOException if the directory could not be created or read
+     */
+    public static ContentCache open(Path root, long maxBytes) throws IOException {
+        ContentCache cache = new ContentCache(root, maxBytes);
+        Files.createDirectories(root);
+        cache.scan();
+        return cache;
+    }
+
+    /**
+     *
+     * @return the directory of the cache
+     */
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     *
+     * @return the maximum total size of the cached files
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     *
+     * @return the total size of the cached files
+     */
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     *
+     * @return the number of cached files
+     */
+    public synchronized int size() {
+        return sizes.size();
+    }
+
+    /**
+     *
+     * @param sha1 the hash of the file
+     * @return whether the file is cached
+     */
+    public synchronized boolean contains(Sha1Hash sha1) {
+        return sizes.containsKey(sha1);
+    }
+
+    /**
+     *
+     * @param sha1 the hash of the file
+     * @return the path the file is or would be stored at
+     */
+    public Path getPath(Sha1Hash sha1) {
+        String hex = sha1.toHex();
+        return root.resolve(hex.substring(0, 2)).resolve(hex + EXTENSION);
+    }
+
+    /**
+     *
+     * @param sha1 the hash of the file
+     * @return the contents of the file, if it is cached and still has the expected hash
+     * @throws IOException if the file could not be read
+     */
+    public Optional<byte[]> get(Sha1Hash sha1) throws IOException {
+        Path path;
+
+        synchronized (this) {
+            if (sizes.get(sha1) == null) {
+                return Optional.empty();
+            }
+
+            path = getPath(sha1);
+        }
+
+        try {
+            byte[] bytes = Files.readAllBytes(path);
+
+            if (!Sha1Hash.fromBytes(Sha1Hash.newDigest().digest(bytes)).equals(sha1)) {
+                // Corrupted or replaced on disk, drop it so the caller fetches it again
+                forget(sha1);
+                delete(Collections.singletonList(sha1));
+                return Optional.empty();
+            }
+
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+            return Optional.of(bytes);
+        } catch (NoSuchFileException e) {
+            // Deleted behind our back
+            forget(sha1);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores a file in the cache, after checking that it has the expected hash. Files evicted to make room are
+     * deleted after the entry is added, and failing to delete one does not fail the call.
+     *
+     * @param sha1 the expected hash of the file
+     * @param bytes the contents of the file
+     * @throws IOException if the file could not be written
+     * @throws IllegalArgumentException if the contents do not have the expected hash
+     */
+    public void put(Sha1Hash sha1, byte[] bytes) throws IOException {
+        Sha1Hash actual = Sha1Hash.fromBytes(Sha1Hash.newDigest().digest(bytes));
+
+        if (!actual.equals(sha1)) {
+            throw new IllegalArgumentException("Expected sha1 " + sha1 + " but the contents have sha1 " + actual);
+        }
+
+        if (contains(sha1)) {
+            return;
+        }
+
+        Path path = getPath(sha1);
+        Files.createDirectories(path.getParent());
+        Path temp = Files.createTempFile(path.getParent(), sha1.toHex(), ".tmp");
+
+        try {
+            Files.write(temp, bytes);
+
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        List<Sha1Hash> evicted;
+
+        synchronized (this) {
+            Long previous = sizes.put(sha1, (long) bytes.length);
+            totalBytes += bytes.length - (previous == null ? 0 : previous);
+            evicted = evict();
+        }
+
+        delete(evicted);
+    }
+
+    /**
+     *
+     * @param sha1 the hash of the file
+     * @throws IOException if the file could not be deleted
+     */
+    public void remove(Sha1Hash sha1) throws IOException {
+        forget(sha1);
+        Files.deleteIfExists(getPath(sha1));
+    }
+
+    /**
+     *
+     * @param entries the entries of a manifest
+     * @return the entries that have no sha1 or whose json is not cached, in the same order
+     */
+    public synchronized List<VersionEntry> getMissing(Collection<VersionEntry> entries) {
+        List<VersionEntry> missing = new ArrayList<>();
+
+        for (VersionEntry entry : entries) {
+            Optional<String> sha1 = entry.getSha1();
+
+            if (!sha1.isPresent() || !Sha1Hash.isValidHex(sha1.get()) || !sizes.containsKey(Sha1Hash.fromHex(sha1.get()))) {
+                missing.add(entry);
+            }
+        }
+
+        return missing;
+    }
+
+    private synchronized void forget(Sha1Hash sha1) {
+        Long size = sizes.remove(sha1);
+
+        if (size != null) {
+            totalBytes -= size;
+        }
+    }
+
+    // Called with the lock held, the returned files must be deleted after releasing it
+    private List<Sha1Hash> evict() {
+        List<Sha1Hash> evicted = new ArrayList<>();
+        Iterator<Map.Entry<Sha1Hash, Long>> iterator = sizes.entrySet().iterator();
+
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<Sha1Hash, Long> eldest = iterator.next();
+            evicted.add(eldest.getKey());
+            totalBytes -= eldest.getValue();
+            iterator.remove();
+        }
+
+        return evicted;
+    }
+
+    private void delete(List<Sha1Hash> evicted) {
+        for (Sha1Hash sha1 : evicted) {
+            // Put back by another thread in the meantime
+            if (contains(sha1)) {
+                continue;
+            }
+
+            try {
+                Files.deleteIfExists(getPath(sha1));
+            } catch (IOException e) {
+                // The entry is already forgotten, a file left behind is picked up again by the next scan
+            }
+        }
+    }
+
+    private void scan() throws IOException {
+        List<CachedFile> found = new ArrayList<>();
+
+        try (DirectoryStream<Path> directories = Files.newDirectoryStream(root, path -> Files.isDirectory(path) && path.getFileName().toString().length() == 2)) {
+            for (Path directory : directories) {
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+                    for (Path file : files) {
+                        String name = file.getFileName().toString();
+                        String hex = name.substring(0, name.length() - EXTENSION.length());
+
+                        if (Sha1Hash.isValidHex(hex)) {
+                            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                            found.add(new CachedFile(Sha1Hash.fromHex(hex), attributes.size(), attributes.lastModifiedTime()));
+                        }
+                    }
+                }
+            }
+        }
+
+        found.sort(Comparator.comparing(file -> file.lastModified));
+        List<Sha1Hash> evicted;
+
+        synchronized (this) {
+            for (CachedFile file : found) {
+                sizes.put(file.sha1, file.size);
+                totalBytes += file.size;
+            }
+
+            evicted = evict();
+        }
+
+        delete(evicted);
+    }
+
+    private static final class CachedFile {
+        private final Sha1Hash sha1;
+        private final long size;
+        private final FileTime lastModified;
+
+        private CachedFile(Sha1Hash sha1, long size, FileTime lastModified) {
+            this.sha1 = sha1;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+}
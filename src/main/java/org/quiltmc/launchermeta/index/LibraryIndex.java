@@ -0,0 +1,558 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.quiltmc.launchermeta.util.MavenCoordinate;
+import org.quiltmc.launchermeta.util.Sha1Hash;
+import org.quiltmc.launchermeta.version.v1.DownloadableFile;
+import org.quiltmc.launchermeta.version.v1.Library;
+import org.quiltmc.launchermeta.version.v1.Version;
+
+/**
+ * A reverse index from the libraries and library files referenced by a set of {@link Version}s to the versions that
+ * reference them.
+ * <p>
+ * Libraries are looked up by {@code group:artifact}, matching every version of the library, or by
+ * {@code group:artifact:version}; libraries whose name is not a maven coordinate are indexed by their name. Files are
+ * looked up by the SHA1 of the artifact or any classifier of a library. Every key is stored once, and the versions
+ * using it are kept as a sorted list of version ordinals.
+ * <p>
+ * Versions get the lowest free ordinal when they are added, and the ordinals and keys of removed versions are reused,
+ * so replacing versions does not grow the index. An ordinal therefore only identifies a version until it is removed or
+ * replaced, and ordinals are not stable across updates or when the index is written to a file and read back. The file
+ * is a big-endian magic and format version, the library keys and file hashes, and for every version its id and the
+ * delta encoded indices of the keys and hashes it uses.
+ */
+public final class LibraryIndex {
+    private static final int MAGIC = 0x514C4C49;
+    private static final int FORMAT = 1;
+
+    private final List<String> ids = new ArrayList<>();
+    private final BitSet freeOrdinals = new BitSet();
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<int[]> libraryRefs = new ArrayList<>();
+    private final List<int[]> fileRefs = new ArrayList<>();
+    private final Keys<String> libraries = new Keys<>();
+    private final Keys<Sha1Hash> files = new Keys<>();
+
+    /**
+     *
+     * @param versions the versions to index
+     * @return an index of the versions
+     */
+    public static LibraryIndex of(Collection<? extends Version> versions) {
+        LibraryIndex index = new LibraryIndex();
+
+        for (Version version : versions) {
+            index.add(version);
+        }
+
+        return index;
+    }
+
+    /**
+     * Adds a version to the index, replacing any version with the same id.
+     *
+     * @param version the version
+     * @return the ordinal of the version
+     */
+    public synchronized int add(Version version) {
+        remove(version.getId());
+
+        List<Library> libraries = version.getLibraries() == null ? Collections.emptyList() : version.getLibraries();
+        List<String> libraryKeys = new ArrayList<>(libraries.size() * 2);
+        List<Sha1Hash> fileKeys = new ArrayList<>(libraries.size());
+
+        for (Library library : libraries) {
+            addLibraryKeys(library, libraryKeys);
+
+            if (library.getDownloads() != null) {
+                library.getDownloads().getArtifact().ifPresent(file -> addFileKey(file, fileKeys));
+                library.getDownloads().getClassifiers().ifPresent(classifiers -> {
+                    for (DownloadableFile.PathDownload file : classifiers.getFiles()) {
+                        addFileKey(file, fileKeys);
+                    }
+                });
+            }
+        }
+
+        int[] libraryIds = new int[libraryKeys.size()];
+        int[] fileIds = new int[fileKeys.size()];
+
+        for (int i = 0; i < libraryIds.length; i++) {
+            libraryIds[i] = this.libraries.intern(libraryKeys.get(i));
+        }
+
+        for (int i = 0; i < fileIds.length; i++) {
+            fileIds[i] = files.intern(fileKeys.get(i));
+        }
+
+        return add(version.getId(), distinct(libraryIds), distinct(fileIds));
+    }
+
+    /**
+     *
+     * @param id the id of a version
+     * @return whether the version was in the index
+     */
+    public synchronized boolean remove(String id) {
+        Integer ordinal = ordinals.remove(id);
+
+        if (ordinal == null) {
+            return false;
+        }
+
+        for (int key : libraryRefs.get(ordinal)) {
+            libraries.remove(key, ordinal);
+        }
+
+        for (int key : fileRefs.get(ordinal)) {
+            files.remove(key, ordinal);
+        }
+
+        ids.set(ordinal, null);
+        libraryRefs.set(ordinal, null);
+        fileRefs.set(ordinal, null);
+        freeOrdinals.set(ordinal);
+        return true;
+    }
+
+    /**
+     *
+     * @return the number of versions in the index
+     */
+    public synchronized int size() {
+        return ordinals.size();
+    }
+
+    /**
+     *
+     * @param id the id of a version
+     * @return whether the version is in the index
+     */
+    public synchronized boolean contains(String id) {
+        return ordinals.containsKey(id);
+    }
+
+    /**
+     *
+     * @param id the id of a version
+     * @return the ordinal of the version, or {@code -1} if it is not in the index
+     */
+    public synchronized int indexOf(String id) {
+        Integer ordinal = ordinals.get(id);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     *
+     * @param ordinal the ordinal of a version
+     * @return the id of the version, if it is in the index
+     */
+    public synchronized Optional<String> getId(int ordinal) {
+        return ordinal >= 0 && ordinal < ids.size() ? Optional.ofNullable(ids.get(ordinal)) : Optional.empty();
+    }
+
+    /**
+     *
+     * @param library a library as {@code group:artifact} or {@code group:artifact:version}
+     * @return the ordinals of the versions using the library, in ascending order
+     */
+    public synchronized int[] getOrdinals(String library) {
+        return libraries.getOrdinals(library);
+    }
+
+    /**
+     *
+     * @param sha1 the hash of a library file
+     * @return the ordinals of the versions using the file, in ascending order
+     */
+    public synchronized int[] getOrdinals(Sha1Hash sha1) {
+        return files.getOrdinals(sha1);
+    }
+
+    /**
+     *
+     * @param library a library as {@code group:artifact} or {@code group:artifact:version}
+     * @return the ids of the versions using the library, in the order of their ordinals
+     */
+    public synchronized List<String> getVersions(String library) {
+        return toIds(libraries.getOrdinals(library));
+    }
+
+    /**
+     *
+     * @param sha1 the hash of a library file
+     * @return the ids of the versions using the file, in the order of their ordinals
+     */
+    public synchronized List<String> getVersions(Sha1Hash sha1) {
+        return toIds(files.getOrdinals(sha1));
+    }
+
+    /**
+     *
+     * @param file the file to read
+     * @return the index stored in the file
+     * @throws IOException if the file could not be read or is not an index
+     */
+    public static LibraryIndex read(Path file) throws IOException {
+        LibraryIndex index = new LibraryIndex();
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT) {
+                throw new IOException("Not a library index: " + file);
+            }
+
+            int libraryCount = in.readInt();
+
+            for (int i = 0; i < libraryCount; i++) {
+                index.libraries.intern(in.readUTF());
+            }
+
+            int fileCount = in.readInt();
+            byte[] sha1 = new byte[Sha1Hash.BYTES];
+
+            for (int i = 0; i < fileCount; i++) {
+                in.readFully(sha1);
+                index.files.intern(Sha1Hash.fromBytes(sha1));
+            }
+
+            int versionCount = in.readInt();
+
+            for (int i = 0; i < versionCount; i++) {
+                String id = in.readUTF();
+                int[] libraryIds = readRefs(in, libraryCount);
+                int[] fileIds = readRefs(in, fileCount);
+                index.add(id, libraryIds, fileIds);
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * Writes the index to a file, replacing it atomically where supported.
+     *
+     * @param file the file to write
+     * @throws IOException if the index could not be written
+     */
+    public synchronized void write(Path file) throws IOException {
+        // Free key ids are dropped, and the rest renumbered in their existing order
+        int[] libraryIds = libraries.compact();
+        int[] fileIds = files.compact();
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT);
+                out.writeInt(count(libraryIds));
+
+                for (int i = 0; i < libraryIds.length; i++) {
+                    if (libraryIds[i] >= 0) {
+                        out.writeUTF(libraries.keys.get(i));
+                    }
+                }
+
+                out.writeInt(count(fileIds));
+
+                for (int i = 0; i < fileIds.length; i++) {
+                    if (fileIds[i] >= 0) {
+                        out.write(files.keys.get(i).toByteArray());
+                    }
+                }
+
+                out.writeInt(ordinals.size());
+
+                for (int ordinal = 0; ordinal < ids.size(); ordinal++) {
+                    if (ids.get(ordinal) != null) {
+                        out.writeUTF(ids.get(ordinal));
+                        writeRefs(out, libraryRefs.get(ordinal), libraryIds);
+                        writeRefs(out, fileRefs.get(ordinal), fileIds);
+                    }
+                }
+            }
+
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private int add(String id, int[] libraryIds, int[] fileIds) {
+        int ordinal = freeOrdinals.nextSetBit(0);
+
+        if (ordinal < 0) {
+            ordinal = ids.size();
+            ids.add(id);
+            libraryRefs.add(libraryIds);
+            fileRefs.add(fileIds);
+        } else {
+            freeOrdinals.clear(ordinal);
+            ids.set(ordinal, id);
+            libraryRefs.set(ordinal, libraryIds);
+            fileRefs.set(ordinal, fileIds);
+        }
+
+        ordinals.put(id, ordinal);
+
+        for (int key : libraryIds) {
+            libraries.postings.get(key).add(ordinal);
+        }
+
+        for (int key : fileIds) {
+            files.postings.get(key).add(ordinal);
+        }
+
+        return ordinal;
+    }
+
+    private List<String> toIds(int[] ordinals) {
+        List<String> versions = new ArrayList<>(ordinals.length);
+
+        for (int ordinal : ordinals) {
+            versions.add(ids.get(ordinal));
+        }
+
+        return versions;
+    }
+
+    private static void addLibraryKeys(Library library, List<String> keys) {
+        MavenCoordinate coordinate;
+
+        try {
+            coordinate = library.getCoordinate();
+        } catch (IllegalArgumentException e) {
+            keys.add(library.getName());
+            return;
+        }
+
+        keys.add(coordinate.getModuleKey());
+        keys.add(coordinate.getModuleKey() + ":" + coordinate.getVersion());
+    }
+
+    private static void addFileKey(DownloadableFile file, List<Sha1Hash> keys) {
+        Sha1Hash sha1 = file.getSha1Hash();
+
+        // Files without a valid sha1 cannot be looked up by hash
+        if (sha1 != null) {
+            keys.add(sha1);
+        }
+    }
+
+    private static int[] distinct(int[] ids) {
+        if (ids.length < 2) {
+            return ids;
+        }
+
+        Arrays.sort(ids);
+        int size = 1;
+
+        for (int i = 1; i < ids.length; i++) {
+            if (ids[i] != ids[size - 1]) {
+                ids[size++] = ids[i];
+            }
+        }
+
+        return size == ids.length ? ids : Arrays.copyOf(ids, size);
+    }
+
+    private static int count(int[] remapped) {
+        int count = 0;
+
+        for (int id : remapped) {
+            if (id >= 0) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private static void writeRefs(DataOutputStream out, int[] refs, int[] remapped) throws IOException {
+        writeVarInt(out, refs.length);
+        int previous = 0;
+
+        for (int ref : refs) {
+            int id = remapped[ref];
+            writeVarInt(out, id - previous);
+            previous = id;
+        }
+    }
+
+    private static int[] readRefs(DataInputStream in, int keyCount) throws IOException {
+        int[] refs = new int[readVarInt(in)];
+        int previous = 0;
+
+        for (int i = 0; i < refs.length; i++) {
+            previous += readVarInt(in);
+
+            if (previous >= keyCount || (i > 0 && refs[i - 1] >= previous)) {
+                throw new IOException("Invalid key reference " + previous);
+            }
+
+            refs[i] = previous;
+        }
+
+        return refs;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IOException("Invalid varint");
+    }
+
+    /**
+     * Interns keys into dense ids, each with the postings of the versions using it. A key is dropped once no version
+     * uses it, and its id is reused for the next new key.
+     */
+    private static final class Keys<K> {
+        // Null for the ids that are free
+        private final List<K> keys = new ArrayList<>();
+        private final Map<K, Integer> ids = new HashMap<>();
+        private final List<Postings> postings = new ArrayList<>();
+        private final BitSet free = new BitSet();
+
+        private int intern(K key) {
+            Integer id = ids.get(key);
+
+            if (id == null) {
+                id = free.nextSetBit(0);
+
+                if (id < 0) {
+                    id = keys.size();
+                    keys.add(key);
+                    postings.add(new Postings());
+                } else {
+                    free.clear(id);
+                    keys.set(id, key);
+                }
+
+                ids.put(key, id);
+            }
+
+            return id;
+        }
+
+        private void remove(int id, int ordinal) {
+            Postings postings = this.postings.get(id);
+            postings.remove(ordinal);
+
+            if (postings.size == 0) {
+                ids.remove(keys.get(id));
+                keys.set(id, null);
+                free.set(id);
+            }
+        }
+
+        private int[] getOrdinals(K key) {
+            Integer id = ids.get(key);
+            return id == null ? new int[0] : postings.get(id).toArray();
+        }
+
+        /**
+         *
+         * @return the new id of every key, or {@code -1} for keys without postings
+         */
+        private int[] compact() {
+            int[] remapped = new int[keys.size()];
+            int next = 0;
+
+            for (int i = 0; i < remapped.length; i++) {
+                remapped[i] = postings.get(i).size == 0 ? -1 : next++;
+            }
+
+            return remapped;
+        }
+    }
+
+    /**
+     * A sorted list of version ordinals.
+     */
+    private static final class Postings {
+        private int[] ordinals = new int[4];
+        private int size;
+
+        private void add(int ordinal) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+
+            // New ordinals are appended, only reused ones have to be inserted
+            int index = size == 0 || ordinals[size - 1] < ordinal ? size : -Arrays.binarySearch(ordinals, 0, size, ordinal) - 1;
+            System.arraycopy(ordinals, index, ordinals, index + 1, size - index);
+            ordinals[index] = ordinal;
+            size++;
+        }
+
+        private void remove(int ordinal) {
+            int index = Arrays.binarySearch(ordinals, 0, size, ordinal);
+
+            if (index >= 0) {
+                System.arraycopy(ordinals, index + 1, ordinals, index, size - index - 1);
+                size--;
+            }
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(ordinals, size);
+        }
+    }
+}
@@ -0,0 +1,493 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.install;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.Nullable;
+
+import org.quiltmc.launchermeta.net.StreamingTransport;
+import org.quiltmc.launchermeta.util.Sha1Hash;
+import org.quiltmc.launchermeta.util.ThreadUtil;
+import org.quiltmc.launchermeta.version.v1.DownloadableFile;
+
+/**
+ * Downloads the files of a {@link DownloadPlan} into a game directory, with a bounded number of downloads in flight
+ * overall and per host.
+ * <p>
+ * Entries are queued per host and the hosts take turns. A thread only takes an entry of a host that is below its limit,
+ * so a host that is at its limit does not hold back downloads from the others.
+ * <p>
+ * Each file is streamed into a {@code .part} file next to its destination through a {@link FileChannel}, and its SHA1
+ * is computed from the same buffer as it is written, so the file is never read back. Once the size and SHA1 match, the
+ * part file is atomically moved into place; a file that fails verification is deleted. A download that is cut short
+ * keeps its part file, and the next attempt asks the server for only the missing bytes with a range request, starting
+ * over if the server ignores it or the resumed file turns out to be corrupt. A file needed at several paths is only
+ * downloaded to the first one and then copied to the others.
+ * <p>
+ * Existing files at the destination are replaced, so already installed files should be filtered out beforehand.
+ */
+public class DownloadExecutor {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final StreamingTransport transport;
+    private final Path root;
+    private final int parallelism;
+    private final int perHost;
+    // The number of downloads in flight per host, across every call to execute, also the lock of the queues
+    private final Map<String, Integer> active = new HashMap<>();
+    // Only holds the paths that are in use, a lock is removed once its last user is done with it
+    private final Map<Path, PathLock> locks = new ConcurrentHashMap<>();
+
+    /**
+     *
+     * @param transport the transport to download the files with
+     * @param root the game directory, which the paths of the plan are resolved against
+     * @param parallelism the maximum number of files to download at once
+     * @param perHost the maximum number of files to download at once from a single host
+     */
+    public DownloadExecutor(StreamingTransport transport, Path root, int parallelism, int perHost) {
+        if (parallelism < 1 || perHost < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1, got " + parallelism + " and " + perHost + " per host");
+        }
+
+        this.transport = transport;
+        this.root = root;
+        this.parallelism = parallelism;
+        this.perHost = perHost;
+    }
+
+    /**
+     *
+     * @return the game directory the files are downloaded to
+     */
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     *
+     * @param entry an entry of a plan
+     * @return the path the entry is downloaded to, before it is copied to its other paths
+     */
+    public Path getPath(DownloadPlan.Entry entry) {
+        return root.resolve(entry.getPath());
+    }
+
+    /**
+     *
+     * @param plan the plan to download
+     * @return the result of every file, in the order they completed
+     * @throws InterruptedException if the calling thread was interrupted while waiting
+     */
+    public List<Result> executeAll(DownloadPlan plan) throws InterruptedException {
+        List<Result> results = new ArrayList<>(plan.size());
+        execute(plan.getEntries(), results::add);
+        return results;
+    }
+
+    /**
+     * Downloads the entries and waits for all of them. The consumer is called on the calling thread, once for every
+     * entry, as soon as its result is available.
+     *
+     * @param entries the entries to download
+     * @param consumer called with the result of every entry, in the order they complete
+     * @throws InterruptedException if the calling thread was interrupted while waiting, in which case the remaining
+     * downloads are cancelled
+     */
+    public void execute(Collection<DownloadPlan.Entry> entries, Consumer<Result> consumer) throws InterruptedException {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        BlockingQueue<Result> completed = new LinkedBlockingQueue<>();
+        // The entries left to download, grouped by host, with the hosts in the order they take turns
+        Map<String, Deque<DownloadPlan.Entry>> queues = new LinkedHashMap<>();
+
+        for (DownloadPlan.Entry entry : entries) {
+            queues.computeIfAbsent(host(entry.getFile().getUrl()), host -> new ArrayDeque<>()).add(entry);
+        }
+
+        int workers = Math.min(parallelism, entries.size());
+        ExecutorService executor = ThreadUtil.newBlockingExecutor(workers, "Download Executor");
+
+        try {
+            for (int i = 0; i < workers; i++) {
+                executor.execute(() -> work(queues, completed));
+            }
+
+            for (int i = 0; i < entries.size(); i++) {
+                consumer.accept(completed.take());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Downloads a single entry on the calling thread, ignoring the concurrency limits.
+     *
+     * @param entry the entry to download
+     * @return the result of downloading the entry
+     */
+    public Result download(DownloadPlan.Entry entry) {
+        Path target = getPath(entry);
+        Result result;
+        // Two entries with different contents can share a path, they must not write the same part file at once
+        PathLock lock = lock(target);
+
+        try {
+            result = transfer(entry, target, true);
+        } catch (Exception e) {
+            return new Result(entry, target, e, 0, false);
+        } finally {
+            unlock(target, lock);
+        }
+
+        for (String path : entry.getPaths().subList(1, entry.getPaths().size())) {
+            Path copy = root.resolve(path);
+            PathLock copyLock = lock(copy);
+
+            try {
+                copy(target, copy);
+            } catch (Exception e) {
+                return new Result(entry, target, e, result.bytesTransferred, result.resumed);
+            } finally {
+                unlock(copy, copyLock);
+            }
+        }
+
+        return result;
+    }
+
+    private PathLock lock(Path path) {
+        PathLock lock = locks.compute(path, (key, existing) -> {
+            PathLock result = existing == null ? new PathLock() : existing;
+            result.users++;
+            return result;
+        });
+        lock.lock();
+        return lock;
+    }
+
+    private void unlock(Path path, PathLock lock) {
+        lock.unlock();
+        locks.computeIfPresent(path, (key, existing) -> --existing.users == 0 ? null : existing);
+    }
+
+    private void work(Map<String, Deque<DownloadPlan.Entry>> queues, BlockingQueue<Result> completed) {
+        while (true) {
+            DownloadPlan.Entry entry;
+
+            try {
+                entry = next(queues);
+            } catch (InterruptedException e) {
+                // Cancelled, the caller is no longer waiting for the results
+                return;
+            }
+
+            if (entry == null) {
+                return;
+            }
+
+            try {
+                completed.add(download(entry));
+            } catch (Throwable t) {
+                // Every entry has to produce a result, or the caller would wait forever
+                completed.add(new Result(entry, getPath(entry), t, 0, false));
+            } finally {
+                release(host(entry.getFile().getUrl()));
+            }
+        }
+    }
+
+    // Takes an entry of the first host below its limit. A thread only waits when every host with entries left is at
+    // its limit, so a busy host never keeps a thread from downloading from another one
+    @Nullable
+    private DownloadPlan.Entry next(Map<String, Deque<DownloadPlan.Entry>> queues) throws InterruptedException {
+        synchronized (active) {
+            while (!queues.isEmpty()) {
+                Iterator<Map.Entry<String, Deque<DownloadPlan.Entry>>> iterator = queues.entrySet().iterator();
+
+                while (iterator.hasNext()) {
+                    Map.Entry<String, Deque<DownloadPlan.Entry>> queue = iterator.next();
+                    String host = queue.getKey();
+                    int downloading = active.getOrDefault(host, 0);
+
+                    if (downloading < perHost) {
+                        Deque<DownloadPlan.Entry> remaining = queue.getValue();
+                        DownloadPlan.Entry entry = remaining.poll();
+                        iterator.remove();
+
+                        if (!remaining.isEmpty()) {
+                            // Back of the line, so the hosts take turns
+                            queues.put(host, remaining);
+                        }
+
+                        active.put(host, downloading + 1);
+                        return entry;
+                    }
+                }
+
+                active.wait();
+            }
+
+            return null;
+        }
+    }
+
+    private void release(String host) {
+        synchronized (active) {
+            int downloading = active.get(host) - 1;
+
+            if (downloading == 0) {
+                active.remove(host);
+            } else {
+                active.put(host, downloading);
+            }
+
+            active.notifyAll();
+        }
+    }
+
+    private Result transfer(DownloadPlan.Entry entry, Path target, boolean resume) throws IOException {
+        DownloadableFile file = entry.getFile();
+        Path part = target.resolveSibling(target.getFileName() + ".part");
+        MessageDigest digest = Sha1Hash.newDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        ByteBuffer wrapped = ByteBuffer.wrap(buffer);
+        long transferred = 0;
+        long offset;
+
+        Files.createDirectories(target.getParent());
+
+        try (FileChannel channel = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            offset = channel.size();
+
+            if (!resume || offset > file.getSize()) {
+                channel.truncate(0);
+                offset = 0;
+            }
+
+            // Only the bytes of an earlier attempt have to be read back, everything else is hashed as it is written
+            for (long position = 0; position < offset; ) {
+                wrapped.clear();
+                int read = channel.read(wrapped, position);
+
+                if (read < 0) {
+                    throw new IOException("Unexpected end of " + part);
+                }
+
+                digest.update(buffer, 0, read);
+                position += read;
+            }
+
+            if (offset < file.getSize()) {
+                try (StreamingTransport.Body body = transport.open(file.getUrl(), offset)) {
+                    if (body.getOffset() != offset) {
+                        if (body.getOffset() != 0) {
+                            throw new IOException("Requested " + file.getUrl() + " from byte " + offset + " but got byte " + body.getOffset());
+                        }
+
+                        // The server ignored the range, so the whole file has to be written again
+                        channel.truncate(0);
+                        digest.reset();
+                        offset = 0;
+                    }
+
+                    channel.position(offset);
+                    InputStream in = body.getStream();
+                    int read;
+
+                    while ((read = in.read(buffer)) >= 0) {
+                        if (offset + transferred + read > file.getSize()) {
+                            channel.truncate(0);
+                            throw new IOException("Download of " + file.getUrl() + " is larger than the expected " + file.getSize() + " bytes");
+                        }
+
+                        digest.update(buffer, 0, read);
+                        wrapped.clear();
+                        wrapped.limit(read);
+
+                        while (wrapped.hasRemaining()) {
+                            channel.write(wrapped);
+                        }
+
+                        transferred += read;
+                    }
+                }
+            }
+
+            if (offset + transferred != file.getSize()) {
+                // The part file is kept, the next attempt continues where this one stopped
+                throw new IOException("Download of " + file.getUrl() + " ended after " + (offset + transferred) + " of " + file.getSize() + " bytes");
+            }
+        }
+
+        Sha1Hash actual = Sha1Hash.fromDigest(digest);
+
+        if (!actual.equals(file.getSha1Hash())) {
+            Files.deleteIfExists(part);
+
+            if (offset > 0) {
+                // The earlier attempt may have been of a different file, try once more from the start
+                return transfer(entry, target, false);
+            }
+
+            throw new IOException("Expected sha1 " + file.getSha1() + " for " + file.getUrl() + " but got " + actual);
+        }
+
+        move(part, target);
+        return new Result(entry, target, null, transferred, offset > 0);
+    }
+
+    private static void copy(Path source, Path target) throws IOException {
+        Path part = target.resolveSibling(target.getFileName() + ".part");
+        Files.createDirectories(target.getParent());
+        Files.copy(source, part, StandardCopyOption.REPLACE_EXISTING);
+        move(part, target);
+    }
+
+    private static void move(Path part, Path target) throws IOException {
+        try {
+            Files.move(part, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(part, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String host(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null ? "" : host;
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    /**
+     * The outcome of downloading a single {@link DownloadPlan.Entry}.
+     */
+    public static final class Result {
+        private final DownloadPlan.Entry entry;
+        private final Path path;
+        @Nullable
+        private final Throwable error;
+        private final long bytesTransferred;
+        private final boolean resumed;
+
+        Result(DownloadPlan.Entry entry, Path path, @Nullable Throwable error, long bytesTransferred, boolean resumed) {
+            this.entry = entry;
+            this.path = path;
+            this.error = error;
+            this.bytesTransferred = bytesTransferred;
+            this.resumed = resumed;
+        }
+
+        /**
+         *
+         * @return the entry that was downloaded
+         */
+        public DownloadPlan.Entry getEntry() {
+            return entry;
+        }
+
+        /**
+         *
+         * @return the path the entry was downloaded to
+         */
+        public Path getPath() {
+            return path;
+        }
+
+        /**
+         *
+         * @return the error that prevented downloading the entry, if downloading failed
+         */
+        public Optional<Throwable> getError() {
+            return Optional.ofNullable(error);
+        }
+
+        /**
+         *
+         * @return whether the entry was downloaded and verified
+         */
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        /**
+         *
+         * @return the number of bytes received from the transport
+         */
+        public long getBytesTransferred() {
+            return bytesTransferred;
+        }
+
+        /**
+         *
+         * @return whether the download continued from a part file of an earlier attempt
+         */
+        public boolean isResumed() {
+            return resumed;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Result result = (Result) o;
+            return bytesTransferred == result.bytesTransferred && resumed == result.resumed && entry.equals(result.entry) && path.equals(result.path) && Objects.equals(error, result.error);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(entry, path, error, bytesTransferred, resumed);
+        }
+    }
+
+    private static final class PathLock extends ReentrantLock {
+        // The threads holding or waiting for the lock, only changed inside the compute calls of the map
+        private int users;
+    }
+}
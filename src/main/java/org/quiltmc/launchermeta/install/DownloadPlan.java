@@ -0,0 +1,292 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.install;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
+import org.quiltmc.launchermeta.util.Sha1Hash;
+import org.quiltmc.launchermeta.version.v1.DownloadableFile;
+import org.quiltmc.launchermeta.version.v1.Library;
+
+/**
+ * The files needed to install one or more versions, with every file appearing once no matter how many versions use
+ * it. A file that is needed at several paths is a single entry listing all of them, so it is only downloaded once.
+ * <p>
+ * Entries are sorted by {@link Kind} and then by their first path, so plans of the same versions are always equal.
+ * Paths are relative to the game directory and always use {@code /} as the separator.
+ * <p>
+ * Files without a valid SHA1 cannot be verified or deduplicated, so they are not part of the entries. They are listed
+ * by {@link #getUnverifiable()} instead, for the caller to report or handle.
+ */
+public final class DownloadPlan {
+    private final Entry[] entries;
+    private final Entry[] unverifiable;
+    private final long totalBytes;
+
+    DownloadPlan(Entry[] entries) {
+        this(entries, new Entry[0]);
+    }
+
+    DownloadPlan(Entry[] entries, Entry[] unverifiable) {
+        long totalBytes = 0;
+
+        for (Entry entry : entries) {
+            totalBytes += entry.getFile().getSize();
+        }
+
+        this.entries = entries;
+        this.unverifiable = unverifiable;
+        this.totalBytes = totalBytes;
+    }
+
+    /**
+     *
+     * @return every file of the plan, in order
+     */
+    public List<Entry> getEntries() {
+        return Collections.unmodifiableList(Arrays.asList(entries));
+    }
+
+    /**
+     *
+     * @param kind the kind of file
+     * @return the files of the given kind, in order
+     */
+    public List<Entry> getEntries(Kind kind) {
+        List<Entry> result = new ArrayList<>();
+
+        for (Entry entry : entries) {
+            if (entry.kind == kind) {
+                result.add(entry);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     *
+     * @return the files that were left out of the plan because their SHA1 is missing or not valid hex, in order
+     */
+    public List<Entry> getUnverifiable() {
+        return Collections.unmodifiableList(Arrays.asList(unverifiable));
+    }
+
+    /**
+     *
+     * @return the number of files in the plan
+     */
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     *
+     * @return whether the plan has no files
+     */
+    public boolean isEmpty() {
+        return entries.length == 0;
+    }
+
+    /**
+     *
+     * @return the sum of the sizes of every file in the plan
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DownloadPlan that = (DownloadPlan) o;
+        return Arrays.equals(entries, that.entries) && Arrays.equals(unverifiable, that.unverifiable);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(entries) + Arrays.hashCode(unverifiable);
+    }
+
+    /**
+     * What a planned file is used for.
+     */
+    public enum Kind {
+        CLIENT,
+        LIBRARY,
+        NATIVES,
+        ASSET_INDEX,
+        LOGGING
+    }
+
+    /**
+     * A single file to download.
+     */
+    public static final class Entry implements Comparable<Entry> {
+        private final Kind kind;
+        private final DownloadableFile file;
+        // Sorted and never empty
+        private final List<String> paths;
+        @Nullable
+        private final Library.Extract extract;
+
+        Entry(Kind kind, DownloadableFile file, String path, @Nullable Library.Extract extract) {
+            this(kind, file, Collections.singletonList(path), extract);
+        }
+
+        private Entry(Kind kind, DownloadableFile file, List<String> paths, @Nullable Library.Extract extract) {
+            this.kind = kind;
+            this.file = file;
+            this.paths = paths;
+            this.extract = extract;
+        }
+
+        /**
+         *
+         * @param path another path the file is needed at
+         * @return an entry that also downloads the file to the path
+         */
+        Entry withPath(String path) {
+            int index = Collections.binarySearch(paths, path);
+
+            if (index >= 0) {
+                return this;
+            }
+
+            List<String> paths = new ArrayList<>(this.paths);
+            paths.add(-index - 1, path);
+            return new Entry(kind, file, Collections.unmodifiableList(paths), extract);
+        }
+
+        /**
+         * Merges another use of the same file into this entry. A file that is also used as natives is planned as
+         * natives, so that it is still extracted, and a path is only excluded from the extraction when every use of the
+         * file as natives excludes it.
+         *
+         * @param kind what the other use is for
+         * @param path the path of the other use
+         * @param extract the extraction rules of the other use
+         * @return an entry that covers both uses
+         */
+        Entry merge(Kind kind, String path, @Nullable Library.Extract extract) {
+            Entry merged = withPath(path);
+
+            if (kind != Kind.NATIVES) {
+                return merged;
+            }
+
+            Library.Extract mergedExtract = this.kind == Kind.NATIVES ? intersect(this.extract, extract) : extract;
+
+            if (this.kind == Kind.NATIVES && Objects.equals(this.extract, mergedExtract)) {
+                return merged;
+            }
+
+            return new Entry(Kind.NATIVES, file, merged.paths, mergedExtract);
+        }
+
+        /**
+         *
+         * @return what the file is used for
+         */
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         *
+         * @return the file to download
+         */
+        public DownloadableFile getFile() {
+            return file;
+        }
+
+        /**
+         *
+         * @return the SHA1 of the file, only {@code null} for {@linkplain DownloadPlan#getUnverifiable() unverifiable} files
+         */
+        public Sha1Hash getSha1Hash() {
+            return file.getSha1Hash();
+        }
+
+        /**
+         *
+         * @return the first path to download the file to, relative to the game directory
+         */
+        public String getPath() {
+            return paths.get(0);
+        }
+
+        /**
+         *
+         * @return every path to download the file to, relative to the game directory and in order
+         */
+        public List<String> getPaths() {
+            return paths;
+        }
+
+        /**
+         *
+         * @return the extraction rules of a natives jar, if present
+         */
+        public Optional<Library.Extract> getExtract() {
+            return Optional.ofNullable(extract);
+        }
+
+        @Override
+        public int compareTo(Entry o) {
+            int result = kind.compareTo(o.kind);
+            return result != 0 ? result : getPath().compareTo(o.getPath());
+        }
+
+        @Nullable
+        private static Library.Extract intersect(@Nullable Library.Extract first, @Nullable Library.Extract second) {
+            // Without rules nothing is excluded
+            if (first == null || second == null) {
+                return null;
+            }
+
+            List<String> exclude = new ArrayList<>(first.getExclude());
+            exclude.retainAll(second.getExclude());
+            return new Library.Extract(exclude);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Entry entry = (Entry) o;
+            return kind == entry.kind && file.equals(entry.file) && paths.equals(entry.paths) && Objects.equals(extract, entry.extract);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, file, paths, extract);
+        }
+
+        @Override
+        public String toString() {
+            return kind + " " + String.join(", ", paths);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.install;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
+import org.quiltmc.launchermeta.rules.Environment;
+import org.quiltmc.launchermeta.rules.VersionRules;
+import org.quiltmc.launchermeta.util.Sha1Hash;
+import org.quiltmc.launchermeta.version.v1.AssetIndex;
+import org.quiltmc.launchermeta.version.v1.DownloadableFile;
+import org.quiltmc.launchermeta.version.v1.Library;
+import org.quiltmc.launchermeta.version.v1.Logging;
+import org.quiltmc.launchermeta.version.v1.Version;
+
+/**
+ * Collects the files of one or more {@link Version}s for an {@link Environment} into a {@link DownloadPlan}.
+ * <p>
+ * Each version contributes its client jar, the artifacts and natives of the libraries enabled in the environment, its
+ * asset index and its logging configuration. Files are deduplicated by SHA1: a file shared by several versions, or
+ * listed twice by one version, is only planned once, with every path it is needed at. A file that is both a library and
+ * natives is planned as natives, so it is still extracted. Files without a valid SHA1 cannot be verified, so they are
+ * reported by {@link DownloadPlan#getUnverifiable()} rather than planned.
+ * <p>
+ * The paths follow the layout of the vanilla launcher: {@code versions/<id>/<id>.jar}, {@code libraries/<path>},
+ * {@code assets/indexes/<id>.json} and {@code assets/log_configs/<id>}.
+ */
+public final class DownloadPlanner {
+    private final Environment environment;
+    private final Map<Sha1Hash, DownloadPlan.Entry> entries = new HashMap<>();
+    private final List<DownloadPlan.Entry> unverifiable = new ArrayList<>();
+
+    public DownloadPlanner(Environment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     *
+     * @param version the version to plan
+     * @param environment the environment to plan for
+     * @return the files needed to install the version
+     */
+    public static DownloadPlan plan(Version version, Environment environment) {
+        return new DownloadPlanner(environment).add(version).plan();
+    }
+
+    /**
+     *
+     * @return the environment the files are planned for
+     */
+    public Environment getEnvironment() {
+        return environment;
+    }
+
+    /**
+     * Adds the files of a version to the plan.
+     *
+     * @param version the version
+     * @return this planner
+     */
+    public DownloadPlanner add(Version version) {
+        if (version.getDownloads() != null) {
+            add(DownloadPlan.Kind.CLIENT, version.getDownloads().getClient(), "versions/" + version.getId() + "/" + version.getId() + ".jar", null);
+        }
+
+        VersionRules.of(version).forEachEnabledLibrary(environment, this::addLibrary);
+
+        AssetIndex assetIndex = version.getAssetIndex();
+
+        if (assetIndex != null) {
+            add(DownloadPlan.Kind.ASSET_INDEX, assetIndex, "assets/indexes/" + assetIndex.getId() + ".json", null);
+        }
+
+        // Some profiles have a logging section without a client configuration
+        DownloadableFile.IdDownload logging = version.getLogging().map(Logging::getClient).map(Logging.LoggingInstance::getFile).orElse(null);
+
+        if (logging != null) {
+            add(DownloadPlan.Kind.LOGGING, logging, "assets/log_configs/" + logging.getId(), null);
+        }
+
+        return this;
+    }
+
+    /**
+     *
+     * @return the plan of every file added so far
+     */
+    public DownloadPlan plan() {
+        DownloadPlan.Entry[] sorted = entries.values().toArray(new DownloadPlan.Entry[0]);
+        Arrays.sort(sorted);
+        DownloadPlan.Entry[] skipped = unverifiable.toArray(new DownloadPlan.Entry[0]);
+        Arrays.sort(skipped);
+        return new DownloadPlan(sorted, skipped);
+    }
+
+    private void addLibrary(Library library) {
+        Library.LibraryDownloads downloads = library.getDownloads();
+
+        if (downloads == null) {
+            return;
+        }
+
+        downloads.getArtifact().ifPresent(artifact -> add(DownloadPlan.Kind.LIBRARY, artifact, "libraries/" + artifact.getPath(), null));
+
+        Optional<String> classifier = library.getNatives().flatMap(natives -> natives.get(environment.getOsName()));
+
+        if (classifier.isPresent() && downloads.getClassifiers().isPresent()) {
+            String name = classifier.get().replace("${arch}", environment.getArchBits());
+            downloads.getClassifiers().get().get(name).ifPresent(file -> add(DownloadPlan.Kind.NATIVES, file, "libraries/" + file.getPath(), library.getExtract().orElse(null)));
+        }
+    }
+
+    private void add(DownloadPlan.Kind kind, DownloadableFile file, String path, @Nullable Library.Extract extract) {
+        Sha1Hash sha1 = file.getSha1Hash();
+
+        if (sha1 != null) {
+            // The file is only downloaded once, but it is still needed at every path
+            DownloadPlan.Entry existing = entries.get(sha1);
+            entries.put(sha1, existing == null ? new DownloadPlan.Entry(kind, file, path, extract) : existing.merge(kind, path, extract));
+        } else {
+            unverifiable.add(new DownloadPlan.Entry(kind, file, path, extract));
+        }
+    }
+}
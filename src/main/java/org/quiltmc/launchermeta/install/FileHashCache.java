@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.install;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.quiltmc.launchermeta.util.Sha1Hash;
+
+/**
+ * Remembers the SHA1 of files on disk, keyed by their path, last modified time and size, so unchanged files do not
+ * have to be hashed again.
+ * <p>
+ * The cache is only a hint: an entry is ignored as soon as the modified time or size of its file changes, and a
+ * cache file that cannot be read is treated as empty. The cache file is a big-endian magic and format version
+ * followed by the number of entries and, for every entry, its path, modified time in milliseconds, size and the 20
+ * bytes of the SHA1.
+ */
+public final class FileHashCache {
+    private static final int MAGIC = 0x514C4843;
+    private static final int FORMAT = 1;
+
+    private final Path file;
+    private final Map<String, Stamp> entries = new ConcurrentHashMap<>();
+    private volatile boolean dirty;
+
+    private FileHashCache(Path file) {
+        this.file = file;
+    }
+
+    /**
+     *
+     * @param file the file the cache is stored in, which does not have to exist yet
+     * @return the cache, with the entries of the file if it could be read
+     */
+    public static FileHashCache open(Path file) {
+        FileHashCache cache = new FileHashCache(file);
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT) {
+                return cache;
+            }
+
+            int count = in.readInt();
+            byte[] sha1 = new byte[Sha1Hash.BYTES];
+
+            for (int i = 0; i < count; i++) {
+                String path = in.readUTF();
+                long modified = in.readLong();
+                long size = in.readLong();
+                in.readFully(sha1);
+                cache.entries.put(path, new Stamp(modified, size, Sha1Hash.fromBytes(sha1)));
+            }
+        } catch (NoSuchFileException ignored) {
+            // Nothing cached yet
+        } catch (IOException e) {
+            // A damaged cache only costs hashing the files again
+            cache.entries.clear();
+        }
+
+        return cache;
+    }
+
+    /**
+     *
+     * @return the file the cache is stored in
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     *
+     * @return the number of cached hashes
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     *
+     * @param path the path of a file
+     * @param attributes the current attributes of the file
+     * @return the hash of the file, if it was cached and the file did not change since
+     */
+    public Optional<Sha1Hash> get(Path path, BasicFileAttributes attributes) {
+        Stamp stamp = entries.get(key(path));
+
+        if (stamp == null || stamp.modified != attributes.lastModifiedTime().toMillis() || stamp.size != attributes.size()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(stamp.sha1);
+    }
+
+    /**
+     *
+     * @param path the path of a file
+     * @param attributes the attributes the file had when it was hashed
+     * @param sha1 the hash of the file
+     */
+    public void put(Path path, BasicFileAttributes attributes, Sha1Hash sha1) {
+        entries.put(key(path), new Stamp(attributes.lastModifiedTime().toMillis(), attributes.size(), sha1));
+        dirty = true;
+    }
+
+    /**
+     *
+     * @param path the path of a file
+     */
+    public void remove(Path path) {
+        if (entries.remove(key(path)) != null) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Writes the cache to its file, if anything changed since it was opened or last saved.
+     *
+     * @throws IOException if the cache could not be written
+     */
+    public synchronized void save() throws IOException {
+        if (!dirty) {
+            return;
+        }
+
+        dirty = false;
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                // Copied first, so the count matches the entries written even if entries are added meanwhile
+                List<Map.Entry<String, Stamp>> snapshot = new ArrayList<>(entries.entrySet());
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT);
+                out.writeInt(snapshot.size());
+
+                for (Map.Entry<String, Stamp> entry : snapshot) {
+                    Stamp stamp = entry.getValue();
+                    out.writeUTF(entry.getKey());
+                    out.writeLong(stamp.modified);
+                    out.writeLong(stamp.size);
+                    out.write(stamp.sha1.toByteArray());
+                }
+            }
+
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            dirty = true;
+            throw e;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String key(Path path) {
+        return path.toAbsolutePath().normalize().toString();
+    }
+
+    private static final class Stamp {
+        private final long modified;
+        private final long size;
+        private final Sha1Hash sha1;
+
+        private Stamp(long modified, long size, Sha1Hash sha1) {
+            this.modified = modified;
+            this.size = size;
+            this.sha1 = sha1;
+        }
+    }
+}
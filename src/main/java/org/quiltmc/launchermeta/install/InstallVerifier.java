@@ -0,0 +1,330 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.install;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.jetbrains.annotations.Nullable;
+
+import org.quiltmc.launchermeta.rules.Environment;
+import org.quiltmc.launchermeta.util.Sha1Hash;
+import org.quiltmc.launchermeta.util.ThreadUtil;
+import org.quiltmc.launchermeta.version.v1.Version;
+
+/**
+ * Checks whether the files of a {@link DownloadPlan} are present and intact in a game directory.
+ * <p>
+ * Files are checked from cheapest to most expensive: first their size is compared using only their attributes, then
+ * a {@link FileHashCache} is consulted, and only the remaining files are hashed, in parallel and through memory mapped
+ * reads. The hashes of files that were last modified well before the verification started are added to the cache,
+ * which is saved afterwards, so verifying an unchanged install again does not read any file.
+ */
+public class InstallVerifier {
+    private static final long MAP_SIZE = 256 * 1024 * 1024;
+    // Coarser than the modified time resolution of common file systems, FAT for example only stores even seconds
+    private static final long MODIFIED_TIME_GRANULARITY = 2000;
+
+    private final Path root;
+    @Nullable
+    private final FileHashCache cache;
+    private final int parallelism;
+
+    /**
+     *
+     * @param root the game directory, which the paths of the plan are resolved against
+     * @param cache the cache of file hashes to use, if any
+     * @param parallelism the maximum number of files to hash at once
+     */
+    public InstallVerifier(Path root, @Nullable FileHashCache cache, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1, got " + parallelism);
+        }
+
+        this.root = root;
+        this.cache = cache;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     *
+     * @return the game directory the files are verified in
+     */
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     *
+     * @param version the version to verify
+     * @param environment the environment the version was installed for
+     * @return the status of every file of the version
+     * @throws IOException if the hash cache could not be saved
+     * @throws InterruptedException if the calling thread was interrupted while waiting
+     */
+    public Report verify(Version version, Environment environment) throws IOException, InterruptedException {
+        return verify(DownloadPlanner.plan(version, environment));
+    }
+
+    /**
+     *
+     * @param plan the files to verify
+     * @return the status of every file of the plan
+     * @throws IOException if the hash cache could not be saved
+     * @throws InterruptedException if the calling thread was interrupted while waiting
+     */
+    public Report verify(DownloadPlan plan) throws IOException, InterruptedException {
+        List<DownloadPlan.Entry> entries = plan.getEntries();
+        // The status of every path of every entry, a file needed at several paths has to be intact at all of them
+        Status[][] pathStatuses = new Status[entries.size()][];
+        List<Callable<Void>> candidates = new ArrayList<>();
+        long started = System.currentTimeMillis();
+
+        for (int i = 0; i < pathStatuses.length; i++) {
+            DownloadPlan.Entry entry = entries.get(i);
+            List<String> paths = entry.getPaths();
+            Status[] statuses = new Status[paths.size()];
+            pathStatuses[i] = statuses;
+
+            for (int j = 0; j < statuses.length; j++) {
+                Path path = root.resolve(paths.get(j));
+                BasicFileAttributes attributes;
+
+                try {
+                    attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                } catch (NoSuchFileException e) {
+                    statuses[j] = Status.MISSING;
+                    continue;
+                }
+
+                if (!attributes.isRegularFile()) {
+                    statuses[j] = Status.MISSING;
+                    continue;
+                } else if (attributes.size() != entry.getFile().getSize()) {
+                    statuses[j] = Status.WRONG_SIZE;
+                    continue;
+                }
+
+                Optional<Sha1Hash> cached = cache == null ? Optional.empty() : cache.get(path, attributes);
+
+                if (cached.isPresent()) {
+                    statuses[j] = cached.get().equals(entry.getSha1Hash()) ? Status.VALID : Status.CORRUPT;
+                } else {
+                    int index = j;
+                    candidates.add(() -> {
+                        statuses[index] = check(entry, path, attributes, started);
+                        return null;
+                    });
+                }
+            }
+        }
+
+        hashAll(candidates);
+
+        if (cache != null) {
+            cache.save();
+        }
+
+        Status[] statuses = new Status[entries.size()];
+
+        for (int i = 0; i < statuses.length; i++) {
+            statuses[i] = worst(pathStatuses[i]);
+        }
+
+        return new Report(plan, statuses, candidates.size());
+    }
+
+    // The first path that is not valid decides the status of the entry
+    private static Status worst(Status[] statuses) {
+        for (Status status : statuses) {
+            if (status != Status.VALID) {
+                return status;
+            }
+        }
+
+        return Status.VALID;
+    }
+
+    private Status check(DownloadPlan.Entry entry, Path path, BasicFileAttributes attributes, long started) {
+        Sha1Hash actual;
+
+        try {
+            actual = hash(path);
+        } catch (NoSuchFileException e) {
+            return Status.MISSING;
+        } catch (IOException e) {
+            return Status.CORRUPT;
+        }
+
+        // A file modified shortly before it was hashed could change again without its modified time changing
+        if (cache != null && started - attributes.lastModifiedTime().toMillis() > MODIFIED_TIME_GRANULARITY) {
+            cache.put(path, attributes, actual);
+        }
+
+        return actual.equals(entry.getSha1Hash()) ? Status.VALID : Status.CORRUPT;
+    }
+
+    private void hashAll(List<Callable<Void>> candidates) throws InterruptedException {
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        ExecutorService executor = ThreadUtil.newDaemonPool(Math.min(parallelism, candidates.size()), "Install Verifier");
+
+        try {
+            for (Future<Void> future : executor.invokeAll(candidates)) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Unexpected failure while hashing", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     *
+     * @param path the file to hash
+     * @return the SHA1 of the file
+     * @throws IOException if the file could not be read
+     */
+    public static Sha1Hash hash(Path path) throws IOException {
+        MessageDigest digest = Sha1Hash.newDigest();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+
+            for (long position = 0; position < size; position += MAP_SIZE) {
+                digest.update(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_SIZE, size - position)));
+            }
+        }
+
+        return Sha1Hash.fromDigest(digest);
+    }
+
+    /**
+     * The state of a single file on disk.
+     */
+    public enum Status {
+        VALID,
+        MISSING,
+        WRONG_SIZE,
+        CORRUPT
+    }
+
+    /**
+     * The status of every file of a verified {@link DownloadPlan}.
+     */
+    public static final class Report {
+        private final DownloadPlan plan;
+        private final Status[] statuses;
+        private final int hashed;
+
+        Report(DownloadPlan plan, Status[] statuses, int hashed) {
+            this.plan = plan;
+            this.statuses = statuses;
+            this.hashed = hashed;
+        }
+
+        /**
+         *
+         * @return the plan that was verified
+         */
+        public DownloadPlan getPlan() {
+            return plan;
+        }
+
+        /**
+         *
+         * @param index the index of the entry in {@link DownloadPlan#getEntries()}
+         * @return the status of the file of the entry, which is only valid if it is intact at every path of the entry
+         */
+        public Status getStatus(int index) {
+            return statuses[index];
+        }
+
+        /**
+         *
+         * @param status a status
+         * @return the entries whose files have the status, in plan order
+         */
+        public List<DownloadPlan.Entry> getEntries(Status status) {
+            List<DownloadPlan.Entry> entries = plan.getEntries();
+            List<DownloadPlan.Entry> result = new ArrayList<>();
+
+            for (int i = 0; i < statuses.length; i++) {
+                if (statuses[i] == status) {
+                    result.add(entries.get(i));
+                }
+            }
+
+            return result;
+        }
+
+        /**
+         *
+         * @return the entries whose files are missing or damaged, in plan order, which can be passed to a
+         * {@link DownloadExecutor} to repair the install
+         */
+        public List<DownloadPlan.Entry> getBroken() {
+            List<DownloadPlan.Entry> entries = plan.getEntries();
+            List<DownloadPlan.Entry> result = new ArrayList<>();
+
+            for (int i = 0; i < statuses.length; i++) {
+                if (statuses[i] != Status.VALID) {
+                    result.add(entries.get(i));
+                }
+            }
+
+            return result;
+        }
+
+        /**
+         *
+         * @return whether every file is present and intact
+         */
+        public boolean isIntact() {
+            for (Status status : statuses) {
+                if (status != Status.VALID) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         *
+         * @return the number of files that had to be hashed because their hash was not cached
+         */
+        public int getHashedCount() {
+            return hashed;
+        }
+    }
+}
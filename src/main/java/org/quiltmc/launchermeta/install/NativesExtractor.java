@@ -0,0 +1,345 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.install;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.quiltmc.launchermeta.rules.Environment;
+import org.quiltmc.launchermeta.util.ThreadUtil;
+import org.quiltmc.launchermeta.version.v1.Library;
+import org.quiltmc.launchermeta.version.v1.Version;
+
+/**
+ * Unpacks the natives jars of a {@link DownloadPlan} into a natives directory, leaving out the paths excluded by the
+ * {@link Library.Extract} of their library.
+ * <p>
+ * The natives jars are the {@link DownloadPlan.Kind#NATIVES} entries of the plan, for which the {@link DownloadPlanner}
+ * already picked the classifier matching the environment. Jars are extracted in parallel. Within a jar the size and
+ * CRC of each entry are known from the central directory, so a file that was already extracted is recognized by its
+ * size and CRC and skipped without inflating the entry. Other files are streamed into a temporary file that is then
+ * moved into place, so a natives directory shared by several launches never contains partially written files.
+ */
+public class NativesExtractor {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+    private final int parallelism;
+
+    /**
+     *
+     * @param root the game directory, which the paths of the plan are resolved against
+     * @param parallelism the maximum number of jars to extract at once
+     */
+    public NativesExtractor(Path root, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1, got " + parallelism);
+        }
+
+        this.root = root;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     *
+     * @param version the version to extract the natives of, which must already be downloaded
+     * @param environment the environment to extract the natives for
+     * @param target the natives directory
+     * @return the number of files extracted, skipped and excluded
+     * @throws IOException if a jar could not be extracted
+     * @throws InterruptedException if the calling thread was interrupted while waiting
+     */
+    public Result extract(Version version, Environment environment, Path target) throws IOException, InterruptedException {
+        return extract(DownloadPlanner.plan(version, environment), target);
+    }
+
+    /**
+     *
+     * @param plan the plan whose natives jars to extract, which must already be downloaded
+     * @param target the natives directory
+     * @return the number of files extracted, skipped and excluded
+     * @throws IOException if a jar could not be extracted, with the failures of any other jars suppressed
+     * @throws InterruptedException if the calling thread was interrupted while waiting
+     */
+    public Result extract(DownloadPlan plan, Path target) throws IOException, InterruptedException {
+        List<DownloadPlan.Entry> jars = plan.getEntries(DownloadPlan.Kind.NATIVES);
+
+        if (jars.isEmpty()) {
+            return new Result(0, 0, 0);
+        }
+
+        List<Callable<Result>> tasks = new ArrayList<>(jars.size());
+
+        for (DownloadPlan.Entry jar : jars) {
+            Excludes excludes = Excludes.compile(jar.getExtract().map(Library.Extract::getExclude).orElse(Collections.emptyList()));
+            tasks.add(() -> extract(root.resolve(jar.getPath()), excludes, target));
+        }
+
+        ExecutorService executor = ThreadUtil.newDaemonPool(Math.min(parallelism, tasks.size()), "Natives Extractor");
+        IOException failure = null;
+        int extracted = 0;
+        int skipped = 0;
+        int excluded = 0;
+
+        try {
+            for (Future<Result> future : executor.invokeAll(tasks)) {
+                try {
+                    Result result = future.get();
+                    extracted += result.extracted;
+                    skipped += result.skipped;
+                    excluded += result.excluded;
+                } catch (ExecutionException e) {
+                    IOException cause = e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+
+                    if (failure == null) {
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+
+        return new Result(extracted, skipped, excluded);
+    }
+
+    /**
+     * Extracts a single jar on the calling thread.
+     *
+     * @param jar the jar to extract
+     * @param excludes the paths to leave out
+     * @param target the natives directory
+     * @return the number of files extracted, skipped and excluded
+     * @throws IOException if the jar could not be extracted
+     */
+    public static Result extract(Path jar, Excludes excludes, Path target) throws IOException {
+        Path normalizedTarget = target.toAbsolutePath().normalize();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int extracted = 0;
+        int skipped = 0;
+        int excluded = 0;
+
+        try (ZipFile zip = new ZipFile(jar.toFile())) {
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+
+                if (entry.isDirectory()) {
+                    continue;
+                }
+
+                if (excludes.matches(entry.getName())) {
+                    excluded++;
+                    continue;
+                }
+
+                Path file = normalizedTarget.resolve(entry.getName()).normalize();
+
+                if (!file.startsWith(normalizedTarget)) {
+                    throw new IOException("Entry " + entry.getName() + " of " + jar + " is outside of the natives directory");
+                }
+
+                if (isExtracted(file, entry, buffer)) {
+                    skipped++;
+                    continue;
+                }
+
+                Files.createDirectories(file.getParent());
+                Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+
+                try {
+                    try (InputStream in = zip.getInputStream(entry)) {
+                        Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+                    }
+
+                    try {
+                        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                    } catch (AtomicMoveNotSupportedException e) {
+                        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+
+                extracted++;
+            }
+        }
+
+        return new Result(extracted, skipped, excluded);
+    }
+
+    private static boolean isExtracted(Path file, ZipEntry entry, byte[] buffer) throws IOException {
+        BasicFileAttributes attributes;
+
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+
+        // Entries written without a size or CRC in the central directory are always extracted
+        if (!attributes.isRegularFile() || entry.getSize() < 0 || entry.getCrc() < 0 || attributes.size() != entry.getSize()) {
+            return false;
+        }
+
+        CRC32 crc = new CRC32();
+
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+
+            while ((read = in.read(buffer)) >= 0) {
+                crc.update(buffer, 0, read);
+            }
+        }
+
+        return crc.getValue() == entry.getCrc();
+    }
+
+    /**
+     * The exclude list of a {@link Library.Extract}, compiled for matching many entry names.
+     * <p>
+     * Excludes are path prefixes. Prefixes covered by a shorter prefix are dropped and the rest are sorted, so at most
+     * one prefix, found by binary search, can match a name.
+     */
+    public static final class Excludes {
+        public static final Excludes NONE = new Excludes(new String[0]);
+
+        private final String[] prefixes;
+
+        private Excludes(String[] prefixes) {
+            this.prefixes = prefixes;
+        }
+
+        /**
+         *
+         * @param excludes the excluded path prefixes
+         * @return the compiled excludes
+         */
+        public static Excludes compile(List<String> excludes) {
+            if (excludes.isEmpty()) {
+                return NONE;
+            }
+
+            String[] sorted = excludes.toArray(new String[0]);
+            Arrays.sort(sorted);
+            List<String> prefixes = new ArrayList<>(sorted.length);
+
+            for (String exclude : sorted) {
+                // Sorting puts a prefix right before everything it covers
+                if (prefixes.isEmpty() || !exclude.startsWith(prefixes.get(prefixes.size() - 1))) {
+                    prefixes.add(exclude);
+                }
+            }
+
+            return new Excludes(prefixes.toArray(new String[0]));
+        }
+
+        /**
+         *
+         * @param name the name of a jar entry
+         * @return whether the entry is excluded
+         */
+        public boolean matches(String name) {
+            int index = Arrays.binarySearch(prefixes, name);
+
+            if (index >= 0) {
+                return true;
+            }
+
+            // The greatest prefix sorting before the name is the only one that can be a prefix of it
+            int floor = -index - 2;
+            return floor >= 0 && name.startsWith(prefixes[floor]);
+        }
+    }
+
+    /**
+     * The number of files handled by an extraction.
+     */
+    public static final class Result {
+        private final int extracted;
+        private final int skipped;
+        private final int excluded;
+
+        Result(int extracted, int skipped, int excluded) {
+            this.extracted = extracted;
+            this.skipped = skipped;
+            this.excluded = excluded;
+        }
+
+        /**
+         *
+         * @return the number of files written
+         */
+        public int getExtractedCount() {
+            return extracted;
+        }
+
+        /**
+         *
+         * @return the number of files that were already extracted
+         */
+        public int getSkippedCount() {
+            return skipped;
+        }
+
+        /**
+         *
+         * @return the number of files left out by the excludes
+         */
+        public int getExcludedCount() {
+            return excluded;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Result result = (Result) o;
+            return extracted == result.extracted && skipped == result.skipped && excluded == result.excluded;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(extracted, skipped, excluded);
+        }
+    }
+}
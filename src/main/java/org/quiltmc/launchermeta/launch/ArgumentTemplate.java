@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.launch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A launch argument split once into literal text and {@code ${placeholder}} references, so that resolving it only has
+ * to look up the variables and append to a builder.
+ * <p>
+ * Placeholders without a value are kept as written, which is what the vanilla launcher does.
+ */
+public final class ArgumentTemplate {
+    private final String template;
+    // literals has one more element than names: literal, name, literal, name, ..., literal
+    private final String[] literals;
+    private final String[] names;
+    private final String[] placeholders;
+
+    private ArgumentTemplate(String template, String[] literals, String[] names) {
+        this.template = template;
+        this.literals = literals;
+        this.names = names;
+        this.placeholders = new String[names.length];
+
+        for (int i = 0; i < names.length; i++) {
+            this.placeholders[i] = "${" + names[i] + "}";
+        }
+    }
+
+    /**
+     *
+     * @param template the argument, such as {@code --username} or {@code ${auth_player_name}}
+     * @return the compiled argument
+     */
+    public static ArgumentTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int literalStart = 0;
+        int start = template.indexOf("${");
+
+        while (start >= 0) {
+            int end = template.indexOf('}', start + 2);
+
+            if (end < 0) {
+                break;
+            }
+
+            literals.add(template.substring(literalStart, start));
+            names.add(template.substring(start + 2, end));
+            literalStart = end + 1;
+            start = template.indexOf("${", literalStart);
+        }
+
+        literals.add(template.substring(literalStart));
+        return new ArgumentTemplate(template, literals.toArray(new String[0]), names.toArray(new String[0]));
+    }
+
+    /**
+     *
+     * @return the argument as written in the version json
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     *
+     * @return the names of the placeholders in the argument, in order
+     */
+    public List<String> getPlaceholders() {
+        return Collections.unmodifiableList(Arrays.asList(names));
+    }
+
+    /**
+     *
+     * @return whether the argument has no placeholders
+     */
+    public boolean isConstant() {
+        return names.length == 0;
+    }
+
+    /**
+     *
+     * @param variables the values of the placeholders
+     * @return the argument with every known placeholder replaced
+     */
+    public String resolve(Map<String, String> variables) {
+        if (names.length == 0) {
+            return template;
+        }
+
+        return appendTo(new StringBuilder(template.length() + 16), variables).toString();
+    }
+
+    /**
+     * Appends the argument to a builder, replacing every known placeholder.
+     *
+     * @param builder the builder to append to
+     * @param variables the values of the placeholders
+     * @return the builder
+     */
+    public StringBuilder appendTo(StringBuilder builder, Map<String, String> variables) {
+        for (int i = 0; i < names.length; i++) {
+            builder.append(literals[i]);
+            String value = variables.get(names[i]);
+            builder.append(value != null ? value : placeholders[i]);
+        }
+
+        return builder.append(literals[names.length]);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArgumentTemplate that = (ArgumentTemplate) o;
+        return template.equals(that.template);
+    }
+
+    @Override
+    public int hashCode() {
+        return template.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
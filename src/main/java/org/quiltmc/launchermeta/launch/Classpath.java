@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.launch;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The ordered class path of a version, as built by {@link ClasspathBuilder}.
+ */
+public final class Classpath {
+    private final List<Path> paths;
+    private final String separator;
+    private final String string;
+
+    Classpath(List<Path> paths, String separator) {
+        StringBuilder builder = new StringBuilder();
+
+        for (Path path : paths) {
+            if (builder.length() > 0) {
+                builder.append(separator);
+            }
+
+            builder.append(path);
+        }
+
+        this.paths = Collections.unmodifiableList(paths);
+        this.separator = separator;
+        this.string = builder.toString();
+    }
+
+    /**
+     *
+     * @return the jars of the class path, in order
+     */
+    public List<Path> getPaths() {
+        return paths;
+    }
+
+    /**
+     *
+     * @return the separator between the jars, which depends on the operating system the class path is for
+     */
+    public String getSeparator() {
+        return separator;
+    }
+
+    /**
+     *
+     * @return the class path as passed to {@code -cp}
+     */
+    public String getString() {
+        return string;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Classpath classpath = (Classpath) o;
+        return string.equals(classpath.string) && paths.equals(classpath.paths);
+    }
+
+    @Override
+    public int hashCode() {
+        return string.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return string;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.launch;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.quiltmc.launchermeta.rules.Environment;
+import org.quiltmc.launchermeta.rules.VersionRules;
+import org.quiltmc.launchermeta.util.Sha1Hash;
+import org.quiltmc.launchermeta.version.v1.Library;
+import org.quiltmc.launchermeta.version.v1.Version;
+
+/**
+ * Builds the class path of a {@link Version} for an {@link Environment}, and remembers the most recently built ones.
+ * <p>
+ * The class path is the artifact of every library enabled in the environment, in the order of
+ * {@link Version#getLibraries()} and resolved under {@code libraries} in the game directory, followed by the client
+ * jar at {@code versions/<id>/<id>.jar}. A jar listed more than once only appears at its first position. Libraries
+ * without any downloads are located by the maven path of their name, while natives-only libraries of older versions
+ * are not part of the class path.
+ * <p>
+ * Cached class paths are keyed by the sha1 of the version json, the environment and the game directory, and the least
+ * recently used one is dropped once the cache is full.
+ */
+public final class ClasspathBuilder {
+    private final int maxEntries;
+    // In access order, so the first entry is the least recently used
+    private final LinkedHashMap<Key, Classpath> cache = new LinkedHashMap<>(16, 0.75F, true);
+
+    /**
+     *
+     * @param maxEntries the maximum number of class paths to remember
+     */
+    public ClasspathBuilder(int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("The cache size cannot be negative, got " + maxEntries);
+        }
+
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Builds a class path without caching it.
+     *
+     * @param version the version
+     * @param environment the environment to launch the version in
+     * @param root the game directory
+     * @return the class path
+     */
+    public static Classpath build(Version version, Environment environment, Path root) {
+        Path libraries = root.resolve("libraries");
+        Set<Path> paths = new LinkedHashSet<>();
+
+        VersionRules.of(version).forEachEnabledLibrary(environment, library -> {
+            Library.LibraryDownloads downloads = library.getDownloads();
+
+            if (downloads != null && downloads.getArtifact().isPresent()) {
+                paths.add(libraries.resolve(downloads.getArtifact().get().getPath()));
+            } else if (downloads == null && !library.getNatives().isPresent()) {
+                paths.add(libraries.resolve(library.getCoordinate().getPath()));
+            }
+        });
+
+        paths.add(root.resolve("versions").resolve(version.getId()).resolve(version.getId() + ".jar"));
+        return new Classpath(new ArrayList<>(paths), Environment.WINDOWS.equals(environment.getOsName()) ? ";" : ":");
+    }
+
+    /**
+     *
+     * @param version the version
+     * @param sha1 the sha1 of the json of the version, as listed in the version manifest
+     * @param environment the environment to launch the version in
+     * @param root the game directory
+     * @return the class path, built now or earlier for the same version, environment and game directory
+     */
+    public Classpath get(Version version, Sha1Hash sha1, Environment environment, Path root) {
+        Key key = new Key(sha1, environment, root);
+
+        synchronized (cache) {
+            Classpath classpath = cache.get(key);
+
+            if (classpath != null) {
+                return classpath;
+            }
+        }
+
+        // Built outside the lock, two threads building the same class path at once is harmless
+        Classpath classpath = build(version, environment, root);
+
+        synchronized (cache) {
+            cache.put(key, classpath);
+            trim();
+        }
+
+        return classpath;
+    }
+
+    /**
+     *
+     * @return the number of remembered class paths
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Forgets every remembered class path.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private void trim() {
+        while (cache.size() > maxEntries) {
+            Map.Entry<Key, Classpath> eldest = cache.entrySet().iterator().next();
+            cache.remove(eldest.getKey());
+        }
+    }
+
+    private static final class Key {
+        private final Sha1Hash sha1;
+        private final Environment environment;
+        private final Path root;
+
+        private Key(Sha1Hash sha1, Environment environment, Path root) {
+            this.sha1 = sha1;
+            this.environment = environment;
+            this.root = root;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return sha1.equals(key.sha1) && environment.equals(key.environment) && root.equals(key.root);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sha1, environment, root);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.launch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import org.quiltmc.launchermeta.rules.CompiledRules;
+import org.quiltmc.launchermeta.rules.Environment;
+import org.quiltmc.launchermeta.rules.VersionRules;
+import org.quiltmc.launchermeta.util.IdentityCache;
+import org.quiltmc.launchermeta.version.v1.Arguments;
+import org.quiltmc.launchermeta.version.v1.Version;
+
+/**
+ * The game and JVM arguments of a {@link Version}, compiled once into {@link ArgumentTemplate}s together with their
+ * {@link CompiledRules}.
+ * <p>
+ * The arguments come from {@link Version#getNormalizedArguments()}, so legacy versions with only
+ * {@link Version#getMinecraftArguments()} take the same path as modern ones, with the JVM arguments the launcher used to
+ * add implicitly. Resolving the arguments for an environment only evaluates the compiled rules and fills in the
+ * placeholders, appending to a single builder.
+ * <p>
+ * The compiled arguments of recently used versions are kept, so compiling the same version instance again is free.
+ */
+public final class LaunchArguments {
+    private static final IdentityCache<Version, LaunchArguments> CACHE = new IdentityCache<>(64);
+
+    private final Version version;
+    private final CompiledArgument[] game;
+    private final CompiledArgument[] jvm;
+    private final boolean legacy;
+
+    private LaunchArguments(Version version, CompiledArgument[] game, CompiledArgument[] jvm, boolean legacy) {
+        this.version = version;
+        this.game = game;
+        this.jvm = jvm;
+        this.legacy = legacy;
+    }
+
+    /**
+     *
+     * @param version the version to compile the arguments of
+     * @return the compiled arguments
+     */
+    public static LaunchArguments compile(Version version) {
+        return CACHE.get(version, LaunchArguments::compileUncached);
+    }
+
+    /**
+     *
+     * @return the version the arguments were compiled from
+     */
+    public Version getVersion() {
+        return version;
+    }
+
+    /**
+     *
+     * @return whether the arguments came from {@link Version#getMinecraftArguments()}
+     */
+    public boolean isLegacy() {
+        return legacy;
+    }
+
+    /**
+     *
+     * @return the names of every placeholder used by the game and JVM arguments, in order of first use
+     */
+    public Set<String> getPlaceholders() {
+        Set<String> placeholders = new LinkedHashSet<>();
+        addPlaceholders(game, placeholders);
+        addPlaceholders(jvm, placeholders);
+        return Collections.unmodifiableSet(placeholders);
+    }
+
+    /**
+     *
+     * @param environment the environment to launch in
+     * @param variables the values of the placeholders
+     * @return the game arguments enabled in the environment, with their placeholders replaced
+     */
+    public List<String> resolveGame(Environment environment, Map<String, String> variables) {
+        List<String> resolved = new ArrayList<>();
+        resolve(game, environment, variables, resolved);
+        return resolved;
+    }
+
+    /**
+     *
+     * @param environment the environment to launch in
+     * @param variables the values of the placeholders
+     * @return the JVM arguments enabled in the environment, with their placeholders replaced
+     */
+    public List<String> resolveJvm(Environment environment, Map<String, String> variables) {
+        List<String> resolved = new ArrayList<>();
+        resolve(jvm, environment, variables, resolved);
+        return resolved;
+    }
+
+    /**
+     * Adds the resolved JVM arguments followed by the resolved game arguments to a list.
+     *
+     * @param environment the environment to launch in
+     * @param variables the values of the placeholders
+     * @param mainClass the main class, added between the JVM and game arguments
+     * @param commandLine the list to add the arguments to
+     */
+    public void appendCommandLine(Environment environment, Map<String, String> variables, String mainClass, List<String> commandLine) {
+        resolve(jvm, environment, variables, commandLine);
+        commandLine.add(mainClass);
+        resolve(game, environment, variables, commandLine);
+    }
+
+    private static LaunchArguments compileUncached(Version version) {
+        Arguments arguments = version.getNormalizedArguments();
+        VersionRules rules = VersionRules.of(version);
+        CompiledArgument[] game = compileArguments(arguments.getGame(), rules::getGameArgumentRules);
+        CompiledArgument[] jvm = compileArguments(arguments.getJvm(), rules::getJvmArgumentRules);
+
+        return new LaunchArguments(version, game, jvm, !version.getArguments().isPresent());
+    }
+
+    private static void resolve(CompiledArgument[] arguments, Environment environment, Map<String, String> variables, List<String> resolved) {
+        StringBuilder builder = new StringBuilder(64);
+
+        for (CompiledArgument argument : arguments) {
+            if (!argument.rules.test(environment)) {
+                continue;
+            }
+
+            for (ArgumentTemplate value : argument.values) {
+                if (value.isConstant()) {
+                    resolved.add(value.getTemplate());
+                } else {
+                    resolved.add(value.appendTo(builder, variables).toString());
+                    builder.setLength(0);
+                }
+            }
+        }
+    }
+
+    private static void addPlaceholders(CompiledArgument[] arguments, Set<String> placeholders) {
+        for (CompiledArgument argument : arguments) {
+            for (ArgumentTemplate value : argument.values) {
+                placeholders.addAll(value.getPlaceholders());
+            }
+        }
+    }
+
+    private static CompiledArgument[] compileArguments(List<Arguments.Argument> arguments, IntFunction<CompiledRules> rules) {
+        CompiledArgument[] compiled = new CompiledArgument[arguments.size()];
+
+        for (int i = 0; i < compiled.length; i++) {
+            compiled[i] = new CompiledArgument(rules.apply(i), compileValues(arguments.get(i).getValue()));
+        }
+
+        return compiled;
+    }
+
+    private static ArgumentTemplate[] compileValues(List<String> values) {
+        ArgumentTemplate[] templates = new ArgumentTemplate[values.size()];
+
+        for (int i = 0; i < templates.length; i++) {
+            templates[i] = ArgumentTemplate.compile(values.get(i));
+        }
+
+        return templates;
+    }
+
+    private static final class CompiledArgument {
+        private final CompiledRules rules;
+        private final ArgumentTemplate[] values;
+
+        private CompiledArgument(CompiledRules rules, ArgumentTemplate[] values) {
+            this.rules = rules;
+            this.values = values;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.net;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.Nullable;
+
+import org.quiltmc.launchermeta.cache.ContentCache;
+import org.quiltmc.launchermeta.util.Sha1Hash;
+import org.quiltmc.launchermeta.util.ThreadUtil;
+import org.quiltmc.launchermeta.version.v1.Version;
+import org.quiltmc.launchermeta.version_manifest.VersionEntry;
+
+/**
+ * Loads the {@link Version} of many {@link VersionEntry entries} at once, with at most a fixed number of requests in
+ * flight.
+ * <p>
+ * On Java 21 and later every entry is loaded on its own virtual thread, otherwise a fixed thread pool of the same size
+ * as the parallelism is used. Results are handed to the caller in the order they complete, and a failure to fetch,
+ * verify or parse one entry never affects the others. When an entry has a sha1, the fetched bytes are checked against
+ * it before parsing, and with a {@link ContentCache} only entries whose json is not cached yet are fetched.
+ */
+public class BulkVersionLoader {
+    private final Transport transport;
+    private final int parallelism;
+    private final Function<Reader, Version> parser;
+    @Nullable
+    private final ContentCache cache;
+
+    /**
+     *
+     * @param transport the transport to fetch the version jsons with
+     * @param parallelism the maximum number of versions to fetch at once
+     */
+    public BulkVersionLoader(Transport transport, int parallelism) {
+        this(transport, parallelism, Version::fromReader);
+    }
+
+    /**
+     *
+     * @param transport the transport to fetch the version jsons with
+     * @param parallelism the maximum number of versions to fetch at once
+     * @param parser parses a version json, for example {@link org.quiltmc.launchermeta.version.v1.VersionInterner#fromReader(Reader)}
+     */
+    public BulkVersionLoader(Transport transport, int parallelism, Function<Reader, Version> parser) {
+        this(transport, parallelism, parser, null);
+    }
+
+    /**
+     *
+     * @param transport the transport to fetch the version jsons with
+     * @param parallelism the maximum number of versions to fetch at once
+     * @param parser parses a version json, for example {@link org.quiltmc.launchermeta.version.v1.VersionInterner#fromReader(Reader)}
+     * @param cache the cache to read version jsons from before fetching them, and to store fetched jsons in
+     */
+    public BulkVersionLoader(Transport transport, int parallelism, Function<Reader, Version> parser, @Nullable ContentCache cache) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1, got " + parallelism);
+        }
+
+        this.transport = transport;
+        this.parallelism = parallelism;
+        this.parser = parser;
+        this.cache = cache;
+    }
+
+    /**
+     *
+     * @param entries the entries to load
+     * @return the result of every entry, in the order they completed
+     * @throws InterruptedException if the calling thread was interrupted while waiting
+     */
+    public List<Result> loadAll(Collection<VersionEntry> entries) throws InterruptedException {
+        List<Result> results = new ArrayList<>(entries.size());
+        load(entries, results::add);
+        return results;
+    }
+
+    /**
+     * Loads the entries and waits for all of them. The consumer is called on the calling thread, once for every entry,
+     * as soon as its result is available.
+     *
+     * @param entries the entries to load
+     * @param consumer called with the result of every entry, in the order they complete
+     * @throws InterruptedException if the calling thread was interrupted while waiting, in which case the remaining
+     * entries are cancelled
+     */
+    public void load(Collection<VersionEntry> entries, Consumer<Result> consumer) throws InterruptedException {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        BlockingQueue<Result> completed = new LinkedBlockingQueue<>();
+        Semaphore permits = new Semaphore(parallelism);
+        ExecutorService executor = ThreadUtil.newBlockingExecutor(parallelism, "Version Loader");
+
+        try {
+            for (VersionEntry entry : entries) {
+                executor.execute(() -> {
+                    try {
+                        completed.add(loadWithPermit(entry, permits));
+                    } catch (Throwable t) {
+                        // Every entry has to produce a result, or the loop below would wait forever
+                        completed.add(new Result(entry, null, t, false));
+                    }
+                });
+            }
+
+            for (int i = 0; i < entries.size(); i++) {
+                consumer.accept(completed.take());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     *
+     * @param entry the entry to load
+     * @return the result of loading the entry
+     */
+    public Result load(VersionEntry entry) {
+        try {
+            Optional<String> sha1 = entry.getSha1();
+            Sha1Hash expected = sha1.isPresent() && Sha1Hash.isValidHex(sha1.get()) ? Sha1Hash.fromHex(sha1.get()) : null;
+            byte[] bytes = cache != null && expected != null ? cache.get(expected).orElse(null) : null;
+            boolean cached = bytes != null;
+
+            if (bytes == null) {
+                bytes = transport.fetch(entry.getUrl());
+
+                if (sha1.isPresent()) {
+                    Sha1Hash actual = Sha1Hash.fromBytes(Sha1Hash.newDigest().digest(bytes));
+
+                    if (!actual.matchesHex(sha1.get())) {
+                        throw new IOException("Expected sha1 " + sha1.get() + " for " + entry.getUrl() + " but got " + actual);
+                    }
+
+                    if (cache != null) {
+                        try {
+                            cache.put(actual, bytes);
+                        } catch (IOException ignored) {
+                            // Failing to cache the json does not stop it from being used
+                        }
+                    }
+                }
+            }
+
+            try (Reader reader = new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)) {
+                return new Result(entry, parser.apply(reader), null, cached);
+            }
+        } catch (Exception e) {
+            return new Result(entry, null, e, false);
+        }
+    }
+
+    private Result loadWithPermit(VersionEntry entry, Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Result(entry, null, e, false);
+        }
+
+        try {
+            return load(entry);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * The outcome of loading a single {@link VersionEntry}: either the version or the error that prevented loading it.
+     */
+    public static final class Result {
+        private final VersionEntry entry;
+        @Nullable
+        private final Version version;
+        @Nullable
+        private final Throwable error;
+        private final boolean cached;
+
+        Result(VersionEntry entry, @Nullable Version version, @Nullable Throwable error, boolean cached) {
+            this.entry = entry;
+            this.version = version;
+            this.error = error;
+            this.cached = cached;
+        }
+
+        /**
+         *
+         * @return the entry that was loaded
+         */
+        public VersionEntry getEntry() {
+            return entry;
+        }
+
+        /**
+         *
+         * @return the loaded version, if loading succeeded
+         */
+        public Optional<Version> getVersion() {
+            return Optional.ofNullable(version);
+        }
+
+        /**
+         *
+         * @return the error that prevented loading the version, if loading failed
+         */
+        public Optional<Throwable> getError() {
+            return Optional.ofNullable(error);
+        }
+
+        /**
+         *
+         * @return whether the version was loaded
+         */
+        public boolean isSuccess() {
+            return version != null;
+        }
+
+        /**
+         *
+         * @return whether the version json was read from the cache instead of being fetched
+         */
+        public boolean isCached() {
+            return cached;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Result result = (Result) o;
+            return cached == result.cached && entry.equals(result.entry) && Objects.equals(version, result.version) && Objects.equals(error, result.error);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(entry, version, error, cached);
+        }
+    }
+}
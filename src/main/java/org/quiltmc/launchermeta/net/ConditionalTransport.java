@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.net;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A transport that can make conditional requests, so that an unchanged resource is not transferred again.
+ * Implementations must be safe to call from several threads at once.
+ */
+@FunctionalInterface
+public interface ConditionalTransport {
+    /**
+     *
+     * @param url the url to fetch
+     * @param validators the validators of the copy the caller already has, or {@link Validators#NONE}
+     * @return the response, which has no body if the resource was not modified
+     * @throws IOException if the url could not be fetched
+     */
+    Response fetch(String url, Validators validators) throws IOException;
+
+    /**
+     * The {@code ETag} and {@code Last-Modified} values of a fetched resource.
+     */
+    final class Validators {
+        public static final Validators NONE = new Validators(null, null);
+
+        @Nullable
+        private final String etag;
+        @Nullable
+        private final String lastModified;
+
+        public Validators(@Nullable String etag, @Nullable String lastModified) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        /**
+         *
+         * @return the {@code ETag} of the resource
+         */
+        public Optional<String> getEtag() {
+            return Optional.ofNullable(etag);
+        }
+
+        /**
+         *
+         * @return the {@code Last-Modified} date of the resource
+         */
+        public Optional<String> getLastModified() {
+            return Optional.ofNullable(lastModified);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Validators that = (Validators) o;
+            return Objects.equals(etag, that.etag) && Objects.equals(lastModified, that.lastModified);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(etag, lastModified);
+        }
+    }
+
+    /**
+     * The response to a conditional request.
+     */
+    final class Response {
+        @Nullable
+        private final byte[] body;
+        private final Validators validators;
+
+        private Response(@Nullable byte[] body, Validators validators) {
+            this.body = body;
+            this.validators = validators;
+        }
+
+        /**
+         *
+         * @param body the body of the resource
+         * @param validators the validators of the resource
+         * @return a response with the resource
+         */
+        public static Response modified(byte[] body, Validators validators) {
+            return new Response(body, validators);
+        }
+
+        /**
+         *
+         * @param validators the validators of the resource, which are the ones the request was made with if the server
+         * did not send any
+         * @return a response for a resource that did not change
+         */
+        public static Response notModified(Validators validators) {
+            return new Response(null, validators);
+        }
+
+        /**
+         *
+         * @return whether the resource did not change since the copy the request was made for
+         */
+        public boolean isNotModified() {
+            return body == null;
+        }
+
+        /**
+         *
+         * @return the body of the resource, unless it was not modified
+         */
+        public Optional<byte[]> getBody() {
+            return Optional.ofNullable(body);
+        }
+
+        /**
+         *
+         * @return the validators to make the next request with
+         */
+        public Validators getValidators() {
+            return validators;
+        }
+    }
+}
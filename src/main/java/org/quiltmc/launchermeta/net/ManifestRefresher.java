@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.net;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.Nullable;
+
+import org.quiltmc.launchermeta.util.ThreadUtil;
+import org.quiltmc.launchermeta.version_manifest.ManifestDiff;
+import org.quiltmc.launchermeta.version_manifest.VersionManifest;
+
+/**
+ * Keeps an up to date copy of a {@link VersionManifest}, polling it in the background.
+ * <p>
+ * Every poll is a conditional request with the {@code ETag} and {@code Last-Modified} of the current copy, so an
+ * unchanged manifest costs a {@code 304} response and nothing is parsed. The current manifest is swapped atomically,
+ * and listeners are called with the {@link ManifestDiff} of every change. The first successful poll is reported as a
+ * change from an empty manifest.
+ * <p>
+ * Polls are spread out by waiting a random jitter on top of the interval, so many refreshers started at the same time do
+ * not all poll at once.
+ */
+public class ManifestRefresher implements Closeable {
+    private static final VersionManifest EMPTY = new VersionManifest(null, Collections.emptyList());
+
+    private final ConditionalTransport transport;
+    private final String url;
+    private final long intervalMillis;
+    private final long jitterMillis;
+    private final AtomicReference<State> state = new AtomicReference<>();
+    private final List<Consumer<ManifestDiff>> listeners = new CopyOnWriteArrayList<>();
+    @Nullable
+    private volatile Throwable lastFailure;
+    private final Object refreshLock = new Object();
+    @Nullable
+    private volatile ScheduledExecutorService executor;
+
+    /**
+     *
+     * @param transport the transport to fetch the manifest with
+     * @param url the url of the manifest
+     * @param interval the time between polls
+     * @param jitter the maximum random time added to each interval
+     * @param unit the unit of the interval and jitter
+     */
+    public ManifestRefresher(ConditionalTransport transport, String url, long interval, long jitter, TimeUnit unit) {
+        if (interval <= 0 || jitter < 0) {
+            throw new IllegalArgumentException("The interval must be positive and the jitter must not be negative");
+        }
+
+        this.transport = transport;
+        this.url = url;
+        this.intervalMillis = unit.toMillis(interval);
+        this.jitterMillis = unit.toMillis(jitter);
+    }
+
+    /**
+     *
+     * @return the url of the manifest
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     *
+     * @return the current manifest, unless no poll has succeeded yet
+     */
+    public Optional<VersionManifest> getManifest() {
+        State state = this.state.get();
+        return state == null ? Optional.empty() : Optional.of(state.manifest);
+    }
+
+    /**
+     *
+     * @return the error of the last poll if it failed, or of a listener that threw during it
+     */
+    public Optional<Throwable> getLastFailure() {
+        return Optional.ofNullable(lastFailure);
+    }
+
+    /**
+     * Adds a listener, which is called on the polling thread with the differences every time the manifest changes. A
+     * listener that throws, even an {@link Error}, does not keep the other listeners from being called, and what it
+     * threw is reported by {@link #getLastFailure()}.
+     *
+     * @param listener the listener
+     */
+    public void addListener(Consumer<ManifestDiff> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(Consumer<ManifestDiff> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Polls the manifest once on the calling thread.
+     *
+     * @return the differences to the previous manifest, if the manifest changed
+     * @throws IOException if the manifest could not be fetched
+     * @throws com.google.gson.JsonParseException if the manifest could not be parsed
+     */
+    public Optional<ManifestDiff> refresh() throws IOException {
+        synchronized (refreshLock) {
+            return refreshLocked();
+        }
+    }
+
+    private Optional<ManifestDiff> refreshLocked() throws IOException {
+        State previous = state.get();
+        ConditionalTransport.Response response = transport.fetch(url, previous == null ? ConditionalTransport.Validators.NONE : previous.validators);
+
+        if (response.isNotModified()) {
+            if (previous != null && !response.getValidators().equals(previous.validators)) {
+                state.set(new State(previous.manifest, response.getValidators()));
+            }
+
+            lastFailure = null;
+            return Optional.empty();
+        }
+
+        VersionManifest manifest;
+
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(response.getBody().get()), StandardCharsets.UTF_8)) {
+            manifest = VersionManifest.fromReader(reader);
+        }
+
+        state.set(new State(manifest, response.getValidators()));
+        lastFailure = null;
+        ManifestDiff diff = ManifestDiff.between(previous == null ? EMPTY : previous.manifest, manifest);
+
+        if (diff.isEmpty() && previous != null) {
+            return Optional.empty();
+        }
+
+        Throwable failure = null;
+
+        for (Consumer<ManifestDiff> listener : listeners) {
+            try {
+                listener.accept(diff);
+            } catch (Throwable t) {
+                if (failure == null) {
+                    failure = t;
+                } else {
+                    failure.addSuppressed(t);
+                }
+            }
+        }
+
+        // The new manifest is kept either way, so the diff is returned instead of thrown away
+        lastFailure = failure;
+        return Optional.of(diff);
+    }
+
+    /**
+     * Starts polling in the background, with the first poll right away.
+     *
+     * @throws IllegalStateException if the refresher was already started
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            throw new IllegalStateException("The refresher was already started");
+        }
+
+        executor = ThreadUtil.newDaemonScheduler("Manifest Refresher");
+        executor.execute(this::poll);
+    }
+
+    /**
+     * Stops polling. A poll that is in progress is interrupted.
+     */
+    @Override
+    public synchronized void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void poll() {
+        try {
+            refresh();
+        } catch (Throwable t) {
+            // Keep the current manifest and try again at the next poll
+            lastFailure = t;
+        } finally {
+            // Anything escaping here would end the polling for good
+            schedule();
+        }
+    }
+
+    private void schedule() {
+        long delay = intervalMillis + (jitterMillis == 0 ? 0 : ThreadLocalRandom.current().nextLong(jitterMillis + 1));
+        ScheduledExecutorService executor = this.executor;
+
+        try {
+            executor.schedule(this::poll, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ignored) {
+            // Closed while polling
+        }
+    }
+
+    private static final class State {
+        private final VersionManifest manifest;
+        private final ConditionalTransport.Validators validators;
+
+        private State(VersionManifest manifest, ConditionalTransport.Validators validators) {
+            this.manifest = manifest;
+            this.validators = validators;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.net;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Opens the contents of a url as a stream, optionally starting part way through. Implementations must be safe to call
+ * from several threads at once.
+ */
+@FunctionalInterface
+public interface StreamingTransport {
+    /**
+     * Servers are free to ignore the requested offset, so callers must check {@link Body#getOffset()} before using the
+     * stream.
+     *
+     * @param url the url to open
+     * @param offset the number of bytes at the start of the contents to skip, or {@code 0} for all of it
+     * @return the body of the response
+     * @throws IOException if the url could not be opened
+     */
+    Body open(String url, long offset) throws IOException;
+
+    /**
+     * The body of a response, which must be closed after use.
+     */
+    final class Body implements Closeable {
+        private final InputStream stream;
+        private final long offset;
+
+        /**
+         *
+         * @param stream the contents of the url, starting at the offset
+         * @param offset the position in the contents the stream starts at
+         */
+        public Body(InputStream stream, long offset) {
+            this.stream = stream;
+            this.offset = offset;
+        }
+
+        /**
+         *
+         * @return the contents of the url, starting at {@link #getOffset()}
+         */
+        public InputStream getStream() {
+            return stream;
+        }
+
+        /**
+         *
+         * @return the position in the contents the stream starts at, which is {@code 0} if the offset was ignored
+         */
+        public long getOffset() {
+            return offset;
+        }
+
+        @Override
+        public void close() throws IOException {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.net;
+
+import java.io.IOException;
+
+/**
+ * Fetches the contents of a url. Implementations must be safe to call from several threads at once.
+ */
+@FunctionalInterface
+public interface Transport {
+    /**
+     *
+     * @param url the url to fetch
+     * @return the body of the response
+     * @throws IOException if the url could not be fetched
+     */
+    byte[] fetch(String url) throws IOException;
+}
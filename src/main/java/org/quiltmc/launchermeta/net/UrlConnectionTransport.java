@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.net;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+
+/**
+ * A {@link Transport}, {@link ConditionalTransport} and {@link StreamingTransport} using {@link URLConnection}, which
+ * is available on every JVM.
+ */
+public class UrlConnectionTransport implements Transport, ConditionalTransport, StreamingTransport {
+    public static final int DEFAULT_TIMEOUT = 10_000;
+
+    private final int connectTimeout;
+    private final int readTimeout;
+
+    public UrlConnectionTransport() {
+        this(DEFAULT_TIMEOUT, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     *
+     * @param connectTimeout the connect timeout in milliseconds
+     * @param readTimeout the read timeout in milliseconds
+     */
+    public UrlConnectionTransport(int connectTimeout, int readTimeout) {
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+    }
+
+    @Override
+    public byte[] fetch(String url) throws IOException {
+        return fetch(url, Validators.NONE).getBody().orElseThrow(() -> new IOException("Unexpected 304 for " + url));
+    }
+
+    @Override
+    public Response fetch(String url, Validators validators) throws IOException {
+        URLConnection connection = new URL(url).openConnection();
+        connection.setConnectTimeout(connectTimeout);
+        connection.setReadTimeout(readTimeout);
+        validators.getEtag().ifPresent(etag -> connection.setRequestProperty("If-None-Match", etag));
+        validators.getLastModified().ifPresent(lastModified -> connection.setRequestProperty("If-Modified-Since", lastModified));
+
+        if (connection instanceof HttpURLConnection) {
+            HttpURLConnection http = (HttpURLConnection) connection;
+            int status = http.getResponseCode();
+
+            if (status == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                http.disconnect();
+                return Response.notModified(validators(connection, validators));
+            }
+
+            if (status >= 400) {
+                http.disconnect();
+                throw new IOException("Server returned HTTP " + status + " for " + url);
+            }
+        }
+
+        long length = connection.getContentLengthLong();
+
+        try (InputStream in = connection.getInputStream()) {
+            byte[] body = readFully(in, length > 0 && length < Integer.MAX_VALUE ? (int) length : 8192);
+            return Response.modified(body, validators(connection, Validators.NONE));
+        }
+    }
+
+    @Override
+    public Body open(String url, long offset) throws IOException {
+        URLConnection connection = new URL(url).openConnection();
+        connection.setConnectTimeout(connectTimeout);
+        connection.setReadTimeout(readTimeout);
+
+        if (offset > 0) {
+            connection.setRequestProperty("Range", "bytes=" + offset + "-");
+        }
+
+        long start = 0;
+
+        if (connection instanceof HttpURLConnection) {
+            HttpURLConnection http = (HttpURLConnection) connection;
+            int status = http.getResponseCode();
+
+            if (status >= 400) {
+                http.disconnect();
+                throw new IOException("Server returned HTTP " + status + " for " + url);
+            }
+
+            if (status == HttpURLConnection.HTTP_PARTIAL) {
+                start = rangeStart(connection.getHeaderField("Content-Range"));
+            }
+        }
+
+        return new Body(connection.getInputStream(), start);
+    }
+
+    private static Validators validators(URLConnection connection, Validators fallback) {
+        String etag = connection.getHeaderField("ETag");
+        String lastModified = connection.getHeaderField("Last-Modified");
+
+        if (etag == null && lastModified == null) {
+            return fallback;
+        }
+
+        return new Validators(etag, lastModified);
+    }
+
+    private static long rangeStart(String contentRange) throws IOException {
+        // Content-Range: bytes <start>-<end>/<length>
+        if (contentRange != null && contentRange.startsWith("bytes ")) {
+            int dash = contentRange.indexOf('-', 6);
+
+            if (dash > 6) {
+                try {
+                    return Long.parseLong(contentRange.substring(6, dash).trim());
+                } catch (NumberFormatException ignored) {
+                    // Handled below
+                }
+            }
+        }
+
+        throw new IOException("Invalid Content-Range " + contentRange);
+    }
+
+    static byte[] readFully(InputStream in, int expectedLength) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(expectedLength);
+        byte[] buffer = new byte[8192];
+        int read;
+
+        while ((read = in.read(buffer)) >= 0) {
+            out.write(buffer, 0, read);
+        }
+
+        return out.toByteArray();
+    }
+}
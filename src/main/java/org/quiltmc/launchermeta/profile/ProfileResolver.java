@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.profile;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.Nullable;
+
+import org.quiltmc.launchermeta.util.MavenCoordinate;
+import org.quiltmc.launchermeta.version.v1.Arguments;
+import org.quiltmc.launchermeta.version.v1.Library;
+import org.quiltmc.launchermeta.version.v1.Version;
+
+/**
+ * Resolves versions that {@link Version#getInheritsFrom() inherit from} another version, like mod loader profiles,
+ * into a single effective version.
+ * <p>
+ * A child is merged over its resolved parent: its libraries come first and replace the parent libraries with the same
+ * group, artifact and classifier, its game and JVM arguments are appended to those of the parent, and every other
+ * field it sets, like the main class, overrides the parent. The effective version has the id of the child and does
+ * not inherit from anything.
+ * <p>
+ * Parents are loaded by id through the given function and cached once resolved, so any number of profiles inheriting
+ * from the same version share one instance of it. Merging never copies the parent: the effective version references
+ * the same libraries, downloads and arguments, and reuses the parent's lists when the child adds nothing to them.
+ */
+public final class ProfileResolver {
+    private final Function<String, ? extends Version> loader;
+    private final ConcurrentMap<String, Version> resolved = new ConcurrentHashMap<>();
+
+    /**
+     *
+     * @param loader loads a version by id, returning {@code null} if there is no such version
+     */
+    public ProfileResolver(Function<String, ? extends Version> loader) {
+        this.loader = loader;
+    }
+
+    /**
+     *
+     * @param id the id of a version
+     * @return the effective version, loaded and resolved now or taken from the cache
+     * @throws IllegalArgumentException if the version or one of its parents does not exist, or the versions inherit
+     * from each other in a cycle
+     */
+    public Version get(String id) {
+        return get(id, new LinkedHashSet<>());
+    }
+
+    /**
+     * Resolves a version without caching it. Its parents are cached.
+     *
+     * @param version a version, which does not have to inherit from another version
+     * @return the effective version
+     * @throws IllegalArgumentException if one of the parents does not exist, or the versions inherit from each other in
+     * a cycle
+     */
+    public Version resolve(Version version) {
+        return resolve(version, new LinkedHashSet<>());
+    }
+
+    /**
+     *
+     * @return the number of cached versions
+     */
+    public int size() {
+        return resolved.size();
+    }
+
+    /**
+     * Forgets every cached version, for example after versions were updated.
+     */
+    public void clear() {
+        resolved.clear();
+    }
+
+    private Version get(String id, Set<String> chain) {
+        Version cached = resolved.get(id);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        if (chain.contains(id)) {
+            throw new IllegalArgumentException("Version " + id + " inherits from itself through " + chain);
+        }
+
+        Version version = loader.apply(id);
+
+        if (version == null) {
+            throw new IllegalArgumentException("Unknown version " + id);
+        }
+
+        Version effective = resolve(version, chain);
+        Version existing = resolved.putIfAbsent(id, effective);
+        return existing == null ? effective : existing;
+    }
+
+    private Version resolve(Version version, Set<String> chain) {
+        if (!version.getInheritsFrom().isPresent()) {
+            return version;
+        }
+
+        if (!chain.add(version.getId())) {
+            throw new IllegalArgumentException("Version " + version.getId() + " inherits from itself through " + chain);
+        }
+
+        return merge(get(version.getInheritsFrom().get(), chain), version);
+    }
+
+    /**
+     *
+     * @param parent the effective parent version
+     * @param child the version inheriting from the parent
+     * @return the child merged over the parent
+     */
+    public static Version merge(Version parent, Version child) {
+        return new Version(
+                mergeArguments(parent.getArguments().orElse(null), child.getArguments().orElse(null)),
+                child.getMinecraftArguments().orElse(parent.getMinecraftArguments().orElse(null)),
+                child.getAssetIndex() != null ? child.getAssetIndex() : parent.getAssetIndex(),
+                child.getAssets() != null ? child.getAssets() : parent.getAssets(),
+                child.getComplianceLevel().orElse(parent.getComplianceLevel().orElse(null)),
+                child.getDownloads() != null ? child.getDownloads() : parent.getDownloads(),
+                child.getId(),
+                null,
+                child.getJavaVersion().orElse(parent.getJavaVersion().orElse(null)),
+                mergeLibraries(parent.getLibraries(), child.getLibraries()),
+                child.getLogging().orElse(parent.getLogging().orElse(null)),
+                child.getMainClass() != null ? child.getMainClass() : parent.getMainClass(),
+                Math.max(parent.getMinimumLauncherVersion(), child.getMinimumLauncherVersion()),
+                child.getReleaseTime() != null ? child.getReleaseTime() : parent.getReleaseTime(),
+                child.getTime() != null ? child.getTime() : parent.getTime(),
+                child.getType() != null ? child.getType() : parent.getType()
+        );
+    }
+
+    @Nullable
+    private static Arguments mergeArguments(@Nullable Arguments parent, @Nullable Arguments child) {
+        if (parent == null || child == null) {
+            return parent == null ? child : parent;
+        }
+
+        return new Arguments(concat(parent.getGame(), child.getGame()), concat(parent.getJvm(), child.getJvm()));
+    }
+
+    @Nullable
+    private static <T> List<T> concat(@Nullable List<T> first, @Nullable List<T> second) {
+        if (first == null || first.isEmpty()) {
+            return second == null ? first : second;
+        }
+
+        if (second == null || second.isEmpty()) {
+            return first;
+        }
+
+        List<T> result = new ArrayList<>(first.size() + second.size());
+        result.addAll(first);
+        result.addAll(second);
+        return result;
+    }
+
+    @Nullable
+    private static List<Library> mergeLibraries(@Nullable List<Library> parent, @Nullable List<Library> child) {
+        if (parent == null || parent.isEmpty() || child == null || child.isEmpty()) {
+            return concat(child, parent);
+        }
+
+        Set<String> overridden = new HashSet<>();
+
+        for (Library library : child) {
+            overridden.add(key(library));
+        }
+
+        List<Library> result = new ArrayList<>(child.size() + parent.size());
+        result.addAll(child);
+
+        for (Library library : parent) {
+            if (!overridden.contains(key(library))) {
+                result.add(library);
+            }
+        }
+
+        return result;
+    }
+
+    private static String key(Library library) {
+        MavenCoordinate coordinate;
+
+        try {
+            coordinate = library.getCoordinate();
+        } catch (IllegalArgumentException e) {
+            // Not a maven coordinate, so it can only be overridden by the exact same name
+            return library.getName();
+        }
+
+        // Natives are separate libraries with the same module, a child replacing the library keeps the parent natives
+        return coordinate.getClassifier().map(classifier -> coordinate.getModuleKey() + ":" + classifier).orElse(coordinate.getModuleKey());
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.projection;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link JsonReader} that hides every object field outside of a {@link Projection}. Hidden fields are skipped on the
+ * underlying reader with {@link JsonReader#skipValue()}, so no values are built for them.
+ */
+class ProjectingJsonReader extends JsonReader {
+    // Every public method is overridden, so the state of the superclass is never used. Gson internals that reach into
+    // it directly, such as the key handling of its map adapter, fail on this reader
+    private static final Reader UNUSED = new Reader() {
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    private final JsonReader in;
+    // The projection node of every open object or array
+    private final Deque<Projection.Node> containers = new ArrayDeque<>();
+    private final Projection.Node root;
+    // The node of the value after the last name that was read
+    @Nullable
+    private Projection.Node nameNode;
+    @Nullable
+    private String peekedName;
+    @Nullable
+    private Projection.Node peekedNode;
+
+    ProjectingJsonReader(JsonReader in, Projection.Node root) {
+        super(UNUSED);
+        this.in = in;
+        this.root = root;
+    }
+
+    @Override
+    public JsonToken peek() throws IOException {
+        if (peekedName != null) {
+            return JsonToken.NAME;
+        }
+
+        JsonToken token = in.peek();
+        Projection.Node container = containers.peek();
+
+        // Skip the fields of a partially projected object until one that is projected
+        while (token == JsonToken.NAME && !container.whole) {
+            String name = in.nextName();
+            Projection.Node child = container.children.get(name);
+
+            if (child != null) {
+                peekedName = name;
+                peekedNode = child;
+                return JsonToken.NAME;
+            }
+
+            in.skipValue();
+            token = in.peek();
+        }
+
+        return token;
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        JsonToken token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        if (peek() != JsonToken.NAME) {
+            throw new IllegalStateException("Expected a name but was " + peek() + " at path " + getPath());
+        }
+
+        String name;
+
+        if (peekedName != null) {
+            name = peekedName;
+            nameNode = peekedNode;
+            peekedName = null;
+            peekedNode = null;
+        } else {
+            // Only whole objects get here, and everything in them is kept
+            name = in.nextName();
+            nameNode = containers.peek();
+        }
+
+        return name;
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        Projection.Node node = valueNode();
+        in.beginObject();
+        containers.push(node);
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        peek();
+        in.endObject();
+        containers.pop();
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        Projection.Node node = valueNode();
+        in.beginArray();
+        containers.push(node);
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        in.endArray();
+        containers.pop();
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        valueNode();
+        return in.nextString();
+    }
+
+    @Override
+    public boolean nextBoolean() throws IOException {
+        valueNode();
+        return in.nextBoolean();
+    }
+
+    @Override
+    public void nextNull() throws IOException {
+        valueNode();
+        in.nextNull();
+    }
+
+    @Override
+    public double nextDouble() throws IOException {
+        valueNode();
+        return in.nextDouble();
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        valueNode();
+        return in.nextLong();
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        valueNode();
+        return in.nextInt();
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        if (peekedName != null) {
+            // The name was already read from the underlying reader, so only its value is left
+            peekedName = null;
+            peekedNode = null;
+        } else {
+            valueNode();
+        }
+
+        in.skipValue();
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    @Override
+    public String getPath() {
+        return in.getPath();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " at " + in.getPath();
+    }
+
+    /**
+     *
+     * @return the node of the value about to be read, which is consumed
+     */
+    private Projection.Node valueNode() {
+        Projection.Node container = containers.peek();
+
+        if (container == null) {
+            return root;
+        }
+
+        if (nameNode != null) {
+            Projection.Node node = nameNode;
+            nameNode = null;
+            return node;
+        }
+
+        // Array elements share the node of their array
+        return container;
+    }
+}
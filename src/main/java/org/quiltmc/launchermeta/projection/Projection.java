@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.projection;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+
+import org.quiltmc.launchermeta.version.v1.Version;
+import org.quiltmc.launchermeta.version_manifest.VersionManifest;
+
+/**
+ * A set of field paths to read from a json document, skipping everything else with {@link JsonReader#skipValue()}.
+ * <p>
+ * Paths are field names separated by dots, such as {@code assetIndex} or {@code libraries[*].downloads.artifact}.
+ * Arrays are transparent: a path continues into every element of an array it passes through, and the {@code [*]}
+ * suffix is accepted to make that explicit. A path that ends at an object keeps the whole object.
+ * <p>
+ * The projected fields can be read as a small json tree, as a partially populated {@link Version} or
+ * {@link VersionManifest} where every field that was not projected is missing, or into any other class. No values are
+ * built for the skipped fields, not even json elements.
+ */
+public final class Projection {
+    private static final Gson GSON = Version.newGsonBuilder().create();
+
+    private final List<String> paths;
+    private final Node root;
+
+    private Projection(List<String> paths, Node root) {
+        this.paths = paths;
+        this.root = root;
+    }
+
+    /**
+     *
+     * @param paths the paths of the fields to read
+     * @return the projection
+     * @throws IllegalArgumentException if there are no paths, or a path has an empty segment
+     */
+    public static Projection of(String... paths) {
+        return of(Arrays.asList(paths));
+    }
+
+    /**
+     *
+     * @param paths the paths of the fields to read
+     * @return the projection
+     * @throws IllegalArgumentException if there are no paths, or a path has an empty segment
+     */
+    public static Projection of(List<String> paths) {
+        if (paths.isEmpty()) {
+            throw new IllegalArgumentException("A projection needs at least one path");
+        }
+
+        Node root = new Node();
+
+        for (String path : paths) {
+            Node node = root;
+
+            for (String segment : path.split("\\.", -1)) {
+                String name = segment.endsWith("[*]") ? segment.substring(0, segment.length() - 3) : segment;
+
+                if (name.isEmpty()) {
+                    throw new IllegalArgumentException("Invalid projection path '" + path + "'");
+                }
+
+                if (node.whole) {
+                    // A shorter path already keeps this whole subtree
+                    break;
+                }
+
+                node = node.children.computeIfAbsent(name, key -> new Node());
+            }
+
+            node.whole = true;
+            node.children.clear();
+        }
+
+        return new Projection(Collections.unmodifiableList(new ArrayList<>(paths)), root);
+    }
+
+    /**
+     *
+     * @return the paths of the projected fields
+     */
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    /**
+     * Reads the projected fields of a json document.
+     *
+     * @param reader the json
+     * @return a json tree with only the projected fields
+     * @throws JsonSyntaxException if the json is malformed
+     * @throws JsonIOException if the json could not be read
+     */
+    public JsonElement read(Reader reader) {
+        try (JsonReader in = new JsonReader(reader)) {
+            return read(in);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    /**
+     * Reads the projected fields of the next value of a reader.
+     *
+     * @param in the reader
+     * @return a json tree with only the projected fields
+     * @throws JsonSyntaxException if the json is malformed
+     * @throws JsonIOException if the json could not be read
+     */
+    public JsonElement read(JsonReader in) {
+        return JsonParser.parseReader(newReader(in));
+    }
+
+    /**
+     *
+     * @param reader the version json
+     * @return a version with only the projected fields
+     */
+    public Version readVersion(Reader reader) {
+        return read(reader, Version.class);
+    }
+
+    /**
+     *
+     * @param reader the manifest json
+     * @return a manifest with only the projected fields
+     */
+    public VersionManifest readManifest(Reader reader) {
+        return read(reader, VersionManifest.class);
+    }
+
+    /**
+     * Reads the projected fields into a class of the caller, such as a class with just the fields it needs. Values of
+     * the model types, such as {@link org.quiltmc.launchermeta.version.v1.Library}, are read with their usual adapters.
+     * <p>
+     * The projected fields are copied into a json tree first, which is small since only they are kept, so any class
+     * Gson can read from a tree works here, including classes with map fields.
+     *
+     * @param reader the json
+     * @param type the class to read into
+     * @param <T> the type to read into
+     * @return the projected fields
+     * @throws JsonSyntaxException if the json is malformed or does not match the class
+     * @throws JsonIOException if the json could not be read
+     */
+    public <T> T read(Reader reader, Class<T> type) {
+        return GSON.fromJson(read(reader), type);
+    }
+
+    /**
+     * Wraps a reader so that it only returns the projected fields. Values of the other fields are skipped when they are
+     * reached, without being parsed.
+     * <p>
+     * Only meant for {@link JsonParser}: the returned reader only supports the public methods of {@link JsonReader}, and
+     * Gson's map adapter reads keys through an internal hook that bypasses them.
+     *
+     * @param in the reader to wrap
+     * @return a reader of the projected fields
+     */
+    JsonReader newReader(JsonReader in) {
+        return new ProjectingJsonReader(in, root);
+    }
+
+    static final class Node {
+        final Map<String, Node> children = new HashMap<>();
+        // Whether the whole value is kept, instead of only the children
+        boolean whole;
+    }
+}
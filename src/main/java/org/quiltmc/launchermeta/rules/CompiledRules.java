@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.rules;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.quiltmc.launchermeta.util.BoundedCache;
+import org.quiltmc.launchermeta.version.v1.Rule;
+
+/**
+ * A list of {@link Rule}s compiled into an immutable predicate over an {@link Environment}.
+ * <p>
+ * The rules are applied the same way as the vanilla launcher: with no rules everything is allowed, otherwise the
+ * action of the last matching rule wins and nothing is allowed if no rule matches. A rule matches when every condition
+ * it has matches; feature conditions compare against the feature mask of the environment, and the os version condition
+ * is a regex searched in {@link Environment#getOsVersion()}.
+ */
+public final class CompiledRules implements Predicate<Environment> {
+    /**
+     * The compiled form of an empty rule list, which allows everything.
+     */
+    public static final CompiledRules ALWAYS = new CompiledRules(new boolean[0], new String[0], new Pattern[0], new String[0], new int[0], new int[0]);
+
+    // Bounded since the regexes come from profiles, which may be untrusted
+    private static final BoundedCache<String, Pattern> PATTERNS = new BoundedCache<>(256);
+
+    private final boolean[] allow;
+    private final String[] osNames;
+    private final Pattern[] osVersions;
+    private final String[] arches;
+    private final int[] featureMasks;
+    private final int[] featureValues;
+
+    private CompiledRules(boolean[] allow, String[] osNames, Pattern[] osVersions, String[] arches, int[] featureMasks, int[] featureValues) {
+        this.allow = allow;
+        this.osNames = osNames;
+        this.osVersions = osVersions;
+        this.arches = arches;
+        this.featureMasks = featureMasks;
+        this.featureValues = featureValues;
+    }
+
+    /**
+     *
+     * @param rules the rules to compile
+     * @return the compiled rules
+     */
+    public static CompiledRules compile(List<Rule> rules) {
+        if (rules.isEmpty()) {
+            return ALWAYS;
+        }
+
+        int size = rules.size();
+        boolean[] allow = new boolean[size];
+        String[] osNames = new String[size];
+        Pattern[] osVersions = new Pattern[size];
+        String[] arches = new String[size];
+        int[] featureMasks = new int[size];
+        int[] featureValues = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            Rule rule = rules.get(i);
+            allow[i] = "allow".equals(rule.getAction());
+
+            if (rule.getOs().isPresent()) {
+                Rule.OS os = rule.getOs().get();
+                osNames[i] = os.getName().orElse(null);
+                osVersions[i] = os.getVersion().map(CompiledRules::pattern).orElse(null);
+                arches[i] = os.getArch().orElse(null);
+            }
+
+            if (rule.getFeatures().isPresent()) {
+                Rule.Features features = rule.getFeatures().get();
+
+                for (Feature feature : Feature.values()) {
+                    Optional<Boolean> required = Feature.required(features, feature);
+
+                    if (required.isPresent()) {
+                        featureMasks[i] |= feature.getMask();
+
+                        if (required.get()) {
+                            featureValues[i] |= feature.getMask();
+                        }
+                    }
+                }
+            }
+        }
+
+        return new CompiledRules(allow, osNames, osVersions, arches, featureMasks, featureValues);
+    }
+
+    /**
+     *
+     * @param environment the environment to evaluate the rules for
+     * @return whether the rules allow the environment
+     */
+    @Override
+    public boolean test(Environment environment) {
+        if (allow.length == 0) {
+            return true;
+        }
+
+        boolean allowed = false;
+
+        for (int i = 0; i < allow.length; i++) {
+            if (matches(i, environment)) {
+                allowed = allow[i];
+            }
+        }
+
+        return allowed;
+    }
+
+    /**
+     *
+     * @return whether these rules allow every environment
+     */
+    public boolean isAlways() {
+        return allow.length == 0;
+    }
+
+    /**
+     *
+     * @return whether any rule depends on the enabled features
+     */
+    public boolean dependsOnFeatures() {
+        for (int mask : featureMasks) {
+            if (mask != 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean matches(int rule, Environment environment) {
+        if (osNames[rule] != null && !osNames[rule].equals(environment.getOsName())) {
+            return false;
+        }
+
+        if (arches[rule] != null && !arches[rule].equals(environment.getArch())) {
+            return false;
+        }
+
+        if ((environment.getFeatures() & featureMasks[rule]) != featureValues[rule]) {
+            return false;
+        }
+
+        return osVersions[rule] == null || environment.matchesOsVersion(osVersions[rule]);
+    }
+
+    private static Pattern pattern(String regex) {
+        return PATTERNS.get(regex, Pattern::compile);
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.rules;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * The platform and enabled launcher features that rules are evaluated against.
+ * <p>
+ * Operating system names and architectures use the same values as the version json: {@code windows}, {@code osx} and
+ * {@code linux} for the name, and {@code x86}, {@code x86_64} or {@code arm64} for the architecture.
+ */
+public final class Environment {
+    public static final String WINDOWS = "windows";
+    public static final String OSX = "osx";
+    public static final String LINUX = "linux";
+
+    private final String osName;
+    private final String osVersion;
+    private final String arch;
+    private final int features;
+    // The os version never changes, so each pattern only has to be matched once
+    private final Map<Pattern, Boolean> osVersionMatches = new ConcurrentHashMap<>();
+
+    public Environment(String osName, String osVersion, String arch, int features) {
+        this.osName = osName;
+        this.osVersion = osVersion;
+        this.arch = arch;
+        this.features = features;
+    }
+
+    /**
+     *
+     * @return the environment of the running JVM, without any features enabled
+     */
+    public static Environment current() {
+        return new Environment(normalizeOsName(System.getProperty("os.name", "")), System.getProperty("os.version", ""), normalizeArch(System.getProperty("os.arch", "")), 0);
+    }
+
+    /**
+     *
+     * @param osName the {@code os.name} system property or a similar name
+     * @return the name used by the version json for the operating system
+     */
+    public static String normalizeOsName(String osName) {
+        String name = osName.toLowerCase(Locale.ROOT);
+
+        if (name.startsWith("windows")) {
+            return WINDOWS;
+        } else if (name.startsWith("mac") || name.startsWith("darwin") || name.equals(OSX)) {
+            return OSX;
+        } else if (name.contains("nux") || name.contains("nix") || name.contains("bsd")) {
+            return LINUX;
+        }
+
+        return name;
+    }
+
+    /**
+     *
+     * @param arch the {@code os.arch} system property or a similar name
+     * @return the name used by the version json for the architecture
+     */
+    public static String normalizeArch(String arch) {
+        String name = arch.toLowerCase(Locale.ROOT);
+
+        switch (name) {
+            case "x86":
+            case "i386":
+            case "i486":
+            case "i586":
+            case "i686":
+                return "x86";
+            case "amd64":
+            case "x86_64":
+            case "x64":
+                return "x86_64";
+            case "aarch64":
+            case "arm64":
+                return "arm64";
+            default:
+                return name;
+        }
+    }
+
+    /**
+     *
+     * @return the name of the operating system
+     */
+    public String getOsName() {
+        return osName;
+    }
+
+    /**
+     *
+     * @return the version of the operating system, as reported by {@code os.version}
+     */
+    public String getOsVersion() {
+        return osVersion;
+    }
+
+    /**
+     *
+     * @return the architecture of the platform
+     */
+    public String getArch() {
+        return arch;
+    }
+
+    /**
+     * This is the value substituted for {@code ${arch}} in native classifiers.
+     *
+     * @return {@code "32"} on 32-bit x86, {@code "64"} otherwise
+     */
+    public String getArchBits() {
+        return arch.equals("x86") ? "32" : "64";
+    }
+
+    /**
+     *
+     * @return the mask of enabled {@link Feature}s
+     */
+    public int getFeatures() {
+        return features;
+    }
+
+    /**
+     *
+     * @param feature the feature
+     * @return whether the feature is enabled
+     */
+    public boolean hasFeature(Feature feature) {
+        return (features & feature.getMask()) != 0;
+    }
+
+    /**
+     *
+     * @param features the features to enable
+     * @return a copy of this environment with exactly the given features enabled
+     */
+    public Environment withFeatures(Feature... features) {
+        return new Environment(osName, osVersion, arch, Feature.maskOf(features));
+    }
+
+    /**
+     *
+     * @param pattern an os version pattern from a rule
+     * @return whether the pattern is found in the os version
+     */
+    boolean matchesOsVersion(Pattern pattern) {
+        Boolean matches = osVersionMatches.get(pattern);
+
+        if (matches == null) {
+            matches = pattern.matcher(osVersion).find();
+            osVersionMatches.put(pattern, matches);
+        }
+
+        return matches;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Environment that = (Environment) o;
+        return features == that.features && osName.equals(that.osName) && osVersion.equals(that.osVersion) && arch.equals(that.arch);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(osName, osVersion, arch, features);
+    }
+
+    @Override
+    public String toString() {
+        return osName + " " + osVersion + " (" + arch + ") features=" + Integer.toBinaryString(features);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.rules;
+
+import java.util.Optional;
+
+import org.quiltmc.launchermeta.version.v1.Rule;
+
+/**
+ * The launcher features that a {@link Rule} can depend on. Each feature is a single bit of a feature mask.
+ */
+public enum Feature {
+    DEMO_USER("is_demo_user"),
+    CUSTOM_RESOLUTION("has_custom_resolution"),
+    QUICK_PLAYS_SUPPORT("has_quick_plays_support"),
+    QUICK_PLAY_SINGLEPLAYER("is_quick_play_singleplayer"),
+    QUICK_PLAY_MULTIPLAYER("is_quick_play_multiplayer"),
+    QUICK_PLAY_REALMS("is_quick_play_realms");
+
+    private final String key;
+
+    Feature(String key) {
+        this.key = key;
+    }
+
+    /**
+     *
+     * @return the name of the feature in the version json
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     *
+     * @return the bit of this feature in a feature mask
+     */
+    public int getMask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     *
+     * @param features the features
+     * @return a mask with the bits of every given feature set
+     */
+    public static int maskOf(Feature... features) {
+        int mask = 0;
+
+        for (Feature feature : features) {
+            mask |= feature.getMask();
+        }
+
+        return mask;
+    }
+
+    /**
+     *
+     * @param features the features of a rule
+     * @param feature the feature to look up
+     * @return the value the rule requires for the feature, if it has one
+     */
+    static Optional<Boolean> required(Rule.Features features, Feature feature) {
+        switch (feature) {
+            case DEMO_USER:
+                return features.getDemoUser();
+            case CUSTOM_RESOLUTION:
+                return features.getHasCustomResolution();
+            case QUICK_PLAYS_SUPPORT:
+                return features.getHasQuickPlaysSupport();
+            case QUICK_PLAY_SINGLEPLAYER:
+                return features.getIsQuickPlaySinglePlayer();
+            case QUICK_PLAY_MULTIPLAYER:
+                return features.getIsQuickPlayMultiPlayer();
+            case QUICK_PLAY_REALMS:
+                return features.getIsQuickPlayRealms();
+            default:
+                throw new IllegalStateException("Unknown feature " + feature);
+        }
+    }
+}
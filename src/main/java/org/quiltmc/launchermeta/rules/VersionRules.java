@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.rules;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.quiltmc.launchermeta.util.IdentityCache;
+import org.quiltmc.launchermeta.version.v1.Arguments;
+import org.quiltmc.launchermeta.version.v1.Library;
+import org.quiltmc.launchermeta.version.v1.Rule;
+import org.quiltmc.launchermeta.version.v1.Version;
+
+/**
+ * The rules of every library and argument of a {@link Version}, compiled once so they can be evaluated against any
+ * number of environments without allocating.
+ * <p>
+ * Equal rule lists within the version share one compiled instance. The rules of recently used versions are kept, so
+ * asking again for the same version instance does not compile them again.
+ */
+public final class VersionRules {
+    private static final IdentityCache<Version, VersionRules> CACHE = new IdentityCache<>(64);
+
+    private final Version version;
+    private final CompiledRules[] libraries;
+    private final CompiledRules[] game;
+    private final CompiledRules[] jvm;
+
+    private VersionRules(Version version) {
+        Map<List<Rule>, CompiledRules> compiled = new HashMap<>();
+        List<Library> libraries = version.getLibraries() == null ? Collections.emptyList() : version.getLibraries();
+        this.version = version;
+        this.libraries = new CompiledRules[libraries.size()];
+
+        for (int i = 0; i < this.libraries.length; i++) {
+            this.libraries[i] = compiled.computeIfAbsent(libraries.get(i).getRules(), CompiledRules::compile);
+        }
+
+        Arguments arguments = version.getNormalizedArguments();
+        this.game = compileArguments(arguments.getGame(), compiled);
+        this.jvm = compileArguments(arguments.getJvm(), compiled);
+    }
+
+    /**
+     *
+     * @param version the version to compile the rules of
+     * @return the compiled rules of the version
+     */
+    public static VersionRules of(Version version) {
+        return CACHE.get(version, VersionRules::new);
+    }
+
+    /**
+     *
+     * @return the version the rules were compiled from
+     */
+    public Version getVersion() {
+        return version;
+    }
+
+    /**
+     *
+     * @param index the index of the library in {@link Version#getLibraries()}
+     * @return the compiled rules of the library
+     */
+    public CompiledRules getLibraryRules(int index) {
+        return libraries[index];
+    }
+
+    /**
+     *
+     * @param index the index of the argument in {@link Version#getNormalizedArguments()} game arguments
+     * @return the compiled rules of the argument
+     */
+    public CompiledRules getGameArgumentRules(int index) {
+        return game[index];
+    }
+
+    /**
+     *
+     * @param index the index of the argument in {@link Version#getNormalizedArguments()} JVM arguments
+     * @return the compiled rules of the argument
+     */
+    public CompiledRules getJvmArgumentRules(int index) {
+        return jvm[index];
+    }
+
+    /**
+     *
+     * @param index the index of the library in {@link Version#getLibraries()}
+     * @param environment the environment
+     * @return whether the library is used in the environment
+     */
+    public boolean isLibraryEnabled(int index, Environment environment) {
+        return libraries[index].test(environment);
+    }
+
+    /**
+     *
+     * @param index the index of the argument in {@link Version#getNormalizedArguments()} game arguments
+     * @param environment the environment
+     * @return whether the argument is used in the environment
+     */
+    public boolean isGameArgumentEnabled(int index, Environment environment) {
+        return game[index].test(environment);
+    }
+
+    /**
+     *
+     * @param index the index of the argument in {@link Version#getNormalizedArguments()} JVM arguments
+     * @param environment the environment
+     * @return whether the argument is used in the environment
+     */
+    public boolean isJvmArgumentEnabled(int index, Environment environment) {
+        return jvm[index].test(environment);
+    }
+
+    /**
+     *
+     * @param environment the environment
+     * @param consumer called with every library used in the environment, in order
+     */
+    public void forEachEnabledLibrary(Environment environment, Consumer<Library> consumer) {
+        for (int i = 0; i < libraries.length; i++) {
+            if (libraries[i].test(environment)) {
+                consumer.accept(version.getLibraries().get(i));
+            }
+        }
+    }
+
+    private static CompiledRules[] compileArguments(List<Arguments.Argument> arguments, Map<List<Rule>, CompiledRules> compiled) {
+        CompiledRules[] rules = new CompiledRules[arguments.size()];
+
+        for (int i = 0; i < rules.length; i++) {
+            rules[i] = compiled.computeIfAbsent(arguments.get(i).getRules(), CompiledRules::compile);
+        }
+
+        return rules;
+    }
+}
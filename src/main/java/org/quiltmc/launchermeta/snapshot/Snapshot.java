@@ -0,0 +1,507 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.jetbrains.annotations.Nullable;
+
+import org.quiltmc.launchermeta.util.CompactUrl;
+import org.quiltmc.launchermeta.util.Sha1Hash;
+import org.quiltmc.launchermeta.version.v1.Arguments;
+import org.quiltmc.launchermeta.version.v1.AssetIndex;
+import org.quiltmc.launchermeta.version.v1.DownloadableFile;
+import org.quiltmc.launchermeta.version.v1.Downloads;
+import org.quiltmc.launchermeta.version.v1.JavaVersion;
+import org.quiltmc.launchermeta.version.v1.Library;
+import org.quiltmc.launchermeta.version.v1.Logging;
+import org.quiltmc.launchermeta.version.v1.Rule;
+import org.quiltmc.launchermeta.version.v1.Version;
+import org.quiltmc.launchermeta.version_manifest.LatestVersions;
+import org.quiltmc.launchermeta.version_manifest.VersionEntry;
+import org.quiltmc.launchermeta.version_manifest.VersionManifest;
+
+/**
+ * A read-only view of a snapshot written by {@link SnapshotWriter}: a {@link VersionManifest} together with the
+ * {@link Version}s of its entries.
+ * <p>
+ * Opening a snapshot only indexes where its strings, libraries and versions start. The manifest, every version, every
+ * library and every string are decoded the first time they are accessed and then kept, so versions decoded from the
+ * same snapshot share their {@link Library} instances. The decoded objects are equal to the ones the snapshot was
+ * written from.
+ * <p>
+ * The format starts with a header of six big-endian ints: the magic, the format version and the offsets of the
+ * string table, the library table, the manifest and the version table. Strings and lists are referenced with varints
+ * that are one more than the index or size, with zero meaning {@code null}.
+ */
+public final class Snapshot {
+    static final int MAGIC = 0x514C4D53;
+    static final int FORMAT = 3;
+    static final int HEADER_SIZE = 24;
+
+    static final int DOWNLOAD_NONE = 0;
+    static final int DOWNLOAD_FILE = 1;
+    static final int DOWNLOAD_PATH = 2;
+    static final int DOWNLOAD_ID = 3;
+    static final int DOWNLOAD_ASSET_INDEX = 4;
+
+    static final int SHA1_NONE = 0;
+    static final int SHA1_PACKED = 1;
+    static final int SHA1_RAW = 2;
+
+    private final ByteBuffer buffer;
+    private final int[] stringOffsets;
+    // Strings are immutable, so publishing them through a race is safe
+    private final String[] strings;
+    private final int[] libraryOffsets;
+    private final AtomicReferenceArray<Library> libraries;
+    private final int manifestOffset;
+    private final List<String> versionIds;
+    private final Map<String, Integer> versionIndices;
+    private final int[] versionOffsets;
+    private final AtomicReferenceArray<Version> versions;
+    @Nullable
+    private volatile VersionManifest manifest;
+
+    private Snapshot(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a version snapshot");
+        }
+
+        if (buffer.getInt(4) != FORMAT) {
+            throw new IOException("Unsupported snapshot format " + buffer.getInt(4));
+        }
+
+        Decoder strings = decoder(buffer.getInt(8));
+        this.stringOffsets = new int[strings.readVarInt()];
+        this.strings = new String[stringOffsets.length];
+
+        for (int i = 0; i < stringOffsets.length; i++) {
+            stringOffsets[i] = strings.skipRecord();
+        }
+
+        Decoder libraries = decoder(buffer.getInt(12));
+        this.libraryOffsets = new int[libraries.readVarInt()];
+        this.libraries = new AtomicReferenceArray<>(libraryOffsets.length);
+
+        for (int i = 0; i < libraryOffsets.length; i++) {
+            libraryOffsets[i] = libraries.skipRecord();
+        }
+
+        this.manifestOffset = buffer.getInt(16);
+
+        Decoder versions = decoder(buffer.getInt(20));
+        this.versionOffsets = new int[versions.readVarInt()];
+        this.versions = new AtomicReferenceArray<>(versionOffsets.length);
+        List<String> ids = new ArrayList<>(versionOffsets.length);
+        this.versionIndices = new HashMap<>();
+
+        for (int i = 0; i < versionOffsets.length; i++) {
+            String id = versions.readString();
+            ids.add(id);
+            versionIndices.put(id, i);
+            versionOffsets[i] = versions.skipRecord();
+        }
+
+        this.versionIds = Collections.unmodifiableList(ids);
+    }
+
+    /**
+     * Opens a snapshot file by mapping it into memory.
+     *
+     * @param path the snapshot file
+     * @return the snapshot
+     * @throws IOException if the file could not be mapped or is not a snapshot
+     */
+    public static Snapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new Snapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     *
+     * @param buffer the contents of a snapshot, which must not be modified afterwards
+     * @return the snapshot
+     * @throws IOException if the buffer does not contain a snapshot
+     */
+    public static Snapshot of(ByteBuffer buffer) throws IOException {
+        return new Snapshot(buffer.duplicate());
+    }
+
+    /**
+     *
+     * @param bytes the contents of a snapshot, which must not be modified afterwards
+     * @return the snapshot
+     * @throws IOException if the bytes are not a snapshot
+     */
+    public static Snapshot of(byte[] bytes) throws IOException {
+        return new Snapshot(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     *
+     * @return the manifest of the snapshot
+     */
+    public VersionManifest getManifest() {
+        VersionManifest manifest = this.manifest;
+
+        if (manifest == null) {
+            manifest = decoder(manifestOffset).readManifest();
+            this.manifest = manifest;
+        }
+
+        return manifest;
+    }
+
+    /**
+     *
+     * @return the ids of the versions in the snapshot, in the order they were written
+     */
+    public List<String> getVersionIds() {
+        return versionIds;
+    }
+
+    /**
+     *
+     * @param id the id of a version
+     * @return whether the snapshot has the version
+     */
+    public boolean contains(String id) {
+        return versionIndices.containsKey(id);
+    }
+
+    /**
+     *
+     * @param id the id of a version
+     * @return the version, if the snapshot has it
+     */
+    public Optional<Version> getVersion(String id) {
+        Integer index = versionIndices.get(id);
+        return index == null ? Optional.empty() : Optional.of(getVersion(index));
+    }
+
+    /**
+     *
+     * @return the number of distinct libraries in the snapshot
+     */
+    public int getLibraryCount() {
+        return libraryOffsets.length;
+    }
+
+    private Version getVersion(int index) {
+        Version version = versions.get(index);
+
+        if (version == null) {
+            version = decoder(versionOffsets[index]).readVersion();
+
+            if (!versions.compareAndSet(index, null, version)) {
+                version = versions.get(index);
+            }
+        }
+
+        return version;
+    }
+
+    private Library getLibrary(int index) {
+        Library library = libraries.get(index);
+
+        if (library == null) {
+            library = decoder(libraryOffsets[index]).readLibrary();
+
+            if (!libraries.compareAndSet(index, null, library)) {
+                library = libraries.get(index);
+            }
+        }
+
+        return library;
+    }
+
+    @Nullable
+    private String getString(int reference) {
+        if (reference == 0) {
+            return null;
+        }
+
+        String string = strings[reference - 1];
+
+        if (string == null) {
+            Decoder decoder = decoder(stringOffsets[reference - 1]);
+            byte[] bytes = new byte[decoder.readVarInt()];
+            decoder.in.get(bytes);
+            string = new String(bytes, StandardCharsets.UTF_8);
+            strings[reference - 1] = string;
+        }
+
+        return string;
+    }
+
+    private Decoder decoder(int offset) {
+        ByteBuffer in = buffer.duplicate();
+        in.position(offset);
+        return new Decoder(in);
+    }
+
+    private final class Decoder {
+        private final ByteBuffer in;
+
+        private Decoder(ByteBuffer in) {
+            this.in = in;
+        }
+
+        int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+
+            do {
+                b = in.get();
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            return value;
+        }
+
+        int readSignedVarInt() {
+            int value = readVarInt();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        /**
+         * Skips a length prefixed record.
+         *
+         * @return the offset of the record, including its length
+         */
+        int skipRecord() {
+            int offset = in.position();
+            int length = readVarInt();
+            in.position(in.position() + length);
+            return offset;
+        }
+
+        boolean readPresent() {
+            return in.get() != 0;
+        }
+
+        @Nullable
+        String readString() {
+            return getString(readVarInt());
+        }
+
+        @Nullable
+        Integer readInteger() {
+            return readPresent() ? readSignedVarInt() : null;
+        }
+
+        @Nullable
+        Boolean readBoolean() {
+            byte value = in.get();
+            return value == 0 ? null : value == 2;
+        }
+
+        @Nullable
+        List<String> readStrings() {
+            int size = readVarInt() - 1;
+
+            if (size < 0) {
+                return null;
+            }
+
+            List<String> values = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++) {
+                values.add(readString());
+            }
+
+            return values;
+        }
+
+        VersionManifest readManifest() {
+            LatestVersions latest = readPresent() ? new LatestVersions(readString(), readString()) : null;
+            int size = readVarInt() - 1;
+
+            if (size < 0) {
+                return new VersionManifest(latest, null);
+            }
+
+            List<VersionEntry> entries = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++) {
+                entries.add(new VersionEntry(readString(), readString(), readString(), readString(), readString(), readString(), readInteger()));
+            }
+
+            return new VersionManifest(latest, entries);
+        }
+
+        Version readVersion() {
+            readVarInt();
+            Arguments arguments = readPresent() ? new Arguments(readArguments(), readArguments()) : null;
+            String minecraftArguments = readString();
+            AssetIndex assetIndex = (AssetIndex) readDownload();
+            String assets = readString();
+            Integer complianceLevel = readInteger();
+            Downloads downloads = readPresent() ? new Downloads(readDownload(), readDownload(), readDownload(), readDownload(), readDownload()) : null;
+            String id = readString();
+            String inheritsFrom = readString();
+            JavaVersion javaVersion = readPresent() ? new JavaVersion(readString(), readSignedVarInt()) : null;
+            int librarySize = readVarInt() - 1;
+            List<Library> libraries = null;
+
+            if (librarySize >= 0) {
+                libraries = new ArrayList<>(librarySize);
+
+                for (int i = 0; i < librarySize; i++) {
+                    libraries.add(getLibrary(readVarInt()));
+                }
+            }
+
+            byte loggingState = in.get();
+            Logging logging = null;
+
+            if (loggingState != 0) {
+                logging = new Logging(loggingState == 1 ? null : new Logging.LoggingInstance(readString(), readString(), (DownloadableFile.IdDownload) readDownload()));
+            }
+
+            return new Version(arguments, minecraftArguments, assetIndex, assets, complianceLevel, downloads, id, inheritsFrom, javaVersion, libraries, logging, readString(), readSignedVarInt(), readString(), readString(), readString());
+        }
+
+        Library readLibrary() {
+            readVarInt();
+            Library.LibraryDownloads downloads = null;
+
+            if (readPresent()) {
+                DownloadableFile.PathDownload artifact = (DownloadableFile.PathDownload) readDownload();
+                Library.Classifiers classifiers = null;
+
+                if (readPresent()) {
+                    classifiers = new Library.Classifiers(readPath(), readPath(), readPath(), readPath(), readPath(), readPath(), readPath(), readPath(), readPath());
+                }
+
+                downloads = new Library.LibraryDownloads(artifact, classifiers);
+            }
+
+            String name = readString();
+            Library.Natives natives = readPresent() ? new Library.Natives(readString(), readString(), readString()) : null;
+            Library.Extract extract = readPresent() ? new Library.Extract(readStrings()) : null;
+            return new Library(downloads, name, natives, extract, readRules());
+        }
+
+        @Nullable
+        List<Arguments.Argument> readArguments() {
+            int size = readVarInt() - 1;
+
+            if (size < 0) {
+                return null;
+            }
+
+            List<Arguments.Argument> arguments = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++) {
+                arguments.add(new Arguments.Argument(readStrings(), readRules()));
+            }
+
+            return arguments;
+        }
+
+        @Nullable
+        List<Rule> readRules() {
+            int size = readVarInt() - 1;
+
+            if (size < 0) {
+                return null;
+            }
+
+            List<Rule> rules = new ArrayList<>(size);
+
+            for (int i = 0; i < size; i++) {
+                String action = readString();
+                Rule.OS os = readPresent() ? new Rule.OS(readString(), readString(), readString()) : null;
+                Rule.Features features = readPresent() ? new Rule.Features(readBoolean(), readBoolean(), readBoolean(), readBoolean(), readBoolean(), readBoolean()) : null;
+                rules.add(new Rule(action, os, features));
+            }
+
+            return rules;
+        }
+
+        @Nullable
+        DownloadableFile.PathDownload readPath() {
+            return (DownloadableFile.PathDownload) readDownload();
+        }
+
+        @Nullable
+        DownloadableFile readDownload() {
+            int type = in.get();
+
+            if (type == DOWNLOAD_NONE) {
+                return null;
+            }
+
+            int sha1State = in.get();
+            Sha1Hash sha1 = sha1State == SHA1_PACKED ? Sha1Hash.of(in.getLong(), in.getLong(), in.getInt()) : null;
+            String rawSha1 = sha1State == SHA1_RAW ? readString() : null;
+            int size = readSignedVarInt();
+            int prefix = readVarInt() - 1;
+            CompactUrl url = prefix < 0 ? null : CompactUrl.of(prefix, readString());
+
+            if (rawSha1 != null) {
+                return readRawDownload(type, rawSha1, size, url == null ? null : url.toString());
+            }
+
+            switch (type) {
+                case DOWNLOAD_FILE:
+                    return new DownloadableFile(sha1, size, url);
+                case DOWNLOAD_PATH:
+                    return new DownloadableFile.PathDownload(sha1, size, url, readString());
+                case DOWNLOAD_ID:
+                    return new DownloadableFile.IdDownload(sha1, size, url, readString());
+                case DOWNLOAD_ASSET_INDEX:
+                    return new AssetIndex(sha1, size, url, readString(), readSignedVarInt());
+                default:
+                    throw new IllegalStateException("Unknown download type " + type);
+            }
+        }
+
+        private DownloadableFile readRawDownload(int type, String sha1, int size, @Nullable String url) {
+            switch (type) {
+                case DOWNLOAD_FILE:
+                    return new DownloadableFile(sha1, size, url);
+                case DOWNLOAD_PATH:
+                    return new DownloadableFile.PathDownload(sha1, size, url, readString());
+                case DOWNLOAD_ID:
+                    return new DownloadableFile.IdDownload(sha1, size, url, readString());
+                case DOWNLOAD_ASSET_INDEX:
+                    return new AssetIndex(sha1, size, url, readString(), readSignedVarInt());
+                default:
+                    throw new IllegalStateException("Unknown download type " + type);
+            }
+        }
+    }
+}
@@ -0,0 +1,402 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.snapshot;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+
+import org.quiltmc.launchermeta.util.CompactUrl;
+import org.quiltmc.launchermeta.util.Sha1Hash;
+import org.quiltmc.launchermeta.version.v1.Arguments;
+import org.quiltmc.launchermeta.version.v1.AssetIndex;
+import org.quiltmc.launchermeta.version.v1.DownloadableFile;
+import org.quiltmc.launchermeta.version.v1.Downloads;
+import org.quiltmc.launchermeta.version.v1.JavaVersion;
+import org.quiltmc.launchermeta.version.v1.Library;
+import org.quiltmc.launchermeta.version.v1.Logging;
+import org.quiltmc.launchermeta.version.v1.Rule;
+import org.quiltmc.launchermeta.version.v1.Version;
+import org.quiltmc.launchermeta.version_manifest.LatestVersions;
+import org.quiltmc.launchermeta.version_manifest.VersionEntry;
+import org.quiltmc.launchermeta.version_manifest.VersionManifest;
+
+/**
+ * Writes a {@link VersionManifest} and its {@link Version}s in the binary format read by {@link Snapshot}.
+ * <p>
+ * Every distinct string is stored once in a string table and every distinct {@link Library} once in a library table,
+ * so the libraries shared by most versions only take up space a single time.
+ */
+public final class SnapshotWriter {
+    private final Map<String, Integer> stringIds = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private final Map<Library, Integer> libraryIds = new HashMap<>();
+    private final SnapshotBuffer libraries = new SnapshotBuffer(1 << 16);
+
+    private SnapshotWriter() {
+    }
+
+    /**
+     *
+     * @param manifest the manifest
+     * @param versions the versions to store with the manifest, each with a distinct id
+     * @return the snapshot
+     */
+    public static byte[] toByteArray(VersionManifest manifest, Collection<Version> versions) {
+        return new SnapshotWriter().write(manifest, versions);
+    }
+
+    /**
+     *
+     * @param manifest the manifest
+     * @param versions the versions to store with the manifest, each with a distinct id
+     * @param path the file to write the snapshot to
+     * @throws IOException if the file could not be written
+     */
+    public static void write(VersionManifest manifest, Collection<Version> versions, Path path) throws IOException {
+        Files.write(path, toByteArray(manifest, versions));
+    }
+
+    private byte[] write(VersionManifest manifest, Collection<Version> versions) {
+        SnapshotBuffer manifestRecord = new SnapshotBuffer(1 << 16);
+        writeManifest(manifestRecord, manifest);
+
+        SnapshotBuffer versionTable = new SnapshotBuffer(1 << 20);
+        Set<String> ids = new HashSet<>();
+        versionTable.writeVarInt(versions.size());
+
+        for (Version version : versions) {
+            if (!ids.add(version.getId())) {
+                throw new IllegalArgumentException("Duplicate version " + version.getId());
+            }
+
+            SnapshotBuffer record = new SnapshotBuffer(1 << 12);
+            writeVersion(record, version);
+            writeString(versionTable, version.getId());
+            versionTable.writeVarInt(record.size());
+            versionTable.write(record);
+        }
+
+        SnapshotBuffer stringTable = new SnapshotBuffer(1 << 16);
+        stringTable.writeVarInt(strings.size());
+
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            stringTable.writeVarInt(bytes.length);
+            stringTable.write(bytes, 0, bytes.length);
+        }
+
+        SnapshotBuffer out = new SnapshotBuffer(Snapshot.HEADER_SIZE + stringTable.size() + libraries.size() + manifestRecord.size() + versionTable.size() + 5);
+        out.writeInt(Snapshot.MAGIC);
+        out.writeInt(Snapshot.FORMAT);
+        out.writeInt(Snapshot.HEADER_SIZE);
+        out.writeInt(0);
+        out.writeInt(0);
+        out.writeInt(0);
+        out.write(stringTable);
+        out.setInt(12, out.size());
+        out.writeVarInt(libraryIds.size());
+        out.write(libraries);
+        out.setInt(16, out.size());
+        out.write(manifestRecord);
+        out.setInt(20, out.size());
+        out.write(versionTable);
+        return out.toByteArray();
+    }
+
+    private void writeManifest(SnapshotBuffer out, VersionManifest manifest) {
+        LatestVersions latest = manifest.getLatestVersions();
+        out.writeByte(latest == null ? 0 : 1);
+
+        if (latest != null) {
+            writeString(out, latest.getRelease());
+            writeString(out, latest.getSnapshot());
+        }
+
+        if (writeListSize(out, manifest.getVersions())) {
+            for (VersionEntry entry : manifest.getVersions()) {
+                writeString(out, entry.getId());
+                writeString(out, entry.getType());
+                writeString(out, entry.getUrl());
+                writeString(out, entry.getTime());
+                writeString(out, entry.getReleaseTime());
+                writeString(out, entry.getSha1().orElse(null));
+                writeInteger(out, entry.getComplianceLevel().orElse(null));
+            }
+        }
+    }
+
+    private void writeVersion(SnapshotBuffer out, Version version) {
+        out.writeByte(version.getArguments().isPresent() ? 1 : 0);
+
+        if (version.getArguments().isPresent()) {
+            Arguments arguments = version.getArguments().get();
+            writeArguments(out, arguments.getGame());
+            writeArguments(out, arguments.getJvm());
+        }
+
+        writeString(out, version.getMinecraftArguments().orElse(null));
+        writeDownload(out, version.getAssetIndex());
+        writeString(out, version.getAssets());
+        writeInteger(out, version.getComplianceLevel().orElse(null));
+        writeDownloads(out, version.getDownloads());
+        writeString(out, version.getId());
+        writeString(out, version.getInheritsFrom().orElse(null));
+        out.writeByte(version.getJavaVersion().isPresent() ? 1 : 0);
+
+        if (version.getJavaVersion().isPresent()) {
+            JavaVersion javaVersion = version.getJavaVersion().get();
+            writeString(out, javaVersion.getComponent().orElse(null));
+            out.writeSignedVarInt(javaVersion.getMajorVersion());
+        }
+
+        if (writeListSize(out, version.getLibraries())) {
+            for (Library library : version.getLibraries()) {
+                out.writeVarInt(libraryId(library));
+            }
+        }
+
+        Logging.LoggingInstance logging = version.getLogging().map(Logging::getClient).orElse(null);
+        out.writeByte(!version.getLogging().isPresent() ? 0 : logging == null ? 1 : 2);
+
+        if (logging != null) {
+            writeString(out, logging.getArgument());
+            writeString(out, logging.getType());
+            writeDownload(out, logging.getFile());
+        }
+
+        writeString(out, version.getMainClass());
+        out.writeSignedVarInt(version.getMinimumLauncherVersion());
+        writeString(out, version.getReleaseTime());
+        writeString(out, version.getTime());
+        writeString(out, version.getType());
+    }
+
+    private void writeArguments(SnapshotBuffer out, @Nullable List<Arguments.Argument> arguments) {
+        if (writeListSize(out, arguments)) {
+            for (Arguments.Argument argument : arguments) {
+                writeStrings(out, argument.getValue());
+                writeRules(out, argument.getRules());
+            }
+        }
+    }
+
+    private void writeDownloads(SnapshotBuffer out, @Nullable Downloads downloads) {
+        out.writeByte(downloads == null ? 0 : 1);
+
+        if (downloads != null) {
+            writeDownload(out, downloads.getClient());
+            writeDownload(out, downloads.getClientMappings().orElse(null));
+            writeDownload(out, downloads.getServer().orElse(null));
+            writeDownload(out, downloads.getServerMappings().orElse(null));
+            writeDownload(out, downloads.getWindowsServer().orElse(null));
+        }
+    }
+
+    private int libraryId(Library library) {
+        Integer id = libraryIds.get(library);
+
+        if (id == null) {
+            SnapshotBuffer record = new SnapshotBuffer(256);
+            writeLibrary(record, library);
+            id = libraryIds.size();
+            libraryIds.put(library, id);
+            libraries.writeVarInt(record.size());
+            libraries.write(record);
+        }
+
+        return id;
+    }
+
+    private void writeLibrary(SnapshotBuffer out, Library library) {
+        Library.LibraryDownloads downloads = library.getDownloads();
+        out.writeByte(downloads == null ? 0 : 1);
+
+        if (downloads != null) {
+            writeDownload(out, downloads.getArtifact().orElse(null));
+            Library.Classifiers classifiers = downloads.getClassifiers().orElse(null);
+            out.writeByte(classifiers == null ? 0 : 1);
+
+            if (classifiers != null) {
+                writeDownload(out, classifiers.getJavadoc().orElse(null));
+                writeDownload(out, classifiers.getNativesLinux().orElse(null));
+                writeDownload(out, classifiers.getNativesLinux_x84_64().orElse(null));
+                writeDownload(out, classifiers.getNativesMacOS().orElse(null));
+                writeDownload(out, classifiers.getNativesOSX().orElse(null));
+                writeDownload(out, classifiers.getNativesWindows().orElse(null));
+                writeDownload(out, classifiers.getNativesWindows32().orElse(null));
+                writeDownload(out, classifiers.getNativesWindows64().orElse(null));
+                writeDownload(out, classifiers.getSources().orElse(null));
+            }
+        }
+
+        writeString(out, library.getName());
+        out.writeByte(library.getNatives().isPresent() ? 1 : 0);
+
+        if (library.getNatives().isPresent()) {
+            Library.Natives natives = library.getNatives().get();
+            writeString(out, natives.getOsx().orElse(null));
+            writeString(out, natives.getLinux().orElse(null));
+            writeString(out, natives.getWindows().orElse(null));
+        }
+
+        out.writeByte(library.getExtract().isPresent() ? 1 : 0);
+
+        if (library.getExtract().isPresent()) {
+            writeStrings(out, library.getExtract().get().getExclude());
+        }
+
+        writeRules(out, library.getRules());
+    }
+
+    private void writeRules(SnapshotBuffer out, @Nullable List<Rule> rules) {
+        if (!writeListSize(out, rules)) {
+            return;
+        }
+
+        for (Rule rule : rules) {
+            writeString(out, rule.getAction());
+            out.writeByte(rule.getOs().isPresent() ? 1 : 0);
+
+            if (rule.getOs().isPresent()) {
+                Rule.OS os = rule.getOs().get();
+                writeString(out, os.getName().orElse(null));
+                writeString(out, os.getVersion().orElse(null));
+                writeString(out, os.getArch().orElse(null));
+            }
+
+            out.writeByte(rule.getFeatures().isPresent() ? 1 : 0);
+
+            if (rule.getFeatures().isPresent()) {
+                Rule.Features features = rule.getFeatures().get();
+                writeBoolean(out, features.getDemoUser());
+                writeBoolean(out, features.getHasCustomResolution());
+                writeBoolean(out, features.getHasQuickPlaysSupport());
+                writeBoolean(out, features.getIsQuickPlaySinglePlayer());
+                writeBoolean(out, features.getIsQuickPlayMultiPlayer());
+                writeBoolean(out, features.getIsQuickPlayRealms());
+            }
+        }
+    }
+
+    private void writeDownload(SnapshotBuffer out, @Nullable DownloadableFile download) {
+        if (download == null) {
+            out.writeByte(Snapshot.DOWNLOAD_NONE);
+            return;
+        }
+
+        Class<?> type = download.getClass();
+
+        if (type == DownloadableFile.class) {
+            out.writeByte(Snapshot.DOWNLOAD_FILE);
+        } else if (type == DownloadableFile.PathDownload.class) {
+            out.writeByte(Snapshot.DOWNLOAD_PATH);
+        } else if (type == DownloadableFile.IdDownload.class) {
+            out.writeByte(Snapshot.DOWNLOAD_ID);
+        } else if (type == AssetIndex.class) {
+            out.writeByte(Snapshot.DOWNLOAD_ASSET_INDEX);
+        } else {
+            throw new IllegalArgumentException("Unsupported download type " + type.getName());
+        }
+
+        Sha1Hash sha1 = download.getSha1Hash();
+        String hex = download.getSha1();
+
+        if (hex == null) {
+            out.writeByte(Snapshot.SHA1_NONE);
+        } else if (sha1 != null && hex.equals(sha1.toHex())) {
+            out.writeByte(Snapshot.SHA1_PACKED);
+            out.writeLong(sha1.getHigh());
+            out.writeLong(sha1.getMiddle());
+            out.writeInt(sha1.getLow());
+        } else {
+            // Not in the form Sha1Hash writes, so it is kept as written
+            out.writeByte(Snapshot.SHA1_RAW);
+            writeString(out, hex);
+        }
+
+        out.writeSignedVarInt(download.getSize());
+        CompactUrl url = download.getCompactUrl();
+        out.writeVarInt(url == null ? 0 : url.getPrefixId() + 1);
+
+        if (url != null) {
+            writeString(out, url.getSuffix());
+        }
+
+        if (download instanceof DownloadableFile.PathDownload) {
+            writeString(out, ((DownloadableFile.PathDownload) download).getPath());
+        } else if (download instanceof DownloadableFile.IdDownload) {
+            writeString(out, ((DownloadableFile.IdDownload) download).getId());
+
+            if (download instanceof AssetIndex) {
+                out.writeSignedVarInt(((AssetIndex) download).getTotalSize());
+            }
+        }
+    }
+
+    private void writeStrings(SnapshotBuffer out, @Nullable List<String> values) {
+        if (writeListSize(out, values)) {
+            for (String value : values) {
+                writeString(out, value);
+            }
+        }
+    }
+
+    private void writeString(SnapshotBuffer out, @Nullable String value) {
+        if (value == null) {
+            out.writeVarInt(0);
+            return;
+        }
+
+        Integer id = stringIds.get(value);
+
+        if (id == null) {
+            id = strings.size();
+            stringIds.put(value, id);
+            strings.add(value);
+        }
+
+        out.writeVarInt(id + 1);
+    }
+
+    private static void writeInteger(SnapshotBuffer out, @Nullable Integer value) {
+        out.writeByte(value == null ? 0 : 1);
+
+        if (value != null) {
+            out.writeSignedVarInt(value);
+        }
+    }
+
+    private static void writeBoolean(SnapshotBuffer out, Optional<Boolean> value) {
+        out.writeByte(!value.isPresent() ? 0 : value.get() ? 2 : 1);
+    }
+
+    private static boolean writeListSize(SnapshotBuffer out, @Nullable List<?> list) {
+        out.writeVarInt(list == null ? 0 : list.size() + 1);
+        return list != null;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of values derived from keys, which drops the least recently used entries once it is full.
+ * <p>
+ * Values are computed outside the lock, so two threads missing the same key at once may both compute it; the first
+ * value stored wins.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public final class BoundedCache<K, V> {
+    private final int maxEntries;
+    private final LinkedHashMap<K, V> cache = new LinkedHashMap<>(16, 0.75F, true);
+
+    public BoundedCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("The cache must hold at least one entry");
+        }
+
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     *
+     * @param key the key
+     * @param compute computes the value if the key is not cached
+     * @return the cached or computed value
+     */
+    public V get(K key, Function<? super K, ? extends V> compute) {
+        synchronized (cache) {
+            V value = cache.get(key);
+
+            if (value != null) {
+                return value;
+            }
+        }
+
+        V value = compute.apply(key);
+
+        synchronized (cache) {
+            V existing = cache.putIfAbsent(key, value);
+
+            if (existing != null) {
+                return existing;
+            }
+
+            Iterator<K> iterator = cache.keySet().iterator();
+
+            while (cache.size() > maxEntries) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     *
+     * @return the number of cached values
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Removes every cached value.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+}
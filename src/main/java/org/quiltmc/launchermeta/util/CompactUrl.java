@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.util;
+
+import java.io.IOException;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * A url split into one of a fixed table of well known prefixes and the remaining suffix. Almost every url in the
+ * launcher meta points at a handful of hosts, so only the suffix needs to be kept per url.
+ * <p>
+ * In json the url is always represented by its full string.
+ */
+@JsonAdapter(CompactUrl.Adapter.class)
+public final class CompactUrl {
+    // Never reorder this table, the ids are exposed by getPrefixId() and may be stored by callers
+    private static final String[] PREFIXES = {
+            "",
+            "https://libraries.minecraft.net/",
+            "https://piston-data.mojang.com/v1/objects/",
+            "https://piston-meta.mojang.com/v1/packages/",
+            "https://launcher.mojang.com/v1/objects/",
+            "https://launchermeta.mojang.com/v1/packages/",
+            "https://resources.download.minecraft.net/",
+            "https://maven.quiltmc.org/repository/release/",
+            "https://maven.fabricmc.net/"
+    };
+
+    private final byte prefix;
+    private final String suffix;
+
+    private CompactUrl(byte prefix, String suffix) {
+        this.prefix = prefix;
+        this.suffix = suffix;
+    }
+
+    /**
+     *
+     * @param url the full url
+     * @return the url split at the longest matching known prefix
+     */
+    public static CompactUrl of(String url) {
+        int best = 0;
+
+        for (int i = 1; i < PREFIXES.length; i++) {
+            if (url.startsWith(PREFIXES[i]) && PREFIXES[i].length() > PREFIXES[best].length()) {
+                best = i;
+            }
+        }
+
+        return new CompactUrl((byte) best, url.substring(PREFIXES[best].length()));
+    }
+
+    /**
+     *
+     * @param prefix the id of a known prefix
+     * @param suffix the rest of the url
+     * @return the url made of the prefix and suffix
+     * @throws IllegalArgumentException if the prefix id is unknown
+     */
+    public static CompactUrl of(int prefix, String suffix) {
+        if (prefix < 0 || prefix >= PREFIXES.length) {
+            throw new IllegalArgumentException("Unknown url prefix id " + prefix);
+        }
+
+        return of(PREFIXES[prefix] + suffix);
+    }
+
+    /**
+     *
+     * @return the id of the prefix, where {@code 0} is the empty prefix
+     */
+    public int getPrefixId() {
+        return prefix;
+    }
+
+    /**
+     *
+     * @return the known prefix of the url, which may be empty
+     */
+    public String getPrefix() {
+        return PREFIXES[prefix];
+    }
+
+    /**
+     *
+     * @return the url without its known prefix
+     */
+    public String getSuffix() {
+        return suffix;
+    }
+
+    /**
+     *
+     * @return the full url
+     */
+    @Override
+    public String toString() {
+        return prefix == 0 ? suffix : PREFIXES[prefix].concat(suffix);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CompactUrl that = (CompactUrl) o;
+        return prefix == that.prefix && suffix.equals(that.suffix);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * prefix + suffix.hashCode();
+    }
+
+    static class Adapter extends TypeAdapter<CompactUrl> {
+        @Override
+        public void write(JsonWriter out, CompactUrl value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+            } else {
+                out.value(value.toString());
+            }
+        }
+
+        @Override
+        public CompactUrl read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            return of(in.nextString());
+        }
+    }
+}
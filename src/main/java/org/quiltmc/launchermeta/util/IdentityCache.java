@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.util;
+
+import java.util.function.Function;
+
+/**
+ * A {@link BoundedCache} keyed by the identity of the keys rather than by {@link Object#equals(Object)}, which is a deep
+ * comparison for the model classes.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public final class IdentityCache<K, V> {
+    private final BoundedCache<Key<K>, V> cache;
+
+    public IdentityCache(int maxEntries) {
+        this.cache = new BoundedCache<>(maxEntries);
+    }
+
+    /**
+     *
+     * @param key the key
+     * @param compute computes the value if the key is not cached
+     * @return the cached or computed value
+     */
+    public V get(K key, Function<? super K, ? extends V> compute) {
+        return cache.get(new Key<>(key), wrapped -> compute.apply(key));
+    }
+
+    /**
+     *
+     * @return the number of cached values
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes every cached value.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    private static final class Key<K> {
+        private final K key;
+
+        private Key(K key) {
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && ((Key<?>) o).key == key;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(key);
+        }
+    }
+}
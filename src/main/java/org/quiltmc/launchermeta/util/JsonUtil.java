@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.util;
+
+import java.io.IOException;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Helpers for the hand-written type adapters of the model, which read json {@code null} as a missing value and never
+ * write missing values, the same way Gson's reflective adapters do by default.
+ */
+public final class JsonUtil {
+    private JsonUtil() {
+    }
+
+    /**
+     *
+     * @param in the reader, positioned at a string or null value
+     * @return the string, or {@code null} if the value was null
+     * @throws IOException if the value could not be read
+     */
+    @Nullable
+    public static String nextString(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        return in.nextString();
+    }
+
+    /**
+     *
+     * @param in the reader, positioned at a number or null value
+     * @return the number, or {@code null} if the value was null
+     * @throws IOException if the value could not be read
+     */
+    @Nullable
+    public static Integer nextInteger(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        return in.nextInt();
+    }
+
+    /**
+     *
+     * @param in the reader, positioned at a boolean or null value
+     * @return the boolean, or {@code null} if the value was null
+     * @throws IOException if the value could not be read
+     */
+    @Nullable
+    public static Boolean nextBoolean(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        return in.nextBoolean();
+    }
+
+    /**
+     * Writes a named field, unless the value is {@code null}.
+     *
+     * @param out the writer
+     * @param name the name of the field
+     * @param value the value of the field
+     * @throws IOException if the field could not be written
+     */
+    public static void writeField(JsonWriter out, String name, @Nullable String value) throws IOException {
+        if (value != null) {
+            out.name(name).value(value);
+        }
+    }
+
+    /**
+     * Writes a named field, unless the value is {@code null}.
+     *
+     * @param out the writer
+     * @param name the name of the field
+     * @param value the value of the field
+     * @throws IOException if the field could not be written
+     */
+    public static void writeField(JsonWriter out, String name, @Nullable Number value) throws IOException {
+        if (value != null) {
+            out.name(name).value(value);
+        }
+    }
+
+    /**
+     * Writes a named field, unless the value is {@code null}.
+     *
+     * @param out the writer
+     * @param name the name of the field
+     * @param value the value of the field
+     * @throws IOException if the field could not be written
+     */
+    public static void writeField(JsonWriter out, String name, @Nullable Boolean value) throws IOException {
+        if (value != null) {
+            out.name(name).value(value);
+        }
+    }
+
+    /**
+     * Writes a named field with the given adapter, unless the value is {@code null}.
+     *
+     * @param out the writer
+     * @param name the name of the field
+     * @param adapter the adapter for the value
+     * @param value the value of the field
+     * @param <T> the type of the value
+     * @throws IOException if the field could not be written
+     */
+    public static <T> void writeField(JsonWriter out, String name, TypeAdapter<T> adapter, @Nullable T value) throws IOException {
+        if (value != null) {
+            out.name(name);
+            adapter.write(out, value);
+        }
+    }
+}
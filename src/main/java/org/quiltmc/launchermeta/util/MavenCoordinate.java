@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.util;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A Maven coordinate in the {@code group:artifact:version[:classifier][@extension]} form used by library names.
+ * <p>
+ * Recently parsed coordinates are shared, so parsing the same library name again is usually a single map lookup. The
+ * {@link #getModuleKey() module key} is interned as well, which makes grouping coordinates by {@code group:artifact},
+ * for example to find conflicting versions of a library, cheap. Both caches are bounded and only keep the most recently
+ * used entries, so parsing arbitrary names does not grow them without limit.
+ */
+public final class MavenCoordinate {
+    // Far more than the distinct libraries of every version in the manifest
+    private static final BoundedCache<String, MavenCoordinate> PARSED = new BoundedCache<>(8192);
+    private static final BoundedCache<String, String> MODULE_KEYS = new BoundedCache<>(4096);
+
+    private final String group;
+    private final String artifact;
+    private final String version;
+    @Nullable
+    private final String classifier;
+    private final String extension;
+    private final String moduleKey;
+    private final String path;
+
+    private MavenCoordinate(String group, String artifact, String version, @Nullable String classifier, String extension) {
+        this.group = group;
+        this.artifact = artifact;
+        this.version = version;
+        this.classifier = classifier;
+        this.extension = extension;
+
+        this.moduleKey = MODULE_KEYS.get(group + ":" + artifact, key -> key);
+
+        StringBuilder path = new StringBuilder(group.length() + artifact.length() * 2 + version.length() * 2 + 16);
+
+        for (int i = 0; i < group.length(); i++) {
+            char c = group.charAt(i);
+            path.append(c == '.' ? '/' : c);
+        }
+
+        path.append('/').append(artifact).append('/').append(version).append('/').append(artifact).append('-').append(version);
+
+        if (classifier != null) {
+            path.append('-').append(classifier);
+        }
+
+        this.path = path.append('.').append(extension).toString();
+    }
+
+    /**
+     *
+     * @param coordinate a coordinate like {@code org.lwjgl:lwjgl:3.3.1:natives-linux}
+     * @return the parsed coordinate
+     * @throws IllegalArgumentException if the coordinate does not have a group, artifact and version
+     */
+    public static MavenCoordinate parse(String coordinate) {
+        return PARSED.get(coordinate, MavenCoordinate::parseUncached);
+    }
+
+    /**
+     *
+     * @param group the group id
+     * @param artifact the artifact id
+     * @param version the version
+     * @param classifier the classifier, if any
+     * @param extension the file extension
+     * @return the coordinate
+     */
+    public static MavenCoordinate of(String group, String artifact, String version, @Nullable String classifier, String extension) {
+        return new MavenCoordinate(group, artifact, version, classifier, extension);
+    }
+
+    private static MavenCoordinate parseUncached(String coordinate) {
+        int at = coordinate.lastIndexOf('@');
+        int end = at < 0 ? coordinate.length() : at;
+        int[] colons = new int[3];
+        int count = 0;
+
+        for (int i = coordinate.indexOf(':'); i >= 0 && i < end; i = coordinate.indexOf(':', i + 1)) {
+            if (count == colons.length) {
+                throw new IllegalArgumentException("Invalid maven coordinate " + coordinate);
+            }
+
+            colons[count++] = i;
+        }
+
+        if (count < 2 || at == coordinate.length() - 1) {
+            throw new IllegalArgumentException("Invalid maven coordinate " + coordinate);
+        }
+
+        String group = coordinate.substring(0, colons[0]);
+        String artifact = coordinate.substring(colons[0] + 1, colons[1]);
+        String version = coordinate.substring(colons[1] + 1, count == 3 ? colons[2] : end);
+        String classifier = count == 3 ? coordinate.substring(colons[2] + 1, end) : null;
+
+        if (group.isEmpty() || artifact.isEmpty() || version.isEmpty() || (classifier != null && classifier.isEmpty())) {
+            throw new IllegalArgumentException("Invalid maven coordinate " + coordinate);
+        }
+
+        return new MavenCoordinate(group, artifact, version, classifier, at < 0 ? "jar" : coordinate.substring(at + 1));
+    }
+
+    /**
+     *
+     * @return the group id
+     */
+    public String getGroup() {
+        return group;
+    }
+
+    /**
+     *
+     * @return the artifact id
+     */
+    public String getArtifact() {
+        return artifact;
+    }
+
+    /**
+     *
+     * @return the version
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     *
+     * @return the classifier, if present
+     */
+    public Optional<String> getClassifier() {
+        return Optional.ofNullable(classifier);
+    }
+
+    /**
+     *
+     * @return the file extension, {@code jar} unless specified
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Module keys are interned in a bounded cache, so equal keys are usually the same instance.
+     *
+     * @return {@code group:artifact}, which identifies the library regardless of its version
+     */
+    public String getModuleKey() {
+        return moduleKey;
+    }
+
+    /**
+     *
+     * @return the path of the file in a Maven repository, like {@code org/lwjgl/lwjgl/3.3.1/lwjgl-3.3.1.jar}
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     *
+     * @param repository the base url of a Maven repository, with or without a trailing slash
+     * @return the url of the file in the repository
+     */
+    public String getUrl(String repository) {
+        return repository.endsWith("/") ? repository + path : repository + "/" + path;
+    }
+
+    /**
+     *
+     * @param classifier the classifier, or {@code null} for none
+     * @return this coordinate with the given classifier
+     */
+    public MavenCoordinate withClassifier(@Nullable String classifier) {
+        return Objects.equals(this.classifier, classifier) ? this : new MavenCoordinate(group, artifact, version, classifier, extension);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MavenCoordinate that = (MavenCoordinate) o;
+        return moduleKey.equals(that.moduleKey) && version.equals(that.version) && Objects.equals(classifier, that.classifier) && extension.equals(that.extension);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(moduleKey, version, classifier, extension);
+    }
+
+    @Override
+    public String toString() {
+        String coordinate = moduleKey + ":" + version + (classifier == null ? "" : ":" + classifier);
+        return extension.equals("jar") ? coordinate : coordinate + "@" + extension;
+    }
+}
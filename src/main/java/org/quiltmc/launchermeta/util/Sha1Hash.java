@@ -0,0 +1,317 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.util;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * A SHA-1 digest stored as 20 bytes of binary data instead of a 40 character hex string.
+ * <p>
+ * In json the digest is always represented by its lowercase hex string.
+ */
+@JsonAdapter(Sha1Hash.Adapter.class)
+public final class Sha1Hash implements Comparable<Sha1Hash> {
+    /**
+     * The length of a digest in bytes.
+     */
+    public static final int BYTES = 20;
+    /**
+     * The length of a digest as a hex string.
+     */
+    public static final int HEX_LENGTH = BYTES * 2;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final byte[] HEX_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(HEX_VALUES, (byte) -1);
+
+        for (int i = 0; i < 10; i++) {
+            HEX_VALUES['0' + i] = (byte) i;
+        }
+
+        for (int i = 0; i < 6; i++) {
+            HEX_VALUES['a' + i] = (byte) (10 + i);
+            HEX_VALUES['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    private final long high;
+    private final long middle;
+    private final int low;
+
+    private Sha1Hash(long high, long middle, int low) {
+        this.high = high;
+        this.middle = middle;
+        this.low = low;
+    }
+
+    /**
+     *
+     * @param high the first 8 bytes of the digest
+     * @param middle the next 8 bytes of the digest
+     * @param low the last 4 bytes of the digest
+     * @return the digest made of the given bits
+     */
+    public static Sha1Hash of(long high, long middle, int low) {
+        return new Sha1Hash(high, middle, low);
+    }
+
+    /**
+     *
+     * @param hex a 40 character hex string, in either case
+     * @return the parsed digest
+     * @throws IllegalArgumentException if the string is not a valid SHA-1 hex string
+     */
+    public static Sha1Hash fromHex(CharSequence hex) {
+        if (hex.length() != HEX_LENGTH) {
+            throw new IllegalArgumentException("Invalid SHA-1 length " + hex.length() + ": " + hex);
+        }
+
+        return new Sha1Hash(parseHex(hex, 0, 16), parseHex(hex, 16, 16), (int) parseHex(hex, 32, 8));
+    }
+
+    /**
+     *
+     * @param bytes the 20 bytes of a digest
+     * @return the digest
+     * @throws IllegalArgumentException if the array does not have 20 bytes
+     */
+    public static Sha1Hash fromBytes(byte[] bytes) {
+        if (bytes.length != BYTES) {
+            throw new IllegalArgumentException("Invalid SHA-1 length " + bytes.length);
+        }
+
+        return new Sha1Hash(readLong(bytes, 0, 8), readLong(bytes, 8, 8), (int) readLong(bytes, 16, 4));
+    }
+
+    /**
+     *
+     * @param digest a SHA-1 message digest, which is reset by this call
+     * @return the digest of everything the message digest was updated with
+     */
+    public static Sha1Hash fromDigest(MessageDigest digest) {
+        return fromBytes(digest.digest());
+    }
+
+    /**
+     *
+     * @return a new SHA-1 message digest
+     */
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-1
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     *
+     * @param hex any string
+     * @return whether the string is a valid SHA-1 hex string
+     */
+    public static boolean isValidHex(CharSequence hex) {
+        if (hex.length() != HEX_LENGTH) {
+            return false;
+        }
+
+        for (int i = 0; i < HEX_LENGTH; i++) {
+            char c = hex.charAt(i);
+
+            if (c >= 128 || HEX_VALUES[c] < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     *
+     * @return the first 8 bytes of the digest
+     */
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     *
+     * @return the bytes 8 to 15 of the digest
+     */
+    public long getMiddle() {
+        return middle;
+    }
+
+    /**
+     *
+     * @return the last 4 bytes of the digest
+     */
+    public int getLow() {
+        return low;
+    }
+
+    /**
+     *
+     * @return a new array with the 20 bytes of the digest
+     */
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[BYTES];
+        writeLong(bytes, 0, 8, high);
+        writeLong(bytes, 8, 8, middle);
+        writeLong(bytes, 16, 4, low);
+        return bytes;
+    }
+
+    /**
+     *
+     * @return the lowercase hex string of the digest
+     */
+    public String toHex() {
+        char[] chars = new char[HEX_LENGTH];
+        writeHex(chars, 0, 16, high);
+        writeHex(chars, 16, 16, middle);
+        writeHex(chars, 32, 8, low);
+        return new String(chars);
+    }
+
+    /**
+     *
+     * @param other any string
+     * @return whether the string is the hex string of this digest, in either case
+     */
+    public boolean matchesHex(CharSequence other) {
+        return isValidHex(other) && this.equals(fromHex(other));
+    }
+
+    @Override
+    public String toString() {
+        return toHex();
+    }
+
+    @Override
+    public int compareTo(Sha1Hash o) {
+        int result = Long.compareUnsigned(high, o.high);
+
+        if (result == 0) {
+            result = Long.compareUnsigned(middle, o.middle);
+        }
+
+        return result == 0 ? Integer.compareUnsigned(low, o.low) : result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Sha1Hash that = (Sha1Hash) o;
+        return high == that.high && middle == that.middle && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        // The digest is already uniformly distributed, so any of its bits make a good hash
+        return (int) high;
+    }
+
+    /**
+     * Parses part of a hex digest, for callers that keep the bits of many digests without a {@link Sha1Hash} for each.
+     *
+     * @param hex a hex string, in either case
+     * @param offset the index of the first character to parse
+     * @param length the number of characters to parse, at most 16
+     * @return the bits of the parsed characters
+     * @throws IllegalArgumentException if one of the characters is not a hex digit
+     */
+    public static long parseHex(CharSequence hex, int offset, int length) {
+        long value = 0;
+
+        for (int i = offset; i < offset + length; i++) {
+            char c = hex.charAt(i);
+            int digit = c < 128 ? HEX_VALUES[c] : -1;
+
+            if (digit < 0) {
+                throw new IllegalArgumentException("Invalid SHA-1 character '" + c + "': " + hex);
+            }
+
+            value = (value << 4) | digit;
+        }
+
+        return value;
+    }
+
+    private static void writeHex(char[] chars, int offset, int length, long value) {
+        for (int i = offset + length - 1; i >= offset; i--) {
+            chars[i] = HEX_DIGITS[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    private static long readLong(byte[] bytes, int offset, int length) {
+        long value = 0;
+
+        for (int i = offset; i < offset + length; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+
+        return value;
+    }
+
+    private static void writeLong(byte[] bytes, int offset, int length, long value) {
+        for (int i = offset + length - 1; i >= offset; i--) {
+            bytes[i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    static class Adapter extends TypeAdapter<Sha1Hash> {
+        @Override
+        public void write(JsonWriter out, Sha1Hash value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+            } else {
+                out.value(value.toHex());
+            }
+        }
+
+        @Override
+        public Sha1Hash read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            String hex = in.nextString();
+
+            try {
+                return fromHex(hex);
+            } catch (IllegalArgumentException e) {
+                throw new JsonSyntaxException(e.getMessage() + " at " + in.getPath(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Helpers for the classes that run blocking work, like fetching files, on many threads at once.
+ */
+public final class ThreadUtil {
+    @Nullable
+    private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutor();
+
+    private ThreadUtil() {
+    }
+
+    /**
+     * On Java 21 and later the executor runs every task on its own virtual thread, and callers are expected to bound
+     * the concurrency themselves. Otherwise a fixed pool of daemon threads is used.
+     *
+     * @param parallelism the number of threads of the fallback pool
+     * @param name the name of the threads of the fallback pool
+     * @return a new executor for blocking tasks
+     */
+    public static ExecutorService newBlockingExecutor(int parallelism, String name) {
+        if (NEW_VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException ignored) {
+                // Fall back to platform threads
+            }
+        }
+
+        return newDaemonPool(parallelism, name);
+    }
+
+    /**
+     *
+     * @param threads the number of threads of the pool
+     * @param name the name of the threads
+     * @return a new fixed thread pool whose threads do not keep the JVM alive
+     */
+    public static ExecutorService newDaemonPool(int threads, String name) {
+        return Executors.newFixedThreadPool(threads, daemonThreads(name));
+    }
+
+    /**
+     *
+     * @param name the name of the thread
+     * @return a new single threaded scheduler whose thread does not keep the JVM alive
+     */
+    public static ScheduledExecutorService newDaemonScheduler(String name) {
+        return Executors.newSingleThreadScheduledExecutor(daemonThreads(name));
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Nullable
+    private static Method findVirtualThreadExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
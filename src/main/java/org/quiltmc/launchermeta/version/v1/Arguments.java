@@ -15,21 +15,20 @@
  */
 package org.quiltmc.launchermeta.version.v1;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import org.quiltmc.launchermeta.util.JsonUtil;
 
 /**
  * Arguments for launching the game and JVM.
@@ -67,6 +66,52 @@ public class Arguments {
         return Objects.equals(game, arguments.game) && Objects.equals(jvm, arguments.jvm);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(game, jvm);
+    }
+
+    static class Adapter extends TypeAdapter<Arguments> {
+        private final TypeAdapter<List<Argument>> arguments;
+
+        Adapter(Gson gson) {
+            this.arguments = gson.getAdapter(new TypeToken<List<Argument>>() {
+            });
+        }
+
+        @Override
+        public void write(JsonWriter out, Arguments value) throws IOException {
+            out.beginObject();
+            JsonUtil.writeField(out, "game", arguments, value.game);
+            JsonUtil.writeField(out, "jvm", arguments, value.jvm);
+            out.endObject();
+        }
+
+        @Override
+        public Arguments read(JsonReader in) throws IOException {
+            List<Argument> game = null;
+            List<Argument> jvm = null;
+
+            in.beginObject();
+
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "game":
+                        game = arguments.read(in);
+                        break;
+                    case "jvm":
+                        jvm = arguments.read(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+
+            in.endObject();
+            return new Arguments(game, jvm);
+        }
+    }
+
     /**
      * A specific argument for launching.
      */
@@ -95,57 +140,92 @@ public class Arguments {
             return rules;
         }
 
-        static class Parser implements JsonDeserializer<Argument> {
-            @Override
-            public Argument deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
-                List<String> value;
-                List<Rule> rules = Collections.emptyList();
-
-                if (json.isJsonObject()) { // has rules
-                    JsonObject argument = json.getAsJsonObject();
-                    rules = context.deserialize(argument.get("rules"), new TypeToken<List<Rule>>() {
-                    }.getType());
-
-                    rules = rules == null ? Collections.emptyList() : rules;
-
-                    if (argument.get("value").isJsonArray()) {
-                        value = context.deserialize(argument.get("value"), new TypeToken<List<String>>() {
-                        }.getType());
-                    } else {
-                        value = Collections.singletonList(argument.get("value").getAsString());
-                    }
-                } else {
-                    value = Collections.singletonList(json.getAsString());
-                }
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Argument argument = (Argument) o;
+            return Objects.equals(value, argument.value) && Objects.equals(rules, argument.rules);
+        }
 
-                return new Argument(value, rules);
-            }
+        @Override
+        public int hashCode() {
+            return Objects.hash(value, rules);
         }
 
-        static class Serializer implements JsonSerializer<Argument> {
+        /**
+         * Reads arguments in both of their forms, a plain string or an object with a value and rules.
+         */
+        static class Adapter extends TypeAdapter<Argument> {
+            private final TypeAdapter<List<String>> values;
+            private final TypeAdapter<List<Rule>> rules;
+
+            Adapter(Gson gson) {
+                this.values = gson.getAdapter(new TypeToken<List<String>>() {
+                });
+                this.rules = gson.getAdapter(new TypeToken<List<Rule>>() {
+                });
+            }
+
             @Override
-            public JsonElement serialize(Argument argument, Type type, JsonSerializationContext context) {
+            public void write(JsonWriter out, Argument argument) throws IOException {
                 if (argument.value.size() == 1 && argument.rules.isEmpty()) {
-                    return new JsonPrimitive(argument.value.get(0));
+                    out.value(argument.value.get(0));
+                    return;
                 }
 
-                JsonObject json = new JsonObject();
+                out.beginObject();
+                out.name("value");
 
                 if (argument.value.size() == 1) {
-                    json.add("value", new JsonPrimitive(argument.value.get(0)));
+                    out.value(argument.value.get(0));
                 } else {
-                    JsonArray array = new JsonArray(argument.value.size());
-                    argument.value.forEach(array::add);
-                    json.add("value", array);
+                    values.write(out, argument.value);
                 }
 
                 if (!argument.rules.isEmpty()) {
-                    JsonArray array = new JsonArray(argument.rules.size());
-                    argument.rules.stream().map(rule -> context.serialize(rule, new TypeToken<Rule>(){}.getType())).forEach(array::add);
-                    json.add("rules", array);
+                    out.name("rules");
+                    rules.write(out, argument.rules);
+                }
+
+                out.endObject();
+            }
+
+            @Override
+            public Argument read(JsonReader in) throws IOException {
+                if (in.peek() != JsonToken.BEGIN_OBJECT) {
+                    return new Argument(Collections.singletonList(in.nextString()), Collections.emptyList());
+                }
+
+                List<String> value = null;
+                List<Rule> rules = null;
+
+                in.beginObject();
+
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "rules":
+                            rules = this.rules.read(in);
+                            break;
+                        case "value":
+                            if (in.peek() == JsonToken.BEGIN_ARRAY) {
+                                value = values.read(in);
+                            } else {
+                                value = Collections.singletonList(in.nextString());
+                            }
+                            break;
+                        default:
+                            in.skipValue();
+                    }
+                }
+
+                in.endObject();
+
+                if (value == null) {
+                    throw new JsonSyntaxException("Argument without a value at " + in.getPath());
                 }
 
-                return json;
+                return new Argument(value, rules == null ? Collections.emptyList() : rules);
             }
         }
     }
@@ -15,6 +15,11 @@
  */
 package org.quiltmc.launchermeta.version.v1;
 
+import org.jetbrains.annotations.Nullable;
+
+import org.quiltmc.launchermeta.util.CompactUrl;
+import org.quiltmc.launchermeta.util.Sha1Hash;
+
 /**
  * An {@link org.quiltmc.launchermeta.version.v1.DownloadableFile.IdDownload} that also includes the size of the all the assets in the index.
  */
@@ -26,6 +31,16 @@ public class AssetIndex extends DownloadableFile.IdDownload {
         this.totalSize = totalSize;
     }
 
+    public AssetIndex(Sha1Hash sha1, int size, CompactUrl url, String id, int totalSize) {
+        super(sha1, size, url, id);
+        this.totalSize = totalSize;
+    }
+
+    AssetIndex(@Nullable String sha1, int size, @Nullable CompactUrl url, String id, int totalSize) {
+        super(sha1, size, url, id);
+        this.totalSize = totalSize;
+    }
+
     /**
      *
      * @return the total size of the files within the index
@@ -42,4 +57,9 @@ public class AssetIndex extends DownloadableFile.IdDownload {
         AssetIndex that = (AssetIndex) o;
         return totalSize == that.totalSize;
     }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + totalSize;
+    }
 }
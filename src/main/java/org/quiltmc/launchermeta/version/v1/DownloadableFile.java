@@ -15,18 +15,56 @@
  */
 package org.quiltmc.launchermeta.version.v1;
 
+import java.io.IOException;
 import java.util.Objects;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.Nullable;
+
+import org.quiltmc.launchermeta.util.CompactUrl;
+import org.quiltmc.launchermeta.util.JsonUtil;
+import org.quiltmc.launchermeta.util.Sha1Hash;
+
 /**
  * Some downloadable file for the game
+ * <p>
+ * The SHA1 and url are stored in a compact form, see {@link Sha1Hash} and {@link CompactUrl}. The string getters build
+ * their result on first use and keep it. A SHA1 that is not a lowercase hex digest, as found in some third-party
+ * profiles, is kept as written and returned unchanged by {@link #getSha1()}; when it is not valid hex at all
+ * {@link #getSha1Hash()} returns {@code null}.
  */
 public class DownloadableFile {
-    private final String sha1;
+    @Nullable
+    private final Sha1Hash sha1;
+    /**
+     * The SHA1 as written, only kept when it differs from the hex form of {@link #sha1}.
+     */
+    @Nullable
+    private final String rawSha1;
     private final int size;
-    private final String url;
+    @Nullable
+    private final CompactUrl url;
+    @Nullable
+    private transient volatile String sha1Hex;
+    @Nullable
+    private transient volatile String urlString;
 
     public DownloadableFile(String sha1, int size, String url) {
+        this(sha1, size, compact(url));
+    }
+
+    public DownloadableFile(Sha1Hash sha1, int size, CompactUrl url) {
         this.sha1 = sha1;
+        this.rawSha1 = null;
+        this.size = size;
+        this.url = url;
+    }
+
+    DownloadableFile(@Nullable String sha1, int size, @Nullable CompactUrl url) {
+        this.sha1 = hash(sha1);
+        this.rawSha1 = raw(sha1, this.sha1);
         this.size = size;
         this.url = url;
     }
@@ -36,6 +74,25 @@ public class DownloadableFile {
      * @return the SHA1 of the file
      */
     public String getSha1() {
+        if (rawSha1 != null) {
+            return rawSha1;
+        }
+
+        String hex = this.sha1Hex;
+
+        if (hex == null && sha1 != null) {
+            hex = sha1.toHex();
+            this.sha1Hex = hex;
+        }
+
+        return hex;
+    }
+
+    /**
+     *
+     * @return the SHA1 of the file in binary form, or {@code null} if it is missing or not valid hex
+     */
+    public Sha1Hash getSha1Hash() {
         return sha1;
     }
 
@@ -52,6 +109,21 @@ public class DownloadableFile {
      * @return the url of the file
      */
     public String getUrl() {
+        String string = this.urlString;
+
+        if (string == null && url != null) {
+            string = url.toString();
+            this.urlString = string;
+        }
+
+        return string;
+    }
+
+    /**
+     *
+     * @return the url of the file split at its known prefix
+     */
+    public CompactUrl getCompactUrl() {
         return url;
     }
 
@@ -60,7 +132,40 @@ public class DownloadableFile {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         DownloadableFile download = (DownloadableFile) o;
-        return size == download.size && Objects.equals(sha1, download.sha1) && Objects.equals(url, download.url);
+        return size == download.size && Objects.equals(sha1, download.sha1) && Objects.equals(rawSha1, download.rawSha1) && Objects.equals(url, download.url);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sha1, rawSha1, size, url);
+    }
+
+    @Nullable
+    private static Sha1Hash hash(@Nullable String sha1) {
+        return sha1 == null || !Sha1Hash.isValidHex(sha1) ? null : Sha1Hash.fromHex(sha1);
+    }
+
+    @Nullable
+    private static String raw(@Nullable String sha1, @Nullable Sha1Hash hash) {
+        // Sha1Hash#toHex is lowercase, anything else has to be kept to round trip
+        return sha1 == null || hash != null && isLowerCase(sha1) ? null : sha1;
+    }
+
+    private static boolean isLowerCase(String hex) {
+        for (int i = 0; i < hex.length(); i++) {
+            char c = hex.charAt(i);
+
+            if (c >= 'A' && c <= 'F') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Nullable
+    private static CompactUrl compact(@Nullable String url) {
+        return url == null ? null : CompactUrl.of(url);
     }
 
     /**
@@ -74,6 +179,16 @@ public class DownloadableFile {
             this.path = path;
         }
 
+        public PathDownload(Sha1Hash sha1, int size, CompactUrl url, String path) {
+            super(sha1, size, url);
+            this.path = path;
+        }
+
+        PathDownload(@Nullable String sha1, int size, @Nullable CompactUrl url, String path) {
+            super(sha1, size, url);
+            this.path = path;
+        }
+
         /**
          *
          * @return the path to download the file to
@@ -90,6 +205,11 @@ public class DownloadableFile {
             PathDownload that = (PathDownload) o;
             return Objects.equals(path, that.path);
         }
+
+        @Override
+        public int hashCode() {
+            return 31 * super.hashCode() + Objects.hashCode(path);
+        }
     }
 
     /**
@@ -103,6 +223,16 @@ public class DownloadableFile {
             this.id = id;
         }
 
+        public IdDownload(Sha1Hash sha1, int size, CompactUrl url, String id) {
+            super(sha1, size, url);
+            this.id = id;
+        }
+
+        IdDownload(@Nullable String sha1, int size, @Nullable CompactUrl url, String id) {
+            super(sha1, size, url);
+            this.id = id;
+        }
+
         /**
          *
          * @return the id for this download
@@ -119,5 +249,92 @@ public class DownloadableFile {
             IdDownload that = (IdDownload) o;
             return Objects.equals(id, that.id);
         }
+
+        @Override
+        public int hashCode() {
+            return 31 * super.hashCode() + Objects.hashCode(id);
+        }
+    }
+
+    /**
+     * Reads and writes every kind of downloadable file, the subclasses only add a field or two.
+     */
+    static class Adapter<T extends DownloadableFile> extends TypeAdapter<T> {
+        private final Class<T> type;
+
+        Adapter(Class<T> type) {
+            this.type = type;
+        }
+
+        @Override
+        public void write(JsonWriter out, T value) throws IOException {
+            // Fields are written in the order Gson's reflective adapter used, most derived class first
+            out.beginObject();
+
+            if (value instanceof AssetIndex) {
+                JsonUtil.writeField(out, "totalSize", ((AssetIndex) value).getTotalSize());
+            }
+
+            if (value instanceof PathDownload) {
+                JsonUtil.writeField(out, "path", ((PathDownload) value).getPath());
+            } else if (value instanceof IdDownload) {
+                JsonUtil.writeField(out, "id", ((IdDownload) value).getId());
+            }
+
+            JsonUtil.writeField(out, "sha1", value.getSha1());
+            JsonUtil.writeField(out, "size", value.getSize());
+
+            JsonUtil.writeField(out, "url", value.getUrl());
+            out.endObject();
+        }
+
+        @Override
+        public T read(JsonReader in) throws IOException {
+            String sha1 = null;
+            int size = 0;
+            CompactUrl url = null;
+            String path = null;
+            String id = null;
+            int totalSize = 0;
+
+            in.beginObject();
+
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "sha1":
+                        sha1 = JsonUtil.nextString(in);
+                        break;
+                    case "size":
+                        size = in.nextInt();
+                        break;
+                    case "url":
+                        url = compact(JsonUtil.nextString(in));
+                        break;
+                    case "path":
+                        path = JsonUtil.nextString(in);
+                        break;
+                    case "id":
+                        id = JsonUtil.nextString(in);
+                        break;
+                    case "totalSize":
+                        totalSize = in.nextInt();
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+
+            in.endObject();
+
+            if (type == PathDownload.class) {
+                return type.cast(new PathDownload(sha1, size, url, path));
+            } else if (type == IdDownload.class) {
+                return type.cast(new IdDownload(sha1, size, url, id));
+            } else if (type == AssetIndex.class) {
+                return type.cast(new AssetIndex(sha1, size, url, id, totalSize));
+            }
+
+            return type.cast(new DownloadableFile(sha1, size, url));
+        }
     }
 }
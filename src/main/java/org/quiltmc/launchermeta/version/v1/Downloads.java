@@ -15,12 +15,19 @@
  */
 package org.quiltmc.launchermeta.version.v1;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import org.jetbrains.annotations.Nullable;
 
+import org.quiltmc.launchermeta.util.JsonUtil;
+
 /**
  * Different specific downloads for this game version.
  */
@@ -94,4 +101,64 @@ public class Downloads {
         Downloads downloads = (Downloads) o;
         return Objects.equals(client, downloads.client) && Objects.equals(clientMappings, downloads.clientMappings) && Objects.equals(server, downloads.server) && Objects.equals(serverMappings, downloads.serverMappings) && Objects.equals(windowsServer, downloads.windowsServer);
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(client, clientMappings, server, serverMappings, windowsServer);
+    }
+
+    static class Adapter extends TypeAdapter<Downloads> {
+        private final TypeAdapter<DownloadableFile> file;
+
+        Adapter(Gson gson) {
+            this.file = gson.getAdapter(DownloadableFile.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, Downloads value) throws IOException {
+            out.beginObject();
+            JsonUtil.writeField(out, "client", file, value.client);
+            JsonUtil.writeField(out, "client_mappings", file, value.clientMappings);
+            JsonUtil.writeField(out, "server", file, value.server);
+            JsonUtil.writeField(out, "server_mappings", file, value.serverMappings);
+            JsonUtil.writeField(out, "windows_server", file, value.windowsServer);
+            out.endObject();
+        }
+
+        @Override
+        public Downloads read(JsonReader in) throws IOException {
+            DownloadableFile client = null;
+            DownloadableFile clientMappings = null;
+            DownloadableFile server = null;
+            DownloadableFile serverMappings = null;
+            DownloadableFile windowsServer = null;
+
+            in.beginObject();
+
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "client":
+                        client = file.read(in);
+                        break;
+                    case "client_mappings":
+                        clientMappings = file.read(in);
+                        break;
+                    case "server":
+                        server = file.read(in);
+                        break;
+                    case "server_mappings":
+                        serverMappings = file.read(in);
+                        break;
+                    case "windows_server":
+                        windowsServer = file.read(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+
+            in.endObject();
+            return new Downloads(client, clientMappings, server, serverMappings, windowsServer);
+        }
+    }
 }
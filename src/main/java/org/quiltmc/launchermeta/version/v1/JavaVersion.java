@@ -15,11 +15,17 @@
  */
 package org.quiltmc.launchermeta.version.v1;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import org.jetbrains.annotations.Nullable;
 
+import org.quiltmc.launchermeta.util.JsonUtil;
+
 /**
  * Information about the Java runtime for the game.
  */
@@ -56,4 +62,43 @@ public class JavaVersion {
         JavaVersion that = (JavaVersion) o;
         return majorVersion == that.majorVersion && Objects.equals(component, that.component);
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(component, majorVersion);
+    }
+
+    static class Adapter extends TypeAdapter<JavaVersion> {
+        @Override
+        public void write(JsonWriter out, JavaVersion value) throws IOException {
+            out.beginObject();
+            JsonUtil.writeField(out, "component", value.component);
+            JsonUtil.writeField(out, "majorVersion", value.majorVersion);
+            out.endObject();
+        }
+
+        @Override
+        public JavaVersion read(JsonReader in) throws IOException {
+            String component = null;
+            int majorVersion = 0;
+
+            in.beginObject();
+
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "component":
+                        component = JsonUtil.nextString(in);
+                        break;
+                    case "majorVersion":
+                        majorVersion = in.nextInt();
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+
+            in.endObject();
+            return new JavaVersion(component, majorVersion);
+        }
+    }
 }
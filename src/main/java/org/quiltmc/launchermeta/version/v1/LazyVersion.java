@@ -0,0 +1,470 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.version.v1;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link Version} backed by its raw json, which only decodes the parts that are accessed.
+ * <p>
+ * Creating a lazy version scans the json once to find where each top-level field starts and ends, reading the plain
+ * string and number fields along the way. The object fields ({@link #getArguments()}, {@link #getAssetIndex()},
+ * {@link #getDownloads()}, {@link #getJavaVersion()}, {@link #getLibraries()} and {@link #getLogging()}) are only decoded
+ * the first time they are accessed and then cached. A lazy version is equal to the {@link Version} parsed from the same
+ * json.
+ */
+public class LazyVersion extends Version {
+    private static final Gson GSON = newGsonBuilder().create();
+    private static final TypeAdapter<Arguments> ARGUMENTS = GSON.getAdapter(Arguments.class);
+    private static final TypeAdapter<AssetIndex> ASSET_INDEX = GSON.getAdapter(AssetIndex.class);
+    private static final TypeAdapter<Downloads> DOWNLOADS = GSON.getAdapter(Downloads.class);
+    private static final TypeAdapter<JavaVersion> JAVA_VERSION = GSON.getAdapter(JavaVersion.class);
+    private static final TypeAdapter<List<Library>> LIBRARIES = GSON.getAdapter(new TypeToken<List<Library>>() {
+    });
+    private static final TypeAdapter<Logging> LOGGING = GSON.getAdapter(Logging.class);
+
+    private static final int FIELD_ARGUMENTS = 0;
+    private static final int FIELD_ASSET_INDEX = 1;
+    private static final int FIELD_DOWNLOADS = 2;
+    private static final int FIELD_JAVA_VERSION = 3;
+    private static final int FIELD_LIBRARIES = 4;
+    private static final int FIELD_LOGGING = 5;
+    private static final int FIELD_COUNT = 6;
+
+    private final byte[] json;
+    // Start and end offsets of the object fields, with -1 for missing fields
+    private final int[] offsets;
+
+    // Each field holds the decoded value once it was accessed, with an empty Optional for a missing value
+    @Nullable
+    private transient volatile Optional<Arguments> arguments;
+    @Nullable
+    private transient volatile Optional<AssetIndex> assetIndex;
+    @Nullable
+    private transient volatile Optional<Downloads> downloads;
+    @Nullable
+    private transient volatile Optional<JavaVersion> javaVersion;
+    @Nullable
+    private transient volatile Optional<List<Library>> libraries;
+    @Nullable
+    private transient volatile Optional<Logging> logging;
+
+    private LazyVersion(byte[] json, Scanner scanner) {
+        super(null, scanner.minecraftArguments, null, scanner.assets, scanner.complianceLevel, null, scanner.id, scanner.inheritsFrom, null, null, null, scanner.mainClass, scanner.minimumLauncherVersion, scanner.releaseTime, scanner.time, scanner.type);
+        this.json = json;
+        this.offsets = scanner.offsets;
+    }
+
+    /**
+     *
+     * @param json the version json, encoded as UTF-8, which must not be modified afterwards
+     * @return a lazy view of the version
+     * @throws JsonSyntaxException if the json is not a valid version json
+     */
+    public static LazyVersion fromBytes(byte[] json) {
+        Scanner scanner = new Scanner(json);
+        scanner.scan();
+        return new LazyVersion(json, scanner);
+    }
+
+    /**
+     *
+     * @param json the version json
+     * @return a lazy view of the version
+     * @throws JsonSyntaxException if the json is not a valid version json
+     */
+    public static LazyVersion fromString(String json) {
+        return fromBytes(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Optional<Arguments> getArguments() {
+        Optional<Arguments> arguments = this.arguments;
+
+        if (arguments == null) {
+            arguments = decode(FIELD_ARGUMENTS, ARGUMENTS);
+            this.arguments = arguments;
+        }
+
+        return arguments;
+    }
+
+    @Override
+    public AssetIndex getAssetIndex() {
+        Optional<AssetIndex> assetIndex = this.assetIndex;
+
+        if (assetIndex == null) {
+            assetIndex = decode(FIELD_ASSET_INDEX, ASSET_INDEX);
+            this.assetIndex = assetIndex;
+        }
+
+        return assetIndex.orElse(null);
+    }
+
+    @Override
+    public Downloads getDownloads() {
+        Optional<Downloads> downloads = this.downloads;
+
+        if (downloads == null) {
+            downloads = decode(FIELD_DOWNLOADS, DOWNLOADS);
+            this.downloads = downloads;
+        }
+
+        return downloads.orElse(null);
+    }
+
+    @Override
+    public Optional<JavaVersion> getJavaVersion() {
+        Optional<JavaVersion> javaVersion = this.javaVersion;
+
+        if (javaVersion == null) {
+            javaVersion = decode(FIELD_JAVA_VERSION, JAVA_VERSION);
+            this.javaVersion = javaVersion;
+        }
+
+        return javaVersion;
+    }
+
+    @Override
+    public List<Library> getLibraries() {
+        Optional<List<Library>> libraries = this.libraries;
+
+        if (libraries == null) {
+            libraries = decode(FIELD_LIBRARIES, LIBRARIES);
+            this.libraries = libraries;
+        }
+
+        return libraries.orElse(null);
+    }
+
+    @Override
+    public Optional<Logging> getLogging() {
+        Optional<Logging> logging = this.logging;
+
+        if (logging == null) {
+            logging = decode(FIELD_LOGGING, LOGGING);
+            this.logging = logging;
+        }
+
+        return logging;
+    }
+
+    private <T> Optional<T> decode(int field, TypeAdapter<T> adapter) {
+        int start = offsets[field * 2];
+
+        if (start < 0) {
+            return Optional.empty();
+        }
+
+        int end = offsets[field * 2 + 1];
+
+        try (JsonReader reader = new JsonReader(new InputStreamReader(new ByteArrayInputStream(json, start, end - start), StandardCharsets.UTF_8))) {
+            return Optional.ofNullable(adapter.read(reader));
+        } catch (IllegalStateException e) {
+            throw new JsonSyntaxException(e);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    /**
+     * Finds the top-level fields of a version json in a single pass, without building any nested values.
+     */
+    private static final class Scanner {
+        private final byte[] json;
+        private final int[] offsets = new int[FIELD_COUNT * 2];
+        private int position;
+
+        private String minecraftArguments;
+        private String assets;
+        private Integer complianceLevel;
+        private String id;
+        private String inheritsFrom;
+        private String mainClass;
+        private int minimumLauncherVersion;
+        private String releaseTime;
+        private String time;
+        private String type;
+
+        private Scanner(byte[] json) {
+            this.json = json;
+
+            for (int i = 0; i < offsets.length; i++) {
+                offsets[i] = -1;
+            }
+        }
+
+        private void scan() {
+            expect('{');
+            skipWhitespace();
+
+            if (position < json.length && json[position] == '}') {
+                return;
+            }
+
+            do {
+                skipWhitespace();
+                String name = readString();
+                expect(':');
+                skipWhitespace();
+
+                switch (name) {
+                    case "arguments":
+                        mark(FIELD_ARGUMENTS);
+                        break;
+                    case "assetIndex":
+                        mark(FIELD_ASSET_INDEX);
+                        break;
+                    case "downloads":
+                        mark(FIELD_DOWNLOADS);
+                        break;
+                    case "javaVersion":
+                        mark(FIELD_JAVA_VERSION);
+                        break;
+                    case "libraries":
+                        mark(FIELD_LIBRARIES);
+                        break;
+                    case "logging":
+                        mark(FIELD_LOGGING);
+                        break;
+                    case "minecraftArguments":
+                        minecraftArguments = readNullableString();
+                        break;
+                    case "assets":
+                        assets = readNullableString();
+                        break;
+                    case "complianceLevel":
+                        complianceLevel = readNullableInteger();
+                        break;
+                    case "id":
+                        id = readNullableString();
+                        break;
+                    case "inheritsFrom":
+                        inheritsFrom = readNullableString();
+                        break;
+                    case "mainClass":
+                        mainClass = readNullableString();
+                        break;
+                    case "minimumLauncherVersion":
+                        Integer version = readNullableInteger();
+                        minimumLauncherVersion = version == null ? 0 : version;
+                        break;
+                    case "releaseTime":
+                        releaseTime = readNullableString();
+                        break;
+                    case "time":
+                        time = readNullableString();
+                        break;
+                    case "type":
+                        type = readNullableString();
+                        break;
+                    default:
+                        skipValue();
+                }
+            } while (next(',', '}') == ',');
+        }
+
+        private void mark(int field) {
+            int start = position;
+            skipValue();
+
+            if (!isNull(start)) {
+                offsets[field * 2] = start;
+                offsets[field * 2 + 1] = position;
+            }
+        }
+
+        @Nullable
+        private String readNullableString() {
+            int start = position;
+            skipValue();
+
+            if (isNull(start)) {
+                return null;
+            }
+
+            position = start;
+            return readString();
+        }
+
+        @Nullable
+        private Integer readNullableInteger() {
+            int start = position;
+            skipValue();
+
+            if (isNull(start)) {
+                return null;
+            }
+
+            try {
+                return Integer.parseInt(new String(json, start, position - start, StandardCharsets.US_ASCII));
+            } catch (NumberFormatException e) {
+                throw new JsonSyntaxException("Expected an int at offset " + start, e);
+            }
+        }
+
+        private boolean isNull(int start) {
+            return position - start == 4 && json[start] == 'n' && json[start + 1] == 'u' && json[start + 2] == 'l' && json[start + 3] == 'l';
+        }
+
+        private String readString() {
+            int start = position;
+            skipString();
+
+            for (int i = start + 1; i < position - 1; i++) {
+                if (json[i] == '\\') {
+                    // Escapes are rare, so leave decoding them to Gson
+                    return JsonParser.parseReader(new InputStreamReader(new ByteArrayInputStream(json, start, position - start), StandardCharsets.UTF_8)).getAsString();
+                }
+            }
+
+            return new String(json, start + 1, position - start - 2, StandardCharsets.UTF_8);
+        }
+
+        private void skipString() {
+            if (position >= json.length || json[position] != '"') {
+                throw error("Expected a string");
+            }
+
+            position++;
+
+            while (position < json.length) {
+                byte b = json[position++];
+
+                if (b == '\\') {
+                    position++;
+                } else if (b == '"') {
+                    return;
+                }
+            }
+
+            throw error("Unterminated string");
+        }
+
+        private void skipValue() {
+            if (position >= json.length) {
+                throw error("Expected a value");
+            }
+
+            byte first = json[position];
+
+            if (first == '"') {
+                skipString();
+            } else if (first == '{' || first == '[') {
+                int depth = 0;
+
+                do {
+                    byte b = json[position];
+
+                    if (b == '"') {
+                        skipString();
+                        continue;
+                    }
+
+                    if (b == '{' || b == '[') {
+                        depth++;
+                    } else if (b == '}' || b == ']') {
+                        depth--;
+                    }
+
+                    position++;
+                } while (depth > 0 && position < json.length);
+
+                if (depth > 0) {
+                    throw error("Unterminated value");
+                }
+            } else {
+                int start = position;
+
+                while (position < json.length && !isDelimiter(json[position])) {
+                    position++;
+                }
+
+                if (position == start) {
+                    throw error("Expected a value");
+                }
+            }
+        }
+
+        private byte next(char first, char second) {
+            skipWhitespace();
+
+            if (position < json.length && (json[position] == first || json[position] == second)) {
+                return json[position++];
+            }
+
+            throw error("Expected '" + first + "' or '" + second + "'");
+        }
+
+        private void expect(char c) {
+            skipWhitespace();
+
+            if (position >= json.length || json[position] != c) {
+                throw error("Expected '" + c + "'");
+            }
+
+            position++;
+        }
+
+        private void skipWhitespace() {
+            while (position < json.length && (json[position] == ' ' || json[position] == '\n' || json[position] == '\r' || json[position] == '\t')) {
+                position++;
+            }
+        }
+
+        private static boolean isDelimiter(byte b) {
+            return b == ',' || b == '}' || b == ']' || b == ' ' || b == '\n' || b == '\r' || b == '\t';
+        }
+
+        private JsonSyntaxException error(String message) {
+            return new JsonSyntaxException(message + " at offset " + position);
+        }
+    }
+
+    static class Adapter extends TypeAdapter<LazyVersion> {
+        private final TypeAdapter<Version> version;
+
+        Adapter(Gson gson) {
+            this.version = gson.getAdapter(Version.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LazyVersion value) throws IOException {
+            version.write(out, value);
+        }
+
+        @Override
+        public LazyVersion read(JsonReader in) throws IOException {
+            // A reader does not give access to the raw json, so the value has to be copied
+            return fromString(JsonParser.parseReader(in).toString());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.version.v1;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+
+import org.quiltmc.launchermeta.util.BoundedCache;
+
+/**
+ * Converts the {@link Version#getMinecraftArguments()} string of versions from before 1.13 into {@link Arguments}.
+ * <p>
+ * The string is split on whitespace, except inside single or double quotes, which are removed. Inside double quotes a
+ * backslash escapes a following quote or backslash; everywhere else it is kept as is, so Windows paths survive. Legacy
+ * versions have no JVM arguments, as the launcher added them itself, so the ones the launcher used at the time are
+ * added as {@link #JVM}.
+ * <p>
+ * Most legacy versions share one of a handful of argument strings, so converted arguments are cached by string and
+ * shared between versions. The cache only keeps the most recently used strings, so converting arbitrary strings does
+ * not grow it without limit.
+ */
+public final class LegacyArguments {
+    /**
+     * The JVM arguments the launcher implicitly used for versions without {@link Version#getArguments()}.
+     */
+    public static final List<Arguments.Argument> JVM = Collections.unmodifiableList(Arrays.asList(
+            argument(Collections.singletonList("-XX:HeapDumpPath=MojangTricksIntelDriversForPerformance_javaw.exe_minecraft.exe.heapdump"), new Rule.OS("windows", null, null)),
+            argument(Arrays.asList("-Dos.name=Windows 10", "-Dos.version=10.0"), new Rule.OS("windows", "^10\\.", null)),
+            argument(Collections.singletonList("-XstartOnFirstThread"), new Rule.OS("osx", null, null)),
+            argument(Collections.singletonList("-Xss1M"), new Rule.OS(null, null, "x86")),
+            argument(Collections.singletonList("-Djava.library.path=${natives_directory}"), null),
+            argument(Collections.singletonList("-Dminecraft.launcher.brand=${launcher_name}"), null),
+            argument(Collections.singletonList("-Dminecraft.launcher.version=${launcher_version}"), null),
+            argument(Collections.singletonList("-cp"), null),
+            argument(Collections.singletonList("${classpath}"), null)
+    ));
+
+    private static final BoundedCache<String, Arguments> CONVERTED = new BoundedCache<>(256);
+
+    private LegacyArguments() {
+    }
+
+    /**
+     *
+     * @param minecraftArguments the legacy argument string
+     * @return the game arguments of the string, one per token, and the implicit {@link #JVM} arguments
+     */
+    public static Arguments convert(String minecraftArguments) {
+        return CONVERTED.get(minecraftArguments, LegacyArguments::convertUncached);
+    }
+
+    private static Arguments convertUncached(String minecraftArguments) {
+        List<String> tokens = tokenize(minecraftArguments);
+        List<Arguments.Argument> game = new ArrayList<>(tokens.size());
+
+        for (String token : tokens) {
+            game.add(argument(Collections.singletonList(token), null));
+        }
+
+        return new Arguments(Collections.unmodifiableList(game), JVM);
+    }
+
+    /**
+     *
+     * @param arguments a whitespace separated argument string
+     * @return the tokens of the string, with quotes removed
+     * @throws IllegalArgumentException if a quote is not closed
+     */
+    public static List<String> tokenize(String arguments) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        boolean inToken = false;
+        char quote = 0;
+
+        for (int i = 0; i < arguments.length(); i++) {
+            char c = arguments.charAt(i);
+
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                } else if (c == '\\' && quote == '"' && i + 1 < arguments.length() && (arguments.charAt(i + 1) == '"' || arguments.charAt(i + 1) == '\\')) {
+                    token.append(arguments.charAt(++i));
+                } else {
+                    token.append(c);
+                }
+            } else if (Character.isWhitespace(c)) {
+                if (inToken) {
+                    tokens.add(token.toString());
+                    token.setLength(0);
+                    inToken = false;
+                }
+            } else {
+                if (c == '"' || c == '\'') {
+                    quote = c;
+                } else {
+                    token.append(c);
+                }
+
+                inToken = true;
+            }
+        }
+
+        if (quote != 0) {
+            throw new IllegalArgumentException("Unclosed " + quote + " in arguments " + arguments);
+        }
+
+        if (inToken) {
+            tokens.add(token.toString());
+        }
+
+        return tokens;
+    }
+
+    private static Arguments.Argument argument(List<String> value, @Nullable Rule.OS os) {
+        List<Rule> rules = os == null ? Collections.emptyList() : Collections.singletonList(new Rule("allow", os, null));
+        return new Arguments.Argument(value, rules);
+    }
+}
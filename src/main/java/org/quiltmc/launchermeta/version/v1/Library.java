@@ -15,14 +15,24 @@
  */
 package org.quiltmc.launchermeta.version.v1;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import org.jetbrains.annotations.Nullable;
 
+import org.quiltmc.launchermeta.util.JsonUtil;
+import org.quiltmc.launchermeta.util.MavenCoordinate;
+
 /**
  * A library for the game.
  */
@@ -34,6 +44,8 @@ public class Library {
     @Nullable
     private final Extract extract;
     private final List<Rule> rules;
+    @Nullable
+    private transient volatile MavenCoordinate coordinate;
 
     public Library(LibraryDownloads downloads, String name, @Nullable Natives natives, @Nullable Extract extract, List<Rule> rules) {
         this.downloads = downloads;
@@ -75,6 +87,23 @@ public class Library {
         return Optional.ofNullable(extract);
     }
 
+    /**
+     * The coordinate is parsed on the first call and kept.
+     *
+     * @return the parsed name of the library
+     * @throws IllegalArgumentException if the name is not a valid maven coordinate
+     */
+    public MavenCoordinate getCoordinate() {
+        MavenCoordinate coordinate = this.coordinate;
+
+        if (coordinate == null) {
+            coordinate = MavenCoordinate.parse(name);
+            this.coordinate = coordinate;
+        }
+
+        return coordinate;
+    }
+
     /**
      *
      * @return the rules to enable the library
@@ -88,7 +117,74 @@ public class Library {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Library library = (Library) o;
-        return downloads.equals(library.downloads) && name.equals(library.name) && Objects.equals(natives, library.natives) && Objects.equals(extract, library.extract) && rules.equals(library.rules);
+        return Objects.equals(downloads, library.downloads) && name.equals(library.name) && Objects.equals(natives, library.natives) && Objects.equals(extract, library.extract) && getRules().equals(library.getRules());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(downloads, name, natives, extract, getRules());
+    }
+
+    static class Adapter extends TypeAdapter<Library> {
+        private final TypeAdapter<LibraryDownloads> downloads;
+        private final TypeAdapter<Natives> natives;
+        private final TypeAdapter<Extract> extract;
+        private final TypeAdapter<List<Rule>> rules;
+
+        Adapter(Gson gson) {
+            this.downloads = gson.getAdapter(LibraryDownloads.class);
+            this.natives = gson.getAdapter(Natives.class);
+            this.extract = gson.getAdapter(Extract.class);
+            this.rules = gson.getAdapter(new TypeToken<List<Rule>>() {
+            });
+        }
+
+        @Override
+        public void write(JsonWriter out, Library value) throws IOException {
+            out.beginObject();
+            JsonUtil.writeField(out, "downloads", downloads, value.downloads);
+            JsonUtil.writeField(out, "name", value.name);
+            JsonUtil.writeField(out, "natives", natives, value.natives);
+            JsonUtil.writeField(out, "extract", extract, value.extract);
+            JsonUtil.writeField(out, "rules", rules, value.rules);
+            out.endObject();
+        }
+
+        @Override
+        public Library read(JsonReader in) throws IOException {
+            LibraryDownloads downloads = null;
+            String name = null;
+            Natives natives = null;
+            Extract extract = null;
+            List<Rule> rules = null;
+
+            in.beginObject();
+
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "downloads":
+                        downloads = this.downloads.read(in);
+                        break;
+                    case "name":
+                        name = JsonUtil.nextString(in);
+                        break;
+                    case "natives":
+                        natives = this.natives.read(in);
+                        break;
+                    case "extract":
+                        extract = this.extract.read(in);
+                        break;
+                    case "rules":
+                        rules = this.rules.read(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+
+            in.endObject();
+            return new Library(downloads, name, natives, extract, rules);
+        }
     }
 
     /**
@@ -213,12 +309,140 @@ public class Library {
             return Optional.ofNullable(sources);
         }
 
+        /**
+         *
+         * @param classifier the name of the classifier, as in the json
+         * @return the file for the classifier, if present
+         */
+        public Optional<DownloadableFile.PathDownload> get(String classifier) {
+            switch (classifier) {
+                case "javadoc":
+                    return getJavadoc();
+                case "natives-linux":
+                    return getNativesLinux();
+                case "linux-x86_64":
+                    return getNativesLinux_x84_64();
+                case "natives-macos":
+                    return getNativesMacOS();
+                case "natives-osx":
+                    return getNativesOSX();
+                case "natives-windows":
+                    return getNativesWindows();
+                case "natives-windows-32":
+                    return getNativesWindows32();
+                case "natives-windows-64":
+                    return getNativesWindows64();
+                case "sources":
+                    return getSources();
+                default:
+                    return Optional.empty();
+            }
+        }
+
+        /**
+         *
+         * @return the files of every classifier present, in declaration order
+         */
+        public List<DownloadableFile.PathDownload> getFiles() {
+            List<DownloadableFile.PathDownload> files = new ArrayList<>(2);
+            getJavadoc().ifPresent(files::add);
+            getNativesLinux().ifPresent(files::add);
+            getNativesLinux_x84_64().ifPresent(files::add);
+            getNativesMacOS().ifPresent(files::add);
+            getNativesOSX().ifPresent(files::add);
+            getNativesWindows().ifPresent(files::add);
+            getNativesWindows32().ifPresent(files::add);
+            getNativesWindows64().ifPresent(files::add);
+            getSources().ifPresent(files::add);
+            return files;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             Classifiers that = (Classifiers) o;
-            return Objects.equals(javadoc, that.javadoc) && Objects.equals(nativesLinux, that.nativesLinux) && Objects.equals(nativesMacOS, that.nativesMacOS) && Objects.equals(nativesOSX, that.nativesOSX) && Objects.equals(nativesWindows, that.nativesWindows) && Objects.equals(sources, that.sources);
+            return Objects.equals(javadoc, that.javadoc) && Objects.equals(nativesLinux, that.nativesLinux) && Objects.equals(linux_x86_64, that.linux_x86_64) && Objects.equals(nativesMacOS, that.nativesMacOS) && Objects.equals(nativesOSX, that.nativesOSX) && Objects.equals(nativesWindows, that.nativesWindows) && Objects.equals(nativesWindows32, that.nativesWindows32) && Objects.equals(nativesWindows64, that.nativesWindows64) && Objects.equals(sources, that.sources);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(javadoc, nativesLinux, linux_x86_64, nativesMacOS, nativesOSX, nativesWindows, nativesWindows32, nativesWindows64, sources);
+        }
+
+        static class Adapter extends TypeAdapter<Classifiers> {
+            private final TypeAdapter<DownloadableFile.PathDownload> file;
+
+            Adapter(Gson gson) {
+                this.file = gson.getAdapter(DownloadableFile.PathDownload.class);
+            }
+
+            @Override
+            public void write(JsonWriter out, Classifiers value) throws IOException {
+                out.beginObject();
+                JsonUtil.writeField(out, "javadoc", file, value.javadoc);
+                JsonUtil.writeField(out, "natives-linux", file, value.nativesLinux);
+                JsonUtil.writeField(out, "linux-x86_64", file, value.linux_x86_64);
+                JsonUtil.writeField(out, "natives-macos", file, value.nativesMacOS);
+                JsonUtil.writeField(out, "natives-osx", file, value.nativesOSX);
+                JsonUtil.writeField(out, "natives-windows", file, value.nativesWindows);
+                JsonUtil.writeField(out, "natives-windows-32", file, value.nativesWindows32);
+                JsonUtil.writeField(out, "natives-windows-64", file, value.nativesWindows64);
+                JsonUtil.writeField(out, "sources", file, value.sources);
+                out.endObject();
+            }
+
+            @Override
+            public Classifiers read(JsonReader in) throws IOException {
+                DownloadableFile.PathDownload javadoc = null;
+                DownloadableFile.PathDownload nativesLinux = null;
+                DownloadableFile.PathDownload linux_x86_64 = null;
+                DownloadableFile.PathDownload nativesMacOS = null;
+                DownloadableFile.PathDownload nativesOSX = null;
+                DownloadableFile.PathDownload nativesWindows = null;
+                DownloadableFile.PathDownload nativesWindows32 = null;
+                DownloadableFile.PathDownload nativesWindows64 = null;
+                DownloadableFile.PathDownload sources = null;
+
+                in.beginObject();
+
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "javadoc":
+                            javadoc = file.read(in);
+                            break;
+                        case "natives-linux":
+                            nativesLinux = file.read(in);
+                            break;
+                        case "linux-x86_64":
+                            linux_x86_64 = file.read(in);
+                            break;
+                        case "natives-macos":
+                            nativesMacOS = file.read(in);
+                            break;
+                        case "natives-osx":
+                            nativesOSX = file.read(in);
+                            break;
+                        case "natives-windows":
+                            nativesWindows = file.read(in);
+                            break;
+                        case "natives-windows-32":
+                            nativesWindows32 = file.read(in);
+                            break;
+                        case "natives-windows-64":
+                            nativesWindows64 = file.read(in);
+                            break;
+                        case "sources":
+                            sources = file.read(in);
+                            break;
+                        default:
+                            in.skipValue();
+                    }
+                }
+
+                in.endObject();
+                return new Classifiers(javadoc, nativesLinux, linux_x86_64, nativesMacOS, nativesOSX, nativesWindows, nativesWindows32, nativesWindows64, sources);
+            }
         }
     }
 
@@ -263,6 +487,24 @@ public class Library {
             return Optional.ofNullable(windows);
         }
 
+        /**
+         *
+         * @param osName the name of the operating system, as used in rules
+         * @return the native classifier for the operating system, if present
+         */
+        public Optional<String> get(String osName) {
+            switch (osName) {
+                case "osx":
+                    return getOsx();
+                case "linux":
+                    return getLinux();
+                case "windows":
+                    return getWindows();
+                default:
+                    return Optional.empty();
+            }
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
@@ -270,6 +512,50 @@ public class Library {
             Natives natives = (Natives) o;
             return Objects.equals(osx, natives.osx) && Objects.equals(linux, natives.linux) && Objects.equals(windows, natives.windows);
         }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(osx, linux, windows);
+        }
+
+        static class Adapter extends TypeAdapter<Natives> {
+            @Override
+            public void write(JsonWriter out, Natives value) throws IOException {
+                out.beginObject();
+                JsonUtil.writeField(out, "osx", value.osx);
+                JsonUtil.writeField(out, "linux", value.linux);
+                JsonUtil.writeField(out, "windows", value.windows);
+                out.endObject();
+            }
+
+            @Override
+            public Natives read(JsonReader in) throws IOException {
+                String osx = null;
+                String linux = null;
+                String windows = null;
+
+                in.beginObject();
+
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "osx":
+                            osx = JsonUtil.nextString(in);
+                            break;
+                        case "linux":
+                            linux = JsonUtil.nextString(in);
+                            break;
+                        case "windows":
+                            windows = JsonUtil.nextString(in);
+                            break;
+                        default:
+                            in.skipValue();
+                    }
+                }
+
+                in.endObject();
+                return new Natives(osx, linux, windows);
+            }
+        }
     }
 
     /**
@@ -297,6 +583,45 @@ public class Library {
             Extract extract = (Extract) o;
             return Objects.equals(exclude, extract.exclude);
         }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(exclude);
+        }
+
+        static class Adapter extends TypeAdapter<Extract> {
+            private final TypeAdapter<List<String>> exclude;
+
+            Adapter(Gson gson) {
+                this.exclude = gson.getAdapter(new TypeToken<List<String>>() {
+                });
+            }
+
+            @Override
+            public void write(JsonWriter out, Extract value) throws IOException {
+                out.beginObject();
+                JsonUtil.writeField(out, "exclude", exclude, value.exclude);
+                out.endObject();
+            }
+
+            @Override
+            public Extract read(JsonReader in) throws IOException {
+                List<String> exclude = null;
+
+                in.beginObject();
+
+                while (in.hasNext()) {
+                    if (in.nextName().equals("exclude")) {
+                        exclude = this.exclude.read(in);
+                    } else {
+                        in.skipValue();
+                    }
+                }
+
+                in.endObject();
+                return new Extract(exclude);
+            }
+        }
     }
 
     /**
@@ -336,5 +661,52 @@ public class Library {
             LibraryDownloads downloads = (LibraryDownloads) o;
             return Objects.equals(artifact, downloads.artifact) && Objects.equals(classifiers, downloads.classifiers);
         }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(artifact, classifiers);
+        }
+
+        static class Adapter extends TypeAdapter<LibraryDownloads> {
+            private final TypeAdapter<DownloadableFile.PathDownload> artifact;
+            private final TypeAdapter<Classifiers> classifiers;
+
+            Adapter(Gson gson) {
+                this.artifact = gson.getAdapter(DownloadableFile.PathDownload.class);
+                this.classifiers = gson.getAdapter(Classifiers.class);
+            }
+
+            @Override
+            public void write(JsonWriter out, LibraryDownloads value) throws IOException {
+                out.beginObject();
+                JsonUtil.writeField(out, "artifact", artifact, value.artifact);
+                JsonUtil.writeField(out, "classifiers", classifiers, value.classifiers);
+                out.endObject();
+            }
+
+            @Override
+            public LibraryDownloads read(JsonReader in) throws IOException {
+                DownloadableFile.PathDownload artifact = null;
+                Classifiers classifiers = null;
+
+                in.beginObject();
+
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "artifact":
+                            artifact = this.artifact.read(in);
+                            break;
+                        case "classifiers":
+                            classifiers = this.classifiers.read(in);
+                            break;
+                        default:
+                            in.skipValue();
+                    }
+                }
+
+                in.endObject();
+                return new LibraryDownloads(artifact, classifiers);
+            }
+        }
     }
 }
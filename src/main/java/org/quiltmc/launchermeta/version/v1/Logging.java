@@ -15,8 +15,16 @@
  */
 package org.quiltmc.launchermeta.version.v1;
 
+import java.io.IOException;
 import java.util.Objects;
 
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import org.quiltmc.launchermeta.util.JsonUtil;
+
 /**
  * Information about the logging for the version
  */
@@ -43,6 +51,44 @@ public class Logging {
         return Objects.equals(client, logging.client);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(client);
+    }
+
+    static class Adapter extends TypeAdapter<Logging> {
+        private final TypeAdapter<LoggingInstance> instance;
+
+        Adapter(Gson gson) {
+            this.instance = gson.getAdapter(LoggingInstance.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, Logging value) throws IOException {
+            out.beginObject();
+            JsonUtil.writeField(out, "client", instance, value.client);
+            out.endObject();
+        }
+
+        @Override
+        public Logging read(JsonReader in) throws IOException {
+            LoggingInstance client = null;
+
+            in.beginObject();
+
+            while (in.hasNext()) {
+                if (in.nextName().equals("client")) {
+                    client = instance.read(in);
+                } else {
+                    in.skipValue();
+                }
+            }
+
+            in.endObject();
+            return new Logging(client);
+        }
+    }
+
     /**
      * Logging information for an environment.
      */
@@ -88,5 +134,55 @@ public class Logging {
             LoggingInstance that = (LoggingInstance) o;
             return Objects.equals(argument, that.argument) && Objects.equals(type, that.type) && Objects.equals(file, that.file);
         }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(argument, type, file);
+        }
+
+        static class Adapter extends TypeAdapter<LoggingInstance> {
+            private final TypeAdapter<DownloadableFile.IdDownload> file;
+
+            Adapter(Gson gson) {
+                this.file = gson.getAdapter(DownloadableFile.IdDownload.class);
+            }
+
+            @Override
+            public void write(JsonWriter out, LoggingInstance value) throws IOException {
+                out.beginObject();
+                JsonUtil.writeField(out, "argument", value.argument);
+                JsonUtil.writeField(out, "type", value.type);
+                JsonUtil.writeField(out, "file", file, value.file);
+                out.endObject();
+            }
+
+            @Override
+            public LoggingInstance read(JsonReader in) throws IOException {
+                String argument = null;
+                String type = null;
+                DownloadableFile.IdDownload file = null;
+
+                in.beginObject();
+
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "argument":
+                            argument = JsonUtil.nextString(in);
+                            break;
+                        case "type":
+                            type = JsonUtil.nextString(in);
+                            break;
+                        case "file":
+                            file = this.file.read(in);
+                            break;
+                        default:
+                            in.skipValue();
+                    }
+                }
+
+                in.endObject();
+                return new LoggingInstance(argument, type, file);
+            }
+        }
     }
 }
@@ -15,12 +15,19 @@
  */
 package org.quiltmc.launchermeta.version.v1;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import org.jetbrains.annotations.Nullable;
 
+import org.quiltmc.launchermeta.util.JsonUtil;
+
 /**
  * A rule for different optional features
  */
@@ -69,6 +76,58 @@ public class Rule {
         return Objects.equals(action, rule.action) && Objects.equals(os, rule.os) && Objects.equals(features, rule.features);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(action, os, features);
+    }
+
+    static class Adapter extends TypeAdapter<Rule> {
+        private final TypeAdapter<OS> os;
+        private final TypeAdapter<Features> features;
+
+        Adapter(Gson gson) {
+            this.os = gson.getAdapter(OS.class);
+            this.features = gson.getAdapter(Features.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, Rule value) throws IOException {
+            out.beginObject();
+            JsonUtil.writeField(out, "action", value.action);
+            JsonUtil.writeField(out, "os", os, value.os);
+            JsonUtil.writeField(out, "features", features, value.features);
+            out.endObject();
+        }
+
+        @Override
+        public Rule read(JsonReader in) throws IOException {
+            String action = null;
+            OS os = null;
+            Features features = null;
+
+            in.beginObject();
+
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "action":
+                        action = JsonUtil.nextString(in);
+                        break;
+                    case "os":
+                        os = this.os.read(in);
+                        break;
+                    case "features":
+                        features = this.features.read(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+
+            in.endObject();
+            return new Rule(action, os, features);
+        }
+    }
+
     /**
      * Rules for specific OS
      */
@@ -117,6 +176,50 @@ public class Rule {
             OS os = (OS) o;
             return Objects.equals(name, os.name) && Objects.equals(version, os.version) && Objects.equals(arch, os.arch);
         }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, version, arch);
+        }
+
+        static class Adapter extends TypeAdapter<OS> {
+            @Override
+            public void write(JsonWriter out, OS value) throws IOException {
+                out.beginObject();
+                JsonUtil.writeField(out, "name", value.name);
+                JsonUtil.writeField(out, "version", value.version);
+                JsonUtil.writeField(out, "arch", value.arch);
+                out.endObject();
+            }
+
+            @Override
+            public OS read(JsonReader in) throws IOException {
+                String name = null;
+                String version = null;
+                String arch = null;
+
+                in.beginObject();
+
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "name":
+                            name = JsonUtil.nextString(in);
+                            break;
+                        case "version":
+                            version = JsonUtil.nextString(in);
+                            break;
+                        case "arch":
+                            arch = JsonUtil.nextString(in);
+                            break;
+                        default:
+                            in.skipValue();
+                    }
+                }
+
+                in.endObject();
+                return new OS(name, version, arch);
+            }
+        }
     }
 
     /**
@@ -209,7 +312,66 @@ public class Rule {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             Features features = (Features) o;
-            return Objects.equals(isDemoUser, features.isDemoUser) && Objects.equals(hasCustomResolution, features.hasCustomResolution);
+            return Objects.equals(isDemoUser, features.isDemoUser) && Objects.equals(hasCustomResolution, features.hasCustomResolution) && Objects.equals(hasQuickPlaysSupport, features.hasQuickPlaysSupport) && Objects.equals(isQuickPlaySinglePlayer, features.isQuickPlaySinglePlayer) && Objects.equals(isQuickPlayMultiPlayer, features.isQuickPlayMultiPlayer) && Objects.equals(isQuickPlayRealms, features.isQuickPlayRealms);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(isDemoUser, hasCustomResolution, hasQuickPlaysSupport, isQuickPlaySinglePlayer, isQuickPlayMultiPlayer, isQuickPlayRealms);
+        }
+
+        static class Adapter extends TypeAdapter<Features> {
+            @Override
+            public void write(JsonWriter out, Features value) throws IOException {
+                out.beginObject();
+                JsonUtil.writeField(out, "is_demo_user", value.isDemoUser);
+                JsonUtil.writeField(out, "has_custom_resolution", value.hasCustomResolution);
+                JsonUtil.writeField(out, "has_quick_plays_support", value.hasQuickPlaysSupport);
+                JsonUtil.writeField(out, "is_quick_play_singleplayer", value.isQuickPlaySinglePlayer);
+                JsonUtil.writeField(out, "is_quick_play_multiplayer", value.isQuickPlayMultiPlayer);
+                JsonUtil.writeField(out, "is_quick_play_realms", value.isQuickPlayRealms);
+                out.endObject();
+            }
+
+            @Override
+            public Features read(JsonReader in) throws IOException {
+                Boolean isDemoUser = null;
+                Boolean hasCustomResolution = null;
+                Boolean hasQuickPlaysSupport = null;
+                Boolean isQuickPlaySinglePlayer = null;
+                Boolean isQuickPlayMultiPlayer = null;
+                Boolean isQuickPlayRealms = null;
+
+                in.beginObject();
+
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "is_demo_user":
+                            isDemoUser = JsonUtil.nextBoolean(in);
+                            break;
+                        case "has_custom_resolution":
+                            hasCustomResolution = JsonUtil.nextBoolean(in);
+                            break;
+                        case "has_quick_plays_support":
+                            hasQuickPlaysSupport = JsonUtil.nextBoolean(in);
+                            break;
+                        case "is_quick_play_singleplayer":
+                            isQuickPlaySinglePlayer = JsonUtil.nextBoolean(in);
+                            break;
+                        case "is_quick_play_multiplayer":
+                            isQuickPlayMultiPlayer = JsonUtil.nextBoolean(in);
+                            break;
+                        case "is_quick_play_realms":
+                            isQuickPlayRealms = JsonUtil.nextBoolean(in);
+                            break;
+                        default:
+                            in.skipValue();
+                    }
+                }
+
+                in.endObject();
+                return new Features(isDemoUser, hasCustomResolution, hasQuickPlaysSupport, isQuickPlaySinglePlayer, isQuickPlayMultiPlayer, isQuickPlayRealms);
+            }
         }
     }
 }
@@ -15,7 +15,9 @@
  */
 package org.quiltmc.launchermeta.version.v1;
 
+import java.io.IOException;
 import java.io.Reader;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -23,8 +25,14 @@ import java.util.Optional;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import org.jetbrains.annotations.Nullable;
 
+import org.quiltmc.launchermeta.util.JsonUtil;
+
 /**
  * Information about the game version.
  */
@@ -44,6 +52,8 @@ public class Version {
     private final Downloads downloads;
     private final String id;
     @Nullable
+    private final String inheritsFrom;
+    @Nullable
     private final JavaVersion javaVersion;
     private final List<Library> libraries;
     @Nullable
@@ -53,8 +63,18 @@ public class Version {
     private final String releaseTime;
     private final String time;
     private final String type;
+    @Nullable
+    private transient volatile Arguments normalizedArguments;
 
     public Version(@Nullable Arguments arguments, @Nullable String minecraftArguments, AssetIndex assetIndex, String assets, int complianceLevel, Downloads downloads, String id, @Nullable JavaVersion javaVersion, List<Library> libraries, @Nullable Logging logging, String mainClass, int minimumLauncherVersion, String releaseTime, String time, String type) {
+        this(arguments, minecraftArguments, assetIndex, assets, complianceLevel, downloads, id, null, javaVersion, libraries, logging, mainClass, minimumLauncherVersion, releaseTime, time, type);
+    }
+
+    /**
+     * Creates a version that may not have a compliance level, as is the case for older versions, and may inherit from
+     * another version, as is the case for mod loader profiles.
+     */
+    public Version(@Nullable Arguments arguments, @Nullable String minecraftArguments, AssetIndex assetIndex, String assets, @Nullable Integer complianceLevel, Downloads downloads, String id, @Nullable String inheritsFrom, @Nullable JavaVersion javaVersion, List<Library> libraries, @Nullable Logging logging, String mainClass, int minimumLauncherVersion, String releaseTime, String time, String type) {
         this.arguments = arguments;
         this.minecraftArguments = minecraftArguments;
         this.assetIndex = assetIndex;
@@ -62,6 +82,7 @@ public class Version {
         this.complianceLevel = complianceLevel;
         this.downloads = downloads;
         this.id = id;
+        this.inheritsFrom = inheritsFrom;
         this.javaVersion = javaVersion;
         this.libraries = libraries;
         this.logging = logging;
@@ -100,13 +121,24 @@ public class Version {
     }
 
     /**
+     * The returned builder reads and writes every class of the version model with hand-written streaming adapters
+     * instead of reflection.
      *
-     * @return a {@link GsonBuilder} with custom parserss
+     * @return a {@link GsonBuilder} with custom parsers
      */
     public static GsonBuilder newGsonBuilder() {
         return new GsonBuilder()
-                .registerTypeAdapter(Arguments.Argument.class, new Arguments.Argument.Parser())
-                .registerTypeAdapter(Arguments.Argument.class, new Arguments.Argument.Serializer());
+                .registerTypeAdapterFactory(new VersionTypeAdapterFactory());
+    }
+
+    /**
+     *
+     * @param interner the interner to share structurally equal parts of parsed versions with
+     * @return a {@link GsonBuilder} with custom parsers that intern through the given interner
+     */
+    public static GsonBuilder newGsonBuilder(VersionInterner interner) {
+        return newGsonBuilder()
+                .registerTypeAdapterFactory(interner);
     }
 
     /**
@@ -125,6 +157,36 @@ public class Version {
         return Optional.ofNullable(minecraftArguments);
     }
 
+    /**
+     * Versions without {@link #getArguments()} have their {@link #getMinecraftArguments()} converted by
+     * {@link LegacyArguments}, and a side missing from the arguments, such as the JVM arguments of a profile that only
+     * adds game arguments, is empty. The result is computed once and kept with the version.
+     *
+     * @return the arguments of the version, in the modern format regardless of the format of the json, with both the
+     * game and JVM arguments present
+     */
+    public Arguments getNormalizedArguments() {
+        Arguments normalized = this.normalizedArguments;
+
+        if (normalized == null) {
+            normalized = getArguments().map(Version::withBothSides).orElseGet(() -> LegacyArguments.convert(getMinecraftArguments().orElse("")));
+            this.normalizedArguments = normalized;
+        }
+
+        return normalized;
+    }
+
+    private static Arguments withBothSides(Arguments arguments) {
+        List<Arguments.Argument> game = arguments.getGame();
+        List<Arguments.Argument> jvm = arguments.getJvm();
+
+        if (game != null && jvm != null) {
+            return arguments;
+        }
+
+        return new Arguments(game == null ? Collections.emptyList() : game, jvm == null ? Collections.emptyList() : jvm);
+    }
+
     /**
      *
      * @return the asset index for the game
@@ -165,6 +227,14 @@ public class Version {
         return id;
     }
 
+    /**
+     *
+     * @return the id of the version this version inherits from, if present
+     */
+    public Optional<String> getInheritsFrom() {
+        return Optional.ofNullable(inheritsFrom);
+    }
+
     /**
      *
      * @return the java version for the game
@@ -233,8 +303,134 @@ public class Version {
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        if (!(o instanceof Version)) return false;
         Version version = (Version) o;
-        return Objects.equals(complianceLevel, version.complianceLevel) && minimumLauncherVersion == version.minimumLauncherVersion && Objects.equals(arguments, version.arguments) && Objects.equals(minecraftArguments, version.minecraftArguments) && Objects.equals(assetIndex, version.assetIndex) && Objects.equals(assets, version.assets) && Objects.equals(downloads, version.downloads) && Objects.equals(id, version.id) && Objects.equals(javaVersion, version.javaVersion) && Objects.equals(libraries, version.libraries) && Objects.equals(logging, version.logging) && Objects.equals(mainClass, version.mainClass) && Objects.equals(releaseTime, version.releaseTime) && Objects.equals(time, version.time) && Objects.equals(type, version.type);
+        return getMinimumLauncherVersion() == version.getMinimumLauncherVersion() && getComplianceLevel().equals(version.getComplianceLevel()) && getArguments().equals(version.getArguments()) && getMinecraftArguments().equals(version.getMinecraftArguments()) && Objects.equals(getAssetIndex(), version.getAssetIndex()) && Objects.equals(getAssets(), version.getAssets()) && Objects.equals(getDownloads(), version.getDownloads()) && Objects.equals(getId(), version.getId()) && getInheritsFrom().equals(version.getInheritsFrom()) && getJavaVersion().equals(version.getJavaVersion()) && Objects.equals(getLibraries(), version.getLibraries()) && getLogging().equals(version.getLogging()) && Objects.equals(getMainClass(), version.getMainClass()) && Objects.equals(getReleaseTime(), version.getReleaseTime()) && Objects.equals(getTime(), version.getTime()) && Objects.equals(getType(), version.getType());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getArguments().orElse(null), getMinecraftArguments().orElse(null), getAssetIndex(), getAssets(), getComplianceLevel().orElse(null), getDownloads(), getId(), getInheritsFrom().orElse(null), getJavaVersion().orElse(null), getLibraries(), getLogging().orElse(null), getMainClass(), getMinimumLauncherVersion(), getReleaseTime(), getTime(), getType());
+    }
+
+    static class Adapter extends TypeAdapter<Version> {
+        private final TypeAdapter<Arguments> arguments;
+        private final TypeAdapter<AssetIndex> assetIndex;
+        private final TypeAdapter<Downloads> downloads;
+        private final TypeAdapter<JavaVersion> javaVersion;
+        private final TypeAdapter<List<Library>> libraries;
+        private final TypeAdapter<Logging> logging;
+
+        Adapter(Gson gson) {
+            this.arguments = gson.getAdapter(Arguments.class);
+            this.assetIndex = gson.getAdapter(AssetIndex.class);
+            this.downloads = gson.getAdapter(Downloads.class);
+            this.javaVersion = gson.getAdapter(JavaVersion.class);
+            this.libraries = gson.getAdapter(new TypeToken<List<Library>>() {
+            });
+            this.logging = gson.getAdapter(Logging.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, Version value) throws IOException {
+            out.beginObject();
+            JsonUtil.writeField(out, "arguments", arguments, value.getArguments().orElse(null));
+            JsonUtil.writeField(out, "minecraftArguments", value.getMinecraftArguments().orElse(null));
+            JsonUtil.writeField(out, "assetIndex", assetIndex, value.getAssetIndex());
+            JsonUtil.writeField(out, "assets", value.getAssets());
+            JsonUtil.writeField(out, "complianceLevel", value.getComplianceLevel().orElse(null));
+            JsonUtil.writeField(out, "downloads", downloads, value.getDownloads());
+            JsonUtil.writeField(out, "id", value.getId());
+            JsonUtil.writeField(out, "inheritsFrom", value.getInheritsFrom().orElse(null));
+            JsonUtil.writeField(out, "javaVersion", javaVersion, value.getJavaVersion().orElse(null));
+            JsonUtil.writeField(out, "libraries", libraries, value.getLibraries());
+            JsonUtil.writeField(out, "logging", logging, value.getLogging().orElse(null));
+            JsonUtil.writeField(out, "mainClass", value.getMainClass());
+            JsonUtil.writeField(out, "minimumLauncherVersion", value.getMinimumLauncherVersion());
+            JsonUtil.writeField(out, "releaseTime", value.getReleaseTime());
+            JsonUtil.writeField(out, "time", value.getTime());
+            JsonUtil.writeField(out, "type", value.getType());
+            out.endObject();
+        }
+
+        @Override
+        public Version read(JsonReader in) throws IOException {
+            Arguments arguments = null;
+            String minecraftArguments = null;
+            AssetIndex assetIndex = null;
+            String assets = null;
+            Integer complianceLevel = null;
+            Downloads downloads = null;
+            String id = null;
+            String inheritsFrom = null;
+            JavaVersion javaVersion = null;
+            List<Library> libraries = null;
+            Logging logging = null;
+            String mainClass = null;
+            int minimumLauncherVersion = 0;
+            String releaseTime = null;
+            String time = null;
+            String type = null;
+
+            in.beginObject();
+
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "arguments":
+                        arguments = this.arguments.read(in);
+                        break;
+                    case "minecraftArguments":
+                        minecraftArguments = JsonUtil.nextString(in);
+                        break;
+                    case "assetIndex":
+                        assetIndex = this.assetIndex.read(in);
+                        break;
+                    case "assets":
+                        assets = JsonUtil.nextString(in);
+                        break;
+                    case "complianceLevel":
+                        complianceLevel = JsonUtil.nextInteger(in);
+                        break;
+                    case "downloads":
+                        downloads = this.downloads.read(in);
+                        break;
+                    case "id":
+                        id = JsonUtil.nextString(in);
+                        break;
+                    case "inheritsFrom":
+                        inheritsFrom = JsonUtil.nextString(in);
+                        break;
+                    case "javaVersion":
+                        javaVersion = this.javaVersion.read(in);
+                        break;
+                    case "libraries":
+                        libraries = this.libraries.read(in);
+                        break;
+                    case "logging":
+                        logging = this.logging.read(in);
+                        break;
+                    case "mainClass":
+                        mainClass = JsonUtil.nextString(in);
+                        break;
+                    case "minimumLauncherVersion":
+                        minimumLauncherVersion = in.nextInt();
+                        break;
+                    case "releaseTime":
+                        releaseTime = JsonUtil.nextString(in);
+                        break;
+                    case "time":
+                        time = JsonUtil.nextString(in);
+                        break;
+                    case "type":
+                        type = JsonUtil.nextString(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+
+            in.endObject();
+            return new Version(arguments, minecraftArguments, assetIndex, assets, complianceLevel, downloads, id, inheritsFrom, javaVersion, libraries, logging, mainClass, minimumLauncherVersion, releaseTime, time, type);
+        }
     }
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.version.v1;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Canonicalizes structurally equal parts of parsed versions, so that many {@link Version}s held in memory share one
+ * instance of each repeated {@link Library}, {@link Rule}, {@link Rule.OS}, {@link Rule.Features},
+ * {@link DownloadableFile.PathDownload}, {@link Arguments.Argument} and list of rules.
+ * <p>
+ * An interner keeps every canonical instance it has seen until it is cleared, so it should be scoped to the set of
+ * versions that are kept in memory together. It is safe to use from several threads. Interned lists of rules are
+ * unmodifiable, since they are shared by every version that has them.
+ */
+public class VersionInterner implements TypeAdapterFactory {
+    private static final Type RULE_LIST = new TypeToken<List<Rule>>() {
+    }.getType();
+
+    private final ConcurrentMap<Object, Object> canonical = new ConcurrentHashMap<>();
+    @Nullable
+    private volatile Gson gson;
+
+    /**
+     *
+     * @param value the value to intern
+     * @param <T> the type of the value
+     * @return the canonical instance equal to the value, which is the value itself if it was not seen before
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T intern(T value) {
+        if (value == null) {
+            return null;
+        }
+
+        Object existing = canonical.putIfAbsent(value, value);
+        return existing == null ? value : (T) existing;
+    }
+
+    /**
+     *
+     * @return the number of canonical instances held by the interner
+     */
+    public int size() {
+        return canonical.size();
+    }
+
+    /**
+     * Forgets every canonical instance. Objects already parsed keep sharing the instances they were given.
+     */
+    public void clear() {
+        canonical.clear();
+    }
+
+    /**
+     *
+     * @param reader a reader for the json
+     * @return a parsed {@link Version} whose parts are interned by this interner
+     */
+    public Version fromReader(Reader reader) {
+        return getGson().fromJson(reader, Version.class);
+    }
+
+    /**
+     *
+     * @param json the json string
+     * @return a parsed {@link Version} whose parts are interned by this interner
+     */
+    public Version fromString(String json) {
+        return getGson().fromJson(json, Version.class);
+    }
+
+    @Override
+    @Nullable
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        if (!isInterned(type.getType())) {
+            return null;
+        }
+
+        TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+        boolean list = RULE_LIST.equals(type.getType());
+
+        return new TypeAdapter<T>() {
+            @Override
+            public void write(JsonWriter out, T value) throws IOException {
+                delegate.write(out, value);
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T read(JsonReader in) throws IOException {
+                T value = delegate.read(in);
+
+                // A shared list must not be changed through one of the versions holding it, and it is used as a key
+                if (list && value != null) {
+                    value = (T) Collections.unmodifiableList((List<?>) value);
+                }
+
+                return intern(value);
+            }
+        };
+    }
+
+    private Gson getGson() {
+        Gson gson = this.gson;
+
+        if (gson == null) {
+            gson = Version.newGsonBuilder(this).create();
+            this.gson = gson;
+        }
+
+        return gson;
+    }
+
+    private static boolean isInterned(Type type) {
+        return RULE_LIST.equals(type) || type == Library.class || type == Rule.class || type == Rule.OS.class || type == Rule.Features.class || type == DownloadableFile.PathDownload.class || type == Arguments.Argument.class;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.version.v1;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Provides the hand-written adapters for every class of the version model. Nested values are looked up through the
+ * {@link Gson} instance, so factories registered with a higher priority, such as a {@link VersionInterner}, still see
+ * every object that is read.
+ */
+class VersionTypeAdapterFactory implements TypeAdapterFactory {
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> raw = type.getRawType();
+        TypeAdapter<?> adapter;
+
+        if (raw == Version.class) {
+            adapter = new Version.Adapter(gson);
+        } else if (raw == LazyVersion.class) {
+            adapter = new LazyVersion.Adapter(gson);
+        } else if (raw == Arguments.class) {
+            adapter = new Arguments.Adapter(gson);
+        } else if (raw == Arguments.Argument.class) {
+            adapter = new Arguments.Argument.Adapter(gson);
+        } else if (raw == Library.class) {
+            adapter = new Library.Adapter(gson);
+        } else if (raw == Library.LibraryDownloads.class) {
+            adapter = new Library.LibraryDownloads.Adapter(gson);
+        } else if (raw == Library.Classifiers.class) {
+            adapter = new Library.Classifiers.Adapter(gson);
+        } else if (raw == Library.Natives.class) {
+            adapter = new Library.Natives.Adapter();
+        } else if (raw == Library.Extract.class) {
+            adapter = new Library.Extract.Adapter(gson);
+        } else if (raw == Rule.class) {
+            adapter = new Rule.Adapter(gson);
+        } else if (raw == Rule.OS.class) {
+            adapter = new Rule.OS.Adapter();
+        } else if (raw == Rule.Features.class) {
+            adapter = new Rule.Features.Adapter();
+        } else if (raw == Downloads.class) {
+            adapter = new Downloads.Adapter(gson);
+        } else if (raw == DownloadableFile.class || raw == DownloadableFile.PathDownload.class || raw == DownloadableFile.IdDownload.class || raw == AssetIndex.class) {
+            adapter = new DownloadableFile.Adapter<>((Class<? extends DownloadableFile>) raw);
+        } else if (raw == JavaVersion.class) {
+            adapter = new JavaVersion.Adapter();
+        } else if (raw == Logging.class) {
+            adapter = new Logging.Adapter(gson);
+        } else if (raw == Logging.LoggingInstance.class) {
+            adapter = new Logging.LoggingInstance.Adapter(gson);
+        } else {
+            return null;
+        }
+
+        return (TypeAdapter<T>) adapter.nullSafe();
+    }
+}
@@ -15,6 +15,15 @@
  */
 package org.quiltmc.launchermeta.version_manifest;
 
+import java.io.IOException;
+import java.util.Objects;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import org.quiltmc.launchermeta.util.JsonUtil;
+
 /**
  * The latest versions for the game.
  */
@@ -50,4 +59,43 @@ public class LatestVersions {
         LatestVersions that = (LatestVersions) o;
         return release.equals(that.release) && snapshot.equals(that.snapshot);
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(release, snapshot);
+    }
+
+    static class Adapter extends TypeAdapter<LatestVersions> {
+        @Override
+        public void write(JsonWriter out, LatestVersions value) throws IOException {
+            out.beginObject();
+            JsonUtil.writeField(out, "release", value.release);
+            JsonUtil.writeField(out, "snapshot", value.snapshot);
+            out.endObject();
+        }
+
+        @Override
+        public LatestVersions read(JsonReader in) throws IOException {
+            String release = null;
+            String snapshot = null;
+
+            in.beginObject();
+
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "release":
+                        release = JsonUtil.nextString(in);
+                        break;
+                    case "snapshot":
+                        snapshot = JsonUtil.nextString(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+
+            in.endObject();
+            return new LatestVersions(release, snapshot);
+        }
+    }
 }
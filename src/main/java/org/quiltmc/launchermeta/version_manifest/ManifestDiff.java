@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.version_manifest;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The differences between two {@link VersionManifest}s, with entries matched by id.
+ * <p>
+ * An entry that is in both manifests has changed when its sha1 changed, or, if either entry has no sha1, when any of
+ * its fields changed. The diff is computed in a single pass over the current manifest, looking up each entry in the
+ * {@link VersionManifest#getIndex() index} of the previous one.
+ */
+public final class ManifestDiff {
+    private final VersionManifest previous;
+    private final VersionManifest current;
+    private final List<VersionEntry> added;
+    private final List<VersionEntry> removed;
+    private final List<Change> changed;
+    private final boolean latestReleaseMoved;
+    private final boolean latestSnapshotMoved;
+
+    private ManifestDiff(VersionManifest previous, VersionManifest current, List<VersionEntry> added, List<VersionEntry> removed, List<Change> changed) {
+        LatestVersions previousLatest = previous.getLatestVersions();
+        LatestVersions currentLatest = current.getLatestVersions();
+        this.previous = previous;
+        this.current = current;
+        this.added = Collections.unmodifiableList(added);
+        this.removed = Collections.unmodifiableList(removed);
+        this.changed = Collections.unmodifiableList(changed);
+        this.latestReleaseMoved = !Objects.equals(previousLatest == null ? null : previousLatest.getRelease(), currentLatest == null ? null : currentLatest.getRelease());
+        this.latestSnapshotMoved = !Objects.equals(previousLatest == null ? null : previousLatest.getSnapshot(), currentLatest == null ? null : currentLatest.getSnapshot());
+    }
+
+    /**
+     *
+     * @param previous the older manifest
+     * @param current the newer manifest
+     * @return the differences from the older to the newer manifest
+     */
+    public static ManifestDiff between(VersionManifest previous, VersionManifest current) {
+        VersionManifestIndex index = previous.getIndex();
+        BitSet matched = new BitSet(index.size());
+        List<VersionEntry> added = new ArrayList<>();
+        List<Change> changed = new ArrayList<>();
+
+        for (VersionEntry entry : current.getVersions()) {
+            int ordinal = index.indexOf(entry.getId());
+
+            if (ordinal < 0) {
+                added.add(entry);
+                continue;
+            }
+
+            matched.set(ordinal);
+            VersionEntry old = index.get(ordinal);
+
+            if (isChanged(old, entry)) {
+                changed.add(new Change(old, entry));
+            }
+        }
+
+        List<VersionEntry> removed = new ArrayList<>(index.size() - matched.cardinality());
+
+        for (int ordinal = matched.nextClearBit(0); ordinal < index.size(); ordinal = matched.nextClearBit(ordinal + 1)) {
+            removed.add(index.get(ordinal));
+        }
+
+        return new ManifestDiff(previous, current, added, removed, changed);
+    }
+
+    private static boolean isChanged(VersionEntry previous, VersionEntry current) {
+        if (previous.getSha1().isPresent() && current.getSha1().isPresent()) {
+            return !previous.getSha1().get().equals(current.getSha1().get());
+        }
+
+        return !previous.equals(current);
+    }
+
+    /**
+     *
+     * @return the older manifest
+     */
+    public VersionManifest getPrevious() {
+        return previous;
+    }
+
+    /**
+     *
+     * @return the newer manifest
+     */
+    public VersionManifest getCurrent() {
+        return current;
+    }
+
+    /**
+     *
+     * @return the entries that are only in the newer manifest, in its order
+     */
+    public List<VersionEntry> getAdded() {
+        return added;
+    }
+
+    /**
+     *
+     * @return the entries that are only in the older manifest, in its order
+     */
+    public List<VersionEntry> getRemoved() {
+        return removed;
+    }
+
+    /**
+     *
+     * @return the entries that are in both manifests but changed, in the order of the newer manifest
+     */
+    public List<Change> getChanged() {
+        return changed;
+    }
+
+    /**
+     *
+     * @return the ids of every added, removed or changed entry
+     */
+    public Set<String> getAffectedIds() {
+        Set<String> ids = new LinkedHashSet<>();
+
+        for (VersionEntry entry : added) {
+            ids.add(entry.getId());
+        }
+
+        for (VersionEntry entry : removed) {
+            ids.add(entry.getId());
+        }
+
+        for (Change change : changed) {
+            ids.add(change.getCurrent().getId());
+        }
+
+        return ids;
+    }
+
+    /**
+     *
+     * @return whether the latest release is different in the newer manifest
+     */
+    public boolean isLatestReleaseMoved() {
+        return latestReleaseMoved;
+    }
+
+    /**
+     *
+     * @return whether the latest snapshot is different in the newer manifest
+     */
+    public boolean isLatestSnapshotMoved() {
+        return latestSnapshotMoved;
+    }
+
+    /**
+     *
+     * @return whether the manifests have the same entries and latest versions
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && changed.isEmpty() && !latestReleaseMoved && !latestSnapshotMoved;
+    }
+
+    @Override
+    public String toString() {
+        return "ManifestDiff{added=" + added.size() + ", removed=" + removed.size() + ", changed=" + changed.size() + "}";
+    }
+
+    /**
+     * An entry that is in both manifests, but changed.
+     */
+    public static final class Change {
+        private final VersionEntry previous;
+        private final VersionEntry current;
+
+        Change(VersionEntry previous, VersionEntry current) {
+            this.previous = previous;
+            this.current = current;
+        }
+
+        /**
+         *
+         * @return the entry in the older manifest
+         */
+        public VersionEntry getPrevious() {
+            return previous;
+        }
+
+        /**
+         *
+         * @return the entry in the newer manifest
+         */
+        public VersionEntry getCurrent() {
+            return current;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Change change = (Change) o;
+            return previous.equals(change.previous) && current.equals(change.current);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(previous, current);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.version_manifest;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Provides the hand-written adapters for every class of the manifest model.
+ */
+class ManifestTypeAdapterFactory implements TypeAdapterFactory {
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> raw = type.getRawType();
+        TypeAdapter<?> adapter;
+
+        if (raw == VersionManifest.class) {
+            adapter = new VersionManifest.Adapter(gson);
+        } else if (raw == VersionEntry.class) {
+            adapter = new VersionEntry.Adapter();
+        } else if (raw == LatestVersions.class) {
+            adapter = new LatestVersions.Adapter();
+        } else {
+            return null;
+        }
+
+        return (TypeAdapter<T>) adapter.nullSafe();
+    }
+}
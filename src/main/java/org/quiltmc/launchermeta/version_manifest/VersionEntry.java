@@ -15,11 +15,17 @@
  */
 package org.quiltmc.launchermeta.version_manifest;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import org.jetbrains.annotations.Nullable;
 
+import org.quiltmc.launchermeta.util.JsonUtil;
+
 /**
  * Information about a version in the manifest.
  */
@@ -113,4 +119,68 @@ public class VersionEntry {
         VersionEntry versionEntry = (VersionEntry) o;
         return id.equals(versionEntry.id) && type.equals(versionEntry.type) && url.equals(versionEntry.url) && time.equals(versionEntry.time) && releaseTime.equals(versionEntry.releaseTime) && Objects.equals(sha1, versionEntry.sha1) && Objects.equals(complianceLevel, versionEntry.complianceLevel);
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, type, url, time, releaseTime, sha1, complianceLevel);
+    }
+
+    static class Adapter extends TypeAdapter<VersionEntry> {
+        @Override
+        public void write(JsonWriter out, VersionEntry value) throws IOException {
+            out.beginObject();
+            JsonUtil.writeField(out, "id", value.id);
+            JsonUtil.writeField(out, "type", value.type);
+            JsonUtil.writeField(out, "url", value.url);
+            JsonUtil.writeField(out, "time", value.time);
+            JsonUtil.writeField(out, "releaseTime", value.releaseTime);
+            JsonUtil.writeField(out, "sha1", value.sha1);
+            JsonUtil.writeField(out, "complianceLevel", value.complianceLevel);
+            out.endObject();
+        }
+
+        @Override
+        public VersionEntry read(JsonReader in) throws IOException {
+            String id = null;
+            String type = null;
+            String url = null;
+            String time = null;
+            String releaseTime = null;
+            String sha1 = null;
+            Integer complianceLevel = null;
+
+            in.beginObject();
+
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        id = JsonUtil.nextString(in);
+                        break;
+                    case "type":
+                        type = JsonUtil.nextString(in);
+                        break;
+                    case "url":
+                        url = JsonUtil.nextString(in);
+                        break;
+                    case "time":
+                        time = JsonUtil.nextString(in);
+                        break;
+                    case "releaseTime":
+                        releaseTime = JsonUtil.nextString(in);
+                        break;
+                    case "sha1":
+                        sha1 = JsonUtil.nextString(in);
+                        break;
+                    case "complianceLevel":
+                        complianceLevel = JsonUtil.nextInteger(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+
+            in.endObject();
+            return new VersionEntry(id, type, url, time, releaseTime, sha1, complianceLevel);
+        }
+    }
 }
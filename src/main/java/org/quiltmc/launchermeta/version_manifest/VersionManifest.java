@@ -15,24 +15,40 @@
  */
 package org.quiltmc.launchermeta.version_manifest;
 
+import java.io.IOException;
 import java.io.Reader;
 import java.util.List;
+import java.util.Objects;
 
 import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.Nullable;
+
+import org.quiltmc.launchermeta.util.JsonUtil;
 
 /**
  * A representation of the version manifest for Minecraft.
  */
 public class VersionManifest {
-    private static final Gson GSON = new Gson();
+    private static final Gson GSON = newGsonBuilder()
+            .create();
 
     @SerializedName("latest")
     private final LatestVersions latestVersions;
 
     private final List<VersionEntry> versions;
 
+    @Nullable
+    private transient volatile VersionManifestIndex index;
+    @Nullable
+    private transient volatile VersionTimeline timeline;
+
     public VersionManifest(LatestVersions latestVersions, List<VersionEntry> versions) {
         this.latestVersions = latestVersions;
         this.versions = versions;
@@ -65,6 +81,28 @@ public class VersionManifest {
         return GSON.fromJson(reader, VersionManifest.class);
     }
 
+    /**
+     * The returned builder reads and writes every class of the manifest model with hand-written streaming adapters
+     * instead of reflection.
+     *
+     * @return a {@link GsonBuilder} with custom parsers
+     */
+    public static GsonBuilder newGsonBuilder() {
+        return new GsonBuilder()
+                .registerTypeAdapterFactory(new ManifestTypeAdapterFactory());
+    }
+
+    /**
+     * Opens a streaming reader over the manifest, which parses each {@link VersionEntry} only when it is requested.
+     * The reader should be closed once it is no longer needed.
+     *
+     * @param reader the json reader
+     * @return a {@link VersionManifestReader} positioned before the first entry
+     */
+    public static VersionManifestReader openReader(Reader reader) {
+        return new VersionManifestReader(GSON, reader);
+    }
+
     /**
      *
      * @return the latest versions for the game
@@ -81,6 +119,38 @@ public class VersionManifest {
         return versions;
     }
 
+    /**
+     * The index is built on first access and shared by every caller afterwards.
+     *
+     * @return an index over the versions of the game
+     */
+    public VersionManifestIndex getIndex() {
+        VersionManifestIndex index = this.index;
+
+        if (index == null) {
+            index = VersionManifestIndex.of(this);
+            this.index = index;
+        }
+
+        return index;
+    }
+
+    /**
+     * The timeline is built on first access and shared by every caller afterwards.
+     *
+     * @return the versions of the game in chronological order
+     */
+    public VersionTimeline getTimeline() {
+        VersionTimeline timeline = this.timeline;
+
+        if (timeline == null) {
+            timeline = VersionTimeline.of(this);
+            this.timeline = timeline;
+        }
+
+        return timeline;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -88,4 +158,52 @@ public class VersionManifest {
         VersionManifest manifest = (VersionManifest) o;
         return latestVersions.equals(manifest.latestVersions) && versions.equals(manifest.versions);
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(latestVersions, versions);
+    }
+
+    static class Adapter extends TypeAdapter<VersionManifest> {
+        private final TypeAdapter<LatestVersions> latestVersions;
+        private final TypeAdapter<List<VersionEntry>> versions;
+
+        Adapter(Gson gson) {
+            this.latestVersions = gson.getAdapter(LatestVersions.class);
+            this.versions = gson.getAdapter(new TypeToken<List<VersionEntry>>() {
+            });
+        }
+
+        @Override
+        public void write(JsonWriter out, VersionManifest value) throws IOException {
+            out.beginObject();
+            JsonUtil.writeField(out, "latest", latestVersions, value.latestVersions);
+            JsonUtil.writeField(out, "versions", versions, value.versions);
+            out.endObject();
+        }
+
+        @Override
+        public VersionManifest read(JsonReader in) throws IOException {
+            LatestVersions latestVersions = null;
+            List<VersionEntry> versions = null;
+
+            in.beginObject();
+
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "latest":
+                        latestVersions = this.latestVersions.read(in);
+                        break;
+                    case "versions":
+                        versions = this.versions.read(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+
+            in.endObject();
+            return new VersionManifest(latestVersions, versions);
+        }
+    }
 }
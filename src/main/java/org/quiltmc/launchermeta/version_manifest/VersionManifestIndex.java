@@ -0,0 +1,257 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.version_manifest;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An immutable index over the entries of a {@link VersionManifest}, built once so that lookups by id, type and
+ * compliance level do not need to scan the version list.
+ * <p>
+ * Every entry is identified by its ordinal, its position in {@link VersionManifest#getVersions()}. All listings returned
+ * by this index are precomputed views, so querying them does not allocate.
+ */
+public class VersionManifestIndex {
+    public static final String RELEASE = "release";
+    public static final String SNAPSHOT = "snapshot";
+    public static final String OLD_BETA = "old_beta";
+    public static final String OLD_ALPHA = "old_alpha";
+
+    private final List<VersionEntry> versions;
+    private final Map<String, Integer> ordinals;
+    private final Map<String, BitSet> typeBits;
+    private final Map<String, List<VersionEntry>> byType;
+    private final Set<String> types;
+    private final Map<Integer, List<VersionEntry>> byComplianceLevel;
+    private final int[] complianceLevels;
+    private final List<List<VersionEntry>> atLeastComplianceLevel;
+
+    private VersionManifestIndex(List<VersionEntry> versions) {
+        this.versions = Collections.unmodifiableList(new ArrayList<>(versions));
+        this.ordinals = new HashMap<>(versions.size() * 2);
+        this.typeBits = new HashMap<>();
+        TreeMap<Integer, BitSet> levelBits = new TreeMap<>();
+
+        for (int i = 0; i < versions.size(); i++) {
+            VersionEntry entry = versions.get(i);
+            int ordinal = i;
+            this.ordinals.putIfAbsent(entry.getId(), ordinal);
+            this.typeBits.computeIfAbsent(entry.getType(), type -> new BitSet(versions.size())).set(ordinal);
+            entry.getComplianceLevel().ifPresent(level -> levelBits.computeIfAbsent(level, l -> new BitSet(versions.size())).set(ordinal));
+        }
+
+        this.byType = new HashMap<>();
+        this.typeBits.forEach((type, bits) -> this.byType.put(type, new OrdinalList(this.versions, bits)));
+        this.types = Collections.unmodifiableSet(this.byType.keySet());
+
+        this.complianceLevels = new int[levelBits.size()];
+        this.byComplianceLevel = new HashMap<>();
+        this.atLeastComplianceLevel = new ArrayList<>(levelBits.size());
+        int slot = 0;
+
+        for (Map.Entry<Integer, BitSet> level : levelBits.entrySet()) {
+            this.complianceLevels[slot++] = level.getKey();
+            this.byComplianceLevel.put(level.getKey(), new OrdinalList(this.versions, level.getValue()));
+
+            BitSet atLeast = new BitSet(versions.size());
+            levelBits.tailMap(level.getKey()).values().forEach(atLeast::or);
+            this.atLeastComplianceLevel.add(new OrdinalList(this.versions, atLeast));
+        }
+    }
+
+    /**
+     *
+     * @param manifest the manifest to index
+     * @return a new index over the versions of the manifest
+     */
+    public static VersionManifestIndex of(VersionManifest manifest) {
+        return new VersionManifestIndex(manifest.getVersions());
+    }
+
+    /**
+     *
+     * @return all versions, in manifest order
+     */
+    public List<VersionEntry> getVersions() {
+        return versions;
+    }
+
+    /**
+     *
+     * @return the number of indexed versions
+     */
+    public int size() {
+        return versions.size();
+    }
+
+    /**
+     *
+     * @param id the id of the version
+     * @return the ordinal of the version, or {@code -1} if it is not in the manifest
+     */
+    public int indexOf(String id) {
+        Integer ordinal = ordinals.get(id);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     *
+     * @param ordinal the ordinal of the version
+     * @return the version at that ordinal
+     */
+    public VersionEntry get(int ordinal) {
+        return versions.get(ordinal);
+    }
+
+    /**
+     *
+     * @param id the id of the version
+     * @return the version with that id, if present
+     */
+    public Optional<VersionEntry> find(String id) {
+        int ordinal = indexOf(id);
+        return ordinal < 0 ? Optional.empty() : Optional.of(versions.get(ordinal));
+    }
+
+    /**
+     *
+     * @param id the id of the version
+     * @return whether the manifest contains the version
+     */
+    public boolean contains(String id) {
+        return ordinals.containsKey(id);
+    }
+
+    /**
+     *
+     * @return every version type present in the manifest
+     */
+    public Set<String> getTypes() {
+        return types;
+    }
+
+    /**
+     *
+     * @param ordinal the ordinal of the version
+     * @param type the version type, such as {@link #RELEASE}
+     * @return whether the version at that ordinal has the given type
+     */
+    public boolean isOfType(int ordinal, String type) {
+        BitSet bits = typeBits.get(type);
+        return bits != null && bits.get(ordinal);
+    }
+
+    /**
+     *
+     * @param type the version type, such as {@link #RELEASE}
+     * @return the versions of that type, in manifest order
+     */
+    public List<VersionEntry> getVersionsOfType(String type) {
+        return byType.getOrDefault(type, Collections.emptyList());
+    }
+
+    /**
+     *
+     * @return the release versions, in manifest order
+     */
+    public List<VersionEntry> getReleases() {
+        return getVersionsOfType(RELEASE);
+    }
+
+    /**
+     *
+     * @return the snapshot versions, in manifest order
+     */
+    public List<VersionEntry> getSnapshots() {
+        return getVersionsOfType(SNAPSHOT);
+    }
+
+    /**
+     *
+     * @return the old beta versions, in manifest order
+     */
+    public List<VersionEntry> getOldBetas() {
+        return getVersionsOfType(OLD_BETA);
+    }
+
+    /**
+     *
+     * @return the old alpha versions, in manifest order
+     */
+    public List<VersionEntry> getOldAlphas() {
+        return getVersionsOfType(OLD_ALPHA);
+    }
+
+    /**
+     * Versions without a compliance level are never included.
+     *
+     * @param level the compliance level
+     * @return the versions with exactly that compliance level, in manifest order
+     */
+    public List<VersionEntry> getVersionsWithComplianceLevel(int level) {
+        return byComplianceLevel.getOrDefault(level, Collections.emptyList());
+    }
+
+    /**
+     * Versions without a compliance level are never included.
+     *
+     * @param level the minimum compliance level
+     * @return the versions with at least that compliance level, in manifest order
+     */
+    public List<VersionEntry> getVersionsWithComplianceLevelAtLeast(int level) {
+        int slot = Arrays.binarySearch(complianceLevels, level);
+
+        if (slot < 0) {
+            slot = -slot - 1;
+        }
+
+        return slot < complianceLevels.length ? atLeastComplianceLevel.get(slot) : Collections.emptyList();
+    }
+
+    /**
+     * A read-only view of the entries at a sorted list of ordinals.
+     */
+    private static class OrdinalList extends AbstractList<VersionEntry> implements RandomAccess {
+        private final List<VersionEntry> versions;
+        private final int[] ordinals;
+
+        OrdinalList(List<VersionEntry> versions, BitSet ordinals) {
+            this.versions = versions;
+            this.ordinals = ordinals.stream().toArray();
+        }
+
+        @Override
+        public VersionEntry get(int index) {
+            return versions.get(ordinals[index]);
+        }
+
+        @Override
+        public int size() {
+            return ordinals.length;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.version_manifest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A streaming reader for the version manifest, which yields each {@link VersionEntry} as it is read instead of
+ * building the whole list up front. Iteration can be stopped at any point, in which case the rest of the input is never
+ * parsed.
+ */
+public class VersionManifestReader implements Iterator<VersionEntry>, Closeable {
+    private final JsonReader reader;
+    private final TypeAdapter<LatestVersions> latestAdapter;
+    private final TypeAdapter<VersionEntry> entryAdapter;
+    @Nullable
+    private LatestVersions latestVersions;
+    private boolean inVersions;
+    private boolean finished;
+
+    VersionManifestReader(Gson gson, Reader reader) {
+        this.reader = gson.newJsonReader(reader);
+        this.latestAdapter = gson.getAdapter(LatestVersions.class);
+        this.entryAdapter = gson.getAdapter(VersionEntry.class);
+
+        try {
+            this.reader.beginObject();
+            this.advanceToVersions();
+        } catch (IOException e) {
+            throw wrap(e);
+        }
+    }
+
+    /**
+     * The latest versions are only known once the {@code latest} object has been read. The manifest served by Mojang
+     * places it before the version list, so it is normally available right away.
+     *
+     * @return the latest versions for the game, if they have been read yet
+     */
+    public Optional<LatestVersions> getLatestVersions() {
+        return Optional.ofNullable(latestVersions);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (finished) {
+            return false;
+        }
+
+        try {
+            if (inVersions && reader.hasNext()) {
+                return true;
+            }
+
+            if (inVersions) {
+                reader.endArray();
+                inVersions = false;
+            }
+
+            this.advanceToVersions();
+            return inVersions;
+        } catch (IOException e) {
+            throw wrap(e);
+        }
+    }
+
+    @Override
+    public VersionEntry next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        try {
+            return entryAdapter.read(reader);
+        } catch (IOException e) {
+            throw wrap(e);
+        }
+    }
+
+    /**
+     * Reads every remaining entry and returns the resulting manifest. This is equivalent to
+     * {@link VersionManifest#fromReader(Reader)} when called on a fresh reader.
+     *
+     * @return the remaining manifest
+     */
+    public VersionManifest readRemaining() {
+        List<VersionEntry> versions = new ArrayList<>();
+        this.forEachRemaining(versions::add);
+        return new VersionManifest(latestVersions, versions);
+    }
+
+    /**
+     * The returned stream is sequential and closes this reader when it is closed.
+     *
+     * @return a lazy stream over the remaining entries
+     */
+    public Stream<VersionEntry> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        this.close();
+                    } catch (IOException e) {
+                        throw new JsonIOException(e);
+                    }
+                });
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        reader.close();
+    }
+
+    private void advanceToVersions() throws IOException {
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+
+            if (name.equals("latest") && reader.peek() != JsonToken.NULL) {
+                latestVersions = latestAdapter.read(reader);
+            } else if (name.equals("versions") && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                inVersions = true;
+                return;
+            } else {
+                reader.skipValue();
+            }
+        }
+
+        reader.endObject();
+        finished = true;
+    }
+
+    private static RuntimeException wrap(IOException e) {
+        if (e instanceof MalformedJsonException) {
+            return new JsonSyntaxException(e);
+        }
+
+        return new JsonIOException(e);
+    }
+}
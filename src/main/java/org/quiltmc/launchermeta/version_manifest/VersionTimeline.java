@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.version_manifest;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.AbstractList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+
+/**
+ * The versions of a manifest in chronological order of their release time.
+ * <p>
+ * Every timestamp is parsed once when the timeline is built and kept as epoch milliseconds, so range queries are binary
+ * searches and comparisons never touch the original strings.
+ */
+public class VersionTimeline {
+    private final VersionManifestIndex index;
+    private final long[] releaseTimes;
+    private final long[] times;
+    private final int[] chronological;
+    private final long[] chronologicalTimes;
+    private final int[] ranks;
+    private final int[] previousReleases;
+    private final int[] nextReleases;
+    private final List<VersionEntry> chronologicalView;
+    private final Comparator<VersionEntry> comparator;
+
+    private VersionTimeline(VersionManifestIndex index) {
+        int size = index.size();
+        this.index = index;
+        this.releaseTimes = new long[size];
+        this.times = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            VersionEntry entry = index.get(i);
+            this.releaseTimes[i] = parseTimestamp(entry.getReleaseTime());
+            this.times[i] = parseTimestamp(entry.getTime());
+        }
+
+        // Ties keep manifest order, which is newest first, so reverse it for chronological order
+        this.chronological = IntStream.range(0, size)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingLong(ordinal -> this.releaseTimes[ordinal]).thenComparing(Comparator.reverseOrder()))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        this.chronologicalTimes = new long[size];
+        this.ranks = new int[size];
+
+        for (int rank = 0; rank < size; rank++) {
+            this.chronologicalTimes[rank] = this.releaseTimes[this.chronological[rank]];
+            this.ranks[this.chronological[rank]] = rank;
+        }
+
+        this.previousReleases = new int[size];
+        this.nextReleases = new int[size];
+        int last = -1;
+
+        for (int rank = 0; rank < size; rank++) {
+            this.previousReleases[rank] = last;
+
+            if (index.isOfType(this.chronological[rank], VersionManifestIndex.RELEASE)) {
+                last = this.chronological[rank];
+            }
+        }
+
+        last = -1;
+
+        for (int rank = size - 1; rank >= 0; rank--) {
+            this.nextReleases[rank] = last;
+
+            if (index.isOfType(this.chronological[rank], VersionManifestIndex.RELEASE)) {
+                last = this.chronological[rank];
+            }
+        }
+
+        this.chronologicalView = new RankList(0, size);
+        this.comparator = (a, b) -> Long.compare(this.releaseTimeOf(a), this.releaseTimeOf(b));
+    }
+
+    /**
+     *
+     * @param manifest the manifest to build the timeline for
+     * @return a new timeline over the versions of the manifest
+     */
+    public static VersionTimeline of(VersionManifest manifest) {
+        return new VersionTimeline(manifest.getIndex());
+    }
+
+    /**
+     *
+     * @param timestamp an ISO-8601 timestamp with an offset, as used by the manifest and version files
+     * @return the timestamp in milliseconds since the epoch
+     * @throws java.time.format.DateTimeParseException if the timestamp could not be parsed
+     */
+    public static long parseTimestamp(String timestamp) {
+        return OffsetDateTime.parse(timestamp, DateTimeFormatter.ISO_OFFSET_DATE_TIME).toInstant().toEpochMilli();
+    }
+
+    /**
+     *
+     * @param ordinal the ordinal of the version in the manifest
+     * @return the release time of the version in milliseconds since the epoch
+     */
+    public long getReleaseTime(int ordinal) {
+        return releaseTimes[ordinal];
+    }
+
+    /**
+     *
+     * @param ordinal the ordinal of the version in the manifest
+     * @return the time of the version in milliseconds since the epoch
+     */
+    public long getTime(int ordinal) {
+        return times[ordinal];
+    }
+
+    /**
+     *
+     * @return every version, oldest release first
+     */
+    public List<VersionEntry> getChronological() {
+        return chronologicalView;
+    }
+
+    /**
+     *
+     * @param fromInclusive the start of the range in milliseconds since the epoch
+     * @param toExclusive the end of the range in milliseconds since the epoch
+     * @return the versions released within the range, oldest first
+     */
+    public List<VersionEntry> getReleasedBetween(long fromInclusive, long toExclusive) {
+        int from = lowerBound(fromInclusive);
+        int to = lowerBound(toExclusive);
+        return from >= to ? chronologicalView.subList(0, 0) : chronologicalView.subList(from, to);
+    }
+
+    /**
+     *
+     * @param id the id of any version, usually a snapshot
+     * @return the latest release published before the version, if present
+     */
+    public Optional<VersionEntry> getPreviousRelease(String id) {
+        return releaseAt(previousReleases, id);
+    }
+
+    /**
+     *
+     * @param id the id of any version, usually a snapshot
+     * @return the first release published after the version, if present
+     */
+    public Optional<VersionEntry> getNextRelease(String id) {
+        return releaseAt(nextReleases, id);
+    }
+
+    /**
+     * The comparator looks entries up by id in the prebuilt tables. Entries which are not part of the manifest have
+     * their release time parsed on every comparison.
+     *
+     * @return a comparator ordering entries by release time, oldest first
+     */
+    public Comparator<VersionEntry> getReleaseTimeComparator() {
+        return comparator;
+    }
+
+    private long releaseTimeOf(VersionEntry entry) {
+        int ordinal = index.indexOf(entry.getId());
+        return ordinal >= 0 ? releaseTimes[ordinal] : parseTimestamp(entry.getReleaseTime());
+    }
+
+    private Optional<VersionEntry> releaseAt(int[] releases, String id) {
+        int ordinal = index.indexOf(id);
+
+        if (ordinal < 0 || releases[ranks[ordinal]] < 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(index.get(releases[ranks[ordinal]]));
+    }
+
+    private int lowerBound(long time) {
+        int low = 0;
+        int high = chronologicalTimes.length;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (chronologicalTimes[mid] < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * A read-only view of the entries between two chronological ranks.
+     */
+    private class RankList extends AbstractList<VersionEntry> implements RandomAccess {
+        private final int from;
+        private final int to;
+
+        RankList(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public VersionEntry get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+
+            return VersionTimeline.this.index.get(chronological[from + index]);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        public List<VersionEntry> subList(int fromIndex, int toIndex) {
+            if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size());
+            }
+
+            return new RankList(from + fromIndex, from + toIndex);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.assets;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.quiltmc.launchermeta.util.Sha1Hash;
+
+public class AssetObjectsTest {
+    private static final String INDEX = """
+            {
+              "objects": {
+                "minecraft/sounds/ambient/cave/cave1.ogg": {"hash": "5e2fb3c2a5bbd1bfe9ea9f17b4a1e1fcbc36d6f4", "size": 44458},
+                "icons/icon_16x16.png": {"hash": "bdf48ef6b5d0d23bbb02e17d04865216179f510a", "size": 3665},
+                "minecraft/lang/de_de.json": {"hash": "0c2ff3e8d0b8b6f5c7a1c0a14b7d8a3c4f5e6d7a", "size": 512000, "ignored": true},
+                "minecraft/sounds/ambient/cave/cave1_copy.ogg": {"hash": "5e2fb3c2a5bbd1bfe9ea9f17b4a1e1fcbc36d6f4", "size": 44458},
+                "minecraft/lang/zh_cn.json": {"hash": "ffffffffffffffffffffffffffffffffffffffff", "size": 1},
+                "minecraft/textures/\u00e9t\u00e9.png": {"hash": "8000000000000000000000000000000000000000", "size": 7}
+              },
+              "virtual": true
+            }
+            """;
+
+    @Test
+    public void testLookups() {
+        AssetObjects objects = AssetObjects.fromString(INDEX);
+        Sha1Hash cave = Sha1Hash.fromHex("5e2fb3c2a5bbd1bfe9ea9f17b4a1e1fcbc36d6f4");
+
+        Assertions.assertEquals(6, objects.size());
+        Assertions.assertEquals(5, objects.getUniqueHashCount());
+        Assertions.assertTrue(objects.isVirtual());
+        Assertions.assertFalse(objects.isMapToResources());
+        Assertions.assertEquals(44458L * 2 + 3665 + 512000 + 1 + 7, objects.getTotalSize());
+
+        int icon = objects.indexOf("icons/icon_16x16.png");
+        Assertions.assertEquals(0, icon);
+        Assertions.assertEquals(3665, objects.getSize(icon));
+        Assertions.assertEquals("bd/bdf48ef6b5d0d23bbb02e17d04865216179f510a", objects.getObjectPath(icon));
+        Assertions.assertEquals(AssetObjects.RESOURCES_URL + "bd/bdf48ef6b5d0d23bbb02e17d04865216179f510a", objects.getUrl(icon));
+        Assertions.assertEquals(-1, objects.indexOf("icons/icon_32x32.png"));
+        Assertions.assertEquals(-1, objects.indexOf(""));
+
+        Assertions.assertEquals("minecraft/sounds/ambient/cave/cave1.ogg", objects.getPath(objects.indexOfHash(cave)));
+        Assertions.assertEquals(List.of("minecraft/sounds/ambient/cave/cave1.ogg", "minecraft/sounds/ambient/cave/cave1_copy.ogg"), objects.getPaths(cave));
+        Assertions.assertEquals(-1, objects.indexOfHash(Sha1Hash.fromHex("0000000000000000000000000000000000000000")));
+        Assertions.assertEquals("minecraft/lang/zh_cn.json", objects.getPath(objects.indexOfHash(Sha1Hash.fromHex("ffffffffffffffffffffffffffffffffffffffff"))));
+        Assertions.assertEquals(7, objects.getSize(objects.indexOf("minecraft/textures/\u00e9t\u00e9.png")));
+    }
+
+    @Test
+    public void testEveryObjectIsFound() {
+        StringBuilder json = new StringBuilder("{\"objects\": {");
+        Map<String, Sha1Hash> expected = new HashMap<>();
+
+        for (int i = 0; i < 1000; i++) {
+            String path = "minecraft/sounds/" + Integer.toString(i * 7919, 36) + ".ogg";
+            Sha1Hash hash = Sha1Hash.fromBytes(Sha1Hash.newDigest().digest(path.getBytes()));
+            expected.put(path, hash);
+            json.append(i == 0 ? "" : ",").append('"').append(path).append("\": {\"hash\": \"").append(hash.toHex()).append("\", \"size\": ").append(i).append('}');
+        }
+
+        AssetObjects objects = AssetObjects.fromString(json.append("}}").toString());
+
+        for (Map.Entry<String, Sha1Hash> entry : expected.entrySet()) {
+            int index = objects.indexOf(entry.getKey());
+            Assertions.assertEquals(entry.getValue(), objects.getHash(index));
+            Assertions.assertEquals(index, objects.indexOfHash(entry.getValue()));
+        }
+    }
+
+    @Test
+    public void testPathsAreInUtf8Order() {
+        String[] names = {"a", "\u00e9", "\u4e2d", "\ud83d\ude00", "\uffff", "z"};
+        StringBuilder json = new StringBuilder("{\"objects\": {");
+        List<String> paths = new ArrayList<>();
+
+        for (int i = 0; i < 120; i++) {
+            String path = names[i % names.length] + "/" + names[i / names.length % names.length] + i;
+            paths.add(path);
+            json.append(i == 0 ? "" : ",").append('"').append(path).append("\": {\"hash\": \"").append(String.valueOf(i % 4).repeat(40)).append("\", \"size\": ").append(i).append('}');
+        }
+
+        AssetObjects objects = AssetObjects.fromString(json.append("}}").toString());
+        paths.sort(Comparator.comparing(path -> path.getBytes(StandardCharsets.UTF_8), Arrays::compareUnsigned));
+
+        for (int i = 0; i < paths.size(); i++) {
+            Assertions.assertEquals(paths.get(i), objects.getPath(i));
+            Assertions.assertEquals(i, objects.indexOf(paths.get(i)));
+        }
+
+        List<String> zeros = objects.getPaths(Sha1Hash.fromHex("0".repeat(40)));
+        Assertions.assertEquals(30, zeros.size());
+        Assertions.assertEquals(paths.stream().filter(zeros::contains).collect(Collectors.toList()), zeros);
+        Assertions.assertEquals(4, objects.getUniqueHashCount());
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        AssetObjects objects = AssetObjects.fromString(INDEX);
+        StringWriter out = new StringWriter();
+        new AssetObjects.Adapter().write(new JsonWriter(out), objects);
+
+        Assertions.assertEquals(objects, AssetObjects.fromString(out.toString()));
+        Assertions.assertThrows(JsonSyntaxException.class, () -> AssetObjects.fromString("{\"objects\": {\"a\": {\"size\": 1}}}"));
+        Assertions.assertThrows(JsonSyntaxException.class, () -> AssetObjects.fromString("{\"objects\": {\"a\": {\"hash\": \"xyz\"}}}"));
+    }
+}
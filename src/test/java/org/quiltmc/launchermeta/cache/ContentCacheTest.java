@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.cache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.quiltmc.launchermeta.util.Sha1Hash;
+import org.quiltmc.launchermeta.version_manifest.VersionEntry;
+
+public class ContentCacheTest {
+    @TempDir
+    Path root;
+
+    @Test
+    public void testPutAndGet() throws IOException {
+        ContentCache cache = ContentCache.open(root, 1024);
+        byte[] json = bytes("{\"id\": \"1.18\"}");
+        Sha1Hash sha1 = sha1(json);
+
+        Assertions.assertFalse(cache.get(sha1).isPresent());
+        cache.put(sha1, json);
+        Assertions.assertArrayEquals(json, cache.get(sha1).get());
+        Assertions.assertTrue(Files.exists(root.resolve(sha1.toHex().substring(0, 2)).resolve(sha1.toHex() + ".json")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> cache.put(sha1, bytes("{}")));
+
+        ContentCache reopened = ContentCache.open(root, 1024);
+        Assertions.assertEquals(1, reopened.size());
+        Assertions.assertEquals(json.length, reopened.getTotalBytes());
+        Assertions.assertArrayEquals(json, reopened.get(sha1).get());
+    }
+
+    @Test
+    public void testCorruptedFileIsAMiss() throws IOException {
+        ContentCache cache = ContentCache.open(root, 1024);
+        byte[] json = bytes("{\"id\": \"1.18\"}");
+        Sha1Hash sha1 = sha1(json);
+
+        cache.put(sha1, json);
+        Files.write(cache.getPath(sha1), bytes("{\"id\": \"1.19\"}"));
+
+        Assertions.assertFalse(cache.get(sha1).isPresent());
+        Assertions.assertFalse(cache.contains(sha1));
+        Assertions.assertEquals(0, cache.getTotalBytes());
+        Assertions.assertFalse(Files.exists(cache.getPath(sha1)));
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() throws IOException {
+        ContentCache cache = ContentCache.open(root, 20);
+        byte[] first = bytes("0123456789");
+        byte[] second = bytes("abcdefghij");
+        byte[] third = bytes("ABCDEFGHIJ");
+
+        cache.put(sha1(first), first);
+        cache.put(sha1(second), second);
+        cache.get(sha1(first));
+        cache.put(sha1(third), third);
+
+        Assertions.assertTrue(cache.contains(sha1(first)));
+        Assertions.assertFalse(cache.contains(sha1(second)));
+        Assertions.assertTrue(cache.contains(sha1(third)));
+        Assertions.assertEquals(20, cache.getTotalBytes());
+        Assertions.assertFalse(Files.exists(cache.getPath(sha1(second))));
+    }
+
+    @Test
+    public void testFailedEvictionDoesNotFailPut() throws IOException {
+        ContentCache cache = ContentCache.open(root, 20);
+        byte[] first = bytes("0123456789");
+        byte[] second = bytes("abcdefghij");
+        byte[] third = bytes("ABCDEFGHIJ");
+
+        cache.put(sha1(first), first);
+        // A non-empty directory in place of the file cannot be deleted
+        Path blocked = cache.getPath(sha1(first));
+        Files.delete(blocked);
+        Files.createDirectories(blocked.resolve("child"));
+
+        cache.put(sha1(second), second);
+        cache.put(sha1(third), third);
+
+        Assertions.assertFalse(cache.contains(sha1(first)));
+        Assertions.assertEquals(20, cache.getTotalBytes());
+        Assertions.assertTrue(Files.isDirectory(blocked));
+    }
+
+    @Test
+    public void testGetMissing() throws IOException {
+        ContentCache cache = ContentCache.open(root, 1024);
+        byte[] json = bytes("{}");
+        cache.put(sha1(json), json);
+
+        VersionEntry cached = new VersionEntry("a", "release", "https://example.com/a.json", "", "", sha1(json).toHex(), null);
+        VersionEntry changed = new VersionEntry("b", "release", "https://example.com/b.json", "", "", sha1(bytes("[]")).toHex(), null);
+        VersionEntry unhashed = new VersionEntry("c", "release", "https://example.com/c.json", "", "", null, null);
+
+        Assertions.assertEquals(List.of(changed, unhashed), cache.getMissing(List.of(cached, changed, unhashed)));
+    }
+
+    private static byte[] bytes(String string) {
+        return string.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Sha1Hash sha1(byte[] bytes) {
+        return Sha1Hash.fromBytes(Sha1Hash.newDigest().digest(bytes));
+    }
+}
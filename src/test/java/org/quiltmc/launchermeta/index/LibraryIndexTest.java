@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.index;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.quiltmc.launchermeta.util.Sha1Hash;
+import org.quiltmc.launchermeta.version.v1.Version;
+
+public class LibraryIndexTest {
+    private static final String ASM_91 = "1111111111111111111111111111111111111111";
+    private static final String ASM_93 = "2222222222222222222222222222222222222222";
+    private static final String LWJGL_NATIVES = "3333333333333333333333333333333333333333";
+
+    private static Version version(String id, String libraries) {
+        return Version.fromString("{\"id\": \"" + id + "\", \"libraries\": [" + libraries + "]}");
+    }
+
+    private static String library(String name, String sha1) {
+        return """
+                {"name": "%s", "downloads": {"artifact": {"path": "a.jar", "sha1": "%s", "size": 1, "url": "https://libraries.minecraft.net/a.jar"}}}
+                """.formatted(name, sha1);
+    }
+
+    private static final Version OLD = version("1.12.2", library("org.ow2.asm:asm:9.1", ASM_91) + ", " + """
+            {"name": "org.lwjgl:lwjgl-platform:2.9.4", "natives": {"linux": "natives-linux"}, "downloads": {"classifiers": {"natives-linux": {"path": "n.jar", "sha1": "%s", "size": 1, "url": "https://libraries.minecraft.net/n.jar"}}}}
+            """.formatted(LWJGL_NATIVES));
+    private static final Version MIDDLE = version("1.16.5", library("org.ow2.asm:asm:9.1", ASM_91) + ", {\"name\": \"not a coordinate\"}");
+    private static final Version NEW = version("1.18.2", library("org.ow2.asm:asm:9.3", ASM_93));
+
+    @Test
+    public void testLookups() {
+        LibraryIndex index = LibraryIndex.of(List.of(OLD, MIDDLE, NEW));
+
+        Assertions.assertEquals(3, index.size());
+        Assertions.assertEquals(List.of("1.12.2", "1.16.5", "1.18.2"), index.getVersions("org.ow2.asm:asm"));
+        Assertions.assertEquals(List.of("1.12.2", "1.16.5"), index.getVersions("org.ow2.asm:asm:9.1"));
+        Assertions.assertEquals(List.of("1.18.2"), index.getVersions(Sha1Hash.fromHex(ASM_93)));
+        Assertions.assertEquals(List.of("1.12.2"), index.getVersions(Sha1Hash.fromHex(LWJGL_NATIVES)));
+        Assertions.assertEquals(List.of("1.16.5"), index.getVersions("not a coordinate"));
+        Assertions.assertTrue(index.getVersions("org.ow2.asm:asm-tree").isEmpty());
+        Assertions.assertArrayEquals(new int[]{0, 1}, index.getOrdinals(Sha1Hash.fromHex(ASM_91)));
+        Assertions.assertEquals("1.16.5", index.getId(index.indexOf("1.16.5")).get());
+    }
+
+    @Test
+    public void testIncrementalUpdates() {
+        LibraryIndex index = LibraryIndex.of(List.of(OLD, MIDDLE));
+
+        Assertions.assertTrue(index.remove("1.12.2"));
+        Assertions.assertFalse(index.remove("1.12.2"));
+        Assertions.assertEquals(List.of("1.16.5"), index.getVersions("org.ow2.asm:asm"));
+        Assertions.assertTrue(index.getVersions(Sha1Hash.fromHex(LWJGL_NATIVES)).isEmpty());
+        Assertions.assertFalse(index.getId(0).isPresent());
+
+        index.add(NEW);
+        index.add(version("1.16.5", library("org.ow2.asm:asm:9.3", ASM_93)));
+
+        Assertions.assertEquals(2, index.size());
+        Assertions.assertEquals(List.of("1.18.2", "1.16.5"), index.getVersions(Sha1Hash.fromHex(ASM_93)));
+        Assertions.assertTrue(index.getVersions("org.ow2.asm:asm:9.1").isEmpty());
+        Assertions.assertTrue(index.getVersions("not a coordinate").isEmpty());
+    }
+
+    @Test
+    public void testReplacingReusesOrdinalsAndKeys(@TempDir Path root) throws IOException {
+        LibraryIndex index = LibraryIndex.of(List.of(OLD, MIDDLE));
+        Version latest = null;
+
+        for (int i = 0; i < 100; i++) {
+            latest = version("1.16.5", library("org.example:snapshot:" + i, "%040x".formatted(i)));
+            Assertions.assertEquals(1, index.add(latest));
+        }
+
+        Assertions.assertEquals(List.of("1.16.5"), index.getVersions("org.example:snapshot"));
+        Assertions.assertTrue(index.getVersions("org.example:snapshot:98").isEmpty());
+        Assertions.assertFalse(index.getId(2).isPresent());
+
+        index.remove("1.12.2");
+        Assertions.assertEquals(0, index.add(NEW));
+        Assertions.assertEquals(List.of("1.18.2"), index.getVersions("org.ow2.asm:asm"));
+
+        Path file = root.resolve("library-index.bin");
+        Path expected = root.resolve("expected.bin");
+        index.write(file);
+        LibraryIndex.of(List.of(NEW, latest)).write(expected);
+        Assertions.assertEquals(Files.size(expected), Files.size(file));
+    }
+
+    @Test
+    public void testWriteAndRead(@TempDir Path root) throws IOException {
+        LibraryIndex index = LibraryIndex.of(List.of(OLD, MIDDLE, NEW));
+        index.remove("1.12.2");
+        Path file = root.resolve("library-index.bin");
+
+        index.write(file);
+        LibraryIndex read = LibraryIndex.read(file);
+
+        Assertions.assertEquals(2, read.size());
+        Assertions.assertEquals(0, read.indexOf("1.16.5"));
+        Assertions.assertEquals(List.of("1.16.5", "1.18.2"), read.getVersions("org.ow2.asm:asm"));
+        Assertions.assertEquals(List.of("1.16.5"), read.getVersions(Sha1Hash.fromHex(ASM_91)));
+        Assertions.assertTrue(read.getVersions(Sha1Hash.fromHex(LWJGL_NATIVES)).isEmpty());
+
+        read.add(OLD);
+        Assertions.assertEquals(List.of("1.16.5", "1.18.2", "1.12.2"), read.getVersions("org.ow2.asm:asm"));
+
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        Assertions.assertThrows(IOException.class, () -> LibraryIndex.read(file));
+    }
+
+    @Test
+    public void testFilesWithoutSha1AreSkipped(@TempDir Path root) throws IOException {
+        Version version = version("1.0", """
+                {"name": "org.example:unhashed:1.0", "downloads": {"artifact": {"path": "a.jar", "size": 1, "url": "https://libraries.minecraft.net/a.jar"}}},
+                {"name": "org.example:malformed:1.0", "downloads": {"artifact": {"path": "b.jar", "sha1": "not a sha1", "size": 1, "url": "https://libraries.minecraft.net/b.jar"}}}
+                """ + ", " + library("org.ow2.asm:asm:9.3", ASM_93));
+        LibraryIndex index = LibraryIndex.of(List.of(version));
+        Path file = root.resolve("library-index.bin");
+
+        index.write(file);
+        LibraryIndex read = LibraryIndex.read(file);
+
+        Assertions.assertEquals(List.of("1.0"), read.getVersions("org.example:unhashed"));
+        Assertions.assertEquals(List.of("1.0"), read.getVersions(Sha1Hash.fromHex(ASM_93)));
+    }
+}
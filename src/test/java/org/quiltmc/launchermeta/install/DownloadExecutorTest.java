@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.install;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.quiltmc.launchermeta.TestServer;
+import org.quiltmc.launchermeta.net.UrlConnectionTransport;
+import org.quiltmc.launchermeta.util.Sha1Hash;
+import org.quiltmc.launchermeta.version.v1.DownloadableFile;
+
+public class DownloadExecutorTest {
+    private final Map<String, byte[]> files = new ConcurrentHashMap<>();
+    private final CountDownLatch slow = new CountDownLatch(1);
+    private volatile boolean ignoreRanges;
+    private TestServer server;
+    private String baseUrl;
+    @TempDir
+    Path root;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = TestServer.start(exchange -> {
+            String name = exchange.getRequestURI().getPath().substring(1);
+            byte[] body = files.get(name);
+            String range = exchange.getRequestHeaders().getFirst("Range");
+
+            if (body == null) {
+                TestServer.respond(exchange, 404, null);
+                return;
+            }
+
+            if (name.startsWith("slow/")) {
+                try {
+                    slow.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            if (range != null && !ignoreRanges) {
+                int start = Integer.parseInt(range.substring("bytes=".length(), range.length() - 1));
+                exchange.getResponseHeaders().add("Content-Range", "bytes " + start + "-" + (body.length - 1) + "/" + body.length);
+                TestServer.respond(exchange, 206, Arrays.copyOfRange(body, start, body.length));
+            } else {
+                TestServer.respond(exchange, 200, body);
+            }
+        });
+        baseUrl = server.getUrl("");
+    }
+
+    @AfterEach
+    public void stopServer() {
+        slow.countDown();
+        server.close();
+    }
+
+    private DownloadPlan.Entry serve(String name, int size) {
+        return serve(baseUrl, name, size);
+    }
+
+    private DownloadPlan.Entry serve(String url, String name, int size) {
+        byte[] content = new byte[size];
+        new Random(name.hashCode()).nextBytes(content);
+        files.put(name, content);
+        Sha1Hash sha1 = Sha1Hash.fromBytes(Sha1Hash.newDigest().digest(content));
+        return new DownloadPlan.Entry(DownloadPlan.Kind.LIBRARY, new DownloadableFile(sha1.toHex(), size, url + name), "libraries/" + name, null);
+    }
+
+    private DownloadExecutor executor() {
+        return new DownloadExecutor(new UrlConnectionTransport(), root, 4, 2);
+    }
+
+    @Test
+    public void testDownloadsAndVerifies() throws InterruptedException, IOException {
+        List<DownloadPlan.Entry> entries = List.of(serve("a.jar", 100_000), serve("nested/b.jar", 10), serve("c.jar", 0));
+        List<DownloadExecutor.Result> results = executor().executeAll(new DownloadPlan(entries.toArray(new DownloadPlan.Entry[0])));
+
+        Assertions.assertEquals(3, results.size());
+
+        for (DownloadExecutor.Result result : results) {
+            Assertions.assertTrue(result.isSuccess(), result.getError().toString());
+            Assertions.assertFalse(result.isResumed());
+            Assertions.assertArrayEquals(files.get(result.getEntry().getPath().substring("libraries/".length())), Files.readAllBytes(result.getPath()));
+            Assertions.assertFalse(Files.exists(result.getPath().resolveSibling(result.getPath().getFileName() + ".part")));
+        }
+    }
+
+    @Test
+    public void testBusyHostDoesNotHoldBackOthers() throws InterruptedException {
+        // The same server under two host names, the first one stalls until the other one has been downloaded from
+        String otherUrl = baseUrl.replace("127.0.0.1", "localhost");
+        List<DownloadPlan.Entry> entries = List.of(serve("slow/a.jar", 10), serve("slow/b.jar", 10), serve(otherUrl, "c.jar", 10));
+        List<String> order = new ArrayList<>();
+
+        new DownloadExecutor(new UrlConnectionTransport(), root, 2, 1).execute(entries, result -> {
+            Assertions.assertTrue(result.isSuccess(), result.getError().toString());
+            order.add(result.getEntry().getPath());
+            slow.countDown();
+        });
+
+        Assertions.assertEquals("libraries/c.jar", order.get(0));
+        Assertions.assertEquals(3, order.size());
+    }
+
+    @Test
+    public void testSharedFileIsCopiedToEveryPath() throws IOException {
+        DownloadPlan.Entry entry = serve("shared.jar", 10_000).withPath("libraries/relocated/shared.jar");
+
+        DownloadExecutor.Result result = executor().download(entry);
+
+        Assertions.assertTrue(result.isSuccess(), result.getError().toString());
+        Assertions.assertEquals(10_000, result.getBytesTransferred());
+        Assertions.assertArrayEquals(files.get("shared.jar"), Files.readAllBytes(root.resolve("libraries/shared.jar")));
+        Assertions.assertArrayEquals(files.get("shared.jar"), Files.readAllBytes(root.resolve("libraries/relocated/shared.jar")));
+        Assertions.assertFalse(Files.exists(root.resolve("libraries/relocated/shared.jar.part")));
+    }
+
+    @Test
+    public void testCorruptDownloadIsDeleted() {
+        DownloadPlan.Entry entry = serve("corrupt.jar", 1000);
+        files.get("corrupt.jar")[10] ^= 1;
+
+        DownloadExecutor executor = executor();
+        DownloadExecutor.Result result = executor.download(entry);
+
+        Assertions.assertFalse(result.isSuccess());
+        Assertions.assertFalse(Files.exists(result.getPath()));
+        Assertions.assertFalse(Files.exists(result.getPath().resolveSibling("corrupt.jar.part")));
+
+        DownloadPlan.Entry missing = serve("missing.jar", 10);
+        files.remove("missing.jar");
+        Assertions.assertFalse(executor.download(missing).isSuccess());
+    }
+
+    @Test
+    public void testResumesPartialDownload() throws IOException {
+        DownloadPlan.Entry entry = serve("resumed.jar", 50_000);
+        Path part = root.resolve("libraries/resumed.jar.part");
+        Files.createDirectories(part.getParent());
+        Files.write(part, Arrays.copyOf(files.get("resumed.jar"), 20_000));
+
+        DownloadExecutor.Result result = executor().download(entry);
+
+        Assertions.assertTrue(result.isSuccess(), result.getError().toString());
+        Assertions.assertTrue(result.isResumed());
+        Assertions.assertEquals(30_000, result.getBytesTransferred());
+        Assertions.assertArrayEquals(files.get("resumed.jar"), Files.readAllBytes(result.getPath()));
+    }
+
+    @Test
+    public void testRestartsWhenRangeIsIgnored() throws IOException {
+        ignoreRanges = true;
+        DownloadPlan.Entry entry = serve("full.jar", 50_000);
+        Path part = root.resolve("libraries/full.jar.part");
+        Files.createDirectories(part.getParent());
+        Files.write(part, Arrays.copyOf(files.get("full.jar"), 20_000));
+
+        DownloadExecutor.Result result = executor().download(entry);
+
+        Assertions.assertTrue(result.isSuccess(), result.getError().toString());
+        Assertions.assertFalse(result.isResumed());
+        Assertions.assertEquals(50_000, result.getBytesTransferred());
+        Assertions.assertArrayEquals(files.get("full.jar"), Files.readAllBytes(result.getPath()));
+    }
+
+    @Test
+    public void testRestartsFromStalePartFile() throws IOException {
+        DownloadPlan.Entry entry = serve("stale.jar", 50_000);
+        Path part = root.resolve("libraries/stale.jar.part");
+        Files.createDirectories(part.getParent());
+        Files.write(part, new byte[20_000]);
+
+        DownloadExecutor.Result result = executor().download(entry);
+
+        Assertions.assertTrue(result.isSuccess(), result.getError().toString());
+        Assertions.assertArrayEquals(files.get("stale.jar"), Files.readAllBytes(result.getPath()));
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.install;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.quiltmc.launchermeta.rules.Environment;
+import org.quiltmc.launchermeta.version.v1.Version;
+
+public class DownloadPlannerTest {
+    private static final Environment LINUX = new Environment(Environment.LINUX, "6.1.0", "x86_64", 0);
+    private static final Environment WINDOWS = new Environment(Environment.WINDOWS, "10.0", "x86", 0);
+
+    private static final String VERSION = """
+            {
+              "id": "%1$s",
+              "assetIndex": {"id": "1.18", "sha1": "1111111111111111111111111111111111111111", "size": 100, "totalSize": 1000, "url": "https://launchermeta.mojang.com/v1/packages/1111111111111111111111111111111111111111/1.18.json"},
+              "downloads": {
+                "client": {"sha1": "%2$s", "size": 1000, "url": "https://launcher.mojang.com/v1/objects/%2$s/client.jar"}
+              },
+              "libraries": [
+                {
+                  "name": "com.example:shared:1.0",
+                  "downloads": {"artifact": {"path": "com/example/shared/1.0/shared-1.0.jar", "sha1": "2222222222222222222222222222222222222222", "size": 10, "url": "https://libraries.minecraft.net/com/example/shared/1.0/shared-1.0.jar"}}
+                },
+                {
+                  "name": "com.example:windows-only:1.0",
+                  "rules": [{"action": "allow", "os": {"name": "windows"}}],
+                  "downloads": {"artifact": {"path": "com/example/windows-only/1.0/windows-only-1.0.jar", "sha1": "3333333333333333333333333333333333333333", "size": 20, "url": "https://libraries.minecraft.net/com/example/windows-only/1.0/windows-only-1.0.jar"}}
+                },
+                {
+                  "name": "com.example:platform:1.0",
+                  "natives": {"linux": "natives-linux", "windows": "natives-windows-${arch}"},
+                  "extract": {"exclude": ["META-INF/"]},
+                  "downloads": {
+                    "classifiers": {
+                      "natives-linux": {"path": "com/example/platform/1.0/platform-1.0-natives-linux.jar", "sha1": "4444444444444444444444444444444444444444", "size": 30, "url": "https://libraries.minecraft.net/com/example/platform/1.0/platform-1.0-natives-linux.jar"},
+                      "natives-windows-32": {"path": "com/example/platform/1.0/platform-1.0-natives-windows-32.jar", "sha1": "5555555555555555555555555555555555555555", "size": 40, "url": "https://libraries.minecraft.net/com/example/platform/1.0/platform-1.0-natives-windows-32.jar"}
+                    }
+                  }
+                }
+              ],
+              "logging": {
+                "client": {
+                  "argument": "-Dlog4j.configurationFile=${path}",
+                  "type": "log4j2-xml",
+                  "file": {"id": "client-1.12.xml", "sha1": "6666666666666666666666666666666666666666", "size": 50, "url": "https://launcher.mojang.com/v1/objects/6666666666666666666666666666666666666666/client-1.12.xml"}
+                }
+              },
+              "mainClass": "net.minecraft.client.main.Main"
+            }
+            """;
+
+    private static Version version(String id, String clientSha1) {
+        return Version.fromString(VERSION.formatted(id, clientSha1));
+    }
+
+    @Test
+    public void testPlanForPlatform() {
+        DownloadPlan linux = DownloadPlanner.plan(version("1.18", "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa"), LINUX);
+
+        Assertions.assertEquals(List.of(
+                "versions/1.18/1.18.jar",
+                "libraries/com/example/shared/1.0/shared-1.0.jar",
+                "libraries/com/example/platform/1.0/platform-1.0-natives-linux.jar",
+                "assets/indexes/1.18.json",
+                "assets/log_configs/client-1.12.xml"
+        ), linux.getEntries().stream().map(DownloadPlan.Entry::getPath).collect(Collectors.toList()));
+        Assertions.assertEquals(1000 + 10 + 30 + 100 + 50, linux.getTotalBytes());
+        Assertions.assertEquals(List.of("META-INF/"), linux.getEntries(DownloadPlan.Kind.NATIVES).get(0).getExtract().get().getExclude());
+
+        DownloadPlan windows = DownloadPlanner.plan(version("1.18", "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa"), WINDOWS);
+
+        Assertions.assertEquals(2, windows.getEntries(DownloadPlan.Kind.LIBRARY).size());
+        Assertions.assertEquals("libraries/com/example/platform/1.0/platform-1.0-natives-windows-32.jar", windows.getEntries(DownloadPlan.Kind.NATIVES).get(0).getPath());
+    }
+
+    @Test
+    public void testDeduplicatesAcrossVersions() {
+        DownloadPlan plan = new DownloadPlanner(LINUX)
+                .add(version("1.18", "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa"))
+                .add(version("1.18.1", "bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb"))
+                .plan();
+
+        Assertions.assertEquals(6, plan.size());
+        Assertions.assertEquals(2, plan.getEntries(DownloadPlan.Kind.CLIENT).size());
+        Assertions.assertEquals(2000 + 10 + 30 + 100 + 50, plan.getTotalBytes());
+        Assertions.assertEquals(plan, new DownloadPlanner(LINUX)
+                .add(version("1.18.1", "bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb"))
+                .add(version("1.18", "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa"))
+                .plan());
+    }
+
+    @Test
+    public void testSharedFileKeepsEveryPath() {
+        Version version = Version.fromString("""
+                {
+                  "id": "1.18",
+                  "libraries": [
+                    {
+                      "name": "com.example:relocated:1.0",
+                      "downloads": {"artifact": {"path": "org/example/relocated/1.0/relocated-1.0.jar", "sha1": "2222222222222222222222222222222222222222", "size": 10, "url": "https://libraries.minecraft.net/org/example/relocated/1.0/relocated-1.0.jar"}}
+                    },
+                    {
+                      "name": "com.example:shared:1.0",
+                      "downloads": {"artifact": {"path": "com/example/shared/1.0/shared-1.0.jar", "sha1": "2222222222222222222222222222222222222222", "size": 10, "url": "https://libraries.minecraft.net/com/example/shared/1.0/shared-1.0.jar"}}
+                    }
+                  ]
+                }
+                """);
+        DownloadPlan plan = DownloadPlanner.plan(version, LINUX);
+
+        Assertions.assertEquals(1, plan.size());
+        Assertions.assertEquals(10, plan.getTotalBytes());
+        Assertions.assertEquals(List.of(
+                "libraries/com/example/shared/1.0/shared-1.0.jar",
+                "libraries/org/example/relocated/1.0/relocated-1.0.jar"
+        ), plan.getEntries().get(0).getPaths());
+        Assertions.assertEquals("libraries/com/example/shared/1.0/shared-1.0.jar", plan.getEntries().get(0).getPath());
+    }
+
+    @Test
+    public void testUnverifiableFilesAreReported() {
+        DownloadPlan plan = DownloadPlanner.plan(version("1.18", "not a sha1"), LINUX);
+
+        Assertions.assertEquals(4, plan.size());
+        Assertions.assertTrue(plan.getEntries(DownloadPlan.Kind.CLIENT).isEmpty());
+        Assertions.assertEquals(1, plan.getUnverifiable().size());
+        Assertions.assertEquals("versions/1.18/1.18.jar", plan.getUnverifiable().get(0).getPath());
+        Assertions.assertEquals("not a sha1", plan.getUnverifiable().get(0).getFile().getSha1());
+        Assertions.assertNull(plan.getUnverifiable().get(0).getSha1Hash());
+    }
+
+    @Test
+    public void testLoggingWithoutClient() {
+        Version version = Version.fromString("""
+                {
+                  "id": "1.18",
+                  "downloads": {"client": {"sha1": "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa", "size": 1000, "url": "https://launcher.mojang.com/v1/objects/aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/client.jar"}},
+                  "logging": {}
+                }
+                """);
+        DownloadPlan plan = DownloadPlanner.plan(version, LINUX);
+
+        Assertions.assertEquals(1, plan.size());
+        Assertions.assertTrue(plan.getEntries(DownloadPlan.Kind.LOGGING).isEmpty());
+    }
+
+    @Test
+    public void testLibraryAlsoUsedAsNatives() {
+        String library = """
+                {
+                  "name": "com.example:platform:1.0",
+                  "downloads": {"artifact": {"path": "com/example/platform/1.0/platform-1.0.jar", "sha1": "4444444444444444444444444444444444444444", "size": 30, "url": "https://libraries.minecraft.net/com/example/platform/1.0/platform-1.0.jar"}}
+                }
+                """;
+        String natives = """
+                {
+                  "name": "com.example:%1$s:1.0",
+                  "natives": {"linux": "natives-linux"},
+                  "extract": {"exclude": %2$s},
+                  "downloads": {"classifiers": {"natives-linux": {"path": "com/example/%1$s/1.0/%1$s-1.0-natives-linux.jar", "sha1": "4444444444444444444444444444444444444444", "size": 30, "url": "https://libraries.minecraft.net/com/example/%1$s/1.0/%1$s-1.0-natives-linux.jar"}}}
+                }
+                """;
+        Version version = Version.fromString("{\"id\": \"1.18\", \"libraries\": [%s, %s, %s]}".formatted(
+                library,
+                natives.formatted("first", "[\"META-INF/\", \"first/\"]"),
+                natives.formatted("second", "[\"second/\", \"META-INF/\"]")
+        ));
+        DownloadPlan plan = DownloadPlanner.plan(version, LINUX);
+
+        Assertions.assertEquals(1, plan.size());
+        Assertions.assertTrue(plan.getEntries(DownloadPlan.Kind.LIBRARY).isEmpty());
+        DownloadPlan.Entry entry = plan.getEntries(DownloadPlan.Kind.NATIVES).get(0);
+        Assertions.assertEquals(List.of(
+                "libraries/com/example/first/1.0/first-1.0-natives-linux.jar",
+                "libraries/com/example/platform/1.0/platform-1.0.jar",
+                "libraries/com/example/second/1.0/second-1.0-natives-linux.jar"
+        ), entry.getPaths());
+        Assertions.assertEquals(List.of("META-INF/"), entry.getExtract().get().getExclude());
+
+        Version reversed = Version.fromString("{\"id\": \"1.18\", \"libraries\": [%s, %s]}".formatted(natives.formatted("first", "[]"), library));
+        Assertions.assertEquals(DownloadPlan.Kind.NATIVES, DownloadPlanner.plan(reversed, LINUX).getEntries().get(0).getKind());
+    }
+}
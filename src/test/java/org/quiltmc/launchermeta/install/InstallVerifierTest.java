@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.install;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.quiltmc.launchermeta.util.Sha1Hash;
+import org.quiltmc.launchermeta.version.v1.DownloadableFile;
+
+public class InstallVerifierTest {
+    private static final FileTime MODIFIED = FileTime.fromMillis(1_600_000_000_000L);
+
+    @TempDir
+    Path root;
+
+    private DownloadPlan.Entry install(String name, int size) throws IOException {
+        byte[] content = new byte[size];
+        new Random(name.hashCode()).nextBytes(content);
+        Path path = root.resolve("libraries").resolve(name);
+        Files.createDirectories(path.getParent());
+        Files.write(path, content);
+        Files.setLastModifiedTime(path, MODIFIED);
+        Sha1Hash sha1 = Sha1Hash.fromBytes(Sha1Hash.newDigest().digest(content));
+        return new DownloadPlan.Entry(DownloadPlan.Kind.LIBRARY, new DownloadableFile(sha1.toHex(), size, "https://libraries.minecraft.net/" + name), "libraries/" + name, null);
+    }
+
+    @Test
+    public void testStatuses() throws IOException, InterruptedException {
+        DownloadPlan.Entry valid = install("valid.jar", 10_000);
+        DownloadPlan.Entry missing = install("missing.jar", 10);
+        DownloadPlan.Entry truncated = install("truncated.jar", 100);
+        DownloadPlan.Entry corrupt = install("corrupt.jar", 100);
+        Files.delete(root.resolve(missing.getPath()));
+        Files.write(root.resolve(truncated.getPath()), new byte[50]);
+        Files.write(root.resolve(corrupt.getPath()), new byte[100]);
+
+        DownloadPlan plan = new DownloadPlan(new DownloadPlan.Entry[]{valid, missing, truncated, corrupt});
+        InstallVerifier.Report report = new InstallVerifier(root, null, 2).verify(plan);
+
+        Assertions.assertEquals(InstallVerifier.Status.VALID, report.getStatus(0));
+        Assertions.assertEquals(InstallVerifier.Status.MISSING, report.getStatus(1));
+        Assertions.assertEquals(InstallVerifier.Status.WRONG_SIZE, report.getStatus(2));
+        Assertions.assertEquals(InstallVerifier.Status.CORRUPT, report.getStatus(3));
+        Assertions.assertEquals(List.of(missing, truncated, corrupt), report.getBroken());
+        Assertions.assertEquals(2, report.getHashedCount());
+        Assertions.assertFalse(report.isIntact());
+    }
+
+    @Test
+    public void testSharedFileIsCheckedAtEveryPath() throws IOException, InterruptedException {
+        DownloadPlan.Entry entry = install("shared.jar", 100).withPath("libraries/relocated/shared.jar");
+        DownloadPlan plan = new DownloadPlan(new DownloadPlan.Entry[]{entry});
+        InstallVerifier verifier = new InstallVerifier(root, null, 2);
+
+        Assertions.assertEquals(InstallVerifier.Status.MISSING, verifier.verify(plan).getStatus(0));
+
+        Path copy = root.resolve("libraries/relocated/shared.jar");
+        Files.createDirectories(copy.getParent());
+        Files.copy(root.resolve("libraries/shared.jar"), copy);
+
+        InstallVerifier.Report report = verifier.verify(plan);
+        Assertions.assertTrue(report.isIntact());
+        Assertions.assertEquals(2, report.getHashedCount());
+    }
+
+    @Test
+    public void testCachedHashesSkipHashing() throws IOException, InterruptedException {
+        DownloadPlan plan = new DownloadPlan(new DownloadPlan.Entry[]{install("a.jar", 1000), install("b.jar", 2000), install("c.jar", 0)});
+        Path cacheFile = root.resolve("hashes.bin");
+
+        InstallVerifier.Report first = new InstallVerifier(root, FileHashCache.open(cacheFile), 4).verify(plan);
+        Assertions.assertTrue(first.isIntact());
+        Assertions.assertEquals(3, first.getHashedCount());
+
+        FileHashCache cache = FileHashCache.open(cacheFile);
+        Assertions.assertEquals(3, cache.size());
+
+        InstallVerifier.Report second = new InstallVerifier(root, cache, 4).verify(plan);
+        Assertions.assertTrue(second.isIntact());
+        Assertions.assertEquals(0, second.getHashedCount());
+
+        // Same size, new contents and modified time
+        Path changed = root.resolve("libraries/b.jar");
+        Files.write(changed, new byte[2000]);
+        Files.setLastModifiedTime(changed, FileTime.fromMillis(MODIFIED.toMillis() + 1000));
+
+        InstallVerifier.Report third = new InstallVerifier(root, cache, 4).verify(plan);
+        Assertions.assertEquals(1, third.getHashedCount());
+        Assertions.assertEquals(InstallVerifier.Status.CORRUPT, third.getStatus(1));
+    }
+
+    @Test
+    public void testRecentlyModifiedFilesAreNotCached() throws IOException, InterruptedException {
+        DownloadPlan.Entry entry = install("recent.jar", 100);
+        Files.setLastModifiedTime(root.resolve(entry.getPath()), FileTime.fromMillis(System.currentTimeMillis() - 1000));
+        DownloadPlan plan = new DownloadPlan(new DownloadPlan.Entry[]{entry});
+        FileHashCache cache = FileHashCache.open(root.resolve("hashes.bin"));
+
+        Assertions.assertTrue(new InstallVerifier(root, cache, 1).verify(plan).isIntact());
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(1, new InstallVerifier(root, cache, 1).verify(plan).getHashedCount());
+    }
+
+    @Test
+    public void testDamagedCacheIsIgnored() throws IOException {
+        Path cacheFile = root.resolve("hashes.bin");
+        Files.write(cacheFile, new byte[]{0x51, 0x4C, 0x48});
+
+        Assertions.assertEquals(0, FileHashCache.open(cacheFile).size());
+        Assertions.assertEquals(0, FileHashCache.open(root.resolve("missing.bin")).size());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.install;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.quiltmc.launchermeta.version.v1.DownloadableFile;
+import org.quiltmc.launchermeta.version.v1.Library;
+
+public class NativesExtractorTest {
+    @TempDir
+    Path root;
+    private Path natives;
+
+    @BeforeEach
+    public void resolveNatives() {
+        natives = root.resolve("natives");
+    }
+
+    private DownloadPlan.Entry jar(String name, Map<String, String> files, List<String> excludes) throws IOException {
+        Path jar = root.resolve("libraries").resolve(name);
+        Files.createDirectories(jar.getParent());
+
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new ZipEntry("META-INF/"));
+            out.closeEntry();
+
+            for (Map.Entry<String, String> file : files.entrySet()) {
+                out.putNextEntry(new ZipEntry(file.getKey()));
+                out.write(file.getValue().getBytes(StandardCharsets.UTF_8));
+                out.closeEntry();
+            }
+        }
+
+        DownloadableFile file = new DownloadableFile("0000000000000000000000000000000000000000", (int) Files.size(jar), "https://libraries.minecraft.net/" + name);
+        return new DownloadPlan.Entry(DownloadPlan.Kind.NATIVES, file, "libraries/" + name, new Library.Extract(excludes));
+    }
+
+    @Test
+    public void testExtractsAndSkips() throws IOException, InterruptedException {
+        DownloadPlan plan = new DownloadPlan(new DownloadPlan.Entry[]{
+                jar("lwjgl-natives.jar", Map.of("liblwjgl.so", "lwjgl", "META-INF/MANIFEST.MF", "Manifest-Version: 1.0"), List.of("META-INF/")),
+                jar("openal-natives.jar", Map.of("libopenal.so", "openal", "linux/x64/libglfw.so", "glfw", "META-INF/INDEX.LIST", "index"), List.of("META-INF/"))
+        });
+        NativesExtractor extractor = new NativesExtractor(root, 2);
+
+        NativesExtractor.Result first = extractor.extract(plan, natives);
+        Assertions.assertEquals(new NativesExtractor.Result(3, 0, 2), first);
+        Assertions.assertEquals("glfw", Files.readString(natives.resolve("linux/x64/libglfw.so")));
+        Assertions.assertFalse(Files.exists(natives.resolve("META-INF")));
+
+        Assertions.assertEquals(new NativesExtractor.Result(0, 3, 2), extractor.extract(plan, natives));
+
+        // Same size, different contents
+        Files.writeString(natives.resolve("liblwjgl.so"), "LWJGL");
+        Assertions.assertEquals(new NativesExtractor.Result(1, 2, 2), extractor.extract(plan, natives));
+        Assertions.assertEquals("lwjgl", Files.readString(natives.resolve("liblwjgl.so")));
+    }
+
+    @Test
+    public void testRejectsEntriesOutsideTarget() throws IOException {
+        DownloadPlan.Entry jar = jar("evil.jar", Map.of("../escape.so", "evil"), List.of());
+
+        Assertions.assertThrows(IOException.class, () -> new NativesExtractor(root, 1).extract(new DownloadPlan(new DownloadPlan.Entry[]{jar}), natives));
+        Assertions.assertFalse(Files.exists(root.resolve("escape.so")));
+    }
+
+    @Test
+    public void testExcludes() {
+        NativesExtractor.Excludes excludes = NativesExtractor.Excludes.compile(List.of("META-INF/", "META-INF/versions/", "lib/x86/", "README"));
+
+        Assertions.assertTrue(excludes.matches("META-INF/MANIFEST.MF"));
+        Assertions.assertTrue(excludes.matches("META-INF/versions/9/module-info.class"));
+        Assertions.assertTrue(excludes.matches("lib/x86/liblwjgl.so"));
+        Assertions.assertTrue(excludes.matches("README"));
+        Assertions.assertTrue(excludes.matches("README.md"));
+        Assertions.assertFalse(excludes.matches("lib/x64/liblwjgl.so"));
+        Assertions.assertFalse(excludes.matches("META-INF"));
+        Assertions.assertFalse(excludes.matches("liblwjgl.so"));
+        Assertions.assertFalse(NativesExtractor.Excludes.NONE.matches("META-INF/MANIFEST.MF"));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.launch;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.quiltmc.launchermeta.rules.Environment;
+import org.quiltmc.launchermeta.util.Sha1Hash;
+import org.quiltmc.launchermeta.version.v1.Version;
+
+public class ClasspathBuilderTest {
+    private static final Environment LINUX = new Environment(Environment.LINUX, "6.1.0", "x86_64", 0);
+    private static final Environment WINDOWS = new Environment(Environment.WINDOWS, "10.0", "x86_64", 0);
+    private static final Path ROOT = Paths.get("minecraft");
+    private static final Sha1Hash SHA1 = Sha1Hash.fromHex("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa");
+
+    private static final String VERSION = """
+            {
+              "id": "1.18",
+              "libraries": [
+                {"name": "com.example:a:1.0", "downloads": {"artifact": {"path": "com/example/a/1.0/a-1.0.jar", "sha1": "1111111111111111111111111111111111111111", "size": 1, "url": "https://libraries.minecraft.net/com/example/a/1.0/a-1.0.jar"}}},
+                {"name": "com.example:windows:1.0", "rules": [{"action": "allow", "os": {"name": "windows"}}], "downloads": {"artifact": {"path": "com/example/windows/1.0/windows-1.0.jar", "sha1": "2222222222222222222222222222222222222222", "size": 1, "url": "https://libraries.minecraft.net/com/example/windows/1.0/windows-1.0.jar"}}},
+                {"name": "com.example:natives:1.0", "natives": {"linux": "natives-linux"}, "downloads": {"classifiers": {"natives-linux": {"path": "com/example/natives/1.0/natives-1.0-natives-linux.jar", "sha1": "3333333333333333333333333333333333333333", "size": 1, "url": "https://libraries.minecraft.net/com/example/natives/1.0/natives-1.0-natives-linux.jar"}}}},
+                {"name": "net.fabricmc:fabric-loader:0.14.0"},
+                {"name": "com.example:a:1.0", "downloads": {"artifact": {"path": "com/example/a/1.0/a-1.0.jar", "sha1": "1111111111111111111111111111111111111111", "size": 1, "url": "https://libraries.minecraft.net/com/example/a/1.0/a-1.0.jar"}}}
+              ],
+              "mainClass": "net.minecraft.client.main.Main"
+            }
+            """;
+
+    @Test
+    public void testBuild() {
+        Version version = Version.fromString(VERSION);
+        Path libraries = ROOT.resolve("libraries");
+        Classpath linux = ClasspathBuilder.build(version, LINUX, ROOT);
+
+        Assertions.assertEquals(List.of(
+                libraries.resolve("com/example/a/1.0/a-1.0.jar"),
+                libraries.resolve("net/fabricmc/fabric-loader/0.14.0/fabric-loader-0.14.0.jar"),
+                ROOT.resolve("versions/1.18/1.18.jar")
+        ), linux.getPaths());
+        Assertions.assertEquals(linux.getPaths().get(0) + ":" + linux.getPaths().get(1) + ":" + linux.getPaths().get(2), linux.getString());
+
+        Classpath windows = ClasspathBuilder.build(version, WINDOWS, ROOT);
+        Assertions.assertEquals(4, windows.getPaths().size());
+        Assertions.assertEquals(";", windows.getSeparator());
+    }
+
+    @Test
+    public void testCache() {
+        Version version = Version.fromString(VERSION);
+        ClasspathBuilder builder = new ClasspathBuilder(2);
+
+        Classpath linux = builder.get(version, SHA1, LINUX, ROOT);
+        Assertions.assertSame(linux, builder.get(version, SHA1, LINUX, ROOT));
+        Assertions.assertNotSame(linux, builder.get(version, SHA1, LINUX, Paths.get("other")));
+        Assertions.assertEquals(2, builder.size());
+
+        // Evicts the least recently used entry, which is the other game directory
+        builder.get(version, SHA1, LINUX, ROOT);
+        builder.get(version, SHA1, WINDOWS, ROOT);
+        Assertions.assertEquals(2, builder.size());
+        Assertions.assertSame(linux, builder.get(version, SHA1, LINUX, ROOT));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.launch;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.quiltmc.launchermeta.install.DownloadPlanner;
+import org.quiltmc.launchermeta.rules.Environment;
+import org.quiltmc.launchermeta.rules.Feature;
+import org.quiltmc.launchermeta.rules.VersionRules;
+import org.quiltmc.launchermeta.version.v1.Version;
+
+public class LaunchArgumentsTest {
+    private static final Environment LINUX = new Environment(Environment.LINUX, "6.1.0", "x86_64", 0);
+    private static final Environment WINDOWS = new Environment(Environment.WINDOWS, "10.0", "x86_64", 0);
+
+    private static final String MODERN = """
+            {
+              "arguments": {
+                "game": [
+                  "--username", "${auth_player_name}",
+                  "--gameDir", "${game_directory}",
+                  {"rules": [{"action": "allow", "features": {"has_custom_resolution": true}}], "value": ["--width", "${resolution_width}"]}
+                ],
+                "jvm": [
+                  {"rules": [{"action": "allow", "os": {"name": "windows"}}], "value": "-XX:HeapDumpPath=MojangTricksIntelDriversForPerformance_javaw.exe_minecraft.exe.heapdump"},
+                  "-Djava.library.path=${natives_directory}",
+                  "-cp", "${classpath}"
+                ]
+              },
+              "id": "test",
+              "mainClass": "net.minecraft.client.main.Main"
+            }
+            """;
+
+    private static final String LEGACY = """
+            {
+              "minecraftArguments": "--username ${auth_player_name}  --version ${version_name} --uuid ${auth_uuid} --tweakClass \\"a b\\"",
+              "id": "legacy",
+              "mainClass": "net.minecraft.client.main.Main"
+            }
+            """;
+
+    private static final String GAME_ONLY = """
+            {
+              "arguments": {"game": ["--username", "${auth_player_name}"]},
+              "id": "profile",
+              "libraries": [],
+              "mainClass": "net.fabricmc.loader.impl.launch.knot.KnotClient"
+            }
+            """;
+
+    private static final Map<String, String> VARIABLES = Map.of(
+            "auth_player_name", "Player",
+            "game_directory", "/games/minecraft",
+            "natives_directory", "/games/natives",
+            "classpath", "a.jar:b.jar",
+            "version_name", "legacy",
+            "resolution_width", "854"
+    );
+
+    @Test
+    public void testTemplate() {
+        ArgumentTemplate template = ArgumentTemplate.compile("-Dpath=${natives_directory}/${unknown}/${broken");
+
+        Assertions.assertEquals(List.of("natives_directory", "unknown"), template.getPlaceholders());
+        Assertions.assertEquals("-Dpath=/games/natives/${unknown}/${broken", template.resolve(VARIABLES));
+        Assertions.assertTrue(ArgumentTemplate.compile("--demo").isConstant());
+    }
+
+    @Test
+    public void testModernArguments() {
+        LaunchArguments arguments = LaunchArguments.compile(Version.fromString(MODERN));
+
+        Assertions.assertFalse(arguments.isLegacy());
+        Assertions.assertEquals(List.of("--username", "Player", "--gameDir", "/games/minecraft"), arguments.resolveGame(LINUX, VARIABLES));
+        Assertions.assertEquals(List.of("--username", "Player", "--gameDir", "/games/minecraft", "--width", "854"), arguments.resolveGame(LINUX.withFeatures(Feature.CUSTOM_RESOLUTION), VARIABLES));
+        Assertions.assertEquals(List.of("-Djava.library.path=/games/natives", "-cp", "a.jar:b.jar"), arguments.resolveJvm(LINUX, VARIABLES));
+        Assertions.assertEquals(4, arguments.resolveJvm(WINDOWS, VARIABLES).size());
+
+        List<String> commandLine = new ArrayList<>();
+        arguments.appendCommandLine(LINUX, VARIABLES, "net.minecraft.client.main.Main", commandLine);
+        Assertions.assertEquals("net.minecraft.client.main.Main", commandLine.get(3));
+        Assertions.assertEquals(8, commandLine.size());
+    }
+
+    @Test
+    public void testLegacyArguments() {
+        LaunchArguments arguments = LaunchArguments.compile(Version.fromString(LEGACY));
+
+        Assertions.assertTrue(arguments.isLegacy());
+        Assertions.assertEquals(List.of("--username", "Player", "--version", "legacy", "--uuid", "${auth_uuid}", "--tweakClass", "a b"), arguments.resolveGame(LINUX, VARIABLES));
+        Assertions.assertEquals(List.of("-Djava.library.path=/games/natives", "-Dminecraft.launcher.brand=${launcher_name}", "-Dminecraft.launcher.version=${launcher_version}", "-cp", "a.jar:b.jar"), arguments.resolveJvm(LINUX, VARIABLES));
+        Assertions.assertEquals(8, arguments.resolveJvm(WINDOWS, VARIABLES).size());
+        Assertions.assertTrue(arguments.getPlaceholders().contains("auth_uuid"));
+    }
+
+    @Test
+    public void testPartialArguments() {
+        Version version = Version.fromString(GAME_ONLY);
+        LaunchArguments arguments = LaunchArguments.compile(version);
+
+        Assertions.assertFalse(arguments.isLegacy());
+        Assertions.assertEquals(List.of("--username", "Player"), arguments.resolveGame(LINUX, VARIABLES));
+        Assertions.assertEquals(List.of(), arguments.resolveJvm(LINUX, VARIABLES));
+        Assertions.assertEquals(List.of(), version.getNormalizedArguments().getJvm());
+        Assertions.assertNull(version.getArguments().get().getJvm());
+        Assertions.assertNotNull(VersionRules.of(version));
+        Assertions.assertEquals(List.of(Path.of("game/versions/profile/profile.jar")), ClasspathBuilder.build(version, LINUX, Path.of("game")).getPaths());
+        Assertions.assertTrue(DownloadPlanner.plan(version, LINUX).isEmpty());
+    }
+
+    @Test
+    public void testCompiledOncePerVersion() {
+        Version version = Version.fromString(MODERN);
+        LaunchArguments arguments = LaunchArguments.compile(version);
+
+        Assertions.assertSame(arguments, LaunchArguments.compile(version));
+        Assertions.assertSame(VersionRules.of(version), VersionRules.of(version));
+        Assertions.assertNotSame(arguments, LaunchArguments.compile(Version.fromString(MODERN)), "Equal versions are cached by identity");
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.net;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.quiltmc.launchermeta.TestServer;
+import org.quiltmc.launchermeta.cache.ContentCache;
+import org.quiltmc.launchermeta.util.Sha1Hash;
+import org.quiltmc.launchermeta.version.v1.Version;
+import org.quiltmc.launchermeta.version_manifest.VersionEntry;
+
+public class BulkVersionLoaderTest {
+    private static final String VERSION = """
+            {"id": "%s", "mainClass": "net.minecraft.client.main.Main", "type": "release"}
+            """;
+
+    private TestServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = TestServer.start(exchange -> {
+            String id = exchange.getRequestURI().getPath().substring(1);
+            byte[] body = id.equals("broken") ? "{".getBytes(StandardCharsets.UTF_8) : VERSION.formatted(id).getBytes(StandardCharsets.UTF_8);
+            TestServer.respond(exchange, id.equals("missing") ? 404 : 200, body);
+        });
+        baseUrl = server.getUrl("");
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void testFailuresAreIsolated() throws InterruptedException {
+        String goodSha1 = Sha1Hash.fromBytes(Sha1Hash.newDigest().digest(VERSION.formatted("checked").getBytes(StandardCharsets.UTF_8))).toHex();
+        List<VersionEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            entries.add(entry("v" + i, null));
+        }
+        entries.add(entry("missing", null));
+        entries.add(entry("broken", null));
+        entries.add(entry("checked", goodSha1));
+        entries.add(entry("tampered", goodSha1));
+
+        List<BulkVersionLoader.Result> results = new BulkVersionLoader(new UrlConnectionTransport(), 4).loadAll(entries);
+
+        Assertions.assertEquals(entries.size(), results.size());
+        for (BulkVersionLoader.Result result : results) {
+            String id = result.getEntry().getId();
+            boolean shouldFail = id.equals("missing") || id.equals("broken") || id.equals("tampered");
+            Assertions.assertEquals(!shouldFail, result.isSuccess(), id);
+            Assertions.assertEquals(shouldFail, result.getError().isPresent(), id);
+            result.getVersion().ifPresent(version -> Assertions.assertEquals(id, version.getId()));
+        }
+    }
+
+    @Test
+    public void testParallelismIsBounded() throws InterruptedException {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        Transport delegate = new UrlConnectionTransport();
+        Transport counting = url -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10);
+                return delegate.fetch(url);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        };
+        List<VersionEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            entries.add(entry("v" + i, null));
+        }
+
+        List<String> ids = new ArrayList<>();
+        new BulkVersionLoader(counting, 3).load(entries, result -> ids.add(result.getVersion().map(Version::getId).orElse(null)));
+
+        Assertions.assertEquals(30, ids.size());
+        Assertions.assertFalse(ids.contains(null));
+        Assertions.assertTrue(maxInFlight.get() <= 3, "At most 3 requests should be in flight, saw " + maxInFlight.get());
+    }
+
+    @Test
+    public void testCachedEntriesAreNotFetched(@TempDir Path root) throws IOException, InterruptedException {
+        AtomicInteger fetches = new AtomicInteger();
+        Transport delegate = new UrlConnectionTransport();
+        Transport counting = url -> {
+            fetches.incrementAndGet();
+            return delegate.fetch(url);
+        };
+        List<VersionEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String id = "v" + i;
+            entries.add(entry(id, Sha1Hash.fromBytes(Sha1Hash.newDigest().digest(VERSION.formatted(id).getBytes(StandardCharsets.UTF_8))).toHex()));
+        }
+
+        ContentCache cache = ContentCache.open(root, 1 << 20);
+        BulkVersionLoader loader = new BulkVersionLoader(counting, 2, Version::fromReader, cache);
+        List<BulkVersionLoader.Result> first = loader.loadAll(entries);
+        List<BulkVersionLoader.Result> second = loader.loadAll(entries);
+
+        Assertions.assertEquals(5, fetches.get());
+        Assertions.assertTrue(first.stream().noneMatch(BulkVersionLoader.Result::isCached));
+        Assertions.assertTrue(second.stream().allMatch(result -> result.isSuccess() && result.isCached()));
+        Assertions.assertTrue(cache.getMissing(entries).isEmpty());
+    }
+
+    @Test
+    public void testCorruptedCacheEntryIsFetchedAgain(@TempDir Path root) throws IOException {
+        AtomicInteger fetches = new AtomicInteger();
+        Transport delegate = new UrlConnectionTransport();
+        Transport counting = url -> {
+            fetches.incrementAndGet();
+            return delegate.fetch(url);
+        };
+        byte[] json = VERSION.formatted("v0").getBytes(StandardCharsets.UTF_8);
+        Sha1Hash sha1 = Sha1Hash.fromBytes(Sha1Hash.newDigest().digest(json));
+        ContentCache cache = ContentCache.open(root, 1 << 20);
+        cache.put(sha1, json);
+        Files.write(cache.getPath(sha1), "{".getBytes(StandardCharsets.UTF_8));
+
+        BulkVersionLoader.Result result = new BulkVersionLoader(counting, 1, Version::fromReader, cache).load(entry("v0", sha1.toHex()));
+
+        Assertions.assertTrue(result.isSuccess());
+        Assertions.assertFalse(result.isCached());
+        Assertions.assertEquals(1, fetches.get());
+        Assertions.assertArrayEquals(json, cache.get(sha1).get());
+    }
+
+    private VersionEntry entry(String id, String sha1) {
+        return new VersionEntry(id, "release", baseUrl + id, "2021-01-01T00:00:00+00:00", "2021-01-01T00:00:00+00:00", sha1, null);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.net;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.quiltmc.launchermeta.TestServer;
+import org.quiltmc.launchermeta.version_manifest.ManifestDiff;
+import org.quiltmc.launchermeta.version_manifest.VersionManifest;
+
+public class ManifestRefresherTest {
+    private static final String MANIFEST = """
+            {
+              "latest": {"release": "%1$s", "snapshot": "%1$s"},
+              "versions": [
+                {"id": "%1$s", "type": "release", "url": "https://example.com/%1$s.json", "time": "2021-11-30T09:16:29+00:00", "releaseTime": "2021-11-30T09:16:29+00:00"}
+              ]
+            }
+            """;
+
+    private final AtomicInteger fullResponses = new AtomicInteger();
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+    private volatile String latest = "1.18";
+    private TestServer server;
+    private String url;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = TestServer.start(exchange -> {
+            String etag = "\"" + latest + "\"";
+            exchange.getResponseHeaders().add("ETag", etag);
+
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModifiedResponses.incrementAndGet();
+                TestServer.respond(exchange, 304, null);
+                return;
+            }
+
+            fullResponses.incrementAndGet();
+            TestServer.respond(exchange, 200, MANIFEST.formatted(latest).getBytes(StandardCharsets.UTF_8));
+        });
+        url = server.getUrl("version_manifest_v2.json");
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void testNotModifiedSkipsParsing() throws IOException {
+        List<ManifestDiff> diffs = new CopyOnWriteArrayList<>();
+        ManifestRefresher refresher = new ManifestRefresher(new UrlConnectionTransport(), url, 1, 0, TimeUnit.MINUTES);
+        refresher.addListener(diffs::add);
+
+        Optional<ManifestDiff> first = refresher.refresh();
+        Assertions.assertTrue(first.isPresent());
+        Assertions.assertEquals(1, first.get().getAdded().size());
+        Assertions.assertEquals("1.18", refresher.getManifest().get().getLatestVersions().getRelease());
+
+        VersionManifest manifest = refresher.getManifest().get();
+        Assertions.assertFalse(refresher.refresh().isPresent());
+        Assertions.assertSame(manifest, refresher.getManifest().get());
+        Assertions.assertEquals(1, fullResponses.get());
+        Assertions.assertEquals(1, notModifiedResponses.get());
+
+        latest = "1.18.1";
+        ManifestDiff diff = refresher.refresh().get();
+        Assertions.assertEquals(1, diff.getAdded().size());
+        Assertions.assertEquals(1, diff.getRemoved().size());
+        Assertions.assertTrue(diff.isLatestReleaseMoved());
+        Assertions.assertEquals(2, diffs.size());
+    }
+
+    @Test
+    public void testThrowingListenerDoesNotStopOthers() throws IOException {
+        List<ManifestDiff> diffs = new CopyOnWriteArrayList<>();
+        IllegalStateException failure = new IllegalStateException("listener failed");
+        ManifestRefresher refresher = new ManifestRefresher(new UrlConnectionTransport(), url, 1, 0, TimeUnit.MINUTES);
+        refresher.addListener(diff -> {
+            throw failure;
+        });
+        refresher.addListener(diffs::add);
+
+        Optional<ManifestDiff> diff = refresher.refresh();
+        Assertions.assertTrue(diff.isPresent());
+        Assertions.assertEquals(List.of(diff.get()), diffs);
+        Assertions.assertSame(failure, refresher.getLastFailure().get());
+        Assertions.assertEquals("1.18", refresher.getManifest().get().getLatestVersions().getRelease());
+
+        Assertions.assertFalse(refresher.refresh().isPresent());
+        Assertions.assertFalse(refresher.getLastFailure().isPresent());
+    }
+
+    @Test
+    public void testBackgroundPolling() throws InterruptedException {
+        CountDownLatch changes = new CountDownLatch(2);
+
+        try (ManifestRefresher refresher = new ManifestRefresher(new UrlConnectionTransport(), url, 20, 10, TimeUnit.MILLISECONDS)) {
+            refresher.addListener(diff -> {
+                changes.countDown();
+                latest = "1.18.2";
+            });
+            refresher.start();
+
+            Assertions.assertTrue(changes.await(10, TimeUnit.SECONDS), "The refresher should pick up the change");
+            Assertions.assertEquals("1.18.2", refresher.getManifest().get().getLatestVersions().getRelease());
+            Assertions.assertFalse(refresher.getLastFailure().isPresent());
+        }
+    }
+
+    @Test
+    public void testPollingSurvivesErrors() throws InterruptedException {
+        CountDownLatch polls = new CountDownLatch(4);
+        UrlConnectionTransport delegate = new UrlConnectionTransport();
+        ConditionalTransport failingOnce = (url, validators) -> {
+            polls.countDown();
+
+            if (polls.getCount() == 3) {
+                throw new Error("transport failed");
+            }
+
+            return delegate.fetch(url, validators);
+        };
+        CountDownLatch changes = new CountDownLatch(1);
+
+        try (ManifestRefresher refresher = new ManifestRefresher(failingOnce, url, 20, 0, TimeUnit.MILLISECONDS)) {
+            refresher.addListener(diff -> {
+                throw new Error("listener failed");
+            });
+            refresher.addListener(diff -> changes.countDown());
+            refresher.start();
+
+            Assertions.assertTrue(changes.await(10, TimeUnit.SECONDS), "The refresher should keep polling after an error");
+            Assertions.assertEquals("1.18", refresher.getManifest().get().getLatestVersions().getRelease());
+            Assertions.assertTrue(polls.await(10, TimeUnit.SECONDS), "The refresher should keep polling after a listener error");
+        }
+    }
+}
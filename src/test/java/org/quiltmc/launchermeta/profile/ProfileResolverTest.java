@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.profile;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.quiltmc.launchermeta.version.v1.Arguments;
+import org.quiltmc.launchermeta.version.v1.LazyVersion;
+import org.quiltmc.launchermeta.version.v1.Library;
+import org.quiltmc.launchermeta.version.v1.Version;
+
+public class ProfileResolverTest {
+    private static final String VANILLA = """
+            {
+              "id": "1.18.2",
+              "arguments": {
+                "game": ["--username", "${auth_player_name}"],
+                "jvm": ["-cp", "${classpath}"]
+              },
+              "assetIndex": {"id": "1.18", "sha1": "1111111111111111111111111111111111111111", "size": 100, "totalSize": 1000, "url": "https://launchermeta.mojang.com/v1/packages/1111111111111111111111111111111111111111/1.18.json"},
+              "assets": "1.18",
+              "libraries": [
+                {"name": "org.ow2.asm:asm:9.1"},
+                {"name": "org.lwjgl:lwjgl:3.2.2"},
+                {"name": "org.lwjgl:lwjgl:3.2.2:natives-linux"}
+              ],
+              "mainClass": "net.minecraft.client.main.Main",
+              "minimumLauncherVersion": 21,
+              "releaseTime": "2022-02-28T10:42:45+00:00",
+              "time": "2022-02-28T10:42:45+00:00",
+              "type": "release"
+            }
+            """;
+
+    private static final String LOADER = """
+            {
+              "id": "quilt-loader-0.17.0-1.18.2",
+              "inheritsFrom": "1.18.2",
+              "arguments": {
+                "game": [],
+                "jvm": ["-DFabricMcEmu= net.minecraft.client.main.Main "]
+              },
+              "libraries": [
+                {"name": "org.ow2.asm:asm:9.3"},
+                {"name": "org.quiltmc:quilt-loader:0.17.0"}
+              ],
+              "mainClass": "org.quiltmc.loader.impl.launch.knot.KnotClient",
+              "releaseTime": "2022-06-01T00:00:00+00:00",
+              "time": "2022-06-01T00:00:00+00:00",
+              "type": "release"
+            }
+            """;
+
+    private static final String ADDON = """
+            {
+              "id": "addon",
+              "inheritsFrom": "quilt-loader-0.17.0-1.18.2",
+              "arguments": {"game": ["--addon"]},
+              "libraries": [{"name": "com.example:addon:1.0"}]
+            }
+            """;
+
+    @Test
+    public void testMerge() {
+        Map<String, Version> versions = new HashMap<>();
+        versions.put("1.18.2", Version.fromString(VANILLA));
+        versions.put("quilt-loader-0.17.0-1.18.2", Version.fromString(LOADER));
+        versions.put("addon", Version.fromString(ADDON));
+        ProfileResolver resolver = new ProfileResolver(versions::get);
+
+        Version vanilla = versions.get("1.18.2");
+        Version loader = resolver.get("quilt-loader-0.17.0-1.18.2");
+
+        Assertions.assertEquals("quilt-loader-0.17.0-1.18.2", loader.getId());
+        Assertions.assertFalse(loader.getInheritsFrom().isPresent());
+        Assertions.assertEquals("org.quiltmc.loader.impl.launch.knot.KnotClient", loader.getMainClass());
+        Assertions.assertEquals(List.of("org.ow2.asm:asm:9.3", "org.quiltmc:quilt-loader:0.17.0", "org.lwjgl:lwjgl:3.2.2", "org.lwjgl:lwjgl:3.2.2:natives-linux"), names(loader));
+        Assertions.assertSame(vanilla.getLibraries().get(1), loader.getLibraries().get(2));
+        Assertions.assertSame(vanilla.getAssetIndex(), loader.getAssetIndex());
+        Assertions.assertSame(vanilla.getArguments().get().getGame(), loader.getArguments().get().getGame());
+        Assertions.assertEquals(3, loader.getArguments().get().getJvm().size());
+        Assertions.assertEquals(21, loader.getMinimumLauncherVersion());
+        Assertions.assertEquals("2022-06-01T00:00:00+00:00", loader.getReleaseTime());
+
+        Version addon = resolver.get("addon");
+        Arguments arguments = addon.getArguments().get();
+        Assertions.assertEquals("com.example:addon:1.0", names(addon).get(0));
+        Assertions.assertEquals(5, names(addon).size());
+        Assertions.assertEquals(3, arguments.getGame().size());
+        Assertions.assertSame(loader.getArguments().get().getJvm(), arguments.getJvm());
+        Assertions.assertEquals("org.quiltmc.loader.impl.launch.knot.KnotClient", addon.getMainClass());
+        Assertions.assertEquals("release", addon.getType());
+    }
+
+    @Test
+    public void testParentsAreShared() {
+        AtomicInteger loads = new AtomicInteger();
+        ProfileResolver resolver = new ProfileResolver(id -> {
+            loads.incrementAndGet();
+            return id.equals("1.18.2") ? LazyVersion.fromString(VANILLA) : null;
+        });
+
+        Version first = resolver.resolve(Version.fromString(LOADER));
+        Version second = resolver.resolve(Version.fromString(LOADER.replace("0.17.0", "0.17.1")));
+
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(1, resolver.size());
+        Assertions.assertSame(first.getAssetIndex(), second.getAssetIndex());
+        Assertions.assertSame(first.getLibraries().get(2), second.getLibraries().get(2));
+        Assertions.assertSame(resolver.get("1.18.2"), resolver.resolve(resolver.get("1.18.2")));
+    }
+
+    @Test
+    public void testErrors() {
+        Map<String, Version> versions = new HashMap<>();
+        versions.put("a", Version.fromString("{\"id\": \"a\", \"inheritsFrom\": \"b\"}"));
+        versions.put("b", Version.fromString("{\"id\": \"b\", \"inheritsFrom\": \"a\"}"));
+        versions.put("orphan", Version.fromString("{\"id\": \"orphan\", \"inheritsFrom\": \"missing\"}"));
+        ProfileResolver resolver = new ProfileResolver(versions::get);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> resolver.get("a"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> resolver.get("orphan"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> resolver.get("missing"));
+    }
+
+    @Test
+    public void testInheritsFromRoundTrip() {
+        Version loader = Version.fromString(LOADER);
+
+        Assertions.assertEquals("1.18.2", loader.getInheritsFrom().get());
+        Assertions.assertEquals(loader, LazyVersion.fromString(LOADER));
+        Assertions.assertEquals(loader, Version.fromString(Version.newGsonBuilder().create().toJson(loader)));
+    }
+
+    private static List<String> names(Version version) {
+        return version.getLibraries().stream().map(Library::getName).collect(Collectors.toList());
+    }
+}
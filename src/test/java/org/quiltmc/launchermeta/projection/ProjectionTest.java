@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.projection;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.quiltmc.launchermeta.version.v1.AssetIndex;
+import org.quiltmc.launchermeta.version.v1.Version;
+import org.quiltmc.launchermeta.version_manifest.VersionManifest;
+
+public class ProjectionTest {
+    private static final String VERSION = """
+            {
+              "arguments": {"game": ["--username", "${auth_player_name}"], "jvm": ["-cp", "${classpath}"]},
+              "assetIndex": {"id": "1.18", "sha1": "84b7e6f2f8ef1e5d1f1b4d2f7f2f7bd2f4d8a0a1", "size": 383626, "totalSize": 346566271, "url": "https://piston-meta.mojang.com/v1/packages/84b7e6f2f8ef1e5d1f1b4d2f7f2f7bd2f4d8a0a1/1.18.json"},
+              "id": "1.18",
+              "libraries": [
+                {
+                  "downloads": {
+                    "artifact": {"path": "com/mojang/logging/1.0.0/logging-1.0.0.jar", "sha1": "f6ca3b2eee0b80b384e8ed93d368faecb82dfb9b", "size": 15343, "url": "https://libraries.minecraft.net/com/mojang/logging/1.0.0/logging-1.0.0.jar"}
+                  },
+                  "name": "com.mojang:logging:1.0.0",
+                  "rules": [{"action": "allow", "os": {"name": "osx"}}]
+                },
+                {"name": "org.quiltmc:unknown:1.0.0", "extra": {"nested": [1, 2, {"deep": null}]}}
+              ],
+              "mainClass": "net.minecraft.client.main.Main",
+              "type": "release"
+            }
+            """;
+
+    private static final String MANIFEST = """
+            {
+              "latest": {"release": "1.18", "snapshot": "1.18"},
+              "versions": [
+                {"id": "1.18", "type": "release", "url": "https://piston-meta.mojang.com/v1/packages/1.18.json", "time": "2021-11-30T09:16:29+00:00", "releaseTime": "2021-11-30T09:16:29+00:00"}
+              ]
+            }
+            """;
+
+    public static class Slim {
+        String id;
+        AssetIndex assetIndex;
+    }
+
+    public static class WithMap {
+        Map<String, List<String>> arguments;
+    }
+
+    @Test
+    public void testTreeOnlyHasProjectedFields() {
+        JsonElement tree = Projection.of("id", "libraries[*].downloads.artifact.path").read(new StringReader(VERSION));
+
+        Assertions.assertEquals(JsonParser.parseString("""
+                {
+                  "id": "1.18",
+                  "libraries": [
+                    {"downloads": {"artifact": {"path": "com/mojang/logging/1.0.0/logging-1.0.0.jar"}}},
+                    {}
+                  ]
+                }
+                """), tree);
+    }
+
+    @Test
+    public void testPartialVersion() {
+        Version full = Version.fromString(VERSION);
+        Version partial = Projection.of("libraries[*].downloads.artifact", "libraries[*].name", "libraries.rules").readVersion(new StringReader(VERSION));
+
+        Assertions.assertNull(partial.getId());
+        Assertions.assertFalse(partial.getArguments().isPresent());
+        Assertions.assertEquals(full.getLibraries(), partial.getLibraries());
+    }
+
+    @Test
+    public void testTypedProjection() {
+        Slim slim = Projection.of("id", "assetIndex").read(new StringReader(VERSION), Slim.class);
+
+        Assertions.assertEquals("1.18", slim.id);
+        Assertions.assertEquals(Version.fromString(VERSION).getAssetIndex(), slim.assetIndex);
+    }
+
+    @Test
+    public void testProjectionWithMapField() {
+        WithMap withMap = Projection.of("arguments").read(new StringReader(VERSION), WithMap.class);
+
+        Assertions.assertEquals(Map.of("game", List.of("--username", "${auth_player_name}"), "jvm", List.of("-cp", "${classpath}")), withMap.arguments);
+    }
+
+    @Test
+    public void testManifestProjection() {
+        VersionManifest manifest = Projection.of("versions[*].id", "versions[*].url").readManifest(new StringReader(MANIFEST));
+
+        Assertions.assertNull(manifest.getLatestVersions());
+        Assertions.assertEquals("1.18", manifest.getVersions().get(0).getId());
+        Assertions.assertEquals("https://piston-meta.mojang.com/v1/packages/1.18.json", manifest.getVersions().get(0).getUrl());
+        Assertions.assertNull(manifest.getVersions().get(0).getType());
+        Assertions.assertEquals(List.of("versions[*].id", "versions[*].url"), Projection.of("versions[*].id", "versions[*].url").getPaths());
+    }
+}
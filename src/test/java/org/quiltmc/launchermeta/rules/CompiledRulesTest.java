@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.rules;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.quiltmc.launchermeta.version.v1.Rule;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompiledRulesTest {
+    private static final Environment LINUX = new Environment(Environment.LINUX, "6.1.0", "x86_64", 0);
+    private static final Environment OLD_OSX = new Environment(Environment.OSX, "10.5.8", "x86_64", 0);
+    private static final Environment NEW_OSX = new Environment(Environment.OSX, "14.1", "arm64", 0);
+
+    @Test
+    void testEmptyRulesAllowEverything() {
+        assertSame(CompiledRules.ALWAYS, CompiledRules.compile(List.of()));
+        assertTrue(CompiledRules.ALWAYS.test(LINUX));
+    }
+
+    @Test
+    void testLastMatchingRuleWins() {
+        CompiledRules rules = CompiledRules.compile(List.of(
+                new Rule("allow", null, null),
+                new Rule("disallow", new Rule.OS("osx", null, null), null)
+        ));
+
+        assertTrue(rules.test(LINUX));
+        assertFalse(rules.test(NEW_OSX));
+    }
+
+    @Test
+    void testNoMatchingRuleDisallows() {
+        CompiledRules rules = CompiledRules.compile(List.of(new Rule("allow", new Rule.OS("osx", "^10\\.5\\.\\d$", null), null)));
+
+        assertTrue(rules.test(OLD_OSX));
+        assertFalse(rules.test(NEW_OSX));
+        assertFalse(rules.test(LINUX));
+    }
+
+    @Test
+    void testArchAndFeatures() {
+        CompiledRules arch = CompiledRules.compile(List.of(new Rule("allow", new Rule.OS(null, null, "x86"), null)));
+        CompiledRules demo = CompiledRules.compile(List.of(new Rule("allow", null, new Rule.Features(true, null, null, null, null, null))));
+
+        assertFalse(arch.test(LINUX));
+        assertTrue(arch.test(new Environment(Environment.WINDOWS, "10.0", "x86", 0)));
+        assertFalse(demo.test(LINUX));
+        assertTrue(demo.test(LINUX.withFeatures(Feature.DEMO_USER)));
+        assertTrue(demo.dependsOnFeatures());
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.snapshot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.quiltmc.launchermeta.TestUtil;
+import org.quiltmc.launchermeta.version.v1.Version;
+import org.quiltmc.launchermeta.version_manifest.LatestVersions;
+import org.quiltmc.launchermeta.version_manifest.VersionEntry;
+import org.quiltmc.launchermeta.version_manifest.VersionManifest;
+
+public class SnapshotTest {
+    private static final String MANIFEST_URL = "https://piston-meta.mojang.com/mc/game/version_manifest_v2.json";
+
+    private static final String LIBRARY = """
+            {
+              "downloads": {
+                "artifact": {
+                  "path": "com/mojang/patchy/1.1/patchy-1.1.jar",
+                  "sha1": "aef610b34a1be37fa851825f12372b78424d8903",
+                  "size": 15817,
+                  "url": "https://libraries.minecraft.net/com/mojang/patchy/1.1/patchy-1.1.jar"
+                }
+              },
+              "name": "com.mojang:patchy:1.1"
+            }
+            """;
+
+    private static final String VERSION = """
+            {
+              "assetIndex": {"id": "1.12", "sha1": "1584b57c1b0e8c2d1c2a5b1b9f8b5b8e1b2a3c4d", "size": 143138, "totalSize": 129336389, "url": "https://launchermeta.mojang.com/v1/packages/1584b57c1b0e8c2d1c2a5b1b9f8b5b8e1b2a3c4d/1.12.json"},
+              "assets": "1.12",
+              "downloads": {"client": {"sha1": "0f275bc1547d01fa5f56ba34bdc87d981ee12daf", "size": 10180113, "url": "https://launcher.mojang.com/v1/objects/0f275bc1547d01fa5f56ba34bdc87d981ee12daf/client.jar"}},
+              "id": "%s",
+              "libraries": [%s, {"name": "org.lwjgl:lwjgl:3.3.3", "rules": [{"action": "allow", "os": {"name": "osx", "version": "^10\\\\.5\\\\.\\\\d$"}}]}],
+              "minecraftArguments": "--username ${auth_player_name}",
+              "mainClass": "net.minecraft.client.main.Main",
+              "minimumLauncherVersion": 18,
+              "releaseTime": "2017-09-18T08:39:46+00:00",
+              "time": "2017-09-18T08:39:46+00:00",
+              "type": "release"
+            }
+            """;
+
+    @Test
+    public void testRoundTripSharesLibraries() throws IOException {
+        Version first = Version.fromString(VERSION.formatted("first", LIBRARY));
+        Version second = Version.fromString(VERSION.formatted("second", LIBRARY));
+        VersionManifest manifest = new VersionManifest(new LatestVersions("first", "second"), List.of(
+                new VersionEntry("first", "release", "https://piston-meta.mojang.com/v1/packages/first.json", "2017-09-18T08:39:46+00:00", "2017-09-18T08:39:46+00:00", null, null),
+                new VersionEntry("second", "snapshot", "https://piston-meta.mojang.com/v1/packages/second.json", "2017-09-18T08:39:46+00:00", "2017-09-18T08:39:46+00:00", "0f275bc1547d01fa5f56ba34bdc87d981ee12daf", 1)
+        ));
+
+        Snapshot snapshot = Snapshot.of(SnapshotWriter.toByteArray(manifest, List.of(first, second)));
+
+        Assertions.assertEquals(manifest, snapshot.getManifest());
+        Assertions.assertEquals(List.of("first", "second"), snapshot.getVersionIds());
+        Assertions.assertEquals(2, snapshot.getLibraryCount());
+        Assertions.assertEquals(first, snapshot.getVersion("first").get());
+        Assertions.assertEquals(second, snapshot.getVersion("second").get());
+        Assertions.assertSame(snapshot.getVersion("first").get(), snapshot.getVersion("first").get());
+        Assertions.assertSame(snapshot.getVersion("first").get().getLibraries().get(0), snapshot.getVersion("second").get().getLibraries().get(0));
+        Assertions.assertFalse(snapshot.getVersion("third").isPresent());
+        Assertions.assertThrows(IOException.class, () -> Snapshot.of(new byte[32]));
+    }
+
+    @Test
+    public void testRoundTripKeepsMalformedSha1() throws IOException {
+        Version upper = Version.fromString(VERSION.formatted("upper", LIBRARY.replace("aef610b34a1be37fa851825f12372b78424d8903", "AEF610B34A1BE37FA851825F12372B78424D8903")));
+        Version malformed = Version.fromString(VERSION.formatted("malformed", LIBRARY.replace("aef610b34a1be37fa851825f12372b78424d8903", "not a sha1")));
+        VersionManifest manifest = new VersionManifest(new LatestVersions("upper", "malformed"), List.of());
+
+        Snapshot snapshot = Snapshot.of(SnapshotWriter.toByteArray(manifest, List.of(upper, malformed)));
+
+        Assertions.assertEquals(upper, snapshot.getVersion("upper").get());
+        Assertions.assertEquals(malformed, snapshot.getVersion("malformed").get());
+        Assertions.assertEquals("not a sha1", snapshot.getVersion("malformed").get().getLibraries().get(0).getDownloads().getArtifact().get().getSha1());
+    }
+
+    @Test
+    public void testMappedSnapshotOfManifest() throws IOException {
+        VersionManifest manifest = VersionManifest.fromJson(TestUtil.getJsonFromURL(MANIFEST_URL));
+        List<Version> versions = manifest.getVersions()
+                .stream()
+                .limit(25)
+                .map(entry -> {
+                    try {
+                        return Version.fromJson(TestUtil.getJsonFromURL(entry.getUrl()));
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                })
+                .collect(Collectors.toList());
+        Path file = Files.createTempFile("versions", ".snapshot");
+
+        try {
+            SnapshotWriter.write(manifest, versions, file);
+            Snapshot snapshot = Snapshot.open(file);
+
+            Assertions.assertEquals(manifest, snapshot.getManifest());
+            for (Version version : versions) {
+                Assertions.assertEquals(version, snapshot.getVersion(version.getId()).get());
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BoundedCacheTest {
+    @Test
+    public void testEqualityAndEviction() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(2);
+        AtomicInteger computed = new AtomicInteger();
+
+        Assertions.assertEquals(Integer.valueOf(1), cache.get("a", key -> computed.incrementAndGet()));
+        Assertions.assertEquals(Integer.valueOf(1), cache.get(new String("a"), key -> computed.incrementAndGet()));
+        Assertions.assertEquals(Integer.valueOf(2), cache.get("b", key -> computed.incrementAndGet()));
+
+        // Reading a makes b the least recently used entry
+        cache.get("a", key -> computed.incrementAndGet());
+        Assertions.assertEquals(Integer.valueOf(3), cache.get("c", key -> computed.incrementAndGet()));
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(Integer.valueOf(1), cache.get("a", key -> computed.incrementAndGet()));
+        Assertions.assertEquals(Integer.valueOf(4), cache.get("b", key -> computed.incrementAndGet()));
+
+        cache.clear();
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BoundedCache<String, Integer>(0));
+    }
+}
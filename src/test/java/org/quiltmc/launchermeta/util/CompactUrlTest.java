@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CompactUrlTest {
+    @Test
+    public void testKnownPrefix() {
+        String full = "https://libraries.minecraft.net/org/lwjgl/lwjgl/3.3.1/lwjgl-3.3.1.jar";
+        CompactUrl url = CompactUrl.of(full);
+
+        Assertions.assertEquals("https://libraries.minecraft.net/", url.getPrefix());
+        Assertions.assertEquals("org/lwjgl/lwjgl/3.3.1/lwjgl-3.3.1.jar", url.getSuffix());
+        Assertions.assertEquals(full, url.toString());
+        Assertions.assertEquals(url, CompactUrl.of(url.getPrefixId(), url.getSuffix()));
+        Assertions.assertEquals(url.hashCode(), CompactUrl.of(full).hashCode());
+    }
+
+    @Test
+    public void testUnknownPrefix() {
+        String full = "https://example.com/maven/a.jar";
+        CompactUrl url = CompactUrl.of(full);
+
+        Assertions.assertEquals(0, url.getPrefixId());
+        Assertions.assertEquals("", url.getPrefix());
+        Assertions.assertEquals(full, url.getSuffix());
+        Assertions.assertEquals(full, url.toString());
+
+        // Only an exact prefix match counts, including the scheme
+        Assertions.assertEquals(0, CompactUrl.of("http://libraries.minecraft.net/a.jar").getPrefixId());
+        Assertions.assertEquals("", CompactUrl.of("").toString());
+    }
+
+    @Test
+    public void testPrefixIds() {
+        CompactUrl url = CompactUrl.of(0, "https://libraries.minecraft.net/a.jar");
+
+        // Ids passed in are normalized to the longest known prefix
+        Assertions.assertEquals(CompactUrl.of("https://libraries.minecraft.net/a.jar"), url);
+        Assertions.assertEquals("a.jar", url.getSuffix());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CompactUrl.of(-1, "a.jar"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CompactUrl.of(Byte.MAX_VALUE, "a.jar"));
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class IdentityCacheTest {
+    @Test
+    public void testIdentityAndEviction() {
+        IdentityCache<String, Integer> cache = new IdentityCache<>(2);
+        AtomicInteger computed = new AtomicInteger();
+        String a = new String("a");
+        String equalToA = new String("a");
+        String b = "b";
+
+        Assertions.assertEquals(Integer.valueOf(1), cache.get(a, key -> computed.incrementAndGet()));
+        Assertions.assertEquals(Integer.valueOf(1), cache.get(a, key -> computed.incrementAndGet()));
+        Assertions.assertEquals(Integer.valueOf(2), cache.get(equalToA, key -> computed.incrementAndGet()));
+        Assertions.assertEquals(2, cache.size());
+
+        // Reading a makes equalToA the least recently used entry
+        cache.get(a, key -> computed.incrementAndGet());
+        Assertions.assertEquals(Integer.valueOf(3), cache.get(b, key -> computed.incrementAndGet()));
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(Integer.valueOf(1), cache.get(a, key -> computed.incrementAndGet()));
+        Assertions.assertEquals(Integer.valueOf(4), cache.get(equalToA, key -> computed.incrementAndGet()));
+
+        cache.clear();
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new IdentityCache<String, Integer>(0));
+    }
+}
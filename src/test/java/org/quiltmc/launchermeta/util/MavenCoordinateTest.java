@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.util;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.quiltmc.launchermeta.version.v1.Library;
+
+public class MavenCoordinateTest {
+    @Test
+    public void testParse() {
+        MavenCoordinate plain = MavenCoordinate.parse("org.lwjgl:lwjgl:3.3.1");
+        Assertions.assertEquals("org.lwjgl", plain.getGroup());
+        Assertions.assertEquals("lwjgl", plain.getArtifact());
+        Assertions.assertEquals("3.3.1", plain.getVersion());
+        Assertions.assertEquals(Optional.empty(), plain.getClassifier());
+        Assertions.assertEquals("jar", plain.getExtension());
+        Assertions.assertEquals("org/lwjgl/lwjgl/3.3.1/lwjgl-3.3.1.jar", plain.getPath());
+        Assertions.assertEquals("org.lwjgl:lwjgl:3.3.1", plain.toString());
+
+        MavenCoordinate full = MavenCoordinate.parse("org.lwjgl:lwjgl:3.3.1:natives-linux@zip");
+        Assertions.assertEquals(Optional.of("natives-linux"), full.getClassifier());
+        Assertions.assertEquals("zip", full.getExtension());
+        Assertions.assertEquals("org/lwjgl/lwjgl/3.3.1/lwjgl-3.3.1-natives-linux.zip", full.getPath());
+        Assertions.assertEquals("org.lwjgl:lwjgl:3.3.1:natives-linux@zip", full.toString());
+        Assertions.assertEquals("https://libraries.minecraft.net/org/lwjgl/lwjgl/3.3.1/lwjgl-3.3.1-natives-linux.zip", full.getUrl("https://libraries.minecraft.net"));
+        Assertions.assertEquals(full.getUrl("https://libraries.minecraft.net"), full.getUrl("https://libraries.minecraft.net/"));
+        Assertions.assertEquals(MavenCoordinate.parse("org.lwjgl:lwjgl:3.3.1:natives-linux"), plain.withClassifier("natives-linux"));
+    }
+
+    @Test
+    public void testSharing() {
+        MavenCoordinate a = MavenCoordinate.parse("com.mojang:brigadier:1.0.18");
+        MavenCoordinate b = MavenCoordinate.parse("com.mojang:brigadier:1.2.9");
+
+        Assertions.assertSame(a, MavenCoordinate.parse("com.mojang:brigadier:1.0.18"));
+        Assertions.assertSame(a.getModuleKey(), b.getModuleKey());
+        Assertions.assertEquals("com.mojang:brigadier", a.getModuleKey());
+
+        Library library = new Library(null, "com.mojang:brigadier:1.0.18", null, null, null);
+        Assertions.assertSame(a, library.getCoordinate());
+    }
+
+    @Test
+    public void testInvalid() {
+        for (String invalid : new String[]{"", "a", "a:b", ":b:c", "a::c", "a:b:", "a:b:c:", "a:b:c:d:e", "a:b:c@", "a:b@jar"}) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> MavenCoordinate.parse(invalid), invalid);
+        }
+    }
+}
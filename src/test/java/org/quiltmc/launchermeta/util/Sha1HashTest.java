@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class Sha1HashTest {
+    private static final String EMPTY = "da39a3ee5e6b4b0d3255bfef95601890afd80709";
+
+    @Test
+    public void testRoundTrip() {
+        Sha1Hash hash = Sha1Hash.fromHex(EMPTY);
+
+        Assertions.assertEquals(EMPTY, hash.toHex());
+        Assertions.assertEquals(hash, Sha1Hash.fromBytes(hash.toByteArray()));
+        Assertions.assertEquals(hash, Sha1Hash.of(hash.getHigh(), hash.getMiddle(), hash.getLow()));
+        Assertions.assertEquals(hash, Sha1Hash.fromDigest(Sha1Hash.newDigest()));
+
+        Sha1Hash high = Sha1Hash.fromHex("ffffffffffffffffffffffffffffffffffffffff");
+        Assertions.assertEquals("ffffffffffffffffffffffffffffffffffffffff", high.toHex());
+        Assertions.assertTrue(high.compareTo(hash) > 0);
+    }
+
+    @Test
+    public void testUppercase() {
+        Sha1Hash upper = Sha1Hash.fromHex(EMPTY.toUpperCase(Locale.ROOT));
+
+        Assertions.assertEquals(Sha1Hash.fromHex(EMPTY), upper);
+        Assertions.assertEquals(EMPTY, upper.toHex());
+        Assertions.assertTrue(upper.matchesHex(EMPTY.toUpperCase(Locale.ROOT)));
+        Assertions.assertTrue(Sha1Hash.isValidHex(EMPTY.toUpperCase(Locale.ROOT)));
+    }
+
+    @Test
+    public void testInvalid() {
+        Assertions.assertFalse(Sha1Hash.isValidHex(""));
+        Assertions.assertFalse(Sha1Hash.isValidHex(EMPTY.substring(1)));
+        Assertions.assertFalse(Sha1Hash.isValidHex(EMPTY + "0"));
+        Assertions.assertFalse(Sha1Hash.isValidHex(EMPTY.replace('d', 'g')));
+        Assertions.assertFalse(Sha1Hash.isValidHex(EMPTY.replace('d', '\u00e9')));
+        Assertions.assertFalse(Sha1Hash.fromHex(EMPTY).matchesHex("not a hash"));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Sha1Hash.fromHex(""));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Sha1Hash.fromHex(EMPTY.substring(1)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Sha1Hash.fromHex(EMPTY.replace('d', 'g')));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Sha1Hash.fromBytes("too short".getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 QuiltMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.quiltmc.launchermeta.version.v1;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LegacyArgumentsTest {
+    @Test
+    public void testTokenize() {
+        Assertions.assertEquals(List.of("--username", "${auth_player_name}", "--gameDir", "${game_directory}"), LegacyArguments.tokenize("  --username ${auth_player_name}\t--gameDir  ${game_directory} "));
+        Assertions.assertEquals(List.of("--title", "Minecraft 1.5", "--dir", "C:\\games\\mc", ""), LegacyArguments.tokenize("--title \"Minecraft 1.5\" --dir C:\\games\\mc ''"));
+        Assertions.assertEquals(List.of("say \"hi\"", "it's"), LegacyArguments.tokenize("\"say \\\"hi\\\"\" it\"'\"s"));
+        Assertions.assertTrue(LegacyArguments.tokenize(" ").isEmpty());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LegacyArguments.tokenize("--title \"Minecraft"));
+    }
+
+    @Test
+    public void testNormalizedArguments() {
+        String json = """
+                {
+                  "id": "1.12.2",
+                  "minecraftArguments": "--username ${auth_player_name} --version ${version_name}",
+                  "mainClass": "net.minecraft.client.main.Main"
+                }
+                """;
+        Version version = Version.fromString(json);
+        Arguments arguments = version.getNormalizedArguments();
+
+        Assertions.assertEquals(List.of("--username", "${auth_player_name}", "--version", "${version_name}"), arguments.getGame().stream().map(argument -> argument.getValue().get(0)).collect(Collectors.toList()));
+        Assertions.assertTrue(arguments.getGame().stream().allMatch(argument -> argument.getRules().isEmpty()));
+        Assertions.assertSame(LegacyArguments.JVM, arguments.getJvm());
+        Assertions.assertSame(arguments, version.getNormalizedArguments());
+        Assertions.assertSame(arguments, LazyVersion.fromString(json.replace("1.12.2", "1.12.1")).getNormalizedArguments());
+        Assertions.assertFalse(version.getArguments().isPresent());
+
+        Version modern = Version.fromString("{\"id\": \"1.13\", \"arguments\": {\"game\": [\"--demo\"], \"jvm\": []}}");
+        Assertions.assertSame(modern.getArguments().get(), modern.getNormalizedArguments());
+    }
+}
@@ -16,13 +16,18 @@
 package org.quiltmc.launchermeta.version.v1;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import org.quiltmc.launchermeta.TestUtil;
+import org.quiltmc.launchermeta.util.Sha1Hash;
 import org.quiltmc.launchermeta.version_manifest.VersionManifest;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -34,6 +39,123 @@ public class VersionTest {
     // Manually grabbed from the snapshot webpage: https://www.minecraft.net/en-us/article/minecraft-snapshot-25w45a
     // Verifies that nothing changed with the un-obfuscations
     private static final String VERSION_25W45A_UNOBFUSCATED = "{\"arguments\": {\"game\": [\"--username\", \"${auth_player_name}\", \"--version\", \"${version_name}\", \"--gameDir\", \"${game_directory}\", \"--assetsDir\", \"${assets_root}\", \"--assetIndex\", \"${assets_index_name}\", \"--uuid\", \"${auth_uuid}\", \"--accessToken\", \"${auth_access_token}\", \"--clientId\", \"${clientid}\", \"--xuid\", \"${auth_xuid}\", \"--versionType\", \"${version_type}\", {\"rules\": [{\"action\": \"allow\", \"features\": {\"is_demo_user\": true}}], \"value\": \"--demo\"}, {\"rules\": [{\"action\": \"allow\", \"features\": {\"has_custom_resolution\": true}}], \"value\": [\"--width\", \"${resolution_width}\", \"--height\", \"${resolution_height}\"]}, {\"rules\": [{\"action\": \"allow\", \"features\": {\"has_quick_plays_support\": true}}], \"value\": [\"--quickPlayPath\", \"${quickPlayPath}\"]}, {\"rules\": [{\"action\": \"allow\", \"features\": {\"is_quick_play_singleplayer\": true}}], \"value\": [\"--quickPlaySingleplayer\", \"${quickPlaySingleplayer}\"]}, {\"rules\": [{\"action\": \"allow\", \"features\": {\"is_quick_play_multiplayer\": true}}], \"value\": [\"--quickPlayMultiplayer\", \"${quickPlayMultiplayer}\"]}, {\"rules\": [{\"action\": \"allow\", \"features\": {\"is_quick_play_realms\": true}}], \"value\": [\"--quickPlayRealms\", \"${quickPlayRealms}\"]}], \"jvm\": [{\"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"osx\"}}], \"value\": [\"-XstartOnFirstThread\"]}, {\"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}], \"value\": \"-XX:HeapDumpPath=MojangTricksIntelDriversForPerformance_javaw.exe_minecraft.exe.heapdump\"}, {\"rules\": [{\"action\": \"allow\", \"os\": {\"arch\": \"x86\"}}], \"value\": \"-Xss1M\"}, \"-Djava.library.path=${natives_directory}\", \"-Djna.tmpdir=${natives_directory}\", \"-Dorg.lwjgl.system.SharedLibraryExtractPath=${natives_directory}\", \"-Dio.netty.native.workdir=${natives_directory}\", \"-Dminecraft.launcher.brand=${launcher_name}\", \"-Dminecraft.launcher.version=${launcher_version}\", \"-cp\", \"${classpath}\"]}, \"assetIndex\": {\"id\": \"28\", \"sha1\": \"b4092cb1d72de044b9958b51d0a72a0a2b986649\", \"size\": 523741, \"totalSize\": 438151109, \"url\": \"https://piston-meta.mojang.com/v1/packages/b4092cb1d72de044b9958b51d0a72a0a2b986649/28.json\"}, \"assets\": \"28\", \"complianceLevel\": 1, \"downloads\": {\"client\": {\"sha1\": \"26551033b7b935436f3407b85d14cac835e65640\", \"size\": 36575283, \"url\": \"https://piston-data.mojang.com/v1/objects/26551033b7b935436f3407b85d14cac835e65640/client.jar\"}, \"server\": {\"sha1\": \"2d3568cd561daad8e80fdc605e64270ae8dd8aba\", \"size\": 59568557, \"url\": \"https://piston-data.mojang.com/v1/objects/2d3568cd561daad8e80fdc605e64270ae8dd8aba/server.jar\"}}, \"id\": \"25w45a_unobfuscated\", \"javaVersion\": {\"component\": \"java-runtime-delta\", \"majorVersion\": 21}, \"libraries\": [{\"downloads\": {\"artifact\": {\"path\": \"ca/weblite/java-objc-bridge/1.1/java-objc-bridge-1.1.jar\", \"sha1\": \"1227f9e0666314f9de41477e3ec277e542ed7f7b\", \"size\": 1330045, \"url\": \"https://libraries.minecraft.net/ca/weblite/java-objc-bridge/1.1/java-objc-bridge-1.1.jar\"}}, \"name\": \"ca.weblite:java-objc-bridge:1.1\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"osx\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"com/azure/azure-json/1.4.0/azure-json-1.4.0.jar\", \"sha1\": \"fcc1d354dbc3e0300e5276b1bf124d0247799cd8\", \"size\": 325945, \"url\": \"https://libraries.minecraft.net/com/azure/azure-json/1.4.0/azure-json-1.4.0.jar\"}}, \"name\": \"com.azure:azure-json:1.4.0\"}, {\"downloads\": {\"artifact\": {\"path\": \"com/github/oshi/oshi-core/6.9.0/oshi-core-6.9.0.jar\", \"sha1\": \"03224870731860cfcd7744581a05b559e94291e7\", \"size\": 1022125, \"url\": \"https://libraries.minecraft.net/com/github/oshi/oshi-core/6.9.0/oshi-core-6.9.0.jar\"}}, \"name\": \"com.github.oshi:oshi-core:6.9.0\"}, {\"downloads\": {\"artifact\": {\"path\": \"com/google/code/gson/gson/2.13.2/gson-2.13.2.jar\", \"sha1\": \"48b8230771e573b54ce6e867a9001e75977fe78e\", \"size\": 289901, \"url\": \"https://libraries.minecraft.net/com/google/code/gson/gson/2.13.2/gson-2.13.2.jar\"}}, \"name\": \"com.google.code.gson:gson:2.13.2\"}, {\"downloads\": {\"artifact\": {\"path\": \"com/google/guava/failureaccess/1.0.3/failureaccess-1.0.3.jar\", \"sha1\": \"aeaffd00d57023a2c947393ed251f0354f0985fc\", \"size\": 10763, \"url\": \"https://libraries.minecraft.net/com/google/guava/failureaccess/1.0.3/failureaccess-1.0.3.jar\"}}, \"name\": \"com.google.guava:failureaccess:1.0.3\"}, {\"downloads\": {\"artifact\": {\"path\": \"com/google/guava/guava/33.5.0-jre/guava-33.5.0-jre.jar\", \"sha1\": \"8699de25f2f979108d6c1b804a7ba38cda1116bc\", \"size\": 3017283, \"url\": \"https://libraries.minecraft.net/com/google/guava/guava/33.5.0-jre/guava-33.5.0-jre.jar\"}}, \"name\": \"com.google.guava:guava:33.5.0-jre\"}, {\"downloads\": {\"artifact\": {\"path\": \"com/ibm/icu/icu4j/77.1/icu4j-77.1.jar\", \"sha1\": \"38693cf0b1d7362a8b726af74dc06026a7c23809\", \"size\": 14663227, \"url\": \"https://libraries.minecraft.net/com/ibm/icu/icu4j/77.1/icu4j-77.1.jar\"}}, \"name\": \"com.ibm.icu:icu4j:77.1\"}, {\"downloads\": {\"artifact\": {\"path\": \"com/microsoft/azure/msal4j/1.23.1/msal4j-1.23.1.jar\", \"sha1\": \"6c722b514873b24a4e1ce9c22dca36ea3c22bdbe\", \"size\": 392813, \"url\": \"https://libraries.minecraft.net/com/microsoft/azure/msal4j/1.23.1/msal4j-1.23.1.jar\"}}, \"name\": \"com.microsoft.azure:msal4j:1.23.1\"}, {\"downloads\": {\"artifact\": {\"path\": \"com/mojang/authlib/7.0.61/authlib-7.0.61.jar\", \"sha1\": \"efee1e6b54e863108576eb3b3ae71144626aaefc\", \"size\": 116084, \"url\": \"https://libraries.minecraft.net/com/mojang/authlib/7.0.61/authlib-7.0.61.jar\"}}, \"name\": \"com.mojang:authlib:7.0.61\"}, {\"downloads\": {\"artifact\": {\"path\": \"com/mojang/blocklist/1.0.10/blocklist-1.0.10.jar\", \"sha1\": \"5c685c5ffa94c4cd39496c7184c1d122e515ecef\", \"size\": 964, \"url\": \"https://libraries.minecraft.net/com/mojang/blocklist/1.0.10/blocklist-1.0.10.jar\"}}, \"name\": \"com.mojang:blocklist:1.0.10\"}, {\"downloads\": {\"artifact\": {\"path\": \"com/mojang/brigadier/1.3.10/brigadier-1.3.10.jar\", \"sha1\": \"d15b53a14cf20fdcaa98f731af5dda654452c010\", \"size\": 80082, \"url\": \"https://libraries.minecraft.net/com/mojang/brigadier/1.3.10/brigadier-1.3.10.jar\"}}, \"name\": \"com.mojang:brigadier:1.3.10\"}, {\"downloads\": {\"artifact\": {\"path\": \"com/mojang/datafixerupper/9.0.19/datafixerupper-9.0.19.jar\", \"sha1\": \"4e91f9712fa1e83231d1501625381b0210a977da\", \"size\": 731440, \"url\": \"https://libraries.minecraft.net/com/mojang/datafixerupper/9.0.19/datafixerupper-9.0.19.jar\"}}, \"name\": \"com.mojang:datafixerupper:9.0.19\"}, {\"downloads\": {\"artifact\": {\"path\": \"com/mojang/jtracy/1.0.36/jtracy-1.0.36.jar\", \"sha1\": \"20a63d06b621bfeb3cb21ef51b7fa40c0fc22021\", \"size\": 12876, \"url\": \"https://libraries.minecraft.net/com/mojang/jtracy/1.0.36/jtracy-1.0.36.jar\"}}, \"name\": \"com.mojang:jtracy:1.0.36\"}, {\"downloads\": {\"artifact\": {\"path\": \"com/mojang/jtracy/1.0.36/jtracy-1.0.36-natives-linux.jar\", \"sha1\": \"8f2967c139b024bf80024a3eab63e906c3ee2e5b\", \"size\": 193941, \"url\": \"https://libraries.minecraft.net/com/mojang/jtracy/1.0.36/jtracy-1.0.36-natives-linux.jar\"}}, \"name\": \"com.mojang:jtracy:1.0.36:natives-linux\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"linux\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"com/mojang/jtracy/1.0.36/jtracy-1.0.36-natives-macos.jar\", \"sha1\": \"fc14ac6acc30865d390e87ac57fc758e4393ef60\", \"size\": 181363, \"url\": \"https://libraries.minecraft.net/com/mojang/jtracy/1.0.36/jtracy-1.0.36-natives-macos.jar\"}}, \"name\": \"com.mojang:jtracy:1.0.36:natives-macos\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"osx\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"com/mojang/jtracy/1.0.36/jtracy-1.0.36-natives-macos-arm64.jar\", \"sha1\": \"4be9270dc14eb021954445e8895dff223875ace6\", \"size\": 195554, \"url\": \"https://libraries.minecraft.net/com/mojang/jtracy/1.0.36/jtracy-1.0.36-natives-macos-arm64.jar\"}}, \"name\": \"com.mojang:jtracy:1.0.36:natives-macos-arm64\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"osx\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"com/mojang/jtracy/1.0.36/jtracy-1.0.36-natives-windows.jar\", \"sha1\": \"b42bc771ab0d38a920258dd771eaf4f3c08011fa\", \"size\": 47599, \"url\": \"https://libraries.minecraft.net/com/mojang/jtracy/1.0.36/jtracy-1.0.36-natives-windows.jar\"}}, \"name\": \"com.mojang:jtracy:1.0.36:natives-windows\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"com/mojang/logging/1.6.11/logging-1.6.11.jar\", \"sha1\": \"0fd147240733010c158249d986323f9ef98977fe\", \"size\": 20706, \"url\": \"https://libraries.minecraft.net/com/mojang/logging/1.6.11/logging-1.6.11.jar\"}}, \"name\": \"com.mojang:logging:1.6.11\"}, {\"downloads\": {\"artifact\": {\"path\": \"com/mojang/patchy/2.2.10/patchy-2.2.10.jar\", \"sha1\": \"da05971b07cbb379d002cf7eaec6a2048211fefc\", \"size\": 4439, \"url\": \"https://libraries.minecraft.net/com/mojang/patchy/2.2.10/patchy-2.2.10.jar\"}}, \"name\": \"com.mojang:patchy:2.2.10\"}, {\"downloads\": {\"artifact\": {\"path\": \"com/mojang/text2speech/1.18.11/text2speech-1.18.11.jar\", \"sha1\": \"e853a12cdd6ba4f4836e8f4bf3b37844a13482b6\", \"size\": 13842, \"url\": \"https://libraries.minecraft.net/com/mojang/text2speech/1.18.11/text2speech-1.18.11.jar\"}}, \"name\": \"com.mojang:text2speech:1.18.11\"}, {\"downloads\": {\"artifact\": {\"path\": \"commons-codec/commons-codec/1.19.0/commons-codec-1.19.0.jar\", \"sha1\": \"8c0dbe3ae883fceda9b50a6c76e745e548073388\", \"size\": 374716, \"url\": \"https://libraries.minecraft.net/commons-codec/commons-codec/1.19.0/commons-codec-1.19.0.jar\"}}, \"name\": \"commons-codec:commons-codec:1.19.0\"}, {\"downloads\": {\"artifact\": {\"path\": \"commons-io/commons-io/2.20.0/commons-io-2.20.0.jar\", \"sha1\": \"36f3474daec2849c149e877614e7f979b2082cd2\", \"size\": 563971, \"url\": \"https://libraries.minecraft.net/commons-io/commons-io/2.20.0/commons-io-2.20.0.jar\"}}, \"name\": \"commons-io:commons-io:2.20.0\"}, {\"downloads\": {\"artifact\": {\"path\": \"io/netty/netty-buffer/4.2.7.Final/netty-buffer-4.2.7.Final.jar\", \"sha1\": \"5555ff561643bf2f8430fb57c24403c0efe15994\", \"size\": 373323, \"url\": \"https://libraries.minecraft.net/io/netty/netty-buffer/4.2.7.Final/netty-buffer-4.2.7.Final.jar\"}}, \"name\": \"io.netty:netty-buffer:4.2.7.Final\"}, {\"downloads\": {\"artifact\": {\"path\": \"io/netty/netty-codec-base/4.2.7.Final/netty-codec-base-4.2.7.Final.jar\", \"sha1\": \"915e381ebabcf115f1c7ff7032d55c48afb50210\", \"size\": 152980, \"url\": \"https://libraries.minecraft.net/io/netty/netty-codec-base/4.2.7.Final/netty-codec-base-4.2.7.Final.jar\"}}, \"name\": \"io.netty:netty-codec-base:4.2.7.Final\"}, {\"downloads\": {\"artifact\": {\"path\": \"io/netty/netty-codec-compression/4.2.7.Final/netty-codec-compression-4.2.7.Final.jar\", \"sha1\": \"572341bc1ca90fd9d6e47f1d2694aab5258566e9\", \"size\": 182886, \"url\": \"https://libraries.minecraft.net/io/netty/netty-codec-compression/4.2.7.Final/netty-codec-compression-4.2.7.Final.jar\"}}, \"name\": \"io.netty:netty-codec-compression:4.2.7.Final\"}, {\"downloads\": {\"artifact\": {\"path\": \"io/netty/netty-codec-http/4.2.7.Final/netty-codec-http-4.2.7.Final.jar\", \"sha1\": \"b734c108854099c421fd94d92d9f865e4d4da853\", \"size\": 683327, \"url\": \"https://libraries.minecraft.net/io/netty/netty-codec-http/4.2.7.Final/netty-codec-http-4.2.7.Final.jar\"}}, \"name\": \"io.netty:netty-codec-http:4.2.7.Final\"}, {\"downloads\": {\"artifact\": {\"path\": \"io/netty/netty-common/4.2.7.Final/netty-common-4.2.7.Final.jar\", \"sha1\": \"11aa30df26af4fca3239ac1917f303a280f301e1\", \"size\": 789111, \"url\": \"https://libraries.minecraft.net/io/netty/netty-common/4.2.7.Final/netty-common-4.2.7.Final.jar\"}}, \"name\": \"io.netty:netty-common:4.2.7.Final\"}, {\"downloads\": {\"artifact\": {\"path\": \"io/netty/netty-handler/4.2.7.Final/netty-handler-4.2.7.Final.jar\", \"sha1\": \"7ad8a1f851e2e6fe93cdd091871fda2b81c03b5b\", \"size\": 581349, \"url\": \"https://libraries.minecraft.net/io/netty/netty-handler/4.2.7.Final/netty-handler-4.2.7.Final.jar\"}}, \"name\": \"io.netty:netty-handler:4.2.7.Final\"}, {\"downloads\": {\"artifact\": {\"path\": \"io/netty/netty-resolver/4.2.7.Final/netty-resolver-4.2.7.Final.jar\", \"sha1\": \"5f3e5ef8de03992cd4fb46960dc0085ec1a12a12\", \"size\": 38454, \"url\": \"https://libraries.minecraft.net/io/netty/netty-resolver/4.2.7.Final/netty-resolver-4.2.7.Final.jar\"}}, \"name\": \"io.netty:netty-resolver:4.2.7.Final\"}, {\"downloads\": {\"artifact\": {\"path\": \"io/netty/netty-transport-classes-epoll/4.2.7.Final/netty-transport-classes-epoll-4.2.7.Final.jar\", \"sha1\": \"1075c09f48a78eef9d819fbfd9096b903fdd362a\", \"size\": 156228, \"url\": \"https://libraries.minecraft.net/io/netty/netty-transport-classes-epoll/4.2.7.Final/netty-transport-classes-epoll-4.2.7.Final.jar\"}}, \"name\": \"io.netty:netty-transport-classes-epoll:4.2.7.Final\"}, {\"downloads\": {\"artifact\": {\"path\": \"io/netty/netty-transport-classes-kqueue/4.2.7.Final/netty-transport-classes-kqueue-4.2.7.Final.jar\", \"sha1\": \"bdec7c23c75caabd848426d073c09568e8d5f94e\", \"size\": 117794, \"url\": \"https://libraries.minecraft.net/io/netty/netty-transport-classes-kqueue/4.2.7.Final/netty-transport-classes-kqueue-4.2.7.Final.jar\"}}, \"name\": \"io.netty:netty-transport-classes-kqueue:4.2.7.Final\"}, {\"downloads\": {\"artifact\": {\"path\": \"io/netty/netty-transport-native-epoll/4.2.7.Final/netty-transport-native-epoll-4.2.7.Final-linux-aarch_64.jar\", \"sha1\": \"98d02251c98c8f07a23ac5ea27657d9e0ef57614\", \"size\": 43408, \"url\": \"https://libraries.minecraft.net/io/netty/netty-transport-native-epoll/4.2.7.Final/netty-transport-native-epoll-4.2.7.Final-linux-aarch_64.jar\"}}, \"name\": \"io.netty:netty-transport-native-epoll:4.2.7.Final:linux-aarch_64\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"linux\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"io/netty/netty-transport-native-epoll/4.2.7.Final/netty-transport-native-epoll-4.2.7.Final-linux-x86_64.jar\", \"sha1\": \"e83998bfc10b5289d9bcbe807c4079ef0eed8e6f\", \"size\": 41810, \"url\": \"https://libraries.minecraft.net/io/netty/netty-transport-native-epoll/4.2.7.Final/netty-transport-native-epoll-4.2.7.Final-linux-x86_64.jar\"}}, \"name\": \"io.netty:netty-transport-native-epoll:4.2.7.Final:linux-x86_64\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"linux\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"io/netty/netty-transport-native-kqueue/4.2.7.Final/netty-transport-native-kqueue-4.2.7.Final-osx-aarch_64.jar\", \"sha1\": \"e5a0feef41410c8a5ae00c6cb4e0c99bd0aded6a\", \"size\": 27122, \"url\": \"https://libraries.minecraft.net/io/netty/netty-transport-native-kqueue/4.2.7.Final/netty-transport-native-kqueue-4.2.7.Final-osx-aarch_64.jar\"}}, \"name\": \"io.netty:netty-transport-native-kqueue:4.2.7.Final:osx-aarch_64\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"osx\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"io/netty/netty-transport-native-kqueue/4.2.7.Final/netty-transport-native-kqueue-4.2.7.Final-osx-x86_64.jar\", \"sha1\": \"40868fd4e43bce2798245f790624b58803dc26b6\", \"size\": 26463, \"url\": \"https://libraries.minecraft.net/io/netty/netty-transport-native-kqueue/4.2.7.Final/netty-transport-native-kqueue-4.2.7.Final-osx-x86_64.jar\"}}, \"name\": \"io.netty:netty-transport-native-kqueue:4.2.7.Final:osx-x86_64\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"osx\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"io/netty/netty-transport-native-unix-common/4.2.7.Final/netty-transport-native-unix-common-4.2.7.Final.jar\", \"sha1\": \"89953f04259ea7502cffb313630dd51e00e60669\", \"size\": 46861, \"url\": \"https://libraries.minecraft.net/io/netty/netty-transport-native-unix-common/4.2.7.Final/netty-transport-native-unix-common-4.2.7.Final.jar\"}}, \"name\": \"io.netty:netty-transport-native-unix-common:4.2.7.Final\"}, {\"downloads\": {\"artifact\": {\"path\": \"io/netty/netty-transport/4.2.7.Final/netty-transport-4.2.7.Final.jar\", \"sha1\": \"83ea548981d0d8c4a98027cc1a6f9624f902e142\", \"size\": 562559, \"url\": \"https://libraries.minecraft.net/io/netty/netty-transport/4.2.7.Final/netty-transport-4.2.7.Final.jar\"}}, \"name\": \"io.netty:netty-transport:4.2.7.Final\"}, {\"downloads\": {\"artifact\": {\"path\": \"it/unimi/dsi/fastutil/8.5.18/fastutil-8.5.18.jar\", \"sha1\": \"a6cff377eecc19c2037bf31568a6d7106b50ba1f\", \"size\": 23965563, \"url\": \"https://libraries.minecraft.net/it/unimi/dsi/fastutil/8.5.18/fastutil-8.5.18.jar\"}}, \"name\": \"it.unimi.dsi:fastutil:8.5.18\"}, {\"downloads\": {\"artifact\": {\"path\": \"net/java/dev/jna/jna-platform/5.17.0/jna-platform-5.17.0.jar\", \"sha1\": \"a4934c44d25a9d8c2ddf4203affd20330cb3426f\", \"size\": 1378617, \"url\": \"https://libraries.minecraft.net/net/java/dev/jna/jna-platform/5.17.0/jna-platform-5.17.0.jar\"}}, \"name\": \"net.java.dev.jna:jna-platform:5.17.0\"}, {\"downloads\": {\"artifact\": {\"path\": \"net/java/dev/jna/jna/5.17.0/jna-5.17.0.jar\", \"sha1\": \"33d12735bef894440780fce64f9758d420c7bae2\", \"size\": 2002589, \"url\": \"https://libraries.minecraft.net/net/java/dev/jna/jna/5.17.0/jna-5.17.0.jar\"}}, \"name\": \"net.java.dev.jna:jna:5.17.0\"}, {\"downloads\": {\"artifact\": {\"path\": \"net/sf/jopt-simple/jopt-simple/5.0.4/jopt-simple-5.0.4.jar\", \"sha1\": \"4fdac2fbe92dfad86aa6e9301736f6b4342a3f5c\", \"size\": 78146, \"url\": \"https://libraries.minecraft.net/net/sf/jopt-simple/jopt-simple/5.0.4/jopt-simple-5.0.4.jar\"}}, \"name\": \"net.sf.jopt-simple:jopt-simple:5.0.4\"}, {\"downloads\": {\"artifact\": {\"path\": \"org/apache/commons/commons-compress/1.28.0/commons-compress-1.28.0.jar\", \"sha1\": \"e482f2c7a88dac3c497e96aa420b6a769f59c8d7\", \"size\": 1117221, \"url\": \"https://libraries.minecraft.net/org/apache/commons/commons-compress/1.28.0/commons-compress-1.28.0.jar\"}}, \"name\": \"org.apache.commons:commons-compress:1.28.0\"}, {\"downloads\": {\"artifact\": {\"path\": \"org/apache/commons/commons-lang3/3.19.0/commons-lang3-3.19.0.jar\", \"sha1\": \"d6524b169a6574cd253760c472d419b47bfd37e6\", \"size\": 709075, \"url\": \"https://libraries.minecraft.net/org/apache/commons/commons-lang3/3.19.0/commons-lang3-3.19.0.jar\"}}, \"name\": \"org.apache.commons:commons-lang3:3.19.0\"}, {\"downloads\": {\"artifact\": {\"path\": \"org/apache/logging/log4j/log4j-api/2.25.2/log4j-api-2.25.2.jar\", \"sha1\": \"292c1a2b1702f1e1e3adb13e1c57e5bff60335ff\", \"size\": 349595, \"url\": \"https://libraries.minecraft.net/org/apache/logging/log4j/log4j-api/2.25.2/log4j-api-2.25.2.jar\"}}, \"name\": \"org.apache.logging.log4j:log4j-api:2.25.2\"}, {\"downloads\": {\"artifact\": {\"path\": \"org/apache/logging/log4j/log4j-core/2.25.2/log4j-core-2.25.2.jar\", \"sha1\": \"d4d0ad2e51e03e531f784891fbfff1bae1e13a12\", \"size\": 2018265, \"url\": \"https://libraries.minecraft.net/org/apache/logging/log4j/log4j-core/2.25.2/log4j-core-2.25.2.jar\"}}, \"name\": \"org.apache.logging.log4j:log4j-core:2.25.2\"}, {\"downloads\": {\"artifact\": {\"path\": \"org/apache/logging/log4j/log4j-slf4j2-impl/2.25.2/log4j-slf4j2-impl-2.25.2.jar\", \"sha1\": \"5eec0c392661dee8a366baec17e8896900dd978f\", \"size\": 30232, \"url\": \"https://libraries.minecraft.net/org/apache/logging/log4j/log4j-slf4j2-impl/2.25.2/log4j-slf4j2-impl-2.25.2.jar\"}}, \"name\": \"org.apache.logging.log4j:log4j-slf4j2-impl:2.25.2\"}, {\"downloads\": {\"artifact\": {\"path\": \"org/jcraft/jorbis/0.0.17/jorbis-0.0.17.jar\", \"sha1\": \"8872d22b293e8f5d7d56ff92be966e6dc28ebdc6\", \"size\": 99701, \"url\": \"https://libraries.minecraft.net/org/jcraft/jorbis/0.0.17/jorbis-0.0.17.jar\"}}, \"name\": \"org.jcraft:jorbis:0.0.17\"}, {\"downloads\": {\"artifact\": {\"path\": \"org/joml/joml/1.10.8/joml-1.10.8.jar\", \"sha1\": \"fc0a71dad90a2cf41d82a76156a0e700af8e4f8d\", \"size\": 778846, \"url\": \"https://libraries.minecraft.net/org/joml/joml/1.10.8/joml-1.10.8.jar\"}}, \"name\": \"org.joml:joml:1.10.8\"}, {\"downloads\": {\"artifact\": {\"path\": \"org/jspecify/jspecify/1.0.0/jspecify-1.0.0.jar\", \"sha1\": \"7425a601c1c7ec76645a78d22b8c6a627edee507\", \"size\": 3819, \"url\": \"https://libraries.minecraft.net/org/jspecify/jspecify/1.0.0/jspecify-1.0.0.jar\"}}, \"name\": \"org.jspecify:jspecify:1.0.0\"}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-freetype/3.3.3/lwjgl-freetype-3.3.3.jar\", \"sha1\": \"a0db6c84a8becc8ca05f9dbfa985edc348a824c7\", \"size\": 450896, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-freetype/3.3.3/lwjgl-freetype-3.3.3.jar\"}}, \"name\": \"org.lwjgl:lwjgl-freetype:3.3.3\"}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-freetype/3.3.3/lwjgl-freetype-3.3.3-natives-linux.jar\", \"sha1\": \"149070a5480900347071b7074779531f25a6e3dc\", \"size\": 1245129, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-freetype/3.3.3/lwjgl-freetype-3.3.3-natives-linux.jar\"}}, \"name\": \"org.lwjgl:lwjgl-freetype:3.3.3:natives-linux\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"linux\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-freetype/3.3.3/lwjgl-freetype-3.3.3-natives-macos-arm64.jar\", \"sha1\": \"b0a8c9baa9d1f54ac61e1ab9640c7659e7fa700c\", \"size\": 1040981, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-freetype/3.3.3/lwjgl-freetype-3.3.3-natives-macos-arm64.jar\"}}, \"name\": \"org.lwjgl:lwjgl-freetype:3.3.3:natives-macos-arm64\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"osx\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-freetype/3.3.3/lwjgl-freetype-3.3.3-natives-macos-patch.jar\", \"sha1\": \"806d869f37ce0df388a24e17aaaf5ca0894d851b\", \"size\": 1071983, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-freetype/3.3.3/lwjgl-freetype-3.3.3-natives-macos-patch.jar\"}}, \"name\": \"org.lwjgl:lwjgl-freetype:3.3.3:natives-macos-patch\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"osx\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-freetype/3.3.3/lwjgl-freetype-3.3.3-natives-windows.jar\", \"sha1\": \"81091b006dbb43fab04c8c638e9ac87c51b4096d\", \"size\": 1035586, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-freetype/3.3.3/lwjgl-freetype-3.3.3-natives-windows.jar\"}}, \"name\": \"org.lwjgl:lwjgl-freetype:3.3.3:natives-windows\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-freetype/3.3.3/lwjgl-freetype-3.3.3-natives-windows-arm64.jar\", \"sha1\": \"82028265a0a2ff33523ca75137ada7dc176e5210\", \"size\": 886068, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-freetype/3.3.3/lwjgl-freetype-3.3.3-natives-windows-arm64.jar\"}}, \"name\": \"org.lwjgl:lwjgl-freetype:3.3.3:natives-windows-arm64\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-freetype/3.3.3/lwjgl-freetype-3.3.3-natives-windows-x86.jar\", \"sha1\": \"15a8c1de7f51d07a92eae7ce1222557073a0c0c3\", \"size\": 877480, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-freetype/3.3.3/lwjgl-freetype-3.3.3-natives-windows-x86.jar\"}}, \"name\": \"org.lwjgl:lwjgl-freetype:3.3.3:natives-windows-x86\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-glfw/3.3.3/lwjgl-glfw-3.3.3.jar\", \"sha1\": \"efa1eb78c5ccd840e9f329717109b5e892d72f8e\", \"size\": 135546, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-glfw/3.3.3/lwjgl-glfw-3.3.3.jar\"}}, \"name\": \"org.lwjgl:lwjgl-glfw:3.3.3\"}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-glfw/3.3.3/lwjgl-glfw-3.3.3-natives-linux.jar\", \"sha1\": \"a03684c5e4b1b1dbbe0d29dbbdc27b985b6840f2\", \"size\": 118478, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-glfw/3.3.3/lwjgl-glfw-3.3.3-natives-linux.jar\"}}, \"name\": \"org.lwjgl:lwjgl-glfw:3.3.3:natives-linux\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"linux\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-glfw/3.3.3/lwjgl-glfw-3.3.3-natives-macos.jar\", \"sha1\": \"a1bf400f6bc64e6195596cb1430dafda46090751\", \"size\": 140884, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-glfw/3.3.3/lwjgl-glfw-3.3.3-natives-macos.jar\"}}, \"name\": \"org.lwjgl:lwjgl-glfw:3.3.3:natives-macos\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"osx\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-glfw/3.3.3/lwjgl-glfw-3.3.3-natives-macos-arm64.jar\", \"sha1\": \"ee8cc78d0a4a5b3b4600fade6d927c9fc320c858\", \"size\": 138288, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-glfw/3.3.3/lwjgl-glfw-3.3.3-natives-macos-arm64.jar\"}}, \"name\": \"org.lwjgl:lwjgl-glfw:3.3.3:natives-macos-arm64\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"osx\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-glfw/3.3.3/lwjgl-glfw-3.3.3-natives-windows.jar\", \"sha1\": \"e449e28b4891fc423c54c85fbc5bb0b9efece67a\", \"size\": 166368, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-glfw/3.3.3/lwjgl-glfw-3.3.3-natives-windows.jar\"}}, \"name\": \"org.lwjgl:lwjgl-glfw:3.3.3:natives-windows\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-glfw/3.3.3/lwjgl-glfw-3.3.3-natives-windows-arm64.jar\", \"sha1\": \"f27018dc74f6289574502b46cce55d52817554e2\", \"size\": 141970, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-glfw/3.3.3/lwjgl-glfw-3.3.3-natives-windows-arm64.jar\"}}, \"name\": \"org.lwjgl:lwjgl-glfw:3.3.3:natives-windows-arm64\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-glfw/3.3.3/lwjgl-glfw-3.3.3-natives-windows-x86.jar\", \"sha1\": \"32334f3fd5270a59bad9939a93115acb6de36dcf\", \"size\": 157123, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-glfw/3.3.3/lwjgl-glfw-3.3.3-natives-windows-x86.jar\"}}, \"name\": \"org.lwjgl:lwjgl-glfw:3.3.3:natives-windows-x86\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-jemalloc/3.3.3/lwjgl-jemalloc-3.3.3.jar\", \"sha1\": \"b543467b7ff3c6920539a88ee602d34098628be5\", \"size\": 43896, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-jemalloc/3.3.3/lwjgl-jemalloc-3.3.3.jar\"}}, \"name\": \"org.lwjgl:lwjgl-jemalloc:3.3.3\"}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-jemalloc/3.3.3/lwjgl-jemalloc-3.3.3-natives-linux.jar\", \"sha1\": \"4f86728bf449b1dd61251c4e0ac01df1389cb51e\", \"size\": 206779, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-jemalloc/3.3.3/lwjgl-jemalloc-3.3.3-natives-linux.jar\"}}, \"name\": \"org.lwjgl:lwjgl-jemalloc:3.3.3:natives-linux\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"linux\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-jemalloc/3.3.3/lwjgl-jemalloc-3.3.3-natives-macos.jar\", \"sha1\": \"2906637657a57579847238c9c72d2c4bde7083f8\", \"size\": 153131, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-jemalloc/3.3.3/lwjgl-jemalloc-3.3.3-natives-macos.jar\"}}, \"name\": \"org.lwjgl:lwjgl-jemalloc:3.3.3:natives-macos\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"osx\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-jemalloc/3.3.3/lwjgl-jemalloc-3.3.3-natives-macos-arm64.jar\", \"sha1\": \"e9412c3ff8cb3a3bad1d3f52909ad74d8a5bdad1\", \"size\": 141418, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-jemalloc/3.3.3/lwjgl-jemalloc-3.3.3-natives-macos-arm64.jar\"}}, \"name\": \"org.lwjgl:lwjgl-jemalloc:3.3.3:natives-macos-arm64\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"osx\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-jemalloc/3.3.3/lwjgl-jemalloc-3.3.3-natives-windows.jar\", \"sha1\": \"426222fc027602a5f21b9c0fe79cde6a4c7a011f\", \"size\": 180344, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-jemalloc/3.3.3/lwjgl-jemalloc-3.3.3-natives-windows.jar\"}}, \"name\": \"org.lwjgl:lwjgl-jemalloc:3.3.3:natives-windows\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-jemalloc/3.3.3/lwjgl-jemalloc-3.3.3-natives-windows-arm64.jar\", \"sha1\": \"ba1f3fed0ee4be0217eaa41c5bbfb4b9b1383c33\", \"size\": 154415, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-jemalloc/3.3.3/lwjgl-jemalloc-3.3.3-natives-windows-arm64.jar\"}}, \"name\": \"org.lwjgl:lwjgl-jemalloc:3.3.3:natives-windows-arm64\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-jemalloc/3.3.3/lwjgl-jemalloc-3.3.3-natives-windows-x86.jar\", \"sha1\": \"f6063b6e0f23be483c5c88d84ce51b39dc69126c\", \"size\": 148612, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-jemalloc/3.3.3/lwjgl-jemalloc-3.3.3-natives-windows-x86.jar\"}}, \"name\": \"org.lwjgl:lwjgl-jemalloc:3.3.3:natives-windows-x86\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-openal/3.3.3/lwjgl-openal-3.3.3.jar\", \"sha1\": \"daada81ceb5fc0c291fbfdd4433cb8d9423577f2\", \"size\": 110586, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-openal/3.3.3/lwjgl-openal-3.3.3.jar\"}}, \"name\": \"org.lwjgl:lwjgl-openal:3.3.3\"}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-openal/3.3.3/lwjgl-openal-3.3.3-natives-linux.jar\", \"sha1\": \"3037360cc4595079bea240af250b6d1a527e0905\", \"size\": 573224, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-openal/3.3.3/lwjgl-openal-3.3.3-natives-linux.jar\"}}, \"name\": \"org.lwjgl:lwjgl-openal:3.3.3:natives-linux\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"linux\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-openal/3.3.3/lwjgl-openal-3.3.3-natives-macos.jar\", \"sha1\": \"8df8338bfa77f2ebabef4e58964bd04d24805cbf\", \"size\": 519824, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-openal/3.3.3/lwjgl-openal-3.3.3-natives-macos.jar\"}}, \"name\": \"org.lwjgl:lwjgl-openal:3.3.3:natives-macos\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"osx\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-openal/3.3.3/lwjgl-openal-3.3.3-natives-macos-arm64.jar\", \"sha1\": \"0c78b078de2fb52f45aa55d04db889a560f3544f\", \"size\": 471012, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-openal/3.3.3/lwjgl-openal-3.3.3-natives-macos-arm64.jar\"}}, \"name\": \"org.lwjgl:lwjgl-openal:3.3.3:natives-macos-arm64\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"osx\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-openal/3.3.3/lwjgl-openal-3.3.3-natives-windows.jar\", \"sha1\": \"cf83862ae95d98496b26915024c7e666d8ab1c8f\", \"size\": 698720, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-openal/3.3.3/lwjgl-openal-3.3.3-natives-windows.jar\"}}, \"name\": \"org.lwjgl:lwjgl-openal:3.3.3:natives-windows\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-openal/3.3.3/lwjgl-openal-3.3.3-natives-windows-arm64.jar\", \"sha1\": \"8e0615235116b9e4160dfe87bec90f5f6378bf72\", \"size\": 630410, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-openal/3.3.3/lwjgl-openal-3.3.3-natives-windows-arm64.jar\"}}, \"name\": \"org.lwjgl:lwjgl-openal:3.3.3:natives-windows-arm64\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-openal/3.3.3/lwjgl-openal-3.3.3-natives-windows-x86.jar\", \"sha1\": \"87b8d5050e3adb46bb58fe1cb2669a4a48fce10d\", \"size\": 638424, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-openal/3.3.3/lwjgl-openal-3.3.3-natives-windows-x86.jar\"}}, \"name\": \"org.lwjgl:lwjgl-openal:3.3.3:natives-windows-x86\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-opengl/3.3.3/lwjgl-opengl-3.3.3.jar\", \"sha1\": \"02f6b0147078396a58979125a4c947664e98293a\", \"size\": 929192, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-opengl/3.3.3/lwjgl-opengl-3.3.3.jar\"}}, \"name\": \"org.lwjgl:lwjgl-opengl:3.3.3\"}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-opengl/3.3.3/lwjgl-opengl-3.3.3-natives-linux.jar\", \"sha1\": \"62c70a4b00ca5391882b0f4b787c1588d24f1c86\", \"size\": 80463, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-opengl/3.3.3/lwjgl-opengl-3.3.3-natives-linux.jar\"}}, \"name\": \"org.lwjgl:lwjgl-opengl:3.3.3:natives-linux\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"linux\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-opengl/3.3.3/lwjgl-opengl-3.3.3-natives-macos.jar\", \"sha1\": \"1bd45997551ae8a28469f3a2b678f4b7289e12c0\", \"size\": 41484, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-opengl/3.3.3/lwjgl-opengl-3.3.3-natives-macos.jar\"}}, \"name\": \"org.lwjgl:lwjgl-opengl:3.3.3:natives-macos\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"osx\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-opengl/3.3.3/lwjgl-opengl-3.3.3-natives-macos-arm64.jar\", \"sha1\": \"d213ddef27637b1af87961ffa94d6b27036becc8\", \"size\": 42487, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-opengl/3.3.3/lwjgl-opengl-3.3.3-natives-macos-arm64.jar\"}}, \"name\": \"org.lwjgl:lwjgl-opengl:3.3.3:natives-macos-arm64\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"osx\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-opengl/3.3.3/lwjgl-opengl-3.3.3-natives-windows.jar\", \"sha1\": \"e6c1eec8be8a71951b830a4d69efc01c6531900c\", \"size\": 101535, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-opengl/3.3.3/lwjgl-opengl-3.3.3-natives-windows.jar\"}}, \"name\": \"org.lwjgl:lwjgl-opengl:3.3.3:natives-windows\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-opengl/3.3.3/lwjgl-opengl-3.3.3-natives-windows-arm64.jar\", \"sha1\": \"65e956d3735a1abdc82eff4baec1b61174697d4b\", \"size\": 83095, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-opengl/3.3.3/lwjgl-opengl-3.3.3-natives-windows-arm64.jar\"}}, \"name\": \"org.lwjgl:lwjgl-opengl:3.3.3:natives-windows-arm64\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-opengl/3.3.3/lwjgl-opengl-3.3.3-natives-windows-x86.jar\", \"sha1\": \"0d32d833dcaa2f355a886eaf21f0408b5f03241d\", \"size\": 88612, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-opengl/3.3.3/lwjgl-opengl-3.3.3-natives-windows-x86.jar\"}}, \"name\": \"org.lwjgl:lwjgl-opengl:3.3.3:natives-windows-x86\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-stb/3.3.3/lwjgl-stb-3.3.3.jar\", \"sha1\": \"25dd6161988d7e65f71d5065c99902402ee32746\", \"size\": 120283, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-stb/3.3.3/lwjgl-stb-3.3.3.jar\"}}, \"name\": \"org.lwjgl:lwjgl-stb:3.3.3\"}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-stb/3.3.3/lwjgl-stb-3.3.3-natives-linux.jar\", \"sha1\": \"fd1271ccd9d85eff2fa31f3fd543e02ccfaf5041\", \"size\": 231820, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-stb/3.3.3/lwjgl-stb-3.3.3-natives-linux.jar\"}}, \"name\": \"org.lwjgl:lwjgl-stb:3.3.3:natives-linux\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"linux\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-stb/3.3.3/lwjgl-stb-3.3.3-natives-macos.jar\", \"sha1\": \"472792c98fb2c1557c060cb9da5fca6a9773621f\", \"size\": 216456, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-stb/3.3.3/lwjgl-stb-3.3.3-natives-macos.jar\"}}, \"name\": \"org.lwjgl:lwjgl-stb:3.3.3:natives-macos\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"osx\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-stb/3.3.3/lwjgl-stb-3.3.3-natives-macos-arm64.jar\", \"sha1\": \"51c6955571fbcdb7bb538c6aa589b953b584c6af\", \"size\": 183628, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-stb/3.3.3/lwjgl-stb-3.3.3-natives-macos-arm64.jar\"}}, \"name\": \"org.lwjgl:lwjgl-stb:3.3.3:natives-macos-arm64\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"osx\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-stb/3.3.3/lwjgl-stb-3.3.3-natives-windows.jar\", \"sha1\": \"1d9facdf6541de114b0f963be33505b7679c78cb\", \"size\": 261297, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-stb/3.3.3/lwjgl-stb-3.3.3-natives-windows.jar\"}}, \"name\": \"org.lwjgl:lwjgl-stb:3.3.3:natives-windows\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-stb/3.3.3/lwjgl-stb-3.3.3-natives-windows-arm64.jar\", \"sha1\": \"a584ab44de569708871f0a79561f4d8c37487f2c\", \"size\": 219511, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-stb/3.3.3/lwjgl-stb-3.3.3-natives-windows-arm64.jar\"}}, \"name\": \"org.lwjgl:lwjgl-stb:3.3.3:natives-windows-arm64\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-stb/3.3.3/lwjgl-stb-3.3.3-natives-windows-x86.jar\", \"sha1\": \"b5c874687b9aac1a936501d4ed2c49567fd1b575\", \"size\": 227800, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-stb/3.3.3/lwjgl-stb-3.3.3-natives-windows-x86.jar\"}}, \"name\": \"org.lwjgl:lwjgl-stb:3.3.3:natives-windows-x86\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-tinyfd/3.3.3/lwjgl-tinyfd-3.3.3.jar\", \"sha1\": \"82d755ca94b102e9ca77283b9e2dc46d1b15fbe5\", \"size\": 13400, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-tinyfd/3.3.3/lwjgl-tinyfd-3.3.3.jar\"}}, \"name\": \"org.lwjgl:lwjgl-tinyfd:3.3.3\"}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-tinyfd/3.3.3/lwjgl-tinyfd-3.3.3-natives-linux.jar\", \"sha1\": \"d8d58daa0c3e5fd906fee96f5fddbcbc07cc308b\", \"size\": 44192, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-tinyfd/3.3.3/lwjgl-tinyfd-3.3.3-natives-linux.jar\"}}, \"name\": \"org.lwjgl:lwjgl-tinyfd:3.3.3:natives-linux\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"linux\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-tinyfd/3.3.3/lwjgl-tinyfd-3.3.3-natives-macos.jar\", \"sha1\": \"6598081e346a03038a8be68eb2de614a1c2eac68\", \"size\": 45865, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-tinyfd/3.3.3/lwjgl-tinyfd-3.3.3-natives-macos.jar\"}}, \"name\": \"org.lwjgl:lwjgl-tinyfd:3.3.3:natives-macos\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"osx\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-tinyfd/3.3.3/lwjgl-tinyfd-3.3.3-natives-macos-arm64.jar\", \"sha1\": \"406feedb977372085a61eb0fee358183f4f4c67a\", \"size\": 42498, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-tinyfd/3.3.3/lwjgl-tinyfd-3.3.3-natives-macos-arm64.jar\"}}, \"name\": \"org.lwjgl:lwjgl-tinyfd:3.3.3:natives-macos-arm64\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"osx\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-tinyfd/3.3.3/lwjgl-tinyfd-3.3.3-natives-windows.jar\", \"sha1\": \"a6697981b0449a5087c1d546fc08b4f73e8f98c9\", \"size\": 130253, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-tinyfd/3.3.3/lwjgl-tinyfd-3.3.3-natives-windows.jar\"}}, \"name\": \"org.lwjgl:lwjgl-tinyfd:3.3.3:natives-windows\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-tinyfd/3.3.3/lwjgl-tinyfd-3.3.3-natives-windows-arm64.jar\", \"sha1\": \"a88c494f3006eb91a7433b12a3a55a9a6c20788b\", \"size\": 110867, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-tinyfd/3.3.3/lwjgl-tinyfd-3.3.3-natives-windows-arm64.jar\"}}, \"name\": \"org.lwjgl:lwjgl-tinyfd:3.3.3:natives-windows-arm64\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl-tinyfd/3.3.3/lwjgl-tinyfd-3.3.3-natives-windows-x86.jar\", \"sha1\": \"c336c84ee88cccb495c6ffa112395509e7378e8a\", \"size\": 111797, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl-tinyfd/3.3.3/lwjgl-tinyfd-3.3.3-natives-windows-x86.jar\"}}, \"name\": \"org.lwjgl:lwjgl-tinyfd:3.3.3:natives-windows-x86\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl/3.3.3/lwjgl-3.3.3.jar\", \"sha1\": \"29589b5f87ed335a6c7e7ee6a5775f81f97ecb84\", \"size\": 785029, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl/3.3.3/lwjgl-3.3.3.jar\"}}, \"name\": \"org.lwjgl:lwjgl:3.3.3\"}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl/3.3.3/lwjgl-3.3.3-natives-linux.jar\", \"sha1\": \"1713758e3660ba66e1e954396fd18126038b33c0\", \"size\": 114627, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl/3.3.3/lwjgl-3.3.3-natives-linux.jar\"}}, \"name\": \"org.lwjgl:lwjgl:3.3.3:natives-linux\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"linux\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl/3.3.3/lwjgl-3.3.3-natives-macos.jar\", \"sha1\": \"33a6efa288390490ce6eb6c3df47ac21ecf648cf\", \"size\": 60543, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl/3.3.3/lwjgl-3.3.3-natives-macos.jar\"}}, \"name\": \"org.lwjgl:lwjgl:3.3.3:natives-macos\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"osx\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl/3.3.3/lwjgl-3.3.3-natives-macos-arm64.jar\", \"sha1\": \"226246e75f6bd8d4e1895bdce8638ef87808d114\", \"size\": 48620, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl/3.3.3/lwjgl-3.3.3-natives-macos-arm64.jar\"}}, \"name\": \"org.lwjgl:lwjgl:3.3.3:natives-macos-arm64\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"osx\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl/3.3.3/lwjgl-3.3.3-natives-windows.jar\", \"sha1\": \"a5ed18a2b82fc91b81f40d717cb1f64c9dcb0540\", \"size\": 165442, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl/3.3.3/lwjgl-3.3.3-natives-windows.jar\"}}, \"name\": \"org.lwjgl:lwjgl:3.3.3:natives-windows\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl/3.3.3/lwjgl-3.3.3-natives-windows-arm64.jar\", \"sha1\": \"e9aca8c5479b520a2a7f0d542a118140e812c5e8\", \"size\": 133378, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl/3.3.3/lwjgl-3.3.3-natives-windows-arm64.jar\"}}, \"name\": \"org.lwjgl:lwjgl:3.3.3:natives-windows-arm64\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lwjgl/lwjgl/3.3.3/lwjgl-3.3.3-natives-windows-x86.jar\", \"sha1\": \"9e670718e050aeaeea0c2d5b907cffb142f2e58f\", \"size\": 139653, \"url\": \"https://libraries.minecraft.net/org/lwjgl/lwjgl/3.3.3/lwjgl-3.3.3-natives-windows-x86.jar\"}}, \"name\": \"org.lwjgl:lwjgl:3.3.3:natives-windows-x86\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"windows\"}}]}, {\"downloads\": {\"artifact\": {\"path\": \"org/lz4/lz4-java/1.8.0/lz4-java-1.8.0.jar\", \"sha1\": \"4b986a99445e49ea5fbf5d149c4b63f6ed6c6780\", \"size\": 682804, \"url\": \"https://libraries.minecraft.net/org/lz4/lz4-java/1.8.0/lz4-java-1.8.0.jar\"}}, \"name\": \"org.lz4:lz4-java:1.8.0\"}, {\"downloads\": {\"artifact\": {\"path\": \"org/slf4j/slf4j-api/2.0.17/slf4j-api-2.0.17.jar\", \"sha1\": \"d9e58ac9c7779ba3bf8142aff6c830617a7fe60f\", \"size\": 69908, \"url\": \"https://libraries.minecraft.net/org/slf4j/slf4j-api/2.0.17/slf4j-api-2.0.17.jar\"}}, \"name\": \"org.slf4j:slf4j-api:2.0.17\"}], \"logging\": {\"client\": {\"argument\": \"-Dlog4j.configurationFile=${path}\", \"file\": {\"id\": \"client-1.21.2.xml\", \"sha1\": \"39384bd14c0606d812afec88d8aff595b2587dd9\", \"size\": 1073, \"url\": \"https://piston-data.mojang.com/v1/objects/39384bd14c0606d812afec88d8aff595b2587dd9/client-1.21.2.xml\"}, \"type\": \"log4j2-xml\"}}, \"mainClass\": \"net.minecraft.client.main.Main\", \"minimumLauncherVersion\": 21, \"releaseTime\": \"2025-11-04T14:07:08+00:00\", \"time\": \"2025-11-04T14:07:08+00:00\", \"type\": \"unobfuscated\"}";
+    // Trimmed from 1.12.2, with the legacy parts 25w45a does not have: natives, classifiers, extract and more rules
+    private static final String VERSION_LEGACY = """
+            {
+              "assetIndex": {
+                "id": "1.12",
+                "sha1": "1584b57c1d0a3a8e4a0ea3fdc6e7b4e1d6a4b5c6",
+                "size": 169014,
+                "totalSize": 149870286,
+                "url": "https://launchermeta.mojang.com/v1/packages/1584b57c1d0a3a8e4a0ea3fdc6e7b4e1d6a4b5c6/1.12.json"
+              },
+              "assets": "1.12",
+              "complianceLevel": 0,
+              "downloads": {
+                "client": {
+                  "sha1": "0f275bc1547d01fa5f56ba34bdc87d981ee12daf",
+                  "size": 10180113,
+                  "url": "https://launcher.mojang.com/v1/objects/0f275bc1547d01fa5f56ba34bdc87d981ee12daf/client.jar"
+                },
+                "server": {
+                  "sha1": "886945bfb2b978778c3a0288fd7fab09d315b25f",
+                  "size": 30222121,
+                  "url": "https://launcher.mojang.com/v1/objects/886945bfb2b978778c3a0288fd7fab09d315b25f/server.jar"
+                }
+              },
+              "id": "1.12.2",
+              "javaVersion": {
+                "component": "jre-legacy",
+                "majorVersion": 8
+              },
+              "libraries": [
+                {
+                  "downloads": {
+                    "artifact": {
+                      "path": "org/lwjgl/lwjgl/lwjgl-platform/2.9.4-nightly-20150209/lwjgl-platform-2.9.4-nightly-20150209.jar",
+                      "sha1": "b04f3ee8f5e43fa3b162981b50bb72fe1acabb33",
+                      "size": 22,
+                      "url": "https://libraries.minecraft.net/org/lwjgl/lwjgl/lwjgl-platform/2.9.4-nightly-20150209/lwjgl-platform-2.9.4-nightly-20150209.jar"
+                    },
+                    "classifiers": {
+                      "natives-linux": {
+                        "path": "a-natives-linux.jar",
+                        "sha1": "931074f46c795d2f7b30ed6395df5715cfd7675b",
+                        "size": 578680,
+                        "url": "https://libraries.minecraft.net/a-natives-linux.jar"
+                      },
+                      "natives-osx": {
+                        "path": "a-natives-osx.jar",
+                        "sha1": "bcab850f8f487c3f4c4dbabde778bb82bd1a40ed",
+                        "size": 426822,
+                        "url": "https://libraries.minecraft.net/a-natives-osx.jar"
+                      },
+                      "natives-windows": {
+                        "path": "a-natives-windows.jar",
+                        "sha1": "b84d5102b9dbfabfeb5e43c7e2828d98a7fc80e0",
+                        "size": 613748,
+                        "url": "https://libraries.minecraft.net/a-natives-windows.jar"
+                      }
+                    }
+                  },
+                  "extract": {
+                    "exclude": [
+                      "META-INF/"
+                    ]
+                  },
+                  "name": "org.lwjgl.lwjgl:lwjgl-platform:2.9.4-nightly-20150209",
+                  "natives": {
+                    "linux": "natives-linux",
+                    "osx": "natives-osx",
+                    "windows": "natives-windows"
+                  },
+                  "rules": [
+                    {
+                      "action": "allow"
+                    },
+                    {
+                      "action": "disallow",
+                      "os": {
+                        "name": "osx",
+                        "version": "^10\\\\.5\\\\.\\\\d$",
+                        "arch": "x86"
+                      }
+                    }
+                  ]
+                },
+                {
+                  "name": "x:y:1",
+                  "rules": [
+                    {
+                      "action": "allow",
+                      "features": {
+                        "is_demo_user": true,
+                        "has_custom_resolution": false
+                      }
+                    }
+                  ]
+                }
+              ],
+              "logging": {
+                "client": {
+                  "argument": "-Dlog4j.configurationFile=${path}",
+                  "file": {
+                    "id": "client-1.12.xml",
+                    "sha1": "ef4f57b922df243d0cef096efe808c72db042149",
+                    "size": 877,
+                    "url": "https://launchermeta.mojang.com/v1/packages/ef4f57b922df243d0cef096efe808c72db042149/client-1.12.xml"
+                  },
+                  "type": "log4j2-xml"
+                }
+              },
+              "mainClass": "net.minecraft.client.main.Main",
+              "minecraftArguments": "--username ${auth_player_name} --version ${version_name}",
+              "minimumLauncherVersion": 18,
+              "releaseTime": "2017-09-18T08:39:46+00:00",
+              "time": "2017-09-18T08:39:46+00:00",
+              "type": "release"
+            }
+            """;
 
     @Test
     public void testParseDoesNotThrow() throws IOException {
@@ -62,6 +184,109 @@ public class VersionTest {
         Assertions.assertTrue(TestUtil.compareJsonElements(json, TestUtil.GSON.toJsonTree(Version.fromJson(json))));
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {VERSION_25W45A_UNOBFUSCATED, VERSION_LEGACY})
+    public void testWriteRoundTrip(String json) {
+        Version parsed = Version.fromString(json);
+        String written = TestUtil.GSON.toJson(parsed);
+
+        Assertions.assertEquals(parsed, Version.fromString(written));
+        Assertions.assertEquals(parsed.hashCode(), Version.fromString(written).hashCode());
+        Assertions.assertTrue(TestUtil.compareJsonElements(JsonParser.parseString(json), JsonParser.parseString(written)));
+    }
+
+    @Test
+    public void testWriteKeepsFieldOrder() {
+        String written = TestUtil.GSON.toJson(Version.fromString(VERSION_25W45A_UNOBFUSCATED));
+
+        Assertions.assertTrue(written.contains("{\"value\":\"--demo\",\"rules\":"), "Argument values are written before their rules");
+        Assertions.assertTrue(written.contains("\"assetIndex\":{\"totalSize\":"), "Asset index fields are written in the reflective order");
+        Assertions.assertTrue(written.contains("\"type\":\"log4j2-xml\",\"file\":"), "Logging fields are written in the reflective order");
+    }
+
+    @Test
+    public void testInternerSharesEqualParts() {
+        VersionInterner interner = new VersionInterner();
+        Version first = interner.fromString(VERSION_25W45A_UNOBFUSCATED);
+        Version second = interner.fromString(VERSION_25W45A_UNOBFUSCATED);
+
+        Assertions.assertEquals(Version.fromString(VERSION_25W45A_UNOBFUSCATED), first);
+        Assertions.assertEquals(first.hashCode(), second.hashCode());
+        for (int i = 0; i < first.getLibraries().size(); i++) {
+            Assertions.assertSame(first.getLibraries().get(i), second.getLibraries().get(i));
+        }
+    }
+
+    @Test
+    public void testInternedRulesAreUnmodifiable() {
+        String json = "{\"id\": \"test\", \"libraries\": [{\"name\": \"a:b:1\", \"rules\": [{\"action\": \"allow\", \"os\": {\"name\": \"osx\"}}]}]}";
+        VersionInterner interner = new VersionInterner();
+        List<Rule> rules = interner.fromString(json).getLibraries().get(0).getRules();
+
+        Assertions.assertSame(rules, interner.fromString(json).getLibraries().get(0).getRules());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> rules.add(rules.get(0)));
+    }
+
+    @Test
+    public void testLibrariesWithoutDownloadsAreComparable() {
+        String json = "{\"id\": \"test\", \"libraries\": [{\"name\": \"net.fabricmc:fabric-loader:0.14.0\"}]}";
+        Version first = Version.fromString(json);
+        Version second = Version.fromString(json);
+
+        Assertions.assertEquals(first.getLibraries().get(0), second.getLibraries().get(0));
+        Assertions.assertEquals(first.getLibraries().get(0).hashCode(), second.getLibraries().get(0).hashCode());
+    }
+
+    @Test
+    public void testMalformedSha1IsPreserved() {
+        String json = "{\"id\": \"test\", \"libraries\": [{\"name\": \"a:b:1\", \"downloads\": {\"artifact\": {\"path\": \"a.jar\", \"sha1\": \"%s\", \"size\": 1, \"url\": \"https://example.com/a.jar\"}}}]}";
+        String hex = "DA39A3EE5E6B4B0D3255BFEF95601890AFD80709";
+
+        for (String sha1 : new String[]{"", "not a sha1", hex.substring(2)}) {
+            Version version = Version.fromString(json.formatted(sha1));
+            DownloadableFile file = version.getLibraries().get(0).getDownloads().getArtifact().get();
+            Assertions.assertNull(file.getSha1Hash());
+            Assertions.assertEquals(sha1, file.getSha1());
+            Assertions.assertEquals("https://example.com/a.jar", file.getUrl());
+            Assertions.assertEquals(version, Version.fromString(TestUtil.GSON.toJson(version)));
+        }
+
+        Version version = Version.fromString(json.formatted(hex));
+        DownloadableFile file = version.getLibraries().get(0).getDownloads().getArtifact().get();
+        Assertions.assertEquals(Sha1Hash.fromHex(hex), file.getSha1Hash());
+        Assertions.assertEquals(hex, file.getSha1());
+        Assertions.assertEquals(version, Version.fromString(TestUtil.GSON.toJson(version)));
+        Assertions.assertNotEquals(file, new DownloadableFile(hex.toLowerCase(Locale.ROOT), 1, "https://example.com/a.jar"));
+
+        file = Version.fromString(json.formatted(hex.toLowerCase(Locale.ROOT))).getLibraries().get(0).getDownloads().getArtifact().get();
+        Assertions.assertSame(file.getSha1(), file.getSha1());
+        Assertions.assertSame(file.getUrl(), file.getUrl());
+    }
+
+    @Test
+    public void testLazyVersionMatchesParsed() {
+        Version parsed = Version.fromString(VERSION_25W45A_UNOBFUSCATED);
+        LazyVersion lazy = LazyVersion.fromString(VERSION_25W45A_UNOBFUSCATED);
+
+        Assertions.assertEquals(parsed.getId(), lazy.getId());
+        Assertions.assertEquals(parsed.getJavaVersion(), lazy.getJavaVersion());
+        Assertions.assertSame(lazy.getLibraries(), lazy.getLibraries());
+        Assertions.assertEquals(parsed, lazy);
+        Assertions.assertEquals(lazy, parsed);
+        Assertions.assertEquals(parsed.hashCode(), lazy.hashCode());
+        Assertions.assertEquals(TestUtil.GSON.toJson(parsed), TestUtil.GSON.toJson(lazy));
+    }
+
+    @Test
+    public void testLazyVersionDecodesEscapes() {
+        String json = "{\"id\": \"a\\u0062\\\"c\", \"type\": \"release\"}";
+        LazyVersion lazy = LazyVersion.fromString(json);
+
+        Assertions.assertEquals("ab\"c", lazy.getId());
+        Assertions.assertEquals(Version.fromString(json), lazy);
+        Assertions.assertEquals(lazy, TestUtil.GSON.fromJson(json, LazyVersion.class));
+    }
+
     @Test
     public void assertNoMethodReturnsAreNull() throws IOException {
         VersionManifest.fromJson(TestUtil.getJsonFromURL(MANIFEST_URL))
@@ -16,10 +16,15 @@
 package org.quiltmc.launchermeta.version_manifest;
 
 import java.io.IOException;
+import java.io.StringReader;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -100,6 +105,15 @@ public class VersionManifestTest {
         assertEquals(actual, manifest, "Actual parse matches expected result");
     }
 
+    @ParameterizedTest
+    @MethodSource("provideManifest")
+    void testWriteRoundTrip(String json, VersionManifest manifest) {
+        String written = VersionManifest.newGsonBuilder().create().toJson(VersionManifest.fromString(json));
+
+        assertEquals(manifest, VersionManifest.fromString(written), "Written manifest parses to an equal manifest");
+        assertTrue(TestUtil.compareJsonElements(JsonParser.parseString(json), JsonParser.parseString(written)), "Written manifest matches the json");
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {MANIFEST_URL, MANIFEST_URL_V2})
     void checkRemoteNoNulls(String url) throws IOException {
@@ -118,6 +132,87 @@ public class VersionManifestTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("provideManifest")
+    void testStreamTestJson(String json, VersionManifest manifest) throws IOException {
+        try (VersionManifestReader reader = VersionManifest.openReader(new StringReader(json))) {
+            assertEquals(manifest.getLatestVersions(), reader.getLatestVersions().orElseThrow(), "Latest versions are read before the entries");
+            assertTrue(reader.hasNext(), "Reader has an entry");
+            assertEquals(manifest.getVersions().get(0), reader.next(), "Streamed entry matches expected result");
+            assertFalse(reader.hasNext(), "Reader is exhausted");
+        }
+    }
+
+    @Test
+    void testStreamStopsEarly() throws IOException {
+        JsonElement json = TestUtil.getJsonFromURL(MANIFEST_URL_V2);
+        VersionManifest manifest = VersionManifest.fromJson(json);
+
+        try (Stream<VersionEntry> entries = VersionManifest.openReader(new StringReader(json.toString())).stream()) {
+            assertEquals(manifest.getVersions().subList(0, 10), entries.limit(10).collect(Collectors.toList()), "First streamed entries match the full parse");
+        }
+    }
+
+    @Test
+    void testIndexMatchesLinearScan() throws IOException {
+        VersionManifest manifest = VersionManifest.fromJson(TestUtil.getJsonFromURL(MANIFEST_URL_V2));
+        VersionManifestIndex index = manifest.getIndex();
+
+        for (VersionEntry entry : manifest.getVersions()) {
+            assertEquals(entry, index.find(entry.getId()).orElseThrow(), "Id lookup finds the entry");
+        }
+
+        for (String type : index.getTypes()) {
+            assertEquals(manifest.getVersions().stream().filter(entry -> entry.getType().equals(type)).collect(Collectors.toList()), index.getVersionsOfType(type), "Type listing matches a linear scan");
+        }
+
+        assertEquals(manifest.getVersions().stream().filter(entry -> entry.getComplianceLevel().orElse(-1) >= 1).collect(Collectors.toList()), index.getVersionsWithComplianceLevelAtLeast(1), "Compliance listing matches a linear scan");
+        assertEquals(-1, index.indexOf("not a version"), "Unknown ids are not found");
+        assertSame(index, manifest.getIndex(), "Index is only built once");
+    }
+
+    @Test
+    void testTimelineOrdering() throws IOException {
+        VersionManifest manifest = VersionManifest.fromJson(TestUtil.getJsonFromURL(MANIFEST_URL_V2));
+        VersionTimeline timeline = manifest.getTimeline();
+
+        List<VersionEntry> sorted = manifest.getVersions().stream()
+                .sorted(Comparator.comparing(entry -> OffsetDateTime.parse(entry.getReleaseTime())))
+                .collect(Collectors.toList());
+        assertEquals(sorted.stream().map(VersionEntry::getReleaseTime).collect(Collectors.toList()), timeline.getChronological().stream().map(VersionEntry::getReleaseTime).collect(Collectors.toList()), "Timeline is sorted by release time");
+
+        long from = VersionTimeline.parseTimestamp("2021-01-01T00:00:00+00:00");
+        long to = VersionTimeline.parseTimestamp("2022-01-01T00:00:00+00:00");
+        List<VersionEntry> between = timeline.getReleasedBetween(from, to);
+        assertFalse(between.isEmpty(), "Versions were released in 2021");
+        assertTrue(between.stream().allMatch(entry -> entry.getReleaseTime().startsWith("2021")), "Only versions released in 2021 are returned");
+
+        assertEquals("1.17.1", timeline.getPreviousRelease("21w42a").orElseThrow().getId(), "Previous release of a snapshot");
+        assertEquals("1.18", timeline.getNextRelease("21w42a").orElseThrow().getId(), "Next release of a snapshot");
+    }
+
+    @Test
+    void testDiff() {
+        VersionEntry kept = new VersionEntry("1.18", "release", "https://example.com/1.18.json", "2021-11-30T09:16:29+00:00", "2021-11-30T09:16:29+00:00", "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa", 0);
+        VersionEntry before = new VersionEntry("21w44a", "snapshot", "https://example.com/21w44a.json", "2021-11-03T14:38:19+00:00", "2021-11-03T14:38:19+00:00", "bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb", 0);
+        VersionEntry after = new VersionEntry("21w44a", "snapshot", "https://example.com/21w44a.json", "2021-12-01T10:00:00+00:00", "2021-11-03T14:38:19+00:00", "cccccccccccccccccccccccccccccccccccccccc", 0);
+        VersionEntry removed = new VersionEntry("21w43a", "snapshot", "https://example.com/21w43a.json", "2021-10-27T14:38:19+00:00", "2021-10-27T14:38:19+00:00", "dddddddddddddddddddddddddddddddddddddddd", 0);
+        VersionEntry added = new VersionEntry("1.18.1-pre1", "snapshot", "https://example.com/1.18.1-pre1.json", "2021-12-01T14:38:19+00:00", "2021-12-01T14:38:19+00:00", "eeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeeee", 0);
+        VersionManifest previous = new VersionManifest(new LatestVersions("1.18", "1.18"), List.of(kept, before, removed));
+        VersionManifest current = new VersionManifest(new LatestVersions("1.18", "1.18.1-pre1"), List.of(added, kept, after));
+
+        ManifestDiff diff = ManifestDiff.between(previous, current);
+        assertEquals(List.of(added), diff.getAdded());
+        assertEquals(List.of(removed), diff.getRemoved());
+        assertEquals(1, diff.getChanged().size());
+        assertSame(before, diff.getChanged().get(0).getPrevious());
+        assertSame(after, diff.getChanged().get(0).getCurrent());
+        assertFalse(diff.isLatestReleaseMoved());
+        assertTrue(diff.isLatestSnapshotMoved());
+        assertEquals(List.of("1.18.1-pre1", "21w43a", "21w44a"), List.copyOf(diff.getAffectedIds()));
+        assertTrue(ManifestDiff.between(current, current).isEmpty(), "A manifest has no differences with itself");
+    }
+
     private static Stream<Arguments> provideManifest() {
         return Stream.of(
                 Arguments.of(TEST_JSON, VERSION_MANIFEST),